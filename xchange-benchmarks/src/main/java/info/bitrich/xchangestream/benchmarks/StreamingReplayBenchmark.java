@@ -0,0 +1,165 @@
+package info.bitrich.xchangestream.benchmarks;
+
+import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import io.netty.handler.codec.http.websocketx.TextWebSocketFrame;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.disposables.CompositeDisposable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.benchmarks.Fixtures;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Replays recorded messages through the whole receive path of a streaming service:
+ * messageHandler, channel routing, the adapters of the market data service and the subscribed
+ * {@link Flowable}s. The service is attached to an {@link EmbeddedChannel}, so no connection is
+ * made; subscription requests written to the channel are answered by {@link
+ * #acknowledge(String)}.
+ *
+ * <p>Fixtures are read from {@code fixtures/<name>/}: {@code setup.jsonl}, if present, is handled
+ * once after subscribing, e.g. book snapshots, and {@code replay.jsonl} is replayed round robin.
+ * Replayed book updates have to leave the book as they found it, so the replay can loop forever.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public abstract class StreamingReplayBenchmark {
+
+  /** How messages are handed to the service. */
+  public enum Frame {
+    /** Decoded text, {@link JsonNettyStreamingService#messageHandler(String)} */
+    TEXT,
+    /** Raw UTF-8 bytes in a heap buffer, {@link JsonNettyStreamingService#messageHandler(ByteBuf)} */
+    HEAP,
+    /** Raw UTF-8 bytes in a direct buffer, as read from the socket */
+    DIRECT
+  }
+
+  @Param({"TEXT", "HEAP", "DIRECT"})
+  public Frame frame;
+
+  private final CompositeDisposable disposables = new CompositeDisposable();
+  private JsonNettyStreamingService service;
+  private EmbeddedChannel channel;
+  private String[] messages;
+  private ByteBuf[] buffers;
+  private int next;
+  private Object last;
+  private Throwable failure;
+
+  /** @return the name of the fixtures directory */
+  protected abstract String getFixtures();
+
+  /** @return a new, not connected service */
+  protected abstract JsonNettyStreamingService createService();
+
+  /**
+   * Subscribes the streams to benchmark with {@link #consume(Flowable)}.
+   *
+   * @param service the service returned by {@link #createService()}
+   */
+  protected abstract void subscribe(JsonNettyStreamingService service);
+
+  /**
+   * @param request a message the service sent to the exchange
+   * @return the answer of the exchange, null if none
+   */
+  protected String acknowledge(String request) throws IOException {
+
+    return null;
+  }
+
+  protected final void consume(Flowable<?> flowable) {
+
+    disposables.add(flowable.subscribe(item -> last = item, error -> failure = error));
+  }
+
+  @Setup
+  public void setUp() throws IOException {
+
+    service = createService();
+    channel = new EmbeddedChannel();
+    service.attachChannel(channel);
+    subscribe(service);
+
+    TextWebSocketFrame request;
+    while ((request = channel.readOutbound()) != null) {
+      try {
+        String answer = acknowledge(request.text());
+        if (answer != null) {
+          service.messageHandler(answer);
+        }
+      } finally {
+        request.release();
+      }
+    }
+
+    String setup = getFixtures() + "/setup.jsonl";
+    if (Fixtures.exists(setup)) {
+      Fixtures.load(setup).forEach(service::messageHandler);
+    }
+
+    List<String> replay = Fixtures.load(getFixtures() + "/replay.jsonl");
+    messages = replay.toArray(new String[0]);
+    buffers = new ByteBuf[messages.length];
+    for (int i = 0; i < messages.length; i++) {
+      byte[] bytes = messages[i].getBytes(StandardCharsets.UTF_8);
+      buffers[i] =
+          frame == Frame.DIRECT
+              ? Unpooled.directBuffer(bytes.length).writeBytes(bytes)
+              : Unpooled.wrappedBuffer(bytes);
+    }
+    checkFailure();
+  }
+
+  @Benchmark
+  public Object replay() {
+
+    int i = next;
+    next = i + 1 == messages.length ? 0 : i + 1;
+    if (frame == Frame.TEXT) {
+      service.messageHandler(messages[i]);
+    } else {
+      service.messageHandler(buffers[i]);
+    }
+    return last;
+  }
+
+  @TearDown(Level.Iteration)
+  public void checkFailure() {
+
+    if (failure != null) {
+      throw new IllegalStateException("Replayed stream failed", failure);
+    }
+  }
+
+  @TearDown
+  public void tearDown() {
+
+    disposables.dispose();
+    for (ByteBuf buffer : buffers) {
+      buffer.release();
+    }
+    channel.finishAndReleaseAll();
+  }
+}
@@ -0,0 +1,39 @@
+package info.bitrich.xchangestream.binance;
+
+import info.bitrich.xchangestream.benchmarks.StreamingReplayBenchmark;
+import info.bitrich.xchangestream.core.ProductSubscription;
+import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import org.knowm.xchange.currency.CurrencyPair;
+
+/** Combined ticker, trade and depth streams of a Binance connection. */
+public class BinanceStreamingBenchmark extends StreamingReplayBenchmark {
+
+  private static final CurrencyPair PAIR = CurrencyPair.BTC_USDT;
+
+  private final ProductSubscription subscription =
+      ProductSubscription.create().addTicker(PAIR).addTrades(PAIR).addOrderbook(PAIR).build();
+
+  @Override
+  protected String getFixtures() {
+
+    return "binance";
+  }
+
+  @Override
+  protected JsonNettyStreamingService createService() {
+
+    return new BinanceStreamingService("wss://stream.binance.com:9443/stream", subscription);
+  }
+
+  @Override
+  protected void subscribe(JsonNettyStreamingService service) {
+
+    BinanceStreamingMarketDataService marketDataService =
+        new BinanceStreamingMarketDataService(
+            (BinanceStreamingService) service, null, () -> {}, "");
+    marketDataService.openSubscriptions(subscription);
+    consume(marketDataService.getTicker(PAIR));
+    consume(marketDataService.getTrades(PAIR));
+    consume(marketDataService.getOrderBookUpdates(PAIR));
+  }
+}
@@ -0,0 +1,70 @@
+package info.bitrich.xchangestream.bitfinex;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import info.bitrich.xchangestream.benchmarks.StreamingReplayBenchmark;
+import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import org.knowm.xchange.currency.CurrencyPair;
+
+/**
+ * Book, trades and ticker channels of a public Bitfinex connection. The channel ids of the
+ * fixtures are assigned when acknowledging the subscriptions.
+ */
+public class BitfinexStreamingBenchmark extends StreamingReplayBenchmark {
+
+  private static final CurrencyPair PAIR = CurrencyPair.BTC_USD;
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+  @Override
+  protected String getFixtures() {
+
+    return "bitfinex";
+  }
+
+  @Override
+  protected JsonNettyStreamingService createService() {
+
+    return new BitfinexStreamingService("wss://api-pub.bitfinex.com/ws/2", null);
+  }
+
+  @Override
+  protected void subscribe(JsonNettyStreamingService service) {
+
+    BitfinexStreamingMarketDataService marketDataService =
+        new BitfinexStreamingMarketDataService((BitfinexStreamingService) service);
+    consume(marketDataService.getOrderBook(PAIR));
+    consume(marketDataService.getTrades(PAIR));
+    consume(marketDataService.getTicker(PAIR));
+  }
+
+  @Override
+  protected String acknowledge(String request) throws IOException {
+
+    JsonNode subscribe = mapper.readTree(request);
+    String channel = subscribe.get("channel").asText();
+    ObjectNode subscribed = mapper.createObjectNode();
+    subscribed.put("event", "subscribed");
+    subscribed.put("channel", channel);
+    subscribed.put("chanId", channelId(channel));
+    subscribed.put("pair", subscribe.get("pair").asText());
+    return mapper.writeValueAsString(subscribed);
+  }
+
+  private static int channelId(String channel) {
+
+    switch (channel) {
+      case "book":
+        return 1;
+      case "ticker":
+        return 2;
+      case "trades":
+        return 3;
+      default:
+        throw new IllegalArgumentException("Unexpected channel " + channel);
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package info.bitrich.xchangestream.coinbasepro;
+
+import info.bitrich.xchangestream.benchmarks.StreamingReplayBenchmark;
+import info.bitrich.xchangestream.core.ProductSubscription;
+import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import org.knowm.xchange.currency.CurrencyPair;
+
+/**
+ * Level 2, ticker and matches channels of a public Coinbase Pro connection, including the open
+ * orders cache fed by every connection.
+ */
+public class CoinbaseProStreamingBenchmark extends StreamingReplayBenchmark {
+
+  private static final CurrencyPair PAIR = CurrencyPair.BTC_USD;
+
+  @Override
+  protected String getFixtures() {
+
+    return "coinbasepro";
+  }
+
+  @Override
+  protected JsonNettyStreamingService createService() {
+
+    CoinbaseProStreamingService service =
+        new CoinbaseProStreamingService(
+            null, null, "wss://ws-feed.pro.coinbase.com", () -> null, false);
+    service.subscribeMultipleCurrencyPairs(
+        ProductSubscription.create().addAll(PAIR).build());
+    return service;
+  }
+
+  @Override
+  protected void subscribe(JsonNettyStreamingService service) {
+
+    CoinbaseProStreamingService coinbaseProService = (CoinbaseProStreamingService) service;
+    coinbaseProService.initCache();
+    CoinbaseProStreamingMarketDataService marketDataService =
+        new CoinbaseProStreamingMarketDataService(coinbaseProService);
+    consume(marketDataService.getOrderBook(PAIR));
+    consume(marketDataService.getTrades(PAIR));
+    consume(marketDataService.getTicker(PAIR));
+  }
+}
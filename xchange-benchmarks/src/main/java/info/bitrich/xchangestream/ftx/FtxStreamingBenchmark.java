@@ -0,0 +1,37 @@
+package info.bitrich.xchangestream.ftx;
+
+import info.bitrich.xchangestream.benchmarks.StreamingReplayBenchmark;
+import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * Checksummed order book, trades and ticker channels of a public FTX connection. The checksums of
+ * the replayed book updates match the book the fixtures build.
+ */
+public class FtxStreamingBenchmark extends StreamingReplayBenchmark {
+
+  private static final Instrument INSTRUMENT = CurrencyPair.BTC_USD;
+
+  @Override
+  protected String getFixtures() {
+
+    return "ftx";
+  }
+
+  @Override
+  protected JsonNettyStreamingService createService() {
+
+    return new FtxStreamingService("wss://ftx.com/ws");
+  }
+
+  @Override
+  protected void subscribe(JsonNettyStreamingService service) {
+
+    FtxStreamingMarketDataService marketDataService =
+        new FtxStreamingMarketDataService((FtxStreamingService) service);
+    consume(marketDataService.getOrderBook(INSTRUMENT));
+    consume(marketDataService.getTrades(INSTRUMENT));
+    consume(marketDataService.getTicker(INSTRUMENT));
+  }
+}
@@ -0,0 +1,73 @@
+package info.bitrich.xchangestream.kraken;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import info.bitrich.xchangestream.benchmarks.StreamingReplayBenchmark;
+import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import org.knowm.xchange.currency.CurrencyPair;
+
+/**
+ * Book, trade and ticker channels of a public Kraken connection. The channel ids of the fixtures
+ * are assigned when acknowledging the subscriptions.
+ */
+public class KrakenStreamingBenchmark extends StreamingReplayBenchmark {
+
+  private static final CurrencyPair PAIR = CurrencyPair.BTC_USD;
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+  @Override
+  protected String getFixtures() {
+
+    return "kraken";
+  }
+
+  @Override
+  protected JsonNettyStreamingService createService() {
+
+    return new KrakenStreamingService(false, "wss://ws.kraken.com", null);
+  }
+
+  @Override
+  protected void subscribe(JsonNettyStreamingService service) {
+
+    KrakenStreamingMarketDataService marketDataService =
+        new KrakenStreamingMarketDataService((KrakenStreamingService) service);
+    consume(marketDataService.getOrderBook(PAIR, 10));
+    consume(marketDataService.getTrades(PAIR));
+    consume(marketDataService.getTicker(PAIR));
+  }
+
+  @Override
+  protected String acknowledge(String request) throws IOException {
+
+    JsonNode subscribe = mapper.readTree(request);
+    String name = subscribe.get("subscription").get("name").asText();
+    ObjectNode status = mapper.createObjectNode();
+    status.put("channelID", channelId(name));
+    status.put("channelName", name);
+    status.put("event", "subscriptionStatus");
+    status.put("pair", subscribe.get("pair").get(0).asText());
+    status.put("reqid", subscribe.get("reqid").asInt());
+    status.put("status", "subscribed");
+    status.set("subscription", subscribe.get("subscription"));
+    return mapper.writeValueAsString(status);
+  }
+
+  private static int channelId(String subscriptionName) {
+
+    switch (subscriptionName) {
+      case "book":
+        return 1;
+      case "trade":
+        return 2;
+      case "ticker":
+        return 3;
+      default:
+        throw new IllegalArgumentException("Unexpected subscription " + subscriptionName);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package org.knowm.xchange.benchmarks;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.binance.BinanceAdapters;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolRegistry;
+import org.knowm.xchange.utils.jackson.CurrencyPairDeserializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/** Conversions between {@link CurrencyPair}s and exchange symbols done for every message. */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CurrencyPairBenchmark {
+
+  public String slashSymbol = "BTC/USDT";
+  public String dashSymbol = "btc-usdt";
+  public String concatenatedSymbol = "BTCUSDT";
+  public CurrencyPair pair = CurrencyPair.BTC_USDT;
+
+  // same as the stream symbols of BinanceStreamingMarketDataService
+  private final SymbolRegistry<CurrencyPair> streamSymbols =
+      new SymbolRegistry<>(
+          pair -> BinanceAdapters.toSymbol(pair).toLowerCase(Locale.ROOT),
+          symbol -> BinanceAdapters.adaptSymbol(symbol.toUpperCase(Locale.ROOT)));
+
+  @Benchmark
+  public CurrencyPair parseSlashSymbol() {
+
+    return new CurrencyPair(slashSymbol);
+  }
+
+  @Benchmark
+  public CurrencyPair deserializeDashSymbol() {
+
+    return CurrencyPairDeserializer.getCurrencyPairFromString(dashSymbol);
+  }
+
+  @Benchmark
+  public CurrencyPair adaptBinanceSymbol() {
+
+    return BinanceAdapters.adaptSymbol(concatenatedSymbol);
+  }
+
+  @Benchmark
+  public String binanceChannel() {
+
+    return streamSymbols.toSymbol(pair) + "@depth";
+  }
+
+  @Benchmark
+  public String pairToString() {
+
+    return pair.toString();
+  }
+}
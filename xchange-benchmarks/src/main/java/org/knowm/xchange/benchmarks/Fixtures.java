@@ -0,0 +1,50 @@
+package org.knowm.xchange.benchmarks;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Recorded exchange messages replayed by the benchmarks. Fixtures live in {@code
+ * src/main/resources/fixtures} and contain one message per line.
+ */
+public final class Fixtures {
+
+  private static final String ROOT = "/fixtures/";
+
+  private Fixtures() {}
+
+  /**
+   * @param name the path of the fixture relative to the fixtures root, e.g. {@code
+   *     kraken/replay.jsonl}
+   * @return true if the fixture exists
+   */
+  public static boolean exists(String name) {
+
+    return Fixtures.class.getResource(ROOT + name) != null;
+  }
+
+  /**
+   * @param name the path of the fixture relative to the fixtures root, e.g. {@code
+   *     kraken/replay.jsonl}
+   * @return the non blank lines of the fixture
+   */
+  public static List<String> load(String name) {
+
+    InputStream in = Fixtures.class.getResourceAsStream(ROOT + name);
+    if (in == null) {
+      throw new IllegalArgumentException("Fixture not found: " + name);
+    }
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+      return reader.lines().filter(line -> !line.trim().isEmpty()).collect(Collectors.toList());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package org.knowm.xchange.benchmarks;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * {@link OrderBook#update(OrderBookUpdate)} of the list based book against {@link SortedOrderBook}.
+ * The updates touch the levels close to the top of the book the way real feeds do: volume changes,
+ * removals and re-insertions, so the book keeps its depth.
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderBookBenchmark {
+
+  private static final CurrencyPair PAIR = CurrencyPair.BTC_USD;
+  private static final BigDecimal MID = new BigDecimal("50000.00");
+  private static final BigDecimal TICK = new BigDecimal("0.50");
+  private static final int TOUCHED_LEVELS = 10;
+
+  @Param({"LIST", "SORTED"})
+  public String book;
+
+  @Param({"25", "1000"})
+  public int depth;
+
+  private OrderBook orderBook;
+  private OrderBookUpdate[] updates;
+  private int next;
+
+  @Setup
+  public void setUp() {
+
+    List<LimitOrder> asks = new ArrayList<>(depth);
+    List<LimitOrder> bids = new ArrayList<>(depth);
+    for (int i = 0; i < depth; i++) {
+      asks.add(level(OrderType.ASK, price(OrderType.ASK, i), BigDecimal.ONE));
+      bids.add(level(OrderType.BID, price(OrderType.BID, i), BigDecimal.ONE));
+    }
+    orderBook =
+        "SORTED".equals(book)
+            ? new SortedOrderBook(new Date(), asks, bids)
+            : new OrderBook(new Date(), asks, bids);
+
+    List<OrderBookUpdate> cycle = new ArrayList<>();
+    for (int i = 0; i < TOUCHED_LEVELS; i++) {
+      for (OrderType type : new OrderType[] {OrderType.ASK, OrderType.BID}) {
+        BigDecimal price = price(type, i);
+        cycle.add(update(type, price, new BigDecimal("2.5")));
+        cycle.add(update(type, price, BigDecimal.ZERO));
+        cycle.add(update(type, price, BigDecimal.ONE));
+      }
+    }
+    updates = cycle.toArray(new OrderBookUpdate[0]);
+  }
+
+  @Benchmark
+  public OrderBook update() {
+
+    int i = next;
+    next = i + 1 == updates.length ? 0 : i + 1;
+    orderBook.update(updates[i]);
+    return orderBook;
+  }
+
+  private static BigDecimal price(OrderType type, int level) {
+
+    BigDecimal offset = TICK.multiply(BigDecimal.valueOf(level + 1));
+    return type == OrderType.ASK ? MID.add(offset) : MID.subtract(offset);
+  }
+
+  private static LimitOrder level(OrderType type, BigDecimal price, BigDecimal amount) {
+
+    return new LimitOrder(type, amount, PAIR, null, null, price);
+  }
+
+  private static OrderBookUpdate update(OrderType type, BigDecimal price, BigDecimal amount) {
+
+    return new OrderBookUpdate(type, amount, PAIR, price, new Date(), amount);
+  }
+}
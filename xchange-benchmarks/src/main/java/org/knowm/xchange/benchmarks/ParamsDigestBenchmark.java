@@ -0,0 +1,108 @@
+package org.knowm.xchange.benchmarks;
+
+import java.lang.annotation.Annotation;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.QueryParam;
+import org.knowm.xchange.binance.service.BinanceHmacDigest;
+import org.knowm.xchange.ftx.service.FtxDigest;
+import org.knowm.xchange.service.BaseParamsDigest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import si.mazi.rescu.HttpMethod;
+import si.mazi.rescu.Params;
+import si.mazi.rescu.RestInvocation;
+import si.mazi.rescu.RestMethodMetadata;
+
+/** Request signing by {@link BaseParamsDigest} implementations, done for every private call. */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParamsDigestBenchmark {
+
+  private static final String SECRET = "NhqPtmdSJYdKjVHjA7PZj4Mge3R5YNiP1e3UZjInClVN65XAbvqqM6A7H5fATj0j";
+
+  private BinanceHmacDigest binanceDigest;
+  private RestInvocation binanceInvocation;
+  private FtxDigest ftxDigest;
+  private RestInvocation ftxInvocation;
+
+  @Setup
+  public void setUp() {
+
+    binanceDigest = BinanceHmacDigest.createInstance(SECRET);
+    Map<Class<? extends Annotation>, Params> binanceParams = new HashMap<>();
+    binanceParams.put(
+        QueryParam.class,
+        Params.of(
+                "symbol", "BTCUSDT",
+                "orderId", "5234212",
+                "recvWindow", "5000",
+                "timestamp", "1616675120123")
+            .add("signature", ""));
+    binanceInvocation =
+        invocation(
+            binanceParams,
+            HttpMethod.GET,
+            "api/v3/order",
+            "https://api.binance.com/api/v3/order?symbol=BTCUSDT&orderId=5234212"
+                + "&recvWindow=5000&timestamp=1616675120123&signature=",
+            "symbol=BTCUSDT&orderId=5234212&recvWindow=5000&timestamp=1616675120123&signature=");
+
+    ftxDigest = FtxDigest.createInstance(SECRET);
+    Map<Class<? extends Annotation>, Params> ftxParams = new HashMap<>();
+    ftxParams.put(HeaderParam.class, Params.of("FTX-TS", "1616675120123"));
+    ftxInvocation =
+        invocation(
+            ftxParams,
+            HttpMethod.GET,
+            "/api/orders",
+            "https://ftx.com/api/orders?market=BTC-PERP",
+            "market=BTC-PERP");
+  }
+
+  @Benchmark
+  public String binanceQuery() {
+
+    return binanceDigest.digestParams(binanceInvocation);
+  }
+
+  @Benchmark
+  public String ftxHeaders() {
+
+    return ftxDigest.digestParams(ftxInvocation);
+  }
+
+  private static RestInvocation invocation(
+      Map<Class<? extends Annotation>, Params> params,
+      HttpMethod method,
+      String path,
+      String invocationUrl,
+      String queryString) {
+
+    return new RestInvocation(
+        params,
+        Collections.emptyList(),
+        new RestMethodMetadata(
+            null, method, null, null, null, null, null, null, null, null, null),
+        path,
+        invocationUrl,
+        queryString,
+        path,
+        null);
+  }
+}
@@ -15,6 +15,7 @@ import org.knowm.xchange.binance.dto.trade.OrderStatus;
 import org.knowm.xchange.binance.service.BinanceTradeService.BinanceOrderFlags;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolRegistry;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.account.AccountInfo;
@@ -29,9 +30,16 @@ import org.knowm.xchange.dto.trade.StopOrder;
 
 public class BinanceAdapters {
 
+  private static final SymbolRegistry<CurrencyPair> SYMBOLS =
+      new SymbolRegistry<>(BinanceAdapters::formatSymbol, BinanceAdapters::parseSymbol);
+
   private BinanceAdapters() {}
 
   public static String toSymbol(CurrencyPair pair) {
+    return SYMBOLS.toSymbol(pair);
+  }
+
+  private static String formatSymbol(CurrencyPair pair) {
     if (pair.equals(CurrencyPair.IOTA_BTC)) {
       return "IOTABTC";
     }
@@ -112,6 +120,10 @@ public class BinanceAdapters {
   }
 
   public static CurrencyPair adaptSymbol(String symbol) {
+    return SYMBOLS.toInstrument(symbol);
+  }
+
+  private static CurrencyPair parseSymbol(String symbol) {
     int pairLength = symbol.length();
     if (symbol.endsWith("USDT")) {
       return new CurrencyPair(symbol.substring(0, pairLength - 4), "USDT");
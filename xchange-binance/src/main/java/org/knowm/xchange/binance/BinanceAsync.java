@@ -0,0 +1,105 @@
+package org.knowm.xchange.binance;
+
+import static org.knowm.xchange.binance.BinanceAuthenticated.SIGNATURE;
+import static org.knowm.xchange.binance.BinanceAuthenticated.X_MBX_APIKEY;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import org.knowm.xchange.binance.dto.BinanceException;
+import org.knowm.xchange.binance.dto.account.BinanceAccountInformation;
+import org.knowm.xchange.binance.dto.marketdata.BinanceOrderbook;
+import org.knowm.xchange.binance.dto.marketdata.BinanceTicker24h;
+import org.knowm.xchange.binance.dto.trade.BinanceCancelledOrder;
+import org.knowm.xchange.binance.dto.trade.BinanceNewOrder;
+import org.knowm.xchange.binance.dto.trade.BinanceOrder;
+import org.knowm.xchange.binance.dto.trade.OrderSide;
+import org.knowm.xchange.binance.dto.trade.OrderType;
+import org.knowm.xchange.binance.dto.trade.TimeInForce;
+import si.mazi.rescu.ParamsDigest;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+/**
+ * Asynchronous variants of the {@link BinanceAuthenticated} calls, see {@link
+ * org.knowm.xchange.client.TransportRestProxyFactory}. The futures fail with a {@link
+ * BinanceException} if the API returns an error.
+ *
+ * <p>The calls don't block the caller, but they only spare a thread per request with a
+ * non-blocking transport, e.g. the {@code JdkHttpClientTransport} of {@code
+ * xchange-transport-jdk11}. The default {@link org.knowm.xchange.client.UrlConnectionHttpTransport}
+ * waits for each response on a thread of its pool.
+ */
+@Path("")
+@Produces(MediaType.APPLICATION_JSON)
+public interface BinanceAsync {
+
+  @GET
+  @Path("api/v3/ticker/24hr")
+  CompletableFuture<BinanceTicker24h> ticker24h(@QueryParam("symbol") String symbol)
+      throws BinanceException;
+
+  @GET
+  @Path("api/v3/depth")
+  CompletableFuture<BinanceOrderbook> depth(
+      @QueryParam("symbol") String symbol, @QueryParam("limit") Integer limit)
+      throws BinanceException;
+
+  @POST
+  @Path("api/v3/order")
+  CompletableFuture<BinanceNewOrder> newOrder(
+      @FormParam("symbol") String symbol,
+      @FormParam("side") OrderSide side,
+      @FormParam("type") OrderType type,
+      @FormParam("timeInForce") TimeInForce timeInForce,
+      @FormParam("quantity") BigDecimal quantity,
+      @FormParam("price") BigDecimal price,
+      @FormParam("newClientOrderId") String newClientOrderId,
+      @FormParam("stopPrice") BigDecimal stopPrice,
+      @FormParam("icebergQty") BigDecimal icebergQty,
+      @FormParam("recvWindow") Long recvWindow,
+      @FormParam("timestamp") SynchronizedValueFactory<Long> timestamp,
+      @HeaderParam(X_MBX_APIKEY) String apiKey,
+      @QueryParam(SIGNATURE) ParamsDigest signature)
+      throws BinanceException;
+
+  @DELETE
+  @Path("api/v3/order")
+  CompletableFuture<BinanceCancelledOrder> cancelOrder(
+      @QueryParam("symbol") String symbol,
+      @QueryParam("orderId") Long orderId,
+      @QueryParam("origClientOrderId") String origClientOrderId,
+      @QueryParam("newClientOrderId") String newClientOrderId,
+      @QueryParam("recvWindow") Long recvWindow,
+      @QueryParam("timestamp") SynchronizedValueFactory<Long> timestamp,
+      @HeaderParam(X_MBX_APIKEY) String apiKey,
+      @QueryParam(SIGNATURE) ParamsDigest signature)
+      throws BinanceException;
+
+  @GET
+  @Path("api/v3/openOrders")
+  CompletableFuture<List<BinanceOrder>> openOrders(
+      @QueryParam("symbol") String symbol,
+      @QueryParam("recvWindow") Long recvWindow,
+      @QueryParam("timestamp") SynchronizedValueFactory<Long> timestamp,
+      @HeaderParam(X_MBX_APIKEY) String apiKey,
+      @QueryParam(SIGNATURE) ParamsDigest signature)
+      throws BinanceException;
+
+  @GET
+  @Path("api/v3/account")
+  CompletableFuture<BinanceAccountInformation> account(
+      @QueryParam("recvWindow") Long recvWindow,
+      @QueryParam("timestamp") SynchronizedValueFactory<Long> timestamp,
+      @HeaderParam(X_MBX_APIKEY) String apiKey,
+      @QueryParam(SIGNATURE) ParamsDigest signature)
+      throws BinanceException;
+}
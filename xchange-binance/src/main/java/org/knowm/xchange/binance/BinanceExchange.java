@@ -1,5 +1,6 @@
 package org.knowm.xchange.binance;
 
+import io.github.resilience4j.ratelimiter.RateLimiter;
 import java.math.BigDecimal;
 import java.util.Arrays;
 import java.util.Map;
@@ -13,6 +14,7 @@ import org.knowm.xchange.binance.service.BinanceAccountService;
 import org.knowm.xchange.binance.service.BinanceMarginAccountService;
 import org.knowm.xchange.binance.service.BinanceMarketDataService;
 import org.knowm.xchange.binance.service.BinanceTradeService;
+import org.knowm.xchange.client.AdaptiveRateLimiter;
 import org.knowm.xchange.client.ExchangeRestProxyBuilder;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.currency.Currency;
@@ -24,6 +26,8 @@ import org.knowm.xchange.utils.AuthUtils;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 import static org.knowm.xchange.binance.BinanceExchange.Parameters.PARAM_SANDBOX_SSL_URI;
+import static org.knowm.xchange.binance.BinanceResilience.REQUEST_WEIGHT_RATE_LIMITER;
+import static org.knowm.xchange.binance.BinanceResilience.USED_WEIGHT_HEADER;
 import static org.knowm.xchange.binance.BinanceExchange.Parameters.PARAM_USE_SANDBOX;
 
 public class BinanceExchange extends BaseExchange {
@@ -35,6 +39,7 @@ public class BinanceExchange extends BaseExchange {
 
   private BinanceExchangeInfo exchangeInfo;
   protected BinanceAuthenticated binance;
+  protected BinanceAsync binanceAsync;
   protected SynchronizedValueFactory<Long> timestampFactory;
 
   @Override
@@ -43,18 +48,15 @@ public class BinanceExchange extends BaseExchange {
     concludeHostParams(exchangeSpecification);
 
     if (EXCHANGE_TYPE_MARGIN.equals(exchangeSpecification.getExchangeSpecificParametersItem(EXCHANGE_TYPE))) {
-      this.binance = ExchangeRestProxyBuilder.forInterface(
-              BinanceMarginAuthenticated.class, getExchangeSpecification())
-              .build();
+      this.binance = restProxyBuilder(BinanceMarginAuthenticated.class).build();
 
       this.accountService = new BinanceMarginAccountService(this, (BinanceMarginAuthenticated)binance, getResilienceRegistries());
     } else {
-      this.binance = ExchangeRestProxyBuilder.forInterface(
-              BinanceAuthenticated.class, getExchangeSpecification())
-              .build();
+      this.binance = restProxyBuilder(BinanceAuthenticated.class).build();
 
       this.accountService = new BinanceAccountService(this, binance, getResilienceRegistries());
     }
+    this.binanceAsync = asyncProxyBuilder().build();
     this.timestampFactory =
         new BinanceTimestampFactory(
             binance, getExchangeSpecification().getResilience(), getResilienceRegistries());
@@ -63,10 +65,51 @@ public class BinanceExchange extends BaseExchange {
     this.tradeService = new BinanceTradeService(this, binance, getResilienceRegistries());
   }
 
+  /**
+   * Proxies of the spot API report the used request weight of their responses to the rate
+   * limiter, if it is enabled, see {@link AdaptiveRateLimiter#usageHeaderListener(String)}. The
+   * blocking proxies stay on rescu unless the exchange has a transport.
+   */
+  protected <T> ExchangeRestProxyBuilder<T> restProxyBuilder(Class<T> restInterface) {
+    ExchangeRestProxyBuilder<T> builder =
+        ExchangeRestProxyBuilder.forInterface(restInterface, getExchangeSpecification());
+    AdaptiveRateLimiter requestWeight = getAdaptiveRequestWeight();
+    if (requestWeight != null) {
+      builder.responseListener(requestWeight.usageHeaderListener(USED_WEIGHT_HEADER));
+    }
+    return builder;
+  }
+
+  /** The asynchronous proxy sees every response through the transport of the exchange. */
+  private ExchangeRestProxyBuilder<BinanceAsync> asyncProxyBuilder() {
+    ExchangeRestProxyBuilder<BinanceAsync> builder =
+        ExchangeRestProxyBuilder.forInterface(BinanceAsync.class, getExchangeSpecification())
+            .httpTransport(getHttpTransport());
+    AdaptiveRateLimiter requestWeight = getAdaptiveRequestWeight();
+    if (requestWeight != null) {
+      builder.responseListener(requestWeight.usageHeaderListener(USED_WEIGHT_HEADER));
+    }
+    return builder;
+  }
+
+  private AdaptiveRateLimiter getAdaptiveRequestWeight() {
+    RateLimiter requestWeight =
+        getResilienceRegistries().rateLimiters().rateLimiter(REQUEST_WEIGHT_RATE_LIMITER);
+    return getExchangeSpecification().getResilience().isRateLimiterEnabled()
+            && requestWeight instanceof AdaptiveRateLimiter
+        ? (AdaptiveRateLimiter) requestWeight
+        : null;
+  }
+
   public SynchronizedValueFactory<Long> getTimestampFactory() {
     return timestampFactory;
   }
 
+  /** @return the non-blocking spot API, null if the exchange doesn't support it */
+  public BinanceAsync getBinanceAsync() {
+    return binanceAsync;
+  }
+
   @Override
   public SynchronizedValueFactory<Long> getNonceFactory() {
     throw new UnsupportedOperationException(
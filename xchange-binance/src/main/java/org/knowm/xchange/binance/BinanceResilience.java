@@ -2,6 +2,7 @@ package org.knowm.xchange.binance;
 
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import java.time.Duration;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.client.ResilienceRegistries;
 
 public final class BinanceResilience {
@@ -12,18 +13,23 @@ public final class BinanceResilience {
 
   public static final String ORDERS_PER_DAY_RATE_LIMITER = "ordersPerDay";
 
+  /** Request weight used by the IP address in the current minute, sent with every response. */
+  public static final String USED_WEIGHT_HEADER = "X-MBX-USED-WEIGHT-1M";
+
+  /** Request weight of a minute kept for order and account calls, see {@link CallPriority}. */
+  public static final int RESERVED_REQUEST_WEIGHT = 100;
+
   private BinanceResilience() {}
 
   public static ResilienceRegistries createRegistries() {
     ResilienceRegistries registries = new ResilienceRegistries();
-    registries
-        .rateLimiters()
-        .rateLimiter(
-            REQUEST_WEIGHT_RATE_LIMITER,
-            RateLimiterConfig.from(registries.rateLimiters().getDefaultConfig())
-                .limitRefreshPeriod(Duration.ofMinutes(1))
-                .limitForPeriod(1200)
-                .build());
+    registries.adaptiveRateLimiter(
+        REQUEST_WEIGHT_RATE_LIMITER,
+        RateLimiterConfig.from(registries.rateLimiters().getDefaultConfig())
+            .limitRefreshPeriod(Duration.ofMinutes(1))
+            .limitForPeriod(1200)
+            .build(),
+        RESERVED_REQUEST_WEIGHT);
     registries
         .rateLimiters()
         .rateLimiter(
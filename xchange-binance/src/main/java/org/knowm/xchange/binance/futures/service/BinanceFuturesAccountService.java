@@ -11,6 +11,7 @@ import org.knowm.xchange.binance.futures.dto.account.*;
 import org.knowm.xchange.binance.service.BinanceAccountService;
 import org.knowm.xchange.binance.service.account.params.BinanceAccountMarginParams;
 import org.knowm.xchange.binance.service.account.params.BinanceAccountPositionMarginParams;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.account.AccountInfo;
@@ -45,6 +46,7 @@ public class BinanceFuturesAccountService extends BinanceAccountService {
         try {
             return decorateApiCall(
                     () -> binanceFutures.futuresAccount(getRecvWindow(), getTimestampFactory(), apiKey, signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("account"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 5)
                     .call();
@@ -75,6 +77,7 @@ public class BinanceFuturesAccountService extends BinanceAccountService {
         try {
             return decorateApiCall(
                     () -> binanceFutures.userCommissionRate(BinanceAdapters.toSymbol(pair), getRecvWindow(), getTimestampFactory(), apiKey, signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("userCommissionRate"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 20)
                     .call();
@@ -99,6 +102,7 @@ public class BinanceFuturesAccountService extends BinanceAccountService {
                             getTimestampFactory(),
                             apiKey,
                             signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("setLeverage"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
                     .call();
@@ -123,6 +127,7 @@ public class BinanceFuturesAccountService extends BinanceAccountService {
                             getTimestampFactory(),
                             apiKey,
                             signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("setMargin"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
                     .call();
@@ -149,6 +154,7 @@ public class BinanceFuturesAccountService extends BinanceAccountService {
                             getTimestampFactory(),
                             apiKey,
                             signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("setMargin"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
                     .call();
@@ -170,6 +176,7 @@ public class BinanceFuturesAccountService extends BinanceAccountService {
                             getTimestampFactory(),
                             apiKey,
                             signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("getIncomeHistory"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 30)
                     .call();
@@ -187,6 +194,7 @@ public class BinanceFuturesAccountService extends BinanceAccountService {
                             getTimestampFactory(),
                             apiKey,
                             signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("getLeverageBrackets"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
                     .call();
@@ -204,6 +212,7 @@ public class BinanceFuturesAccountService extends BinanceAccountService {
                             getTimestampFactory(),
                             apiKey,
                             signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("getPositionInformation"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 5)
                     .call();
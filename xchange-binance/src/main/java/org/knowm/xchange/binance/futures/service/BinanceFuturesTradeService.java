@@ -11,6 +11,7 @@ import org.knowm.xchange.binance.futures.BinanceFuturesAuthenticated;
 import org.knowm.xchange.binance.futures.dto.trade.BinanceFuturesOrder;
 import org.knowm.xchange.binance.futures.dto.trade.BinanceFuturesTrade;
 import org.knowm.xchange.binance.service.BinanceTradeService;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
@@ -265,6 +266,7 @@ public class BinanceFuturesTradeService extends BinanceTradeService {
                                             getTimestampFactory(),
                                             apiKey,
                                             signatureCreator))
+                            .withPriority(CallPriority.PLACE)
                             .withRetry(retry("newOrder", NON_IDEMPOTENT_CALLS_RETRY_CONFIG_NAME))
                             .withRateLimiter(rateLimiter(ORDERS_PER_SECOND_RATE_LIMITER))
                             .withRateLimiter(rateLimiter(ORDERS_PER_DAY_RATE_LIMITER))
@@ -288,6 +290,7 @@ public class BinanceFuturesTradeService extends BinanceTradeService {
                                 getTimestampFactory(),
                                 super.apiKey,
                                 super.signatureCreator))
+                .withPriority(CallPriority.ACCOUNT)
                 .withRetry(retry("futuresOrderStatus"))
                 .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
                 .call();
@@ -302,6 +305,7 @@ public class BinanceFuturesTradeService extends BinanceTradeService {
                                 getTimestampFactory(),
                                 apiKey,
                                 signatureCreator))
+                .withPriority(CallPriority.ACCOUNT)
                 .withRetry(retry("futuresOpenOrders"))
                 .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), openOrdersPermits(pair))
                 .call();
@@ -320,6 +324,7 @@ public class BinanceFuturesTradeService extends BinanceTradeService {
                         apiKey,
                         signatureCreator
                 ))
+                .withPriority(CallPriority.ACCOUNT)
                 .withRetry(retry("futuresAllOrders"))
                 .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 5)
                 .call();
@@ -340,6 +345,7 @@ public class BinanceFuturesTradeService extends BinanceTradeService {
                                 getTimestampFactory(),
                                 apiKey,
                                 signatureCreator))
+                .withPriority(CallPriority.ACCOUNT)
                 .withRetry(retry("myFuturesTrades"))
                 .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 5)
                 .call();
@@ -18,6 +18,7 @@ import org.knowm.xchange.dto.account.*;
 import org.knowm.xchange.dto.account.FundingRecord.Status;
 import org.knowm.xchange.dto.account.FundingRecord.Type;
 import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.account.AsyncAccountService;
 import org.knowm.xchange.service.account.params.AccountFundsTransferParams;
 import org.knowm.xchange.service.trade.params.*;
 
@@ -25,9 +26,11 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
-public class BinanceAccountService extends BinanceAccountServiceRaw implements AccountService {
+public class BinanceAccountService extends BinanceAccountServiceRaw
+    implements AccountService, AsyncAccountService {
 
   public BinanceAccountService(
       BinanceExchange exchange,
@@ -71,17 +74,25 @@ public class BinanceAccountService extends BinanceAccountServiceRaw implements A
   @Override
   public AccountInfo getAccountInfo() throws IOException {
     try {
-      BinanceAccountInformation acc = account();
-      List<Balance> balances =
-          acc.balances.stream()
-              .map(b -> new Balance(b.getCurrency(), b.getTotal(), b.getAvailable()))
-              .collect(Collectors.toList());
-      return new AccountInfo(new Date(acc.updateTime), Wallet.Builder.from(balances).build());
+      return adaptAccountInfo(account());
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
   }
 
+  @Override
+  public CompletableFuture<AccountInfo> getAccountInfoAsync() {
+    return adaptErrors(accountAsync().thenApply(this::adaptAccountInfo));
+  }
+
+  private AccountInfo adaptAccountInfo(BinanceAccountInformation acc) {
+    List<Balance> balances =
+        acc.balances.stream()
+            .map(b -> new Balance(b.getCurrency(), b.getTotal(), b.getAvailable()))
+            .collect(Collectors.toList());
+    return new AccountInfo(new Date(acc.updateTime), Wallet.Builder.from(balances).build());
+  }
+
   @Override
   public Map<CurrencyPair, Fee> getDynamicTradingFees() throws IOException {
     try {
@@ -8,6 +8,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.knowm.xchange.binance.BinanceAdapters;
 import org.knowm.xchange.binance.BinanceAuthenticated;
@@ -15,6 +16,7 @@ import org.knowm.xchange.binance.BinanceExchange;
 import org.knowm.xchange.binance.dto.BinanceException;
 import org.knowm.xchange.binance.dto.account.*;
 import org.knowm.xchange.binance.dto.account.DepositList.BinanceDeposit;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.currency.Currency;
 
@@ -30,6 +32,18 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
   public BinanceAccountInformation account() throws BinanceException, IOException {
     return decorateApiCall(
             () -> binance.account(getRecvWindow(), getTimestampFactory(), apiKey, signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
+        .withRetry(retry("account"))
+        .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 5)
+        .call();
+  }
+
+  public CompletableFuture<BinanceAccountInformation> accountAsync() {
+    return decorateAsyncApiCall(
+            () ->
+                getBinanceAsync()
+                    .account(getRecvWindow(), getTimestampFactory(), apiKey, signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("account"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 5)
         .call();
@@ -67,6 +81,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
                         getTimestampFactory(),
                         apiKey,
                         signatureCreator))
+            .withPriority(CallPriority.ACCOUNT)
             .withRetry(retry("withdraw", NON_IDEMPOTENT_CALLS_RETRY_CONFIG_NAME))
             .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 5)
             .call();
@@ -90,6 +105,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
                         getTimestampFactory(),
                         apiKey,
                         signatureCreator))
+            .withPriority(CallPriority.ACCOUNT)
             .withRetry(retry("withdraw", NON_IDEMPOTENT_CALLS_RETRY_CONFIG_NAME))
             .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 5)
             .call();
@@ -106,6 +122,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     apiKey,
                     signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("depositAddress"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
@@ -116,6 +133,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
             () ->
                 binance.assetDetail(
                     getRecvWindow(), getTimestampFactory(), apiKey, signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("assetDetail"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
@@ -134,6 +152,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
                         getTimestampFactory(),
                         apiKey,
                         signatureCreator))
+            .withPriority(CallPriority.ACCOUNT)
             .withRetry(retry("depositHistory"))
             .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
             .call();
@@ -153,6 +172,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
                         getTimestampFactory(),
                         apiKey,
                         signatureCreator))
+            .withPriority(CallPriority.ACCOUNT)
             .withRetry(retry("withdrawHistory"))
             .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
             .call();
@@ -165,6 +185,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
             () ->
                 binance.userAssetDribbletLog(
                     getRecvWindow(), getTimestampFactory(), super.apiKey, super.signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("userAssetDribbletLog"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call()
@@ -188,6 +209,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     super.apiKey,
                     super.signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("assetDividend"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call()
@@ -209,6 +231,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     super.apiKey,
                     super.signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("transferHistory"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call()
@@ -230,6 +253,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     super.apiKey,
                     super.signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("transferSubUserHistory"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
@@ -249,6 +273,7 @@ public class BinanceAccountServiceRaw extends BinanceBaseService {
                                     getTimestampFactory(),
                                     apiKey,
                                     signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("futureTransfer"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
                     .call();
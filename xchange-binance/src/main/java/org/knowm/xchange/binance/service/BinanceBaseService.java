@@ -3,11 +3,17 @@ package org.knowm.xchange.binance.service;
 import static org.knowm.xchange.binance.BinanceResilience.REQUEST_WEIGHT_RATE_LIMITER;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import org.knowm.xchange.binance.BinanceAsync;
 import org.knowm.xchange.binance.BinanceAuthenticated;
+import org.knowm.xchange.binance.BinanceErrorAdapter;
 import org.knowm.xchange.binance.BinanceExchange;
+import org.knowm.xchange.binance.dto.BinanceException;
 import org.knowm.xchange.binance.dto.meta.BinanceSystemStatus;
 import org.knowm.xchange.binance.dto.meta.exchangeinfo.BinanceExchangeInfo;
 import org.knowm.xchange.client.ResilienceRegistries;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
 import org.knowm.xchange.service.BaseResilientExchangeService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -53,4 +59,33 @@ public class BinanceBaseService extends BaseResilientExchangeService<BinanceExch
   public BinanceSystemStatus getSystemStatus() throws IOException {
     return decorateApiCall(binance::systemStatus).call();
   }
+
+  protected BinanceAsync getBinanceAsync() {
+    BinanceAsync binanceAsync = exchange.getBinanceAsync();
+    if (binanceAsync == null) {
+      throw new NotYetImplementedForExchangeException("Asynchronous calls");
+    }
+    return binanceAsync;
+  }
+
+  /** Fails the future with the adapted exception like the blocking calls throw it. */
+  protected static <T> CompletableFuture<T> adaptErrors(CompletableFuture<T> future) {
+    CompletableFuture<T> adapted = new CompletableFuture<>();
+    future.whenComplete(
+        (value, error) -> {
+          if (error == null) {
+            adapted.complete(value);
+            return;
+          }
+          Throwable cause =
+              error instanceof CompletionException && error.getCause() != null
+                  ? error.getCause()
+                  : error;
+          adapted.completeExceptionally(
+              cause instanceof BinanceException
+                  ? BinanceErrorAdapter.adapt((BinanceException) cause)
+                  : cause);
+        });
+    return adapted;
+  }
 }
@@ -6,10 +6,13 @@ import org.knowm.xchange.binance.BinanceExchange;
 import org.knowm.xchange.binance.BinanceMarginAuthenticated;
 import org.knowm.xchange.binance.dto.BinanceException;
 import org.knowm.xchange.binance.dto.account.BinanceMarginAccountInformation;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.dto.account.AccountInfo;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 
 import static org.knowm.xchange.binance.BinanceResilience.REQUEST_WEIGHT_RATE_LIMITER;
 
@@ -27,10 +30,16 @@ public class BinanceMarginAccountService extends BinanceAccountService {
         }
     }
 
+    @Override
+    public CompletableFuture<AccountInfo> getAccountInfoAsync() {
+        throw new NotYetImplementedForExchangeException("getAccountInfoAsync");
+    }
+
     public BinanceMarginAccountInformation getMarginAccountInfo() throws IOException {
         try {
             return decorateApiCall(
                     () -> ((BinanceMarginAuthenticated)binance).marginAccount(getRecvWindow(), getTimestampFactory(), apiKey, signatureCreator))
+                    .withPriority(CallPriority.ACCOUNT)
                     .withRetry(retry("account"))
                     .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), 5)
                     .call();
@@ -2,6 +2,7 @@ package org.knowm.xchange.binance.service;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.knowm.xchange.binance.BinanceAdapters;
@@ -24,11 +25,12 @@ import org.knowm.xchange.dto.marketdata.Trades.TradeSortType;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.instrument.Instrument;
+import org.knowm.xchange.service.marketdata.AsyncMarketDataService;
 import org.knowm.xchange.service.marketdata.MarketDataService;
 import org.knowm.xchange.service.marketdata.params.Params;
 
 public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
-    implements MarketDataService {
+    implements MarketDataService, AsyncMarketDataService {
 
   public BinanceMarketDataService(
       BinanceExchange exchange,
@@ -40,23 +42,35 @@ public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
   @Override
   public OrderBook getOrderBook(CurrencyPair pair, Object... args) throws IOException {
     try {
-      int limitDepth = 100;
-
-      if (args != null && args.length == 1) {
-        Object arg0 = args[0];
-        if (!(arg0 instanceof Integer)) {
-          throw new ExchangeException("Argument 0 must be an Integer!");
-        } else {
-          limitDepth = (Integer) arg0;
-        }
-      }
-      BinanceOrderbook binanceOrderbook = getBinanceOrderbook(pair, limitDepth);
+      BinanceOrderbook binanceOrderbook = getBinanceOrderbook(pair, orderBookLimit(args));
       return convertOrderBook(binanceOrderbook, pair);
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
   }
 
+  @Override
+  public CompletableFuture<OrderBook> getOrderBookAsync(Instrument instrument, Object... args) {
+    CurrencyPair pair = (CurrencyPair) instrument;
+    return adaptErrors(
+        getBinanceOrderbookAsync(pair, orderBookLimit(args))
+            .thenApply(binanceOrderbook -> convertOrderBook(binanceOrderbook, pair)));
+  }
+
+  private static int orderBookLimit(Object... args) {
+    int limitDepth = 100;
+
+    if (args != null && args.length == 1) {
+      Object arg0 = args[0];
+      if (!(arg0 instanceof Integer)) {
+        throw new ExchangeException("Argument 0 must be an Integer!");
+      } else {
+        limitDepth = (Integer) arg0;
+      }
+    }
+    return limitDepth;
+  }
+
   public static OrderBook convertOrderBook(BinanceOrderbook ob, Instrument instrument) {
     List<LimitOrder> bids =
         ob.bids.entrySet().stream()
@@ -78,6 +92,12 @@ public class BinanceMarketDataService extends BinanceMarketDataServiceRaw
     }
   }
 
+  @Override
+  public CompletableFuture<Ticker> getTickerAsync(Instrument instrument, Object... args) {
+    return adaptErrors(
+        ticker24hAsync((CurrencyPair) instrument).thenApply(BinanceTicker24h::toTicker));
+  }
+
   @Override
   public List<Ticker> getTickers(Params params) throws IOException {
     try {
@@ -4,6 +4,7 @@ import static org.knowm.xchange.binance.BinanceResilience.REQUEST_WEIGHT_RATE_LI
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import org.knowm.xchange.binance.BinanceAdapters;
 import org.knowm.xchange.binance.BinanceAuthenticated;
@@ -94,6 +95,27 @@ public class BinanceMarketDataServiceRaw extends BinanceBaseService {
     return ticker24h;
   }
 
+  public CompletableFuture<BinanceTicker24h> ticker24hAsync(CurrencyPair pair) {
+    return decorateAsyncApiCall(() -> getBinanceAsync().ticker24h(BinanceAdapters.toSymbol(pair)))
+        .withRetry(retry("ticker24h"))
+        .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
+        .call()
+        .thenApply(
+            ticker24h -> {
+              ticker24h.setCurrencyPair(pair);
+              return ticker24h;
+            });
+  }
+
+  public CompletableFuture<BinanceOrderbook> getBinanceOrderbookAsync(
+      CurrencyPair pair, Integer limit) {
+    return decorateAsyncApiCall(
+            () -> getBinanceAsync().depth(BinanceAdapters.toSymbol(pair), limit))
+        .withRetry(retry("depth"))
+        .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), depthPermits(limit))
+        .call();
+  }
+
   public BinancePrice tickerPrice(CurrencyPair pair) throws IOException {
     return tickerAllPrices().stream()
         .filter(p -> p.getCurrencyPair().equals(pair))
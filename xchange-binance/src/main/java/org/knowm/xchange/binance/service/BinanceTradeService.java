@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
@@ -34,6 +35,7 @@ import org.knowm.xchange.dto.trade.UserTrade;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.exceptions.NotAvailableFromExchangeException;
+import org.knowm.xchange.service.trade.AsyncTradeService;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelOrderByCurrencyPair;
 import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
@@ -52,7 +54,8 @@ import org.knowm.xchange.service.trade.params.orders.OrderQueryParamUserReferenc
 import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
 import org.knowm.xchange.utils.Assert;
 
-public class BinanceTradeService extends BinanceTradeServiceRaw implements TradeService {
+public class BinanceTradeService extends BinanceTradeServiceRaw
+    implements TradeService, AsyncTradeService {
 
   public BinanceTradeService(
       BinanceExchange exchange,
@@ -73,48 +76,93 @@ public class BinanceTradeService extends BinanceTradeServiceRaw implements Trade
   @Override
   public OpenOrders getOpenOrders(OpenOrdersParams params) throws IOException {
     try {
-      List<BinanceOrder> binanceOpenOrders;
-      if (params instanceof OpenOrdersParamCurrencyPair) {
-        OpenOrdersParamCurrencyPair pairParams = (OpenOrdersParamCurrencyPair) params;
-        CurrencyPair pair = pairParams.getCurrencyPair();
-        binanceOpenOrders = super.openOrders(pair);
-      } else {
-        binanceOpenOrders = super.openOrders();
-      }
-
-      List<LimitOrder> limitOrders = new ArrayList<>();
-      List<Order> otherOrders = new ArrayList<>();
-      binanceOpenOrders.forEach(
-          binanceOrder -> {
-            Order order = BinanceAdapters.adaptOrder(binanceOrder);
-            if (order instanceof LimitOrder) {
-              limitOrders.add((LimitOrder) order);
-            } else {
-              otherOrders.add(order);
-            }
-          });
-      return new OpenOrders(limitOrders, otherOrders);
+      return adaptOpenOrders(super.openOrders(openOrdersPair(params)));
     } catch (BinanceException e) {
       throw BinanceErrorAdapter.adapt(e);
     }
   }
 
+  @Override
+  public CompletableFuture<OpenOrders> getOpenOrdersAsync(OpenOrdersParams params) {
+    return adaptErrors(
+        super.openOrdersAsync(openOrdersPair(params)).thenApply(this::adaptOpenOrders));
+  }
+
+  private CurrencyPair openOrdersPair(OpenOrdersParams params) {
+    return params instanceof OpenOrdersParamCurrencyPair
+        ? ((OpenOrdersParamCurrencyPair) params).getCurrencyPair()
+        : null;
+  }
+
+  private OpenOrders adaptOpenOrders(List<BinanceOrder> binanceOpenOrders) {
+    List<LimitOrder> limitOrders = new ArrayList<>();
+    List<Order> otherOrders = new ArrayList<>();
+    binanceOpenOrders.forEach(
+        binanceOrder -> {
+          Order order = BinanceAdapters.adaptOrder(binanceOrder);
+          if (order instanceof LimitOrder) {
+            limitOrders.add((LimitOrder) order);
+          } else {
+            otherOrders.add(order);
+          }
+        });
+    return new OpenOrders(limitOrders, otherOrders);
+  }
+
   @Override
   public String placeMarketOrder(MarketOrder mo) throws IOException {
     return placeOrder(OrderType.MARKET, mo, null, null, null);
   }
 
+  @Override
+  public CompletableFuture<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+    return placeOrderAsync(OrderType.MARKET, marketOrder, null, null);
+  }
+
   @Override
   public String placeLimitOrder(LimitOrder limitOrder) throws IOException {
-    TimeInForce tif = timeInForceFromOrder(limitOrder).orElse(TimeInForce.GTC);
-    OrderType type;
-    if (limitOrder.hasFlag(org.knowm.xchange.binance.dto.trade.BinanceOrderFlags.LIMIT_MAKER)) {
-      type = OrderType.LIMIT_MAKER;
-      tif = null;
-    } else {
-      type = OrderType.LIMIT;
-    }
-    return placeOrder(type, limitOrder, limitOrder.getLimitPrice(), null, tif);
+    OrderType type = limitOrderType(limitOrder);
+    return placeOrder(
+        type,
+        limitOrder,
+        limitOrder.getLimitPrice(),
+        null,
+        limitOrderTimeInForce(type, limitOrder));
+  }
+
+  @Override
+  public CompletableFuture<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+    OrderType type = limitOrderType(limitOrder);
+    return placeOrderAsync(
+        type, limitOrder, limitOrder.getLimitPrice(), limitOrderTimeInForce(type, limitOrder));
+  }
+
+  private OrderType limitOrderType(LimitOrder limitOrder) {
+    return limitOrder.hasFlag(org.knowm.xchange.binance.dto.trade.BinanceOrderFlags.LIMIT_MAKER)
+        ? OrderType.LIMIT_MAKER
+        : OrderType.LIMIT;
+  }
+
+  private TimeInForce limitOrderTimeInForce(OrderType type, LimitOrder limitOrder) {
+    return type == OrderType.LIMIT_MAKER
+        ? null
+        : timeInForceFromOrder(limitOrder).orElse(TimeInForce.GTC);
+  }
+
+  private CompletableFuture<String> placeOrderAsync(
+      OrderType type, Order order, BigDecimal limitPrice, TimeInForce tif) {
+    return adaptErrors(
+        newOrderAsync(
+                order.getCurrencyPair(),
+                BinanceAdapters.convert(order.getType()),
+                type,
+                tif,
+                order.getOriginalAmount(),
+                limitPrice,
+                getClientOrderId(order),
+                null,
+                null)
+            .thenApply(newOrder -> Long.toString(newOrder.orderId)));
   }
 
   @Override
@@ -230,6 +278,22 @@ public class BinanceTradeService extends BinanceTradeServiceRaw implements Trade
     }
   }
 
+  @Override
+  public CompletableFuture<Boolean> cancelOrderAsync(CancelOrderParams params) {
+    if (!(params instanceof CancelOrderByCurrencyPair)
+        || !(params instanceof CancelOrderByIdParams)) {
+      throw new ExchangeException(
+          "You need to provide the currency pair and the order id to cancel an order.");
+    }
+    return adaptErrors(
+        super.cancelOrderAsync(
+                ((CancelOrderByCurrencyPair) params).getCurrencyPair(),
+                BinanceAdapters.id(((CancelOrderByIdParams) params).getOrderId()),
+                null,
+                null)
+            .thenApply(cancelledOrder -> true));
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
     try {
@@ -7,6 +7,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.binance.BinanceAdapters;
 import org.knowm.xchange.binance.BinanceAuthenticated;
 import org.knowm.xchange.binance.BinanceExchange;
@@ -19,6 +20,7 @@ import org.knowm.xchange.binance.dto.trade.BinanceTrade;
 import org.knowm.xchange.binance.dto.trade.OrderSide;
 import org.knowm.xchange.binance.dto.trade.OrderType;
 import org.knowm.xchange.binance.dto.trade.TimeInForce;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.currency.CurrencyPair;
 
@@ -44,6 +46,23 @@ public class BinanceTradeServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     apiKey,
                     signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
+        .withRetry(retry("openOrders"))
+        .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), openOrdersPermits(pair))
+        .call();
+  }
+
+  public CompletableFuture<List<BinanceOrder>> openOrdersAsync(CurrencyPair pair) {
+    return decorateAsyncApiCall(
+            () ->
+                getBinanceAsync()
+                    .openOrders(
+                        Optional.ofNullable(pair).map(BinanceAdapters::toSymbol).orElse(null),
+                        getRecvWindow(),
+                        getTimestampFactory(),
+                        apiKey,
+                        signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("openOrders"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), openOrdersPermits(pair))
         .call();
@@ -76,6 +95,42 @@ public class BinanceTradeServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     apiKey,
                     signatureCreator))
+        .withPriority(CallPriority.PLACE)
+        .withRetry(retry("newOrder", NON_IDEMPOTENT_CALLS_RETRY_CONFIG_NAME))
+        .withRateLimiter(rateLimiter(ORDERS_PER_SECOND_RATE_LIMITER))
+        .withRateLimiter(rateLimiter(ORDERS_PER_DAY_RATE_LIMITER))
+        .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
+        .call();
+  }
+
+  public CompletableFuture<BinanceNewOrder> newOrderAsync(
+      CurrencyPair pair,
+      OrderSide side,
+      OrderType type,
+      TimeInForce timeInForce,
+      BigDecimal quantity,
+      BigDecimal price,
+      String newClientOrderId,
+      BigDecimal stopPrice,
+      BigDecimal icebergQty) {
+    return decorateAsyncApiCall(
+            () ->
+                getBinanceAsync()
+                    .newOrder(
+                        BinanceAdapters.toSymbol(pair),
+                        side,
+                        type,
+                        timeInForce,
+                        quantity,
+                        price,
+                        newClientOrderId,
+                        stopPrice,
+                        icebergQty,
+                        getRecvWindow(),
+                        getTimestampFactory(),
+                        apiKey,
+                        signatureCreator))
+        .withPriority(CallPriority.PLACE)
         .withRetry(retry("newOrder", NON_IDEMPOTENT_CALLS_RETRY_CONFIG_NAME))
         .withRateLimiter(rateLimiter(ORDERS_PER_SECOND_RATE_LIMITER))
         .withRateLimiter(rateLimiter(ORDERS_PER_DAY_RATE_LIMITER))
@@ -110,6 +165,7 @@ public class BinanceTradeServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     apiKey,
                     signatureCreator))
+        .withPriority(CallPriority.PLACE)
         .withRetry(retry("testNewOrder"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
@@ -127,6 +183,7 @@ public class BinanceTradeServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     super.apiKey,
                     super.signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("orderStatus"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
@@ -146,6 +203,27 @@ public class BinanceTradeServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     super.apiKey,
                     super.signatureCreator))
+        .withPriority(CallPriority.CANCEL)
+        .withRetry(retry("cancelOrder"))
+        .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
+        .call();
+  }
+
+  public CompletableFuture<BinanceCancelledOrder> cancelOrderAsync(
+      CurrencyPair pair, Long orderId, String origClientOrderId, String newClientOrderId) {
+    return decorateAsyncApiCall(
+            () ->
+                getBinanceAsync()
+                    .cancelOrder(
+                        BinanceAdapters.toSymbol(pair),
+                        orderId,
+                        origClientOrderId,
+                        newClientOrderId,
+                        getRecvWindow(),
+                        getTimestampFactory(),
+                        apiKey,
+                        signatureCreator))
+        .withPriority(CallPriority.CANCEL)
         .withRetry(retry("cancelOrder"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
@@ -161,6 +239,7 @@ public class BinanceTradeServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     super.apiKey,
                     super.signatureCreator))
+        .withPriority(CallPriority.CANCEL)
         .withRetry(retry("cancelAllOpenOrders"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
@@ -178,6 +257,7 @@ public class BinanceTradeServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     apiKey,
                     signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("allOrders"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
@@ -198,6 +278,7 @@ public class BinanceTradeServiceRaw extends BinanceBaseService {
                     getTimestampFactory(),
                     apiKey,
                     signatureCreator))
+        .withPriority(CallPriority.ACCOUNT)
         .withRetry(retry("myTrades"))
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER), myTradesPermits(limit))
         .call();
@@ -205,18 +286,21 @@ public class BinanceTradeServiceRaw extends BinanceBaseService {
 
   public BinanceListenKey startUserDataStream() throws IOException {
     return decorateApiCall(() -> binance.startUserDataStream(apiKey))
+        .withPriority(CallPriority.ACCOUNT)
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
   }
 
   public void keepAliveDataStream(String listenKey) throws IOException {
     decorateApiCall(() -> binance.keepAliveUserDataStream(apiKey, listenKey))
+        .withPriority(CallPriority.ACCOUNT)
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
   }
 
   public void closeDataStream(String listenKey) throws IOException {
     decorateApiCall(() -> binance.closeUserDataStream(apiKey, listenKey))
+        .withPriority(CallPriority.ACCOUNT)
         .withRateLimiter(rateLimiter(REQUEST_WEIGHT_RATE_LIMITER))
         .call();
   }
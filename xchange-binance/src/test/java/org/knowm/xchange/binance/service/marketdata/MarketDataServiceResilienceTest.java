@@ -20,6 +20,7 @@ import org.knowm.xchange.binance.BinanceResilience;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.service.marketdata.AsyncMarketDataService;
 import org.knowm.xchange.service.marketdata.MarketDataService;
 
 public class MarketDataServiceResilienceTest extends AbstractResilienceTest {
@@ -50,6 +51,21 @@ public class MarketDataServiceResilienceTest extends AbstractResilienceTest {
     assertThat(exception).isInstanceOf(IOException.class);
   }
 
+  @Test
+  public void shouldSucceedAsyncIfFirstCallTimeoutedAndRetryIsEnabled() throws Exception {
+    // given
+    AsyncMarketDataService service =
+        (AsyncMarketDataService) createExchangeWithRetryEnabled().getMarketDataService();
+    stubForTicker24WithFirstCallTimetoutAndSecondSuccessful();
+
+    // when
+    Ticker ticker = service.getTickerAsync(new CurrencyPair("BNB", "BTC")).get();
+
+    // then
+    assertThat(ticker.getLast()).isEqualByComparingTo("4.00000200");
+    assertThat(ticker.getCurrencyPair()).isEqualTo(new CurrencyPair("BNB", "BTC"));
+  }
+
   @Test(timeout = 2000)
   public void shouldGetMaxDepthTwoTimesWithoutDelayWithDefaultRateLimiter() throws Exception {
     // given
@@ -93,6 +109,37 @@ public class MarketDataServiceResilienceTest extends AbstractResilienceTest {
     assertThat(exception).isInstanceOf(RequestNotPermitted.class);
   }
 
+  @Test(timeout = 2000)
+  public void shouldCountRequestWeightReportedByServer() throws Exception {
+    // given
+    BinanceExchange exchange = createExchangeWithRateLimiterEnabled();
+    MarketDataService service = exchange.getMarketDataService();
+    stubFor(
+        get(urlPathEqualTo("/api/v3/depth"))
+            .willReturn(
+                aResponse()
+                    .withStatus(200)
+                    .withHeader("Content-Type", "application/json")
+                    .withHeader(BinanceResilience.USED_WEIGHT_HEADER, "1000")
+                    .withBodyFile("depth.json")));
+
+    // when
+    service.getOrderBook(CurrencyPair.ETH_BTC, 100);
+
+    // then
+    RateLimiter requestWeight =
+        exchange
+            .getResilienceRegistries()
+            .rateLimiters()
+            .rateLimiter(BinanceResilience.REQUEST_WEIGHT_RATE_LIMITER);
+    // the count starts over if a minute ended since the response, without the reported usage the
+    // weight of the call would leave 1090
+    assertThat(requestWeight.getMetrics().getAvailablePermissions())
+        .isIn(
+            1200 - BinanceResilience.RESERVED_REQUEST_WEIGHT - 1000,
+            1200 - BinanceResilience.RESERVED_REQUEST_WEIGHT);
+  }
+
   private void stubForTicker24WithFirstCallTimetoutAndSecondSuccessful() {
     stubFor(
         get(urlPathEqualTo("/api/v3/ticker/24hr"))
@@ -0,0 +1,99 @@
+package org.knowm.xchange.coinbasepro;
+
+import java.util.concurrent.CompletableFuture;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import org.knowm.xchange.coinbasepro.dto.CoinbaseProException;
+import org.knowm.xchange.coinbasepro.dto.account.CoinbaseProAccount;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductBook;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductStats;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductTicker;
+import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProIdResponse;
+import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProOrder;
+import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProPlaceOrder;
+import si.mazi.rescu.ParamsDigest;
+
+/**
+ * Asynchronous variants of the {@link CoinbasePro} calls, see {@link
+ * org.knowm.xchange.client.TransportRestProxyFactory}. The futures fail with a {@link
+ * CoinbaseProException} if the API returns an error.
+ *
+ * <p>The calls are non-blocking end to end only on a non-blocking transport, e.g. the {@code
+ * JdkHttpClientTransport} of {@code xchange-transport-jdk11}. On the default {@link
+ * org.knowm.xchange.client.UrlConnectionHttpTransport} each call holds a thread of the transport
+ * until its response is read.
+ */
+@Path("/")
+@Produces(MediaType.APPLICATION_JSON)
+public interface CoinbaseProAsync {
+
+  @GET
+  @Path("products/{baseCurrency}-{targetCurrency}/ticker")
+  CompletableFuture<CoinbaseProProductTicker> getProductTicker(
+      @PathParam("baseCurrency") String baseCurrency,
+      @PathParam("targetCurrency") String targetCurrency)
+      throws CoinbaseProException;
+
+  @GET
+  @Path("products/{baseCurrency}-{targetCurrency}/stats")
+  CompletableFuture<CoinbaseProProductStats> getProductStats(
+      @PathParam("baseCurrency") String baseCurrency,
+      @PathParam("targetCurrency") String targetCurrency)
+      throws CoinbaseProException;
+
+  @GET
+  @Path("products/{baseCurrency}-{targetCurrency}/book?level={level}")
+  CompletableFuture<CoinbaseProProductBook> getProductOrderBook(
+      @PathParam("baseCurrency") String baseCurrency,
+      @PathParam("targetCurrency") String targetCurrency,
+      @PathParam("level") String level)
+      throws CoinbaseProException;
+
+  @GET
+  @Path("accounts")
+  CompletableFuture<CoinbaseProAccount[]> getAccounts(
+      @HeaderParam("CB-ACCESS-KEY") String apiKey,
+      @HeaderParam("CB-ACCESS-SIGN") ParamsDigest signer,
+      @HeaderParam("CB-ACCESS-TIMESTAMP") long timestamp,
+      @HeaderParam("CB-ACCESS-PASSPHRASE") String passphrase)
+      throws CoinbaseProException;
+
+  @GET
+  @Path("orders")
+  CompletableFuture<CoinbaseProOrder[]> getListOrders(
+      @HeaderParam("CB-ACCESS-KEY") String apiKey,
+      @HeaderParam("CB-ACCESS-SIGN") ParamsDigest signer,
+      @HeaderParam("CB-ACCESS-TIMESTAMP") long timestamp,
+      @HeaderParam("CB-ACCESS-PASSPHRASE") String passphrase)
+      throws CoinbaseProException;
+
+  @POST
+  @Path("orders")
+  @Consumes(MediaType.APPLICATION_JSON)
+  CompletableFuture<CoinbaseProIdResponse> placeOrder(
+      CoinbaseProPlaceOrder placeOrder,
+      @HeaderParam("CB-ACCESS-KEY") String apiKey,
+      @HeaderParam("CB-ACCESS-SIGN") ParamsDigest signer,
+      @HeaderParam("CB-ACCESS-TIMESTAMP") long timestamp,
+      @HeaderParam("CB-ACCESS-PASSPHRASE") String passphrase)
+      throws CoinbaseProException;
+
+  /** @return the id of the cancelled order */
+  @DELETE
+  @Path("orders/{id}")
+  @Produces(MediaType.TEXT_PLAIN)
+  CompletableFuture<String> cancelOrder(
+      @PathParam("id") String id,
+      @HeaderParam("CB-ACCESS-KEY") String apiKey,
+      @HeaderParam("CB-ACCESS-SIGN") ParamsDigest signer,
+      @HeaderParam("CB-ACCESS-TIMESTAMP") long timestamp,
+      @HeaderParam("CB-ACCESS-PASSPHRASE") String passphrase)
+      throws CoinbaseProException;
+}
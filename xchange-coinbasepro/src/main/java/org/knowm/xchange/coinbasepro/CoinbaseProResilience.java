@@ -1,6 +1,7 @@
 package org.knowm.xchange.coinbasepro;
 
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.client.ResilienceUtils;
 
@@ -14,6 +15,9 @@ public class CoinbaseProResilience {
 
     public static final String PRIVATE_REST_ENDPOINT_RATE_LIMITER = "privateEndpointLimit";
 
+    /** Private requests of a second kept for order calls, see {@link CallPriority}. */
+    public static final int RESERVED_PRIVATE_REQUESTS = 4;
+
     public static ResilienceRegistries createRegistries() {
         final ResilienceRegistries registries = new ResilienceRegistries();
 
@@ -27,15 +31,14 @@ public class CoinbaseProResilience {
                                 .drainPermissionsOnResult(e -> ResilienceUtils.matchesHttpCode(e, TOO_MANY_REQUESTS))
                                 .build());
 
-        registries
-                .rateLimiters()
-                .rateLimiter(
-                        PRIVATE_REST_ENDPOINT_RATE_LIMITER,
-                        RateLimiterConfig.from(registries.rateLimiters().getDefaultConfig())
-                                .limitRefreshPeriod(Duration.ofSeconds(1))
-                                .limitForPeriod(5)
-                                .drainPermissionsOnResult(e -> ResilienceUtils.matchesHttpCode(e, TOO_MANY_REQUESTS))
-                                .build());
+        registries.adaptiveRateLimiter(
+                PRIVATE_REST_ENDPOINT_RATE_LIMITER,
+                RateLimiterConfig.from(registries.rateLimiters().getDefaultConfig())
+                        .limitRefreshPeriod(Duration.ofSeconds(1))
+                        .limitForPeriod(5)
+                        .drainPermissionsOnResult(e -> ResilienceUtils.matchesHttpCode(e, TOO_MANY_REQUESTS))
+                        .build(),
+                RESERVED_PRIVATE_REQUESTS);
 
         return registries;
     }
@@ -6,6 +6,7 @@ import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.knowm.xchange.client.ResilienceRegistries;
@@ -26,13 +27,14 @@ import org.knowm.xchange.dto.account.Fee;
 import org.knowm.xchange.dto.account.FundingRecord;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.account.AsyncAccountService;
 import org.knowm.xchange.service.trade.params.DefaultWithdrawFundsParams;
 import org.knowm.xchange.service.trade.params.HistoryParamsFundingType;
 import org.knowm.xchange.service.trade.params.TradeHistoryParams;
 import org.knowm.xchange.service.trade.params.WithdrawFundsParams;
 
 public class CoinbaseProAccountService extends CoinbaseProAccountServiceRaw
-    implements AccountService {
+    implements AccountService, AsyncAccountService {
 
   public CoinbaseProAccountService(
           CoinbaseProExchange exchange,
@@ -46,6 +48,12 @@ public class CoinbaseProAccountService extends CoinbaseProAccountServiceRaw
     return new AccountInfo(CoinbaseProAdapters.adaptAccountInfo(getCoinbaseProAccountInfo()));
   }
 
+  @Override
+  public CompletableFuture<AccountInfo> getAccountInfoAsync() {
+    return getCoinbaseProAccountInfoAsync()
+        .thenApply(accounts -> new AccountInfo(CoinbaseProAdapters.adaptAccountInfo(accounts)));
+  }
+
   @Override
   public Map<CurrencyPair, Fee> getDynamicTradingFees() throws IOException {
     CoinbaseProFee fees = getCoinbaseProFees();
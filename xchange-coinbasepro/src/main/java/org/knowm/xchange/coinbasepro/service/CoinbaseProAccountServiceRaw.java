@@ -5,6 +5,8 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.coinbasepro.CoinbasePro;
 import org.knowm.xchange.coinbasepro.CoinbaseProExchange;
@@ -32,10 +34,23 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
     return decorateApiCall(() ->
             coinbasePro.getAccounts(
                     apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
 
+  public CompletableFuture<org.knowm.xchange.coinbasepro.dto.account.CoinbaseProAccount[]>
+      getCoinbaseProAccountInfoAsync() {
+    return handleErrors(
+        decorateAsyncApiCall(
+                () ->
+                    coinbaseProAsync.getAccounts(
+                        apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
+            .call());
+  }
+
   /**
    * https://docs.pro.coinbase.com/#fees
    */
@@ -43,6 +58,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
     return decorateApiCall(() ->
             coinbasePro.getFees(
                     apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -58,6 +74,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
                     UnixTimestampFactory.INSTANCE.createValue(),
                     passphrase,
                     accountId))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -80,6 +97,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
                     passphrase,
                     new CoinbaseProWithdrawFundsRequest(
                         amount, currency.getCurrencyCode(), address, destinationTag, noDestinationTag)))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -96,6 +114,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
                     passphrase,
                     accountId,
                     startingOrderId))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -109,6 +128,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
             coinbasePro.createReport(
                     apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase, reportRequest)
                     .get("id").toString())
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -120,6 +140,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
     return decorateApiCall(() ->
             coinbasePro.getReport(
                     apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase, reportId))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -139,6 +160,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
                     profileId,
                     limit,
                     after))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -159,6 +181,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
                     before,
                     after,
                     limit))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -170,6 +193,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
     return decorateApiCall(() ->
             coinbasePro.getCoinbaseProAccounts(
                     apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -178,6 +202,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
     return decorateApiCall(() ->
             coinbasePro.getCoinbaseProAccountAddress(
                     apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase, accountId))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
   }
@@ -187,6 +212,7 @@ public class CoinbaseProAccountServiceRaw extends CoinbaseProBaseService {
     long timestamp = UnixTimestampFactory.INSTANCE.createValue();
     JsonNode json = decorateApiCall(() ->
             coinbasePro.getVerifyId(apiKey, digest, timestamp, passphrase))
+            .withPriority(CallPriority.ACCOUNT)
             .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
             .call();
     String userId = json.get("id").asText();
@@ -1,8 +1,11 @@
 package org.knowm.xchange.coinbasepro.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.knowm.xchange.client.ExchangeRestProxyBuilder;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.coinbasepro.CoinbasePro;
+import org.knowm.xchange.coinbasepro.CoinbaseProAsync;
 import org.knowm.xchange.coinbasepro.CoinbaseProExchange;
 import org.knowm.xchange.coinbasepro.dto.CoinbaseProException;
 import org.knowm.xchange.exceptions.ExchangeException;
@@ -15,6 +18,7 @@ import si.mazi.rescu.ParamsDigest;
 public class CoinbaseProBaseService extends BaseResilientExchangeService<CoinbaseProExchange> {
 
   protected final CoinbasePro coinbasePro;
+  protected final CoinbaseProAsync coinbaseProAsync;
   protected final ParamsDigest digest;
 
   protected final String apiKey;
@@ -29,6 +33,11 @@ public class CoinbaseProBaseService extends BaseResilientExchangeService<Coinbas
         ExchangeRestProxyBuilder.forInterface(
                 CoinbasePro.class, exchange.getExchangeSpecification())
             .build();
+    coinbaseProAsync =
+        ExchangeRestProxyBuilder.forInterface(
+                CoinbaseProAsync.class, exchange.getExchangeSpecification())
+            .httpTransport(exchange.getHttpTransport())
+            .build();
     digest = CoinbaseProDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
     apiKey = exchange.getExchangeSpecification().getApiKey();
     passphrase =
@@ -48,4 +57,26 @@ public class CoinbaseProBaseService extends BaseResilientExchangeService<Coinbas
       return new ExchangeException(exception);
     }
   }
+
+  /** Fails the future with the exception {@link #handleError} maps its error to. */
+  protected <T> CompletableFuture<T> handleErrors(CompletableFuture<T> future) {
+
+    CompletableFuture<T> handled = new CompletableFuture<>();
+    future.whenComplete(
+        (value, error) -> {
+          if (error == null) {
+            handled.complete(value);
+            return;
+          }
+          Throwable cause =
+              error instanceof CompletionException && error.getCause() != null
+                  ? error.getCause()
+                  : error;
+          handled.completeExceptionally(
+              cause instanceof CoinbaseProException
+                  ? handleError((CoinbaseProException) cause)
+                  : cause);
+        });
+    return handled;
+  }
 }
@@ -2,6 +2,7 @@ package org.knowm.xchange.coinbasepro.service;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
 import org.knowm.xchange.coinbasepro.CoinbaseProExchange;
@@ -13,13 +14,15 @@ import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
 import org.knowm.xchange.exceptions.RateLimitExceededException;
+import org.knowm.xchange.instrument.Instrument;
+import org.knowm.xchange.service.marketdata.AsyncMarketDataService;
 import org.knowm.xchange.service.marketdata.MarketDataService;
 import org.knowm.xchange.service.marketdata.params.Params;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRaw
-    implements MarketDataService {
+    implements MarketDataService, AsyncMarketDataService {
 
   private static final Logger log = LoggerFactory.getLogger(CoinbaseProMarketDataService.class);
 
@@ -41,6 +44,16 @@ public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRa
     return CoinbaseProAdapters.adaptTicker(ticker, stats, currencyPair);
   }
 
+  @Override
+  public CompletableFuture<Ticker> getTickerAsync(Instrument instrument, Object... args) {
+
+    CurrencyPair currencyPair = (CurrencyPair) instrument;
+    return getCoinbaseProProductTickerAsync(currencyPair)
+        .thenCombine(
+            getCoinbaseProProductStatsAsync(currencyPair),
+            (ticker, stats) -> CoinbaseProAdapters.adaptTicker(ticker, stats, currencyPair));
+  }
+
   @Override
   public List<Ticker> getTickers(Params params) throws IOException, RateLimitExceededException {
     return CoinbaseProAdapters.adaptTickers(getCoinbaseProStats());
@@ -50,6 +63,20 @@ public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRa
   public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args)
       throws IOException, RateLimitExceededException {
 
+    return CoinbaseProAdapters.adaptOrderBook(
+        getCoinbaseProProductOrderBook(currencyPair, orderBookLevel(args)), currencyPair);
+  }
+
+  @Override
+  public CompletableFuture<OrderBook> getOrderBookAsync(Instrument instrument, Object... args) {
+
+    CurrencyPair currencyPair = (CurrencyPair) instrument;
+    return getCoinbaseProProductOrderBookAsync(currencyPair, orderBookLevel(args))
+        .thenApply(book -> CoinbaseProAdapters.adaptOrderBook(book, currencyPair));
+  }
+
+  private static int orderBookLevel(Object... args) {
+
     int level = 3; // full order book
     if (args != null && args.length > 0) {
       // parameter 1, if present, is the level
@@ -61,9 +88,7 @@ public class CoinbaseProMarketDataService extends CoinbaseProMarketDataServiceRa
             "Extra argument #1, the 'level', must be an int (was " + args[0].getClass() + ")");
       }
     }
-
-    return CoinbaseProAdapters.adaptOrderBook(
-        getCoinbaseProProductOrderBook(currencyPair, level), currencyPair);
+    return level;
   }
 
   /**
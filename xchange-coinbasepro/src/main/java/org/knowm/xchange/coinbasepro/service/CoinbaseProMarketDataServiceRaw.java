@@ -2,6 +2,7 @@ package org.knowm.xchange.coinbasepro.service;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.coinbasepro.CoinbaseProExchange;
 import org.knowm.xchange.coinbasepro.dto.CoinbaseProException;
@@ -62,6 +63,38 @@ public class CoinbaseProMarketDataServiceRaw extends CoinbaseProBaseService {
     }
   }
 
+  public CompletableFuture<CoinbaseProProductTicker> getCoinbaseProProductTickerAsync(
+      CurrencyPair currencyPair) {
+
+    if (!checkProductExists(currencyPair)) {
+      throw new InstrumentNotValidException("Pair does not exist on CoinbasePro");
+    }
+    return handleErrors(
+        decorateAsyncApiCall(
+                () ->
+                    coinbaseProAsync.getProductTicker(
+                        currencyPair.base.getCurrencyCode(),
+                        currencyPair.counter.getCurrencyCode()))
+            .withRateLimiter(rateLimiter(PUBLIC_REST_ENDPOINT_RATE_LIMITER))
+            .call());
+  }
+
+  public CompletableFuture<CoinbaseProProductStats> getCoinbaseProProductStatsAsync(
+      CurrencyPair currencyPair) {
+
+    if (!checkProductExists(currencyPair)) {
+      throw new InstrumentNotValidException("Pair does not exist on CoinbasePro");
+    }
+    return handleErrors(
+        decorateAsyncApiCall(
+                () ->
+                    coinbaseProAsync.getProductStats(
+                        currencyPair.base.getCurrencyCode(),
+                        currencyPair.counter.getCurrencyCode()))
+            .withRateLimiter(rateLimiter(PUBLIC_REST_ENDPOINT_RATE_LIMITER))
+            .call());
+  }
+
   public Map<String, CoinbaseProStats> getCoinbaseProStats() throws IOException {
     try {
       return decorateApiCall(coinbasePro::getStats)
@@ -91,6 +124,20 @@ public class CoinbaseProMarketDataServiceRaw extends CoinbaseProBaseService {
     }
   }
 
+  public CompletableFuture<CoinbaseProProductBook> getCoinbaseProProductOrderBookAsync(
+      CurrencyPair currencyPair, int level) {
+
+    return handleErrors(
+        decorateAsyncApiCall(
+                () ->
+                    coinbaseProAsync.getProductOrderBook(
+                        currencyPair.base.getCurrencyCode(),
+                        currencyPair.counter.getCurrencyCode(),
+                        String.valueOf(level)))
+            .withRateLimiter(rateLimiter(PUBLIC_REST_ENDPOINT_RATE_LIMITER))
+            .call());
+  }
+
   /**
    * https://docs.pro.coinbase.com/#get-trades
    */
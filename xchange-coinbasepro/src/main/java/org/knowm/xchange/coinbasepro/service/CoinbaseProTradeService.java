@@ -4,9 +4,11 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
 import org.knowm.xchange.coinbasepro.CoinbaseProExchange;
+import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProIdResponse;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProTradeHistoryParams;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.trade.LimitOrder;
@@ -15,6 +17,7 @@ import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.StopOrder;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.exceptions.FundsExceededException;
+import org.knowm.xchange.service.trade.AsyncTradeService;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
 import org.knowm.xchange.service.trade.params.CancelOrderParams;
@@ -23,7 +26,8 @@ import org.knowm.xchange.service.trade.params.orders.DefaultOpenOrdersParamCurre
 import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
 import org.knowm.xchange.service.trade.params.orders.OrderQueryParams;
 
-public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implements TradeService {
+public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw
+    implements TradeService, AsyncTradeService {
 
   public CoinbaseProTradeService(
           CoinbaseProExchange exchange,
@@ -46,6 +50,11 @@ public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implemen
     return CoinbaseProAdapters.adaptOpenOrders(getCoinbaseProOpenOrders());
   }
 
+  @Override
+  public CompletableFuture<OpenOrders> getOpenOrdersAsync(OpenOrdersParams params) {
+    return getCoinbaseProOpenOrdersAsync().thenApply(CoinbaseProAdapters::adaptOpenOrders);
+  }
+
   @Override
   public String placeMarketOrder(MarketOrder marketOrder) throws IOException {
     return placeCoinbaseProOrder(
@@ -60,6 +69,20 @@ public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implemen
             .getId();
   }
 
+  @Override
+  public CompletableFuture<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+    return placeCoinbaseProOrderAsync(
+            CoinbaseProAdapters.adaptCoinbaseProPlaceMarketOrder(marketOrder))
+        .thenApply(CoinbaseProIdResponse::getId);
+  }
+
+  @Override
+  public CompletableFuture<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+    return placeCoinbaseProOrderAsync(
+            CoinbaseProAdapters.adaptCoinbaseProPlaceLimitOrder(limitOrder))
+        .thenApply(CoinbaseProIdResponse::getId);
+  }
+
   @Override
   public String placeStopOrder(StopOrder stopOrder) throws IOException, FundsExceededException {
     return placeCoinbaseProOrder(
@@ -81,6 +104,15 @@ public class CoinbaseProTradeService extends CoinbaseProTradeServiceRaw implemen
     }
   }
 
+  @Override
+  public CompletableFuture<Boolean> cancelOrderAsync(CancelOrderParams orderParams) {
+    if (orderParams instanceof CancelOrderByIdParams) {
+      return cancelCoinbaseProOrderAsync(((CancelOrderByIdParams) orderParams).getOrderId());
+    } else {
+      return CompletableFuture.completedFuture(false);
+    }
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
     return CoinbaseProAdapters.adaptTradeHistory(getCoinbaseProFills(params));
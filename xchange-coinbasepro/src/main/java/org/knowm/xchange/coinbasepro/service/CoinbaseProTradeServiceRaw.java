@@ -1,6 +1,8 @@
 package org.knowm.xchange.coinbasepro.service;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
 import org.knowm.xchange.coinbasepro.CoinbaseProExchange;
@@ -31,6 +33,7 @@ public class CoinbaseProTradeServiceRaw extends CoinbaseProBaseService {
       return decorateApiCall(() ->
               coinbasePro.getProductListOrders(
                       productId, apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase))
+              .withPriority(CallPriority.ACCOUNT)
               .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
               .call();
     } catch (CoinbaseProException e) {
@@ -46,6 +49,7 @@ public class CoinbaseProTradeServiceRaw extends CoinbaseProBaseService {
       return decorateApiCall(() ->
               coinbasePro.getListOrders(
                       apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase))
+              .withPriority(CallPriority.ACCOUNT)
               .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
               .call();
     } catch (CoinbaseProException e) {
@@ -53,6 +57,17 @@ public class CoinbaseProTradeServiceRaw extends CoinbaseProBaseService {
     }
   }
 
+  public CompletableFuture<CoinbaseProOrder[]> getCoinbaseProOpenOrdersAsync() {
+    return handleErrors(
+        decorateAsyncApiCall(
+                () ->
+                    coinbaseProAsync.getListOrders(
+                        apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
+            .call());
+  }
+
   /**
    * https://docs.pro.coinbase.com/#fills
    */
@@ -117,6 +132,7 @@ public class CoinbaseProTradeServiceRaw extends CoinbaseProBaseService {
       return decorateApiCall(() ->
               coinbasePro.placeOrder(
                       order, apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase))
+              .withPriority(CallPriority.PLACE)
               .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
               .call();
     } catch (CoinbaseProException e) {
@@ -124,6 +140,22 @@ public class CoinbaseProTradeServiceRaw extends CoinbaseProBaseService {
     }
   }
 
+  public CompletableFuture<CoinbaseProIdResponse> placeCoinbaseProOrderAsync(
+      CoinbaseProPlaceOrder order) {
+    return handleErrors(
+        decorateAsyncApiCall(
+                () ->
+                    coinbaseProAsync.placeOrder(
+                        order,
+                        apiKey,
+                        digest,
+                        UnixTimestampFactory.INSTANCE.createValue(),
+                        passphrase))
+            .withPriority(CallPriority.PLACE)
+            .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
+            .call());
+  }
+
   /**
    * https://docs.pro.coinbase.com/#cancel-an-order
    */
@@ -133,13 +165,30 @@ public class CoinbaseProTradeServiceRaw extends CoinbaseProBaseService {
       return decorateApiCall(() -> {
         coinbasePro.cancelOrder(id, apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase);
         return true;
-      }).withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
+      }).withPriority(CallPriority.CANCEL)
+              .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
               .call();
     } catch (CoinbaseProException e) {
       throw handleError(e);
     }
   }
 
+  public CompletableFuture<Boolean> cancelCoinbaseProOrderAsync(String id) {
+    return handleErrors(
+        decorateAsyncApiCall(
+                () ->
+                    coinbaseProAsync.cancelOrder(
+                        id,
+                        apiKey,
+                        digest,
+                        UnixTimestampFactory.INSTANCE.createValue(),
+                        passphrase))
+            .withPriority(CallPriority.CANCEL)
+            .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
+            .call()
+            .thenApply(cancelledId -> true));
+  }
+
   /**
    * https://docs.pro.coinbase.com/#get-an-order
    */
@@ -148,6 +197,7 @@ public class CoinbaseProTradeServiceRaw extends CoinbaseProBaseService {
       return decorateApiCall(() ->
               coinbasePro.getOrder(
                       id, apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase))
+              .withPriority(CallPriority.ACCOUNT)
               .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
               .call();
     } catch (CoinbaseProException e) {
@@ -163,6 +213,7 @@ public class CoinbaseProTradeServiceRaw extends CoinbaseProBaseService {
       return decorateApiCall(() ->
               coinbasePro.getListOrders(
                       apiKey, digest, UnixTimestampFactory.INSTANCE.createValue(), passphrase, status))
+              .withPriority(CallPriority.ACCOUNT)
               .withRateLimiter(rateLimiter(PRIVATE_REST_ENDPOINT_RATE_LIMITER))
               .call();
     } catch (CoinbaseProException e) {
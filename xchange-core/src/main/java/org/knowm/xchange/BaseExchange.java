@@ -1,6 +1,7 @@
 package org.knowm.xchange;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.Closeable;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
@@ -8,6 +9,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.client.HttpTransport;
+import org.knowm.xchange.client.UrlConnectionHttpTransport;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
 import org.knowm.xchange.exceptions.ExchangeException;
@@ -20,7 +23,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
-public abstract class BaseExchange implements Exchange {
+public abstract class BaseExchange implements Exchange, Closeable {
 
   protected final Logger logger = LoggerFactory.getLogger(getClass());
   protected ExchangeSpecification exchangeSpecification;
@@ -32,6 +35,9 @@ public abstract class BaseExchange implements Exchange {
   private final SynchronizedValueFactory<Long> nonceFactory =
       new CurrentTimeIncrementalNonceFactory(TimeUnit.MILLISECONDS);
 
+  /** Created on first use if the specification has no transport, closed with the exchange. */
+  private HttpTransport ownHttpTransport;
+
   protected abstract void initServices();
 
   @Override
@@ -130,6 +136,31 @@ public abstract class BaseExchange implements Exchange {
     return nonceFactory;
   }
 
+  @Override
+  public synchronized HttpTransport getHttpTransport() {
+
+    if (exchangeSpecification != null && exchangeSpecification.getHttpTransport() != null) {
+      return exchangeSpecification.getHttpTransport();
+    }
+    if (ownHttpTransport == null) {
+      ownHttpTransport = new UrlConnectionHttpTransport();
+    }
+    return ownHttpTransport;
+  }
+
+  /**
+   * Releases the resources owned by the exchange, e.g. the threads of its {@link
+   * #getHttpTransport() HTTP transport}. A transport set in the specification is not closed.
+   */
+  @Override
+  public synchronized void close() {
+
+    if (ownHttpTransport != null) {
+      ownHttpTransport.close();
+      ownHttpTransport = null;
+    }
+  }
+
   protected void loadExchangeMetaData(InputStream is) {
 
     exchangeMetaData = loadMetaData(is, ExchangeMetaData.class);
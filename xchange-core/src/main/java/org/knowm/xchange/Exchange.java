@@ -3,6 +3,7 @@ package org.knowm.xchange;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import org.knowm.xchange.client.HttpTransport;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.meta.ExchangeMetaData;
@@ -75,6 +76,19 @@ public interface Exchange {
     throw new NotYetImplementedForExchangeException();
   }
 
+  /**
+   * Transport of the asynchronous REST calls, the one of the {@link
+   * ExchangeSpecification#getHttpTransport() specification} or else one owned by the exchange, see
+   * {@link BaseExchange#close()}.
+   *
+   * @return HTTP transport
+   * @throws NotYetImplementedForExchangeException if the exchange module does not support
+   *     asynchronous calls
+   */
+  default HttpTransport getHttpTransport() {
+    throw new NotYetImplementedForExchangeException();
+  }
+
   /**
    * @return A default ExchangeSpecification to use during the creation process if one is not
    *     supplied
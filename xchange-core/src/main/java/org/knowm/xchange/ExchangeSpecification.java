@@ -4,6 +4,7 @@ import static org.knowm.xchange.ExchangeClassUtils.exchangeClassForName;
 
 import java.util.HashMap;
 import java.util.Map;
+import org.knowm.xchange.client.HttpTransport;
 
 /**
  * Specification to provide the following to {@link ExchangeFactory}:
@@ -31,6 +32,7 @@ public class ExchangeSpecification {
   private int httpConnTimeout = 0; // default rescu configuration will be used if value not changed
   private int httpReadTimeout = 0; // default rescu configuration will be used if value not changed
   private ResilienceSpecification resilience = new ResilienceSpecification();
+  private HttpTransport httpTransport;
   private String metaDataJsonFileOverride = null;
   private boolean shouldLoadRemoteMetaData = true; // default value
   /** arbitrary exchange params that can be set for unique cases */
@@ -426,6 +428,33 @@ public class ExchangeSpecification {
     this.resilience = resilience;
   }
 
+  /**
+   * Get the transport of the REST calls. If null is returned then rescu sends each call on its own
+   * {@link java.net.HttpURLConnection} and the asynchronous calls use a transport owned by the
+   * exchange, see {@link Exchange#getHttpTransport()}.
+   *
+   * @return the transport shared by the rest proxies of the exchange
+   */
+  public HttpTransport getHttpTransport() {
+
+    return httpTransport;
+  }
+
+  /**
+   * Set the transport of the REST calls, e.g. a {@link
+   * org.knowm.xchange.client.UrlConnectionHttpTransport} shared by several exchanges, or the
+   * non-blocking {@code JdkHttpClientTransport} of the xchange-transport-jdk11 module. Check the
+   * exchange code to see if its proxies are created by {@link
+   * org.knowm.xchange.client.ExchangeRestProxyBuilder}.
+   *
+   * @param httpTransport the transport, null for the default of rescu, the exchange doesn't close
+   *     it
+   */
+  public void setHttpTransport(HttpTransport httpTransport) {
+
+    this.httpTransport = httpTransport;
+  }
+
   /**
    * Get the override file for generating the {@link org.knowm.xchange.dto.meta.ExchangeMetaData}
    * object. By default, the {@link org.knowm.xchange.dto.meta.ExchangeMetaData} object is loaded at
@@ -0,0 +1,374 @@
+package org.knowm.xchange.client;
+
+import io.github.resilience4j.core.EventConsumer;
+import io.github.resilience4j.core.EventProcessor;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.event.RateLimiterEvent;
+import io.github.resilience4j.ratelimiter.event.RateLimiterOnFailureEvent;
+import io.github.resilience4j.ratelimiter.event.RateLimiterOnSuccessEvent;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Map;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+/**
+ * {@link RateLimiter} for exchanges which report the permits (request weight) used by the caller in
+ * their responses. Periods are aligned to the wall clock like the ones of the exchanges, e.g. every
+ * full minute, and {@link #reportUsage(int)} raises the count of the current period to the one of
+ * the server. Usage of other clients sharing the IP address is accounted for this way.
+ *
+ * <p>Calls are queued in lanes by their {@link CallPriority}, the rate limiter itself is the lane
+ * of {@link CallPriority#MARKET_DATA} and {@link #forPriority(CallPriority)} returns the others.
+ * Within a lane permits are granted in the order they are requested, a caller never gets an earlier
+ * period than the ones before it. Higher lanes don't wait for the queue of the lower ones and the
+ * {@code reservedPermits} of every period are only used by the higher lanes, so orders can still
+ * be placed and cancelled while market data calls are queued.
+ *
+ * <pre>{@code
+ * AdaptiveRateLimiter weight = registries.adaptiveRateLimiter("requestWeight", config, 100);
+ * ExchangeRestProxyBuilder.forInterface(Api.class, spec)
+ *     .responseListener(weight.usageHeaderListener("X-MBX-USED-WEIGHT-1M"))
+ *     .build();
+ * }</pre>
+ */
+public class AdaptiveRateLimiter implements RateLimiter {
+
+  private static final String RETRY_AFTER = "Retry-After";
+
+  private final String name;
+  private final int reservedPermits;
+  private final Map<String, String> tags;
+  private final LongSupplier currentTimeMillis;
+  private final AtomicInteger waitingThreads = new AtomicInteger();
+  private final EventPublisher eventPublisher = new EventPublisher();
+  private final java.util.Map<CallPriority, RateLimiter> lanes = new EnumMap<>(CallPriority.class);
+  private volatile RateLimiterConfig config;
+
+  /** Permits used or reserved per period, keyed by the number of the period since the epoch. */
+  private final NavigableMap<Long, Integer> usage = new TreeMap<>();
+
+  /** Period of the last permits granted per lane, its later calls never get an earlier one. */
+  private final java.util.Map<CallPriority, Long> lastQueuedPeriods =
+      new EnumMap<>(CallPriority.class);
+
+  private long pausedUntilMillis;
+
+  public AdaptiveRateLimiter(String name, RateLimiterConfig config, int reservedPermits) {
+    this(name, config, reservedPermits, System::currentTimeMillis);
+  }
+
+  AdaptiveRateLimiter(
+      String name, RateLimiterConfig config, int reservedPermits, LongSupplier currentTimeMillis) {
+    if (reservedPermits < 0 || reservedPermits >= config.getLimitForPeriod()) {
+      throw new IllegalArgumentException("reservedPermits must be less than limitForPeriod");
+    }
+    this.name = name;
+    this.config = config;
+    this.reservedPermits = reservedPermits;
+    this.tags = HashMap.empty();
+    this.currentTimeMillis = currentTimeMillis;
+    for (CallPriority priority : CallPriority.values()) {
+      lanes.put(priority, priority == CallPriority.MARKET_DATA ? this : new Lane(priority));
+    }
+  }
+
+  /** @return view of this rate limiter which queues its calls in the lane of the priority */
+  public RateLimiter forPriority(CallPriority priority) {
+    return lanes.get(priority);
+  }
+
+  /**
+   * @return {@link AdaptiveRateLimiter#forPriority(CallPriority)} of the rate limiter if it is
+   *     adaptive, otherwise the rate limiter itself
+   */
+  public static RateLimiter forPriority(RateLimiter rateLimiter, CallPriority priority) {
+    return rateLimiter instanceof AdaptiveRateLimiter
+        ? ((AdaptiveRateLimiter) rateLimiter).forPriority(priority)
+        : rateLimiter;
+  }
+
+  /**
+   * Reconciles the count of the current period with the one reported by the server. The count is
+   * only raised, the calls which are still in flight aren't part of the server's count yet.
+   */
+  public synchronized void reportUsage(int usedPermits) {
+    usage.merge(currentPeriod(), usedPermits, Math::max);
+  }
+
+  /** Grants no permits before the duration elapsed, e.g. after the server answered with 429. */
+  public synchronized void pause(Duration duration) {
+    pausedUntilMillis =
+        Math.max(pausedUntilMillis, currentTimeMillis.getAsLong() + duration.toMillis());
+  }
+
+  /**
+   * @param usedPermitsHeader response header with the permits used in the current period, e.g.
+   *     {@code X-MBX-USED-WEIGHT-1M}
+   * @return listener which reports the usage of every response and pauses for the {@code
+   *     Retry-After} of 429 and 418 responses, or until the next period if there is none
+   */
+  public HttpTransport.ResponseListener usageHeaderListener(String usedPermitsHeader) {
+    return (request, response) ->
+        onResponse(response.getStatusCode(), response.getHeaders(), usedPermitsHeader);
+  }
+
+  private void onResponse(
+      int statusCode, java.util.Map<String, List<String>> headers, String usedPermitsHeader) {
+    Integer used = parseHeader(headers, usedPermitsHeader);
+    if (used != null) {
+      reportUsage(used);
+    }
+    if (statusCode == 429 || statusCode == 418) {
+      Integer retryAfter = parseHeader(headers, RETRY_AFTER);
+      if (retryAfter != null) {
+        pause(Duration.ofSeconds(retryAfter));
+      } else {
+        drainPermissions();
+      }
+    }
+  }
+
+  @Override
+  public void changeTimeoutDuration(Duration timeoutDuration) {
+    config = RateLimiterConfig.from(config).timeoutDuration(timeoutDuration).build();
+  }
+
+  @Override
+  public void changeLimitForPeriod(int limitForPeriod) {
+    config = RateLimiterConfig.from(config).limitForPeriod(limitForPeriod).build();
+  }
+
+  @Override
+  public boolean acquirePermission(int permits) {
+    return acquire(permits, CallPriority.MARKET_DATA);
+  }
+
+  @Override
+  public long reservePermission(int permits) {
+    return reserve(permits, CallPriority.MARKET_DATA);
+  }
+
+  @Override
+  public synchronized void drainPermissions() {
+    usage.put(currentPeriod(), config.getLimitForPeriod());
+  }
+
+  @Override
+  public String getName() {
+    return name;
+  }
+
+  @Override
+  public RateLimiterConfig getRateLimiterConfig() {
+    return config;
+  }
+
+  @Override
+  public Map<String, String> getTags() {
+    return tags;
+  }
+
+  /** Available permissions exclude the reserved ones, see {@link #forPriority(CallPriority)}. */
+  @Override
+  public Metrics getMetrics() {
+    return metrics(CallPriority.MARKET_DATA);
+  }
+
+  @Override
+  public RateLimiter.EventPublisher getEventPublisher() {
+    return eventPublisher;
+  }
+
+  @Override
+  public String toString() {
+    return "AdaptiveRateLimiter{name='" + name + "', config=" + config + "}";
+  }
+
+  private Metrics metrics(CallPriority priority) {
+    return new Metrics() {
+      @Override
+      public int getNumberOfWaitingThreads() {
+        return waitingThreads.get();
+      }
+
+      @Override
+      public int getAvailablePermissions() {
+        synchronized (AdaptiveRateLimiter.this) {
+          return Math.max(0, limit(config, priority) - usage.getOrDefault(currentPeriod(), 0));
+        }
+      }
+    };
+  }
+
+  private boolean acquire(int permits, CallPriority priority) {
+    long nanosToWait = reserve(permits, priority);
+    if (nanosToWait < 0) {
+      return false;
+    }
+    if (nanosToWait > 0) {
+      waitingThreads.incrementAndGet();
+      try {
+        TimeUnit.NANOSECONDS.sleep(nanosToWait);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return false;
+      } finally {
+        waitingThreads.decrementAndGet();
+      }
+    }
+    return true;
+  }
+
+  /** @return nanoseconds until the permits may be used, or -1 if not within the timeout */
+  private long reserve(int permits, CallPriority priority) {
+    long nanosToWait = reserveInPeriod(permits, priority);
+    if (nanosToWait < 0) {
+      eventPublisher.publish(new RateLimiterOnFailureEvent(name, permits));
+    } else {
+      eventPublisher.publish(new RateLimiterOnSuccessEvent(name, permits));
+    }
+    return nanosToWait;
+  }
+
+  private synchronized long reserveInPeriod(int permits, CallPriority priority) {
+    RateLimiterConfig currentConfig = this.config;
+    int limit = limit(currentConfig, priority);
+    if (permits > limit) {
+      return -1;
+    }
+    long periodMillis = currentConfig.getLimitRefreshPeriod().toMillis();
+    long now = currentTimeMillis.getAsLong();
+    long start = Math.max(now, pausedUntilMillis);
+    usage.headMap(now / periodMillis).clear();
+
+    long period = Math.max(start / periodMillis, lastQueuedPeriods.getOrDefault(priority, 0L));
+    while (usage.getOrDefault(period, 0) + permits > limit) {
+      period++;
+    }
+    long nanosToWait =
+        TimeUnit.MILLISECONDS.toNanos(Math.max(start, period * periodMillis) - now);
+    if (nanosToWait > currentConfig.getTimeoutDuration().toNanos()) {
+      return -1;
+    }
+    usage.merge(period, permits, Integer::sum);
+    lastQueuedPeriods.put(priority, period);
+    return nanosToWait;
+  }
+
+  private int limit(RateLimiterConfig currentConfig, CallPriority priority) {
+    return currentConfig.getLimitForPeriod() - priority.headroom(reservedPermits);
+  }
+
+  private long currentPeriod() {
+    return currentTimeMillis.getAsLong() / config.getLimitRefreshPeriod().toMillis();
+  }
+
+  private static Integer parseHeader(java.util.Map<String, List<String>> headers, String header) {
+    if (headers == null) {
+      return null;
+    }
+    for (java.util.Map.Entry<String, List<String>> entry : headers.entrySet()) {
+      if (header.equalsIgnoreCase(entry.getKey())
+          && entry.getValue() != null
+          && !entry.getValue().isEmpty()) {
+        try {
+          return Integer.valueOf(entry.getValue().get(0).trim());
+        } catch (NumberFormatException e) {
+          return null;
+        }
+      }
+    }
+    return null;
+  }
+
+  /** Shares the state of the rate limiter, but queues its calls in another lane. */
+  private final class Lane implements RateLimiter {
+
+    private final CallPriority priority;
+
+    Lane(CallPriority priority) {
+      this.priority = priority;
+    }
+
+    @Override
+    public void changeTimeoutDuration(Duration timeoutDuration) {
+      AdaptiveRateLimiter.this.changeTimeoutDuration(timeoutDuration);
+    }
+
+    @Override
+    public void changeLimitForPeriod(int limitForPeriod) {
+      AdaptiveRateLimiter.this.changeLimitForPeriod(limitForPeriod);
+    }
+
+    @Override
+    public boolean acquirePermission(int permits) {
+      return acquire(permits, priority);
+    }
+
+    @Override
+    public long reservePermission(int permits) {
+      return reserve(permits, priority);
+    }
+
+    @Override
+    public void drainPermissions() {
+      AdaptiveRateLimiter.this.drainPermissions();
+    }
+
+    @Override
+    public String getName() {
+      return name;
+    }
+
+    @Override
+    public RateLimiterConfig getRateLimiterConfig() {
+      return config;
+    }
+
+    @Override
+    public Map<String, String> getTags() {
+      return tags;
+    }
+
+    @Override
+    public Metrics getMetrics() {
+      return metrics(priority);
+    }
+
+    @Override
+    public RateLimiter.EventPublisher getEventPublisher() {
+      return eventPublisher;
+    }
+  }
+
+  private static final class EventPublisher extends EventProcessor<RateLimiterEvent>
+      implements RateLimiter.EventPublisher {
+
+    @Override
+    public RateLimiter.EventPublisher onSuccess(
+        EventConsumer<RateLimiterOnSuccessEvent> eventConsumer) {
+      registerConsumer(RateLimiterOnSuccessEvent.class.getName(), eventConsumer);
+      return this;
+    }
+
+    @Override
+    public RateLimiter.EventPublisher onFailure(
+        EventConsumer<RateLimiterOnFailureEvent> eventConsumer) {
+      registerConsumer(RateLimiterOnFailureEvent.class.getName(), eventConsumer);
+      return this;
+    }
+
+    void publish(RateLimiterEvent event) {
+      if (hasConsumers()) {
+        processEvent(event);
+      }
+    }
+  }
+}
@@ -0,0 +1,28 @@
+package org.knowm.xchange.client;
+
+/**
+ * Lanes of the API calls sharing a rate limiter, from the highest priority to the lowest. A lane
+ * may use the permits of a period except its share of the reserved permits of an {@link
+ * AdaptiveRateLimiter}, these are left for the lanes above it. A burst of market data calls can't
+ * delay cancelling an order this way.
+ *
+ * @see ResilienceUtils.DecorateCallableApi#withPriority(CallPriority)
+ */
+public enum CallPriority {
+  CANCEL(0),
+  PLACE(1),
+  ACCOUNT(2),
+  MARKET_DATA(4);
+
+  /** Quarters of the reserved permits the lane may not use. */
+  private final int reservedQuarters;
+
+  CallPriority(int reservedQuarters) {
+    this.reservedQuarters = reservedQuarters;
+  }
+
+  /** @return permits of a period the lane has to leave to the lanes above it */
+  int headroom(int reservedPermits) {
+    return reservedPermits * reservedQuarters / 4;
+  }
+}
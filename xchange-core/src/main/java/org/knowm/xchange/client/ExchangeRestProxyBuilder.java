@@ -1,14 +1,17 @@
 package org.knowm.xchange.client;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletionStage;
 import org.knowm.xchange.ExchangeSpecification;
 import org.knowm.xchange.interceptor.InterceptorProvider;
 import si.mazi.rescu.ClientConfig;
 import si.mazi.rescu.IRestProxyFactory;
 import si.mazi.rescu.Interceptor;
+import si.mazi.rescu.ListeningRestProxyFactory;
 import si.mazi.rescu.RestProxyFactoryImpl;
 
 public final class ExchangeRestProxyBuilder<T> {
@@ -17,10 +20,11 @@ public final class ExchangeRestProxyBuilder<T> {
   private final ExchangeSpecification exchangeSpecification;
   private final List<Interceptor> customInterceptors = new ArrayList<>();
   private final List<ClientConfigCustomizer> clientConfigCustomizers = new ArrayList<>();
+  private final List<HttpTransport.ResponseListener> responseListeners = new ArrayList<>();
   private ClientConfig clientConfig;
   private ResilienceRegistries resilienceRegistries;
   private String baseUrl;
-  private IRestProxyFactory restProxyFactory = new RestProxyFactoryImpl();
+  private IRestProxyFactory restProxyFactory;
 
   private ExchangeRestProxyBuilder(
       Class<T> restInterface, ExchangeSpecification exchangeSpecification) {
@@ -33,8 +37,13 @@ public final class ExchangeRestProxyBuilder<T> {
 
   public static <T> ExchangeRestProxyBuilder<T> forInterface(
       Class<T> restInterface, ExchangeSpecification exchangeSpecification) {
-    return new ExchangeRestProxyBuilder<>(restInterface, exchangeSpecification)
-        .customInterceptors(InterceptorProvider.provide());
+    ExchangeRestProxyBuilder<T> builder =
+        new ExchangeRestProxyBuilder<>(restInterface, exchangeSpecification)
+            .customInterceptors(InterceptorProvider.provide());
+    if (exchangeSpecification.getHttpTransport() != null) {
+      builder.httpTransport(exchangeSpecification.getHttpTransport());
+    }
+    return builder;
   }
 
   public ExchangeRestProxyBuilder<T> clientConfig(ClientConfig value) {
@@ -68,6 +77,22 @@ public final class ExchangeRestProxyBuilder<T> {
     return this;
   }
 
+  /** Sends the requests of the proxy through the transport instead of rescu's connections. */
+  public ExchangeRestProxyBuilder<T> httpTransport(HttpTransport httpTransport) {
+    this.restProxyFactory = new TransportRestProxyFactory(httpTransport);
+    return this;
+  }
+
+  /**
+   * Passes the responses of the proxy to the listener. Proxies of rescu stay on rescu's
+   * connections, see {@link ListeningRestProxyFactory}, the ones of a {@link
+   * #httpTransport(HttpTransport) transport} get its responses.
+   */
+  public ExchangeRestProxyBuilder<T> responseListener(HttpTransport.ResponseListener listener) {
+    this.responseListeners.add(listener);
+    return this;
+  }
+
   public T build() {
     if (clientConfig == null) {
       clientConfig = createClientConfig(exchangeSpecification);
@@ -77,10 +102,44 @@ public final class ExchangeRestProxyBuilder<T> {
     }
     clientConfigCustomizers.forEach(
         clientConfigCustomizer -> clientConfigCustomizer.customize(clientConfig));
+    if (!(restProxyFactory instanceof TransportRestProxyFactory)
+        && hasAsyncMethods(restInterface)) {
+      throw new IllegalStateException(
+          "No HTTP transport for "
+              + restInterface.getName()
+              + ", set the one of the exchange, see Exchange#getHttpTransport()");
+    }
+    if (!responseListeners.isEmpty()) {
+      if (restProxyFactory instanceof TransportRestProxyFactory) {
+        HttpTransport transport = ((TransportRestProxyFactory) restProxyFactory).getTransport();
+        for (HttpTransport.ResponseListener listener : responseListeners) {
+          transport = transport.withListener(listener);
+        }
+        restProxyFactory = new TransportRestProxyFactory(transport);
+      } else if (restProxyFactory == null) {
+        List<HttpTransport.ResponseListener> listeners = new ArrayList<>(responseListeners);
+        restProxyFactory =
+            new ListeningRestProxyFactory(
+                (request, response) ->
+                    listeners.forEach(listener -> listener.onResponse(request, response)));
+      } else {
+        throw new IllegalStateException(
+            "Response listeners need the proxies of rescu or of a transport, not of "
+                + restProxyFactory.getClass().getName());
+      }
+    }
+    if (restProxyFactory == null) {
+      restProxyFactory = new RestProxyFactoryImpl();
+    }
     return restProxyFactory.createProxy(
         restInterface, baseUrl, clientConfig, customInterceptors.toArray(new Interceptor[0]));
   }
 
+  private static boolean hasAsyncMethods(Class<?> restInterface) {
+    return Arrays.stream(restInterface.getMethods())
+        .anyMatch(method -> CompletionStage.class.isAssignableFrom(method.getReturnType()));
+  }
+
   /**
    * Get a ClientConfig object which contains exchange-specific timeout values
    * (<i>httpConnTimeout</i> and <i>httpReadTimeout</i>) if they were present in the
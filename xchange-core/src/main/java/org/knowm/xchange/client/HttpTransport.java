@@ -0,0 +1,162 @@
+package org.knowm.xchange.client;
+
+import java.io.Closeable;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import si.mazi.rescu.ClientConfig;
+
+/**
+ * Sends the HTTP requests of the rescu proxies created by {@link TransportRestProxyFactory}. The
+ * proxies still build the requests from the annotations of the rest interfaces and map the
+ * responses, a transport only moves bytes, so it can pool connections, multiplex requests or never
+ * block the calling thread.
+ *
+ * <p>Requests carrying a nonce are passed to {@link #send(Request)} in nonce order and are marked
+ * as {@link Request#isOrdered() ordered}. A transport must send the ordered requests of a host one
+ * at a time, in the order it received them, and send the next one only after the previous one
+ * completed. Exchanges reject a nonce lower than one they already saw, so two of them in flight at
+ * once could overtake each other on the network.
+ *
+ * @see UrlConnectionHttpTransport
+ */
+public interface HttpTransport extends Closeable {
+
+  /**
+   * @return completes with the response of any status code, or exceptionally with an {@link
+   *     java.io.IOException} if the exchange couldn't be reached
+   */
+  CompletableFuture<Response> send(Request request);
+
+  /** Releases the threads and connections of the transport, requests not sent yet fail. */
+  @Override
+  default void close() {}
+
+  /**
+   * @return transport which passes the responses of this one to the listener before completing
+   *     their futures, closing it doesn't close this one
+   */
+  default HttpTransport withListener(ResponseListener listener) {
+    return request ->
+        send(request)
+            .thenApply(
+                response -> {
+                  listener.onResponse(request, response);
+                  return response;
+                });
+  }
+
+  /** Observes responses, e.g. for the rate limit headers of an exchange. Must not throw. */
+  @FunctionalInterface
+  interface ResponseListener {
+
+    void onResponse(Request request, Response response);
+  }
+
+  final class Request {
+
+    private final String method;
+    private final String url;
+    private final Map<String, String> headers;
+    private final String body;
+    private final ClientConfig clientConfig;
+    private final boolean ordered;
+
+    /**
+     * @param method HTTP method, e.g. GET
+     * @param body request body, null or empty if there is none
+     * @param clientConfig settings of the calling proxy: timeouts, HTTP proxy and SSL, transports
+     *     apply the ones they support
+     */
+    public Request(
+        String method,
+        String url,
+        Map<String, String> headers,
+        String body,
+        ClientConfig clientConfig) {
+      this(method, url, headers, body, clientConfig, false);
+    }
+
+    /** @param ordered whether the request carries a nonce, see {@link HttpTransport} */
+    public Request(
+        String method,
+        String url,
+        Map<String, String> headers,
+        String body,
+        ClientConfig clientConfig,
+        boolean ordered) {
+      this.method = method;
+      this.url = url;
+      this.headers = Collections.unmodifiableMap(headers);
+      this.body = body;
+      this.clientConfig = clientConfig;
+      this.ordered = ordered;
+    }
+
+    public String getMethod() {
+      return method;
+    }
+
+    public String getUrl() {
+      return url;
+    }
+
+    public Map<String, String> getHeaders() {
+      return headers;
+    }
+
+    public String getBody() {
+      return body;
+    }
+
+    public boolean hasBody() {
+      return body != null && !body.isEmpty();
+    }
+
+    public ClientConfig getClientConfig() {
+      return clientConfig;
+    }
+
+    /** @return true if the request has to be sent after the ordered requests passed before it */
+    public boolean isOrdered() {
+      return ordered;
+    }
+
+    @Override
+    public String toString() {
+      return "Request [method=" + method + ", url=" + url + "]";
+    }
+  }
+
+  final class Response {
+
+    private final int statusCode;
+    private final Map<String, List<String>> headers;
+    private final String body;
+
+    /** @param body decoded response body, empty if there is none */
+    public Response(int statusCode, Map<String, List<String>> headers, String body) {
+      this.statusCode = statusCode;
+      this.headers = headers;
+      this.body = body;
+    }
+
+    public int getStatusCode() {
+      return statusCode;
+    }
+
+    public Map<String, List<String>> getHeaders() {
+      return headers;
+    }
+
+    public String getBody() {
+      return body;
+    }
+
+    @Override
+    public String toString() {
+      return "Response [statusCode=" + statusCode + "]";
+    }
+  }
+}
@@ -1,6 +1,7 @@
 package org.knowm.xchange.client;
 
 import com.google.common.annotations.Beta;
+import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.ratelimiter.RateLimiterConfig;
 import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
 import io.github.resilience4j.core.IntervalFunction;
@@ -88,6 +89,23 @@ public class ResilienceRegistries {
     return rateLimiterRegistry;
   }
 
+  /**
+   * Registers an {@link AdaptiveRateLimiter} under the name, replacing a rate limiter created with
+   * another implementation before.
+   *
+   * @return the registered rate limiter, the existing one if it is adaptive already
+   */
+  public AdaptiveRateLimiter adaptiveRateLimiter(
+      String name, RateLimiterConfig config, int reservedPermits) {
+    RateLimiter existing = rateLimiterRegistry.rateLimiter(name, config);
+    if (existing instanceof AdaptiveRateLimiter) {
+      return (AdaptiveRateLimiter) existing;
+    }
+    AdaptiveRateLimiter adaptive = new AdaptiveRateLimiter(name, config, reservedPermits);
+    rateLimiterRegistry.replace(name, adaptive);
+    return adaptive;
+  }
+
   private static RetryRegistry retryRegistryOf(
       RetryConfig globalRetryConfig, RetryConfig nonIdempotentCallsRetryConfig) {
     RetryRegistry registry = RetryRegistry.of(globalRetryConfig);
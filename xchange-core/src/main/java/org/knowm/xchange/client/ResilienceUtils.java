@@ -1,9 +1,16 @@
 package org.knowm.xchange.client;
 
 import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.github.resilience4j.retry.Retry;
 import java.io.IOException;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 import io.vavr.control.Either;
 import org.knowm.xchange.ExchangeSpecification;
@@ -21,6 +28,16 @@ public final class ResilienceUtils {
     return new DecorateCallableApi<>(resilienceSpecification, callable);
   }
 
+  /**
+   * Decorates a non-blocking API call. Retries and rate limiters delay the call on a shared
+   * scheduler instead of blocking the calling thread.
+   */
+  public static <T> DecorateAsyncApi<T> decorateAsyncApiCall(
+      ExchangeSpecification.ResilienceSpecification resilienceSpecification,
+      Supplier<CompletionStage<T>> call) {
+    return new DecorateAsyncApi<>(resilienceSpecification, call);
+  }
+
   /**
    * Function which can be used check if a particular HTTP status code was returned
    */
@@ -54,6 +71,7 @@ public final class ResilienceUtils {
   public static class DecorateCallableApi<T> {
     private final ExchangeSpecification.ResilienceSpecification resilienceSpecification;
     private CallableApi<T> callable;
+    private CallPriority priority = CallPriority.MARKET_DATA;
 
     private DecorateCallableApi(
         ExchangeSpecification.ResilienceSpecification resilienceSpecification,
@@ -62,6 +80,15 @@ public final class ResilienceUtils {
       this.callable = callable;
     }
 
+    /**
+     * Queues the call in the lane of the priority of the {@link AdaptiveRateLimiter}s added after
+     * this, calls without a priority are treated as market data. Other rate limiters ignore it.
+     */
+    public DecorateCallableApi<T> withPriority(CallPriority priority) {
+      this.priority = priority;
+      return this;
+    }
+
     public DecorateCallableApi<T> withRetry(Retry retryContext) {
       if (resilienceSpecification.isRetryEnabled()) {
         this.callable =
@@ -81,7 +108,10 @@ public final class ResilienceUtils {
       if (resilienceSpecification.isRateLimiterEnabled()) {
         this.callable =
             CallableApi.wrapCallable(
-                RateLimiter.decorateCallable(rateLimiter, permits, this.callable));
+                RateLimiter.decorateCallable(
+                    AdaptiveRateLimiter.forPriority(rateLimiter, priority),
+                    permits,
+                    this.callable));
       }
       return this;
     }
@@ -90,4 +120,80 @@ public final class ResilienceUtils {
       return this.callable.call();
     }
   }
+
+  public static class DecorateAsyncApi<T> {
+    private final ExchangeSpecification.ResilienceSpecification resilienceSpecification;
+    private Supplier<CompletionStage<T>> call;
+    private CallPriority priority = CallPriority.MARKET_DATA;
+
+    private DecorateAsyncApi(
+        ExchangeSpecification.ResilienceSpecification resilienceSpecification,
+        Supplier<CompletionStage<T>> call) {
+      this.resilienceSpecification = resilienceSpecification;
+      this.call = call;
+    }
+
+    /** @see DecorateCallableApi#withPriority(CallPriority) */
+    public DecorateAsyncApi<T> withPriority(CallPriority priority) {
+      this.priority = priority;
+      return this;
+    }
+
+    public DecorateAsyncApi<T> withRetry(Retry retryContext) {
+      if (resilienceSpecification.isRetryEnabled()) {
+        this.call = Retry.decorateCompletionStage(retryContext, Scheduler.INSTANCE, this.call);
+      }
+      return this;
+    }
+
+    public DecorateAsyncApi<T> withRateLimiter(RateLimiter rateLimiter) {
+      return this.withRateLimiter(rateLimiter, 1);
+    }
+
+    /** Reserves the permits up front and starts the call once they are available. */
+    public DecorateAsyncApi<T> withRateLimiter(RateLimiter rateLimiter, int permits) {
+      if (resilienceSpecification.isRateLimiterEnabled()) {
+        Supplier<CompletionStage<T>> next = this.call;
+        RateLimiter lane = AdaptiveRateLimiter.forPriority(rateLimiter, priority);
+        this.call = () -> reservePermission(lane, permits).thenCompose(ignored -> next.get());
+      }
+      return this;
+    }
+
+    public CompletableFuture<T> call() {
+      try {
+        return this.call.get().toCompletableFuture();
+      } catch (RuntimeException e) {
+        CompletableFuture<T> failed = new CompletableFuture<>();
+        failed.completeExceptionally(e);
+        return failed;
+      }
+    }
+
+    private static CompletableFuture<Void> reservePermission(RateLimiter rateLimiter, int permits) {
+      CompletableFuture<Void> permission = new CompletableFuture<>();
+      long nanosToWait = rateLimiter.reservePermission(permits);
+      if (nanosToWait < 0) {
+        permission.completeExceptionally(
+            RequestNotPermitted.createRequestNotPermitted(rateLimiter));
+      } else if (nanosToWait == 0) {
+        permission.complete(null);
+      } else {
+        Scheduler.INSTANCE.schedule(
+            () -> permission.complete(null), nanosToWait, TimeUnit.NANOSECONDS);
+      }
+      return permission;
+    }
+  }
+
+  /** Delays retries and rate limited calls, the calls themselves must not block. */
+  static final class Scheduler {
+    static final ScheduledExecutorService INSTANCE =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+              Thread thread = new Thread(runnable, "xchange-resilience-scheduler");
+              thread.setDaemon(true);
+              return thread;
+            });
+  }
 }
@@ -0,0 +1,160 @@
+package org.knowm.xchange.client;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Paces calls to an endpoint which allows a number of calls in any window of time, e.g. 2 orders
+ * per 200 milliseconds. Each call takes a token which becomes available again one refill period
+ * after the call started.
+ *
+ * <p>Only the reservation of a token is serialised, with a compare and set instead of a lock. The
+ * calls themselves run concurrently and callers which would have to wait longer than they allow
+ * don't take a token at all.
+ *
+ * <pre>{@code
+ * TokenBucket orders = new TokenBucket(2, Duration.ofMillis(200));
+ * CompletableFuture<String> id = orders.executeAsync(() -> placeOrderAsync(order), maxWait);
+ * }</pre>
+ */
+public class TokenBucket {
+
+  private final long refillNanos;
+  private final LongSupplier nanoTime;
+
+  /** {@link System#nanoTime()} from which each token is available. */
+  private final AtomicLongArray tokens;
+
+  public TokenBucket(int tokens, Duration refillPeriod) {
+    this(tokens, refillPeriod, System::nanoTime);
+  }
+
+  TokenBucket(int tokens, Duration refillPeriod, LongSupplier nanoTime) {
+    if (tokens < 1) {
+      throw new IllegalArgumentException("tokens must be positive");
+    }
+    this.refillNanos = refillPeriod.toNanos();
+    this.nanoTime = nanoTime;
+    this.tokens = new AtomicLongArray(tokens);
+    long now = nanoTime.getAsLong();
+    for (int i = 0; i < tokens; i++) {
+      this.tokens.set(i, now - refillNanos);
+    }
+  }
+
+  /**
+   * Reserves the token which is available first.
+   *
+   * @param maxWait longest time the caller is willing to wait for a token
+   * @return nanoseconds until the reserved token may be used, or -1 if none is available within
+   *     {@code maxWait}, no token is taken then
+   */
+  public long reserve(Duration maxWait) {
+    Reservation reservation = take(maxWait.toNanos());
+    return reservation == null ? -1 : reservation.nanosToWait;
+  }
+
+  /**
+   * Reserves a token and sleeps until it may be used.
+   *
+   * @return false if no token is available within {@code maxWait}
+   * @throws InterruptedException if the thread was interrupted while sleeping, the token is put
+   *     back then unless a later caller already queued behind it
+   */
+  public boolean acquire(Duration maxWait) throws InterruptedException {
+    Reservation reservation = take(maxWait.toNanos());
+    if (reservation == null) {
+      return false;
+    }
+    try {
+      TimeUnit.NANOSECONDS.sleep(reservation.nanosToWait);
+      return true;
+    } catch (InterruptedException e) {
+      tokens.compareAndSet(reservation.index, reservation.reserved, reservation.previous);
+      throw e;
+    }
+  }
+
+  /**
+   * Reserves a token and starts the call on a shared scheduler once it may be used, without
+   * blocking the calling thread.
+   *
+   * @param onTimeout creates the exception the future fails with if no token is available within
+   *     {@code maxWait}
+   */
+  public <T> CompletableFuture<T> executeAsync(
+      Supplier<? extends CompletionStage<T>> call,
+      Duration maxWait,
+      Supplier<? extends Throwable> onTimeout) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    long nanosToWait = reserve(maxWait);
+    if (nanosToWait < 0) {
+      result.completeExceptionally(onTimeout.get());
+    } else if (nanosToWait == 0) {
+      start(call, result);
+    } else {
+      ResilienceUtils.Scheduler.INSTANCE.schedule(
+          () -> start(call, result), nanosToWait, TimeUnit.NANOSECONDS);
+    }
+    return result;
+  }
+
+  private Reservation take(long maxWaitNanos) {
+    while (true) {
+      long now = nanoTime.getAsLong();
+      int first = 0;
+      long available = tokens.get(0);
+      for (int i = 1; i < tokens.length(); i++) {
+        long token = tokens.get(i);
+        if (token - available < 0) {
+          first = i;
+          available = token;
+        }
+      }
+      long nanosToWait = Math.max(0, available - now);
+      if (nanosToWait > maxWaitNanos) {
+        return null;
+      }
+      long reserved = now + nanosToWait + refillNanos;
+      if (tokens.compareAndSet(first, available, reserved)) {
+        return new Reservation(first, available, reserved, nanosToWait);
+      }
+    }
+  }
+
+  private static <T> void start(
+      Supplier<? extends CompletionStage<T>> call, CompletableFuture<T> result) {
+    try {
+      call.get()
+          .whenComplete(
+              (value, error) -> {
+                if (error != null) {
+                  result.completeExceptionally(error);
+                } else {
+                  result.complete(value);
+                }
+              });
+    } catch (RuntimeException e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  private static final class Reservation {
+    final int index;
+    final long previous;
+    final long reserved;
+    final long nanosToWait;
+
+    Reservation(int index, long previous, long reserved, long nanosToWait) {
+      this.index = index;
+      this.previous = previous;
+      this.reserved = reserved;
+      this.nanosToWait = nanosToWait;
+    }
+  }
+}
@@ -0,0 +1,362 @@
+package org.knowm.xchange.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import si.mazi.rescu.AwareException;
+import si.mazi.rescu.ClientConfig;
+import si.mazi.rescu.FormUrlEncodedRequestWriter;
+import si.mazi.rescu.HttpResponseAware;
+import si.mazi.rescu.IRestProxyFactory;
+import si.mazi.rescu.Interceptor;
+import si.mazi.rescu.InvocationAware;
+import si.mazi.rescu.InvocationResult;
+import si.mazi.rescu.Params;
+import si.mazi.rescu.ParamsDigest;
+import si.mazi.rescu.RequestWriterResolver;
+import si.mazi.rescu.ResponseReaderResolver;
+import si.mazi.rescu.RestInvocation;
+import si.mazi.rescu.RestMethodMetadata;
+import si.mazi.rescu.SynchronizedValueFactory;
+import si.mazi.rescu.serialization.PlainTextResponseReader;
+import si.mazi.rescu.serialization.ToStringRequestWriter;
+import si.mazi.rescu.serialization.jackson.DefaultJacksonObjectMapperFactory;
+import si.mazi.rescu.serialization.jackson.JacksonObjectMapperFactory;
+import si.mazi.rescu.serialization.jackson.JacksonRequestWriter;
+import si.mazi.rescu.serialization.jackson.JacksonResponseReader;
+
+/**
+ * Creates rescu proxies which send their requests through a {@link HttpTransport} instead of the
+ * {@link java.net.HttpURLConnection} of {@link si.mazi.rescu.RestProxyFactoryImpl}. The rest
+ * interfaces, their annotations, {@link si.mazi.rescu.ParamsDigest} signing, nonce factories,
+ * interceptors and the mapping of responses and exceptions work as with rescu.
+ *
+ * <p>Methods of the rest interfaces may also return a {@link CompletableFuture} of the response
+ * type, these return right after the request is passed to the transport. Declare the exception
+ * type of the API in their {@code throws} clause as usual, the future fails with it.
+ *
+ * <pre>{@code
+ * HttpTransport transport = new UrlConnectionHttpTransport(16);
+ * exchangeSpecification.setHttpTransport(transport);
+ * }</pre>
+ *
+ * One transport is meant to be shared by the proxies of all exchanges.
+ */
+public class TransportRestProxyFactory implements IRestProxyFactory {
+
+  private static final Map<String, String> DEFAULT_HEADERS = new HashMap<>();
+
+  static {
+    DEFAULT_HEADERS.put("Accept-Charset", "UTF-8");
+    DEFAULT_HEADERS.put("Accept", MediaType.APPLICATION_JSON);
+    // same as rescu, some exchanges filter unknown agents
+    DEFAULT_HEADERS.put(
+        "User-Agent", "ResCU JDK/6 AppleWebKit/535.7 Chrome/16.0.912.36 Safari/535.7");
+  }
+
+  private static final Pattern TRAILING_SLASHES = Pattern.compile("(.*?)(/*)");
+  private static final Pattern LEADING_SLASHES = Pattern.compile("(/*)(.*)");
+
+  private final HttpTransport transport;
+
+  public TransportRestProxyFactory(HttpTransport transport) {
+    this.transport = transport;
+  }
+
+  public HttpTransport getTransport() {
+    return transport;
+  }
+
+  @Override
+  public <I> I createProxy(
+      Class<I> restInterface, String baseUrl, ClientConfig config, Interceptor... interceptors) {
+    InvocationHandler handler =
+        new TransportInvocationHandler(
+            restInterface, baseUrl, config == null ? new ClientConfig() : config, transport);
+    for (Interceptor interceptor : interceptors) {
+      InvocationHandler next = handler;
+      handler = (proxy, method, args) -> interceptor.aroundInvoke(next, proxy, method, args);
+    }
+    return restInterface.cast(
+        Proxy.newProxyInstance(
+            restInterface.getClassLoader(), new Class<?>[] {restInterface}, handler));
+  }
+
+  @Override
+  public <I> I createProxy(Class<I> restInterface, String baseUrl) {
+    return createProxy(restInterface, baseUrl, null);
+  }
+
+  private static final class TransportInvocationHandler implements InvocationHandler {
+
+    private final String baseUrl;
+    private final String intfacePath;
+    private final ClientConfig config;
+    private final HttpTransport transport;
+    private final RequestWriterResolver requestWriterResolver = new RequestWriterResolver();
+    private final ResponseReaderResolver responseReaderResolver = new ResponseReaderResolver();
+    private final Map<Method, RestMethodMetadata> methodMetadataCache = new ConcurrentHashMap<>();
+
+    TransportInvocationHandler(
+        Class<?> restInterface, String baseUrl, ClientConfig config, HttpTransport transport) {
+      Path path = restInterface.getAnnotation(Path.class);
+      this.baseUrl = baseUrl;
+      this.intfacePath = path == null ? null : path.value();
+      this.config = config;
+      this.transport = transport;
+
+      JacksonObjectMapperFactory mapperFactory = config.getJacksonObjectMapperFactory();
+      if (mapperFactory == null) {
+        mapperFactory = new DefaultJacksonObjectMapperFactory();
+      }
+      ObjectMapper mapper = mapperFactory.createObjectMapper();
+      requestWriterResolver.addWriter(
+          MediaType.APPLICATION_FORM_URLENCODED, new FormUrlEncodedRequestWriter());
+      requestWriterResolver.addWriter(MediaType.APPLICATION_JSON, new JacksonRequestWriter(mapper));
+      requestWriterResolver.addWriter(MediaType.TEXT_PLAIN, new ToStringRequestWriter());
+      responseReaderResolver.addReader(
+          MediaType.APPLICATION_JSON,
+          new JacksonResponseReader(mapper, config.isIgnoreHttpErrorCodes()));
+      responseReaderResolver.addReader(
+          MediaType.TEXT_PLAIN, new PlainTextResponseReader(config.isIgnoreHttpErrorCodes()));
+    }
+
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+      if (method.getDeclaringClass().equals(Object.class)) {
+        return method.invoke(this, args);
+      }
+      if (CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+        try {
+          return invokeAsync(method, args);
+        } catch (Throwable e) {
+          CompletableFuture<Object> failed = new CompletableFuture<>();
+          failed.completeExceptionally(e);
+          return failed;
+        }
+      }
+      try {
+        return invokeAsync(method, args).get();
+      } catch (ExecutionException e) {
+        throw e.getCause();
+      }
+    }
+
+    private CompletableFuture<Object> invokeAsync(Method method, Object[] args) throws Throwable {
+      RestMethodMetadata metadata = methodMetadataCache.computeIfAbsent(method, this::getMetadata);
+      RestInvocation invocation;
+      CompletableFuture<HttpTransport.Response> response;
+      // nonces must reach the transport in the order they were created, it keeps that order
+      Object lock = getValueFactory(args);
+      synchronized (lock == null ? new Object() : lock) {
+        invocation = createInvocation(metadata, args == null ? new Object[0] : args);
+        response = transport.send(toRequest(metadata, invocation, lock != null));
+      }
+      CompletableFuture<Object> value = new CompletableFuture<>();
+      response.whenComplete(
+          (result, error) -> {
+            try {
+              if (error != null) {
+                throw unwrap(error);
+              }
+              Object read =
+                  responseReaderResolver
+                      .resolveReader(metadata)
+                      .read(
+                          new InvocationResult(result.getBody(), result.getStatusCode()),
+                          metadata);
+              makeAware(read, result, invocation);
+              value.complete(read);
+            } catch (Throwable e) {
+              value.completeExceptionally(toInvocationException(e, result, invocation));
+            }
+          });
+      return value;
+    }
+
+    /** Asynchronous methods are read as the type of their future. */
+    private RestMethodMetadata getMetadata(Method method) {
+      RestMethodMetadata metadata = RestMethodMetadata.create(method, baseUrl, intfacePath);
+      if (!CompletionStage.class.isAssignableFrom(method.getReturnType())) {
+        return metadata;
+      }
+      Type returnType = method.getGenericReturnType();
+      if (!(returnType instanceof ParameterizedType)) {
+        throw new IllegalArgumentException("Raw future returned by " + method);
+      }
+      return new RestMethodMetadata(
+          ((ParameterizedType) returnType).getActualTypeArguments()[0],
+          metadata.getHttpMethod(),
+          metadata.getBaseUrl(),
+          metadata.getIntfacePath(),
+          metadata.getMethodPathTemplate(),
+          metadata.getExceptionType(),
+          metadata.getReqContentType(),
+          metadata.getResContentType(),
+          metadata.getMethodName(),
+          metadata.getMethodAnnotationMap(),
+          metadata.getParameterAnnotations());
+    }
+
+    /**
+     * Builds the invocation like the package private {@code RestInvocation.create} of rescu.
+     * The digests run last, they sign the final parameters.
+     */
+    private RestInvocation createInvocation(RestMethodMetadata metadata, Object[] args) {
+      Map<Class<? extends Annotation>, Params> params =
+          RestInvocation.createEmptyParamsMap(config.getDefaultParamsMap());
+      List<Object> unannotated = new ArrayList<>();
+      Annotation[][] parameterAnnotations = metadata.getParameterAnnotations();
+      for (int i = 0; i < parameterAnnotations.length; i++) {
+        if (parameterAnnotations[i].length == 0) {
+          unannotated.add(args[i]);
+        }
+        for (Annotation annotation : parameterAnnotations[i]) {
+          String name = getParamName(annotation);
+          if (name != null) {
+            params.get(annotation.annotationType()).add(name, args[i]);
+          }
+        }
+      }
+      metadata
+          .getMethodAnnotationMap()
+          .forEach(
+              (type, annotation) -> {
+                if (annotation != null) {
+                  params.get(type).add(getParamName(annotation), metadata.getMethodName());
+                }
+              });
+      params.values().forEach(Params::replaceValueFactories);
+
+      Params pathParams = params.get(PathParam.class);
+      String methodPath = pathParams.applyToPath(metadata.getMethodPathTemplate());
+      String path = appendPath(pathParams.applyToPath(metadata.getIntfacePath()), methodPath);
+      String queryString = params.get(QueryParam.class).asQueryString();
+      String url = appendPath(metadata.getBaseUrl(), path);
+      if (queryString != null && !queryString.isEmpty()) {
+        url += "?" + queryString;
+      }
+      RestInvocation invocation =
+          new RestInvocation(
+              params,
+              unannotated,
+              metadata,
+              methodPath,
+              url,
+              queryString,
+              path,
+              requestWriterResolver);
+      for (int i = 0; i < unannotated.size(); i++) {
+        if (unannotated.get(i) instanceof ParamsDigest) {
+          unannotated.set(i, ((ParamsDigest) unannotated.get(i)).digestParams(invocation));
+        }
+      }
+      params.values().forEach(p -> p.digestAll(invocation));
+      return invocation;
+    }
+
+    private HttpTransport.Request toRequest(
+        RestMethodMetadata metadata, RestInvocation invocation, boolean ordered) {
+      String body = requestWriterResolver.resolveWriter(metadata).writeBody(invocation);
+      Map<String, String> headers = new HashMap<>(DEFAULT_HEADERS);
+      headers.putAll(invocation.getAllHttpHeaders());
+      return new HttpTransport.Request(
+          metadata.getHttpMethod().name(),
+          invocation.getInvocationUrl(),
+          headers,
+          body,
+          config,
+          ordered);
+    }
+
+    private Throwable toInvocationException(
+        Throwable e, HttpTransport.Response response, RestInvocation invocation) {
+      boolean aware = makeAware(e, response, invocation);
+      if (config.isWrapUnexpectedExceptions() && !aware && e instanceof Exception) {
+        return new AwareException((Exception) e, invocation);
+      }
+      return e;
+    }
+
+    private static boolean makeAware(
+        Object target, HttpTransport.Response response, RestInvocation invocation) {
+      boolean aware = false;
+      if (target instanceof InvocationAware) {
+        ((InvocationAware) target).setInvocation(invocation);
+        aware = true;
+      }
+      if (target instanceof HttpResponseAware && response != null) {
+        Map<String, List<String>> headers = response.getHeaders();
+        ((HttpResponseAware) target).setResponseHeaders(headers);
+        aware = true;
+      }
+      return aware;
+    }
+
+    private static Throwable unwrap(Throwable e) {
+      while ((e instanceof CompletionException || e instanceof ExecutionException)
+          && e.getCause() != null) {
+        e = e.getCause();
+      }
+      return e;
+    }
+
+    private static String getParamName(Annotation annotation) {
+      if (annotation instanceof QueryParam) {
+        return ((QueryParam) annotation).value();
+      } else if (annotation instanceof PathParam) {
+        return ((PathParam) annotation).value();
+      } else if (annotation instanceof FormParam) {
+        return ((FormParam) annotation).value();
+      } else if (annotation instanceof HeaderParam) {
+        return ((HeaderParam) annotation).value();
+      }
+      return null;
+    }
+
+    /** Joins two parts of a path with one slash, if either has one or both aren't empty. */
+    private static String appendPath(String base, String path) {
+      Matcher head = TRAILING_SLASHES.matcher(base == null ? "" : base);
+      Matcher tail = LEADING_SLASHES.matcher(path == null ? "" : path);
+      head.matches();
+      tail.matches();
+      boolean slash =
+          !head.group(2).isEmpty()
+              || !tail.group(1).isEmpty()
+              || (!head.group(1).isEmpty() && !tail.group(2).isEmpty());
+      return head.group(1) + (slash ? "/" : "") + tail.group(2);
+    }
+
+    private static Object getValueFactory(Object[] args) {
+      if (args != null) {
+        for (Object arg : args) {
+          if (arg instanceof SynchronizedValueFactory) {
+            return arg;
+          }
+        }
+      }
+      return null;
+    }
+  }
+}
@@ -0,0 +1,255 @@
+package org.knowm.xchange.client;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.Proxy;
+import java.net.URL;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+import javax.net.ssl.HttpsURLConnection;
+import si.mazi.rescu.ClientConfig;
+
+/**
+ * {@link HttpTransport} on {@link HttpURLConnection} with bounded concurrency per host. Requests
+ * beyond {@code maxRequestsPerHost} wait in a queue of their host instead of blocking the caller,
+ * so a burst of market data calls to one exchange can't exhaust the threads of the others.
+ * {@link Request#isOrdered() Ordered} requests of a host take one of its slots at a time, in the
+ * order they were sent, the others may pass them.
+ *
+ * <p>Responses are always read to the end, which returns the connection to the keep-alive pool of
+ * the JDK. The pool keeps {@code http.maxConnections} idle connections per host (5 by default),
+ * set the system property to {@code maxRequestsPerHost} to reuse a connection for every request.
+ */
+public class UrlConnectionHttpTransport implements HttpTransport {
+
+  public static final int DEFAULT_MAX_REQUESTS_PER_HOST = 8;
+
+  private static final AtomicInteger THREAD_COUNT = new AtomicInteger();
+
+  private final int maxRequestsPerHost;
+  private final ExecutorService executor;
+  private final Map<String, HostQueue> hostQueues = new ConcurrentHashMap<>();
+
+  public UrlConnectionHttpTransport() {
+    this(DEFAULT_MAX_REQUESTS_PER_HOST);
+  }
+
+  /** Runs the requests on daemon threads which are released after a minute of inactivity. */
+  public UrlConnectionHttpTransport(int maxRequestsPerHost) {
+    this(
+        maxRequestsPerHost,
+        Executors.newCachedThreadPool(
+            runnable -> {
+              Thread thread =
+                  new Thread(runnable, "xchange-http-" + THREAD_COUNT.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }));
+  }
+
+  /** @param executor runs the blocking requests, at most {@code maxRequestsPerHost} per host */
+  public UrlConnectionHttpTransport(int maxRequestsPerHost, ExecutorService executor) {
+    if (maxRequestsPerHost <= 0) {
+      throw new IllegalArgumentException("maxRequestsPerHost must be positive");
+    }
+    this.maxRequestsPerHost = maxRequestsPerHost;
+    this.executor = executor;
+  }
+
+  @Override
+  public CompletableFuture<Response> send(Request request) {
+    CompletableFuture<Response> response = new CompletableFuture<>();
+    URL url;
+    try {
+      url = new URL(request.getUrl());
+    } catch (IOException e) {
+      response.completeExceptionally(e);
+      return response;
+    }
+    String host = url.getProtocol() + "://" + url.getAuthority();
+    hostQueues
+        .computeIfAbsent(host, key -> new HostQueue())
+        .submit(
+            () -> {
+              if (response.isDone()) {
+                return;
+              }
+              try {
+                response.complete(execute(url, request));
+              } catch (Throwable e) {
+                response.completeExceptionally(e);
+              }
+            },
+            response,
+            request.isOrdered());
+    return response;
+  }
+
+  /** @return number of requests of the host waiting for a free slot */
+  public int getQueued(String host) {
+    HostQueue hostQueue = hostQueues.get(host);
+    return hostQueue == null ? 0 : hostQueue.size();
+  }
+
+  /** Stops the threads of the transport, queued requests are not sent anymore. */
+  public void shutdown() {
+    executor.shutdown();
+  }
+
+  @Override
+  public void close() {
+    shutdown();
+  }
+
+  private Response execute(URL url, Request request) throws IOException {
+    ClientConfig config = request.getClientConfig();
+    HttpURLConnection connection = (HttpURLConnection) url.openConnection(getProxy(config));
+    if (config != null) {
+      if (config.getHttpConnTimeout() > 0) {
+        connection.setConnectTimeout(config.getHttpConnTimeout());
+      }
+      if (config.getHttpReadTimeout() > 0) {
+        connection.setReadTimeout(config.getHttpReadTimeout());
+      }
+      if (connection instanceof HttpsURLConnection) {
+        if (config.getSslSocketFactory() != null) {
+          ((HttpsURLConnection) connection).setSSLSocketFactory(config.getSslSocketFactory());
+        }
+        if (config.getHostnameVerifier() != null) {
+          ((HttpsURLConnection) connection).setHostnameVerifier(config.getHostnameVerifier());
+        }
+      }
+    }
+    connection.setRequestMethod(request.getMethod());
+    request.getHeaders().forEach(connection::setRequestProperty);
+    if (request.hasBody()) {
+      byte[] body = request.getBody().getBytes(StandardCharsets.UTF_8);
+      connection.setDoOutput(true);
+      connection.setFixedLengthStreamingMode(body.length);
+      try (OutputStream out = connection.getOutputStream()) {
+        out.write(body);
+      }
+    }
+    int statusCode = connection.getResponseCode();
+    InputStream in =
+        statusCode >= 400 ? connection.getErrorStream() : connection.getInputStream();
+    return new Response(statusCode, connection.getHeaderFields(), readBody(in, connection));
+  }
+
+  private static Proxy getProxy(ClientConfig config) {
+    if (config == null || config.getProxyHost() == null || config.getProxyPort() == null) {
+      return Proxy.NO_PROXY;
+    }
+    Proxy.Type type = config.getProxyType() == null ? Proxy.Type.HTTP : config.getProxyType();
+    return new Proxy(type, new InetSocketAddress(config.getProxyHost(), config.getProxyPort()));
+  }
+
+  private static String readBody(InputStream in, HttpURLConnection connection)
+      throws IOException {
+    if (in == null) {
+      return "";
+    }
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    try (InputStream body =
+        "gzip".equalsIgnoreCase(connection.getContentEncoding()) ? new GZIPInputStream(in) : in) {
+      byte[] buffer = new byte[8192];
+      for (int read = body.read(buffer); read != -1; read = body.read(buffer)) {
+        bytes.write(buffer, 0, read);
+      }
+    }
+    String text = new String(bytes.toByteArray(), getCharset(connection.getContentType()));
+    // strip the byte order mark some exchanges send
+    return text.startsWith("\uFEFF") ? text.substring(1) : text;
+  }
+
+  private static Charset getCharset(String contentType) {
+    if (contentType != null) {
+      for (String parameter : contentType.split(";")) {
+        String[] keyValue = parameter.trim().split("=", 2);
+        if (keyValue.length == 2 && keyValue[0].equalsIgnoreCase("charset")) {
+          try {
+            return Charset.forName(keyValue[1].replace("\"", "").trim());
+          } catch (IllegalArgumentException e) {
+            break;
+          }
+        }
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+
+  private final class HostQueue {
+
+    private final Queue<Call> queue = new ArrayDeque<>();
+    private final Queue<Call> orderedQueue = new ArrayDeque<>();
+    private int running;
+    private boolean orderedRunning;
+
+    synchronized void submit(Runnable call, CompletableFuture<?> result, boolean ordered) {
+      (ordered ? orderedQueue : queue).add(new Call(call, result));
+      drain();
+    }
+
+    synchronized int size() {
+      return queue.size() + orderedQueue.size();
+    }
+
+    private synchronized void done(boolean ordered) {
+      running--;
+      if (ordered) {
+        orderedRunning = false;
+      }
+      drain();
+    }
+
+    private void drain() {
+      while (running < maxRequestsPerHost) {
+        boolean ordered = !orderedRunning && !orderedQueue.isEmpty();
+        Call next = ordered ? orderedQueue.poll() : queue.poll();
+        if (next == null) {
+          return;
+        }
+        running++;
+        orderedRunning |= ordered;
+        try {
+          executor.execute(
+              () -> {
+                try {
+                  next.call.run();
+                } finally {
+                  done(ordered);
+                }
+              });
+        } catch (RejectedExecutionException e) {
+          running--;
+          orderedRunning &= !ordered;
+          next.result.completeExceptionally(e);
+        }
+      }
+    }
+  }
+
+  private static final class Call {
+    final Runnable call;
+    final CompletableFuture<?> result;
+
+    Call(Runnable call, CompletableFuture<?> result) {
+      this.call = call;
+      this.result = result;
+    }
+  }
+}
@@ -4,12 +4,14 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonValue;
 import java.io.Serializable;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * A Currency class roughly modeled after {@link java.util.Currency}. Each object retains the code
@@ -19,7 +21,8 @@ import java.util.TreeSet;
 public class Currency implements Comparable<Currency>, Serializable {
 
   private static final long serialVersionUID = -7340731832345284129L;
-  private static final Map<String, Currency> currencies = new HashMap<>();
+  /** Keyed by upper case codes, lookups don't lock and codes may be added by any thread. */
+  private static final Map<String, Currency> currencies = new ConcurrentHashMap<>();
 
   /** Global currency codes */
   // TODO: Load from json resource
@@ -497,10 +500,14 @@ public class Currency implements Comparable<Currency>, Serializable {
   @JsonCreator
   public static Currency getInstance(String currencyCode) {
 
-    Currency currency = getInstanceNoCreate(currencyCode.toUpperCase());
+    Currency currency = getInstanceNoCreate(currencyCode);
 
     if (currency == null) {
-      return createCurrency(currencyCode.toUpperCase(), null, null);
+      String code = currencyCode.toUpperCase(Locale.ROOT);
+      currency = new Currency(code, new CurrencyAttributes(code, null, null));
+      // another thread may have created the same code in the meantime, keep the first instance
+      Currency existing = currencies.putIfAbsent(code, currency);
+      return existing == null ? currency : existing;
     } else {
       return currency;
     }
@@ -509,7 +516,28 @@ public class Currency implements Comparable<Currency>, Serializable {
   /** Returns the Currency instance for the given currency code only if one already exists. */
   public static Currency getInstanceNoCreate(String currencyCode) {
 
-    return currencies.get(currencyCode.toUpperCase());
+    Currency currency = currencies.get(currencyCode);
+    if (currency == null) {
+      // toUpperCase returns the same instance if the code is upper case already
+      String upperCaseCode = currencyCode.toUpperCase(Locale.ROOT);
+      if (upperCaseCode != currencyCode) {
+        currency = currencies.get(upperCaseCode);
+      }
+    }
+    return currency;
+  }
+
+  /**
+   * Creates the currencies of all codes not known yet, e.g. from the metadata of an exchange, so
+   * later lookups don't have to.
+   *
+   * @param currencyCodes codes of the currencies
+   */
+  public static void preload(Collection<String> currencyCodes) {
+
+    for (String currencyCode : currencyCodes) {
+      getInstance(currencyCode);
+    }
   }
 
   /**
@@ -0,0 +1,73 @@
+package org.knowm.xchange.currency;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * Caches the symbols an exchange uses for instruments in both directions, for example "btcusdt"
+ * for BTC/USDT on Binance streams or "XBT/USD" for BTC/USD on Kraken. Each symbol is formatted or
+ * parsed once, later lookups are plain reads of concurrent maps which neither lock nor allocate.
+ * Instruments parsed from the same symbol are interned, the first instance is returned for all
+ * later lookups.
+ *
+ * <p>Both caches grow with every new symbol, a registry is meant for the finite set of instruments
+ * an exchange lists and not for arbitrary user input.
+ *
+ * @param <I> type of the instruments
+ */
+public class SymbolRegistry<I extends Instrument> {
+
+  private final Function<? super I, String> formatter;
+  private final Function<String, ? extends I> parser;
+  private final ConcurrentMap<String, I> instruments = new ConcurrentHashMap<>();
+  private final ConcurrentMap<I, String> symbols = new ConcurrentHashMap<>();
+
+  /**
+   * @param formatter creates the exchange symbol of an instrument
+   * @param parser creates the instrument of an exchange symbol
+   */
+  public SymbolRegistry(
+      Function<? super I, String> formatter, Function<String, ? extends I> parser) {
+    this.formatter = formatter;
+    this.parser = parser;
+  }
+
+  /** Returns the exchange symbol of the instrument, formatting it on first use. */
+  public String toSymbol(I instrument) {
+    String symbol = symbols.get(instrument);
+    if (symbol == null) {
+      symbol = formatter.apply(instrument);
+      instruments.putIfAbsent(symbol, instrument);
+      String existing = symbols.putIfAbsent(instrument, symbol);
+      if (existing != null) {
+        symbol = existing;
+      }
+    }
+    return symbol;
+  }
+
+  /** Returns the interned instrument of the exchange symbol, parsing it on first use. */
+  public I toInstrument(String symbol) {
+    I instrument = instruments.get(symbol);
+    if (instrument == null) {
+      instrument = parser.apply(symbol);
+      I existing = instruments.putIfAbsent(symbol, instrument);
+      if (existing != null) {
+        instrument = existing;
+      }
+      symbols.putIfAbsent(instrument, symbol);
+    }
+    return instrument;
+  }
+
+  /**
+   * Registers the symbol of an instrument, replacing the mappings formatting or parsing would
+   * create. Meant for symbols that can't be derived, e.g. from the exchange metadata.
+   */
+  public void register(I instrument, String symbol) {
+    instruments.put(symbol, instrument);
+    symbols.put(instrument, symbol);
+  }
+}
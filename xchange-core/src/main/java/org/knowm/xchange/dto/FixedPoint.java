@@ -0,0 +1,214 @@
+package org.knowm.xchange.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Scaled-long fixed-point numbers.
+ *
+ * <p>A value is represented by a primitive {@code long} holding the unscaled value and an {@code
+ * int} scale, i.e. {@code value = unscaled * 10^-scale}, the same way as {@link
+ * BigDecimal#valueOf(long, int)}. This lets hot market data paths carry prices and amounts without
+ * allocating {@link BigDecimal}/{@link java.math.BigInteger} instances. Scales from 0 to {@link
+ * #MAX_SCALE} are supported.
+ *
+ * <p>Parsing never rounds: a value with more significant fraction digits than the requested scale,
+ * or which does not fit into a {@code long}, results in an {@link ArithmeticException}.
+ */
+public final class FixedPoint {
+
+  public static final int MAX_SCALE = 18;
+
+  private static final long[] POW10 = new long[MAX_SCALE + 1];
+
+  static {
+    POW10[0] = 1;
+    for (int i = 1; i <= MAX_SCALE; i++) {
+      POW10[i] = POW10[i - 1] * 10;
+    }
+  }
+
+  private FixedPoint() {}
+
+  /**
+   * @param scale the scale, between 0 and {@link #MAX_SCALE}
+   * @return 10 to the power of scale
+   */
+  public static long pow10(int scale) {
+
+    checkScale(scale);
+    return POW10[scale];
+  }
+
+  /**
+   * Parses a decimal string such as {@code "0.01000000"} into its unscaled value.
+   *
+   * @param text the decimal string, plain or in scientific notation
+   * @param scale the scale of the result
+   * @return the unscaled value
+   * @throws NumberFormatException if text is not a decimal number
+   * @throws ArithmeticException if the value cannot be represented with the given scale
+   */
+  public static long parse(CharSequence text, int scale) {
+
+    return parse(text, 0, text.length(), scale);
+  }
+
+  /**
+   * Parses a decimal sub-sequence into its unscaled value.
+   *
+   * @param text the characters to parse
+   * @param start index of the first character
+   * @param end index after the last character
+   * @param scale the scale of the result
+   * @return the unscaled value
+   * @throws NumberFormatException if the sub-sequence is not a decimal number
+   * @throws ArithmeticException if the value cannot be represented with the given scale
+   */
+  public static long parse(CharSequence text, int start, int end, int scale) {
+
+    checkScale(scale);
+    int i = start;
+    boolean negative = false;
+    if (i < end && (text.charAt(i) == '-' || text.charAt(i) == '+')) {
+      negative = text.charAt(i) == '-';
+      i++;
+    }
+    if (i == end) {
+      throw new NumberFormatException("Not a decimal number: " + text.subSequence(start, end));
+    }
+
+    long value = 0;
+    int fractionDigits = -1;
+    boolean digits = false;
+    for (; i < end; i++) {
+      char c = text.charAt(i);
+      if (c == '.') {
+        if (fractionDigits >= 0) {
+          throw new NumberFormatException(
+              "Not a decimal number: " + text.subSequence(start, end));
+        }
+        fractionDigits = 0;
+        continue;
+      }
+      if (c == 'e' || c == 'E') {
+        return valueOf(new BigDecimal(text.subSequence(start, end).toString()), scale);
+      }
+      if (c < '0' || c > '9') {
+        throw new NumberFormatException("Not a decimal number: " + text.subSequence(start, end));
+      }
+      digits = true;
+      int digit = c - '0';
+      if (fractionDigits >= 0) {
+        if (fractionDigits == scale) {
+          if (digit != 0) {
+            throw new ArithmeticException(
+                "Rounding necessary to parse " + text.subSequence(start, end) + " with scale " + scale);
+          }
+          continue;
+        }
+        fractionDigits++;
+      }
+      value = Math.addExact(Math.multiplyExact(value, 10), digit);
+    }
+    if (!digits) {
+      throw new NumberFormatException("Not a decimal number: " + text.subSequence(start, end));
+    }
+
+    value = Math.multiplyExact(value, POW10[scale - Math.max(fractionDigits, 0)]);
+    return negative ? -value : value;
+  }
+
+  /**
+   * @param value the value to convert
+   * @param scale the scale of the result
+   * @return the unscaled value of {@code value} with the given scale
+   * @throws ArithmeticException if the value cannot be represented with the given scale
+   */
+  public static long valueOf(BigDecimal value, int scale) {
+
+    checkScale(scale);
+    return value.setScale(scale).unscaledValue().longValueExact();
+  }
+
+  /**
+   * @param unscaled the unscaled value
+   * @param scale the scale
+   * @return the value as a {@link BigDecimal}
+   */
+  public static BigDecimal toBigDecimal(long unscaled, int scale) {
+
+    return BigDecimal.valueOf(unscaled, scale);
+  }
+
+  /**
+   * Converts an unscaled value between scales.
+   *
+   * @param unscaled the unscaled value
+   * @param fromScale the scale of {@code unscaled}
+   * @param toScale the scale of the result
+   * @return the unscaled value with {@code toScale}
+   * @throws ArithmeticException if the value cannot be represented with the target scale
+   */
+  public static long rescale(long unscaled, int fromScale, int toScale) {
+
+    checkScale(fromScale);
+    checkScale(toScale);
+    if (toScale >= fromScale) {
+      return Math.multiplyExact(unscaled, POW10[toScale - fromScale]);
+    }
+    long divisor = POW10[fromScale - toScale];
+    if (unscaled % divisor != 0) {
+      throw new ArithmeticException("Rounding necessary to rescale " + unscaled);
+    }
+    return unscaled / divisor;
+  }
+
+  /**
+   * Appends the plain string representation of the value, with exactly {@code scale} fraction
+   * digits, without allocating intermediate objects.
+   *
+   * @param sb the target
+   * @param unscaled the unscaled value
+   * @param scale the scale
+   * @return the target
+   */
+  public static StringBuilder appendTo(StringBuilder sb, long unscaled, int scale) {
+
+    checkScale(scale);
+    if (unscaled < 0) {
+      sb.append('-');
+    }
+    long abs = Math.abs(unscaled);
+    long intPart = abs / POW10[scale];
+    long fraction = abs % POW10[scale];
+    if (unscaled == Long.MIN_VALUE) {
+      intPart = -(unscaled / POW10[scale]);
+      fraction = -(unscaled % POW10[scale]);
+    }
+    sb.append(intPart);
+    if (scale > 0) {
+      sb.append('.');
+      for (int i = scale - 1; i >= 0; i--) {
+        sb.append((char) ('0' + (fraction / POW10[i]) % 10));
+      }
+    }
+    return sb;
+  }
+
+  /**
+   * @param unscaled the unscaled value
+   * @param scale the scale
+   * @return the plain string representation with exactly {@code scale} fraction digits
+   */
+  public static String toString(long unscaled, int scale) {
+
+    return appendTo(new StringBuilder(20), unscaled, scale).toString();
+  }
+
+  private static void checkScale(int scale) {
+
+    if (scale < 0 || scale > MAX_SCALE) {
+      throw new IllegalArgumentException("Unsupported fixed-point scale " + scale);
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package org.knowm.xchange.dto;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Objects;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+
+/**
+ * Price and amount scales of an instrument, used to represent its prices and amounts as {@link
+ * FixedPoint} values.
+ */
+public final class FixedPointScale implements Serializable {
+
+  private static final long serialVersionUID = -2542104394370993817L;
+
+  /** Scale used when the instrument meta data does not provide one */
+  public static final int DEFAULT_SCALE = 8;
+
+  private final int priceScale;
+  private final int amountScale;
+
+  /**
+   * @param priceScale the number of fraction digits of prices
+   * @param amountScale the number of fraction digits of amounts
+   */
+  public FixedPointScale(int priceScale, int amountScale) {
+
+    FixedPoint.pow10(priceScale);
+    FixedPoint.pow10(amountScale);
+    this.priceScale = priceScale;
+    this.amountScale = amountScale;
+  }
+
+  /**
+   * Takes the price scale from {@link CurrencyPairMetaData#getPriceScale()} and the amount scale
+   * from {@link CurrencyPairMetaData#getBaseScale()}, falling back to {@link
+   * CurrencyPairMetaData#getVolumeScale()} and then to {@link #DEFAULT_SCALE}.
+   *
+   * @param metaData the instrument meta data, may be null
+   * @return the scales of the instrument
+   */
+  public static FixedPointScale of(CurrencyPairMetaData metaData) {
+
+    if (metaData == null) {
+      return new FixedPointScale(DEFAULT_SCALE, DEFAULT_SCALE);
+    }
+    Integer amountScale =
+        metaData.getBaseScale() != null ? metaData.getBaseScale() : metaData.getVolumeScale();
+    return new FixedPointScale(
+        metaData.getPriceScale() != null ? metaData.getPriceScale() : DEFAULT_SCALE,
+        amountScale != null ? amountScale : DEFAULT_SCALE);
+  }
+
+  public int getPriceScale() {
+
+    return priceScale;
+  }
+
+  public int getAmountScale() {
+
+    return amountScale;
+  }
+
+  public long parsePrice(CharSequence text) {
+
+    return FixedPoint.parse(text, priceScale);
+  }
+
+  public long parseAmount(CharSequence text) {
+
+    return FixedPoint.parse(text, amountScale);
+  }
+
+  public BigDecimal price(long unscaled) {
+
+    return FixedPoint.toBigDecimal(unscaled, priceScale);
+  }
+
+  public BigDecimal amount(long unscaled) {
+
+    return FixedPoint.toBigDecimal(unscaled, amountScale);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    FixedPointScale that = (FixedPointScale) o;
+    return priceScale == that.priceScale && amountScale == that.amountScale;
+  }
+
+  @Override
+  public int hashCode() {
+
+    return Objects.hash(priceScale, amountScale);
+  }
+
+  @Override
+  public String toString() {
+
+    return "FixedPointScale [priceScale=" + priceScale + ", amountScale=" + amountScale + "]";
+  }
+}
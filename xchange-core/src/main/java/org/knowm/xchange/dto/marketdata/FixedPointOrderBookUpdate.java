@@ -0,0 +1,129 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+import org.knowm.xchange.dto.FixedPoint;
+import org.knowm.xchange.dto.FixedPointScale;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * Allocation-light counterpart of {@link OrderBookUpdate} carrying the price and total volume of a
+ * level as {@link FixedPoint} values. The {@link BigDecimal} getters are derived lazily on first
+ * use.
+ */
+public final class FixedPointOrderBookUpdate implements Serializable {
+
+  private static final long serialVersionUID = -1729883606862393526L;
+
+  private final OrderType type;
+  private final Instrument instrument;
+  private final FixedPointScale scale;
+  private final long price;
+  private final long totalVolume;
+  private final long timestamp;
+
+  private transient BigDecimal priceDecimal;
+  private transient BigDecimal totalVolumeDecimal;
+
+  /**
+   * @param type the order type (BID/ASK)
+   * @param instrument the instrument traded
+   * @param scale the scales of {@code price} and {@code totalVolume}
+   * @param price the unscaled price of the level
+   * @param totalVolume the unscaled new total volume of the level, 0 if the level was removed
+   * @param timestamp the timestamp in milliseconds since epoch, 0 if not provided
+   */
+  public FixedPointOrderBookUpdate(
+      OrderType type,
+      Instrument instrument,
+      FixedPointScale scale,
+      long price,
+      long totalVolume,
+      long timestamp) {
+
+    this.type = type;
+    this.instrument = instrument;
+    this.scale = scale;
+    this.price = price;
+    this.totalVolume = totalVolume;
+    this.timestamp = timestamp;
+  }
+
+  public OrderType getType() {
+
+    return type;
+  }
+
+  public Instrument getInstrument() {
+
+    return instrument;
+  }
+
+  public FixedPointScale getScale() {
+
+    return scale;
+  }
+
+  /** @return the unscaled price, see {@link FixedPointScale#getPriceScale()} */
+  public long getUnscaledPrice() {
+
+    return price;
+  }
+
+  /** @return the unscaled total volume, see {@link FixedPointScale#getAmountScale()} */
+  public long getUnscaledTotalVolume() {
+
+    return totalVolume;
+  }
+
+  public long getTimestampMillis() {
+
+    return timestamp;
+  }
+
+  public BigDecimal getLimitPrice() {
+
+    if (priceDecimal == null) {
+      priceDecimal = scale.price(price);
+    }
+    return priceDecimal;
+  }
+
+  public BigDecimal getTotalVolume() {
+
+    if (totalVolumeDecimal == null) {
+      totalVolumeDecimal = scale.amount(totalVolume);
+    }
+    return totalVolumeDecimal;
+  }
+
+  /** @return the equivalent {@link OrderBookUpdate} */
+  public OrderBookUpdate toOrderBookUpdate() {
+
+    return new OrderBookUpdate(
+        type,
+        getTotalVolume(),
+        instrument,
+        getLimitPrice(),
+        timestamp == 0 ? null : new Date(timestamp),
+        getTotalVolume());
+  }
+
+  @Override
+  public String toString() {
+
+    return "FixedPointOrderBookUpdate [type="
+        + type
+        + ", instrument="
+        + instrument
+        + ", price="
+        + FixedPoint.toString(price, scale.getPriceScale())
+        + ", totalVolume="
+        + FixedPoint.toString(totalVolume, scale.getAmountScale())
+        + ", timestamp="
+        + timestamp
+        + "]";
+  }
+}
@@ -0,0 +1,140 @@
+package org.knowm.xchange.dto.marketdata;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.util.Date;
+import org.knowm.xchange.dto.FixedPoint;
+import org.knowm.xchange.dto.FixedPointScale;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * Allocation-light counterpart of {@link Trade} carrying the price and amount as {@link FixedPoint}
+ * values. The {@link BigDecimal} getters are derived lazily on first use.
+ */
+public final class FixedPointTrade implements Serializable {
+
+  private static final long serialVersionUID = 4383395447283367012L;
+
+  private final OrderType type;
+  private final Instrument instrument;
+  private final FixedPointScale scale;
+  private final long price;
+  private final long amount;
+  private final long timestamp;
+  private final String id;
+
+  private transient BigDecimal priceDecimal;
+  private transient BigDecimal amountDecimal;
+
+  /**
+   * @param type The trade type (BID side or ASK side)
+   * @param instrument The instrument
+   * @param scale The scales of {@code price} and {@code amount}
+   * @param price The unscaled price
+   * @param amount The unscaled amount
+   * @param timestamp The timestamp in milliseconds since epoch, 0 if not provided
+   * @param id The id of the trade, null if not provided
+   */
+  public FixedPointTrade(
+      OrderType type,
+      Instrument instrument,
+      FixedPointScale scale,
+      long price,
+      long amount,
+      long timestamp,
+      String id) {
+
+    this.type = type;
+    this.instrument = instrument;
+    this.scale = scale;
+    this.price = price;
+    this.amount = amount;
+    this.timestamp = timestamp;
+    this.id = id;
+  }
+
+  public OrderType getType() {
+
+    return type;
+  }
+
+  public Instrument getInstrument() {
+
+    return instrument;
+  }
+
+  public FixedPointScale getScale() {
+
+    return scale;
+  }
+
+  /** @return the unscaled price, see {@link FixedPointScale#getPriceScale()} */
+  public long getUnscaledPrice() {
+
+    return price;
+  }
+
+  /** @return the unscaled amount, see {@link FixedPointScale#getAmountScale()} */
+  public long getUnscaledAmount() {
+
+    return amount;
+  }
+
+  public long getTimestampMillis() {
+
+    return timestamp;
+  }
+
+  public String getId() {
+
+    return id;
+  }
+
+  public BigDecimal getPrice() {
+
+    if (priceDecimal == null) {
+      priceDecimal = scale.price(price);
+    }
+    return priceDecimal;
+  }
+
+  public BigDecimal getOriginalAmount() {
+
+    if (amountDecimal == null) {
+      amountDecimal = scale.amount(amount);
+    }
+    return amountDecimal;
+  }
+
+  /** @return the equivalent {@link Trade} */
+  public Trade toTrade() {
+
+    return new Trade.Builder()
+        .type(type)
+        .instrument(instrument)
+        .price(getPrice())
+        .originalAmount(getOriginalAmount())
+        .timestamp(timestamp == 0 ? null : new Date(timestamp))
+        .id(id)
+        .build();
+  }
+
+  @Override
+  public String toString() {
+
+    return "FixedPointTrade [type="
+        + type
+        + ", instrument="
+        + instrument
+        + ", price="
+        + FixedPoint.toString(price, scale.getPriceScale())
+        + ", amount="
+        + FixedPoint.toString(amount, scale.getAmountScale())
+        + ", timestamp="
+        + timestamp
+        + ", id="
+        + id
+        + "]";
+  }
+}
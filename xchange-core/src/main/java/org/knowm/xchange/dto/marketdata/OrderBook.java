@@ -101,7 +101,7 @@ public class OrderBook implements Serializable {
   }
 
   // Returns a copy of limitOrder with tradeableAmount replaced.
-  private static LimitOrder withAmount(LimitOrder limitOrder, BigDecimal tradeableAmount) {
+  static LimitOrder withAmount(LimitOrder limitOrder, BigDecimal tradeableAmount) {
 
     OrderType type = limitOrder.getType();
     Instrument instrument = limitOrder.getInstrument();
@@ -187,7 +187,7 @@ public class OrderBook implements Serializable {
 
   // Replace timeStamp if the provided date is non-null and in the future
   // TODO should this raise an exception if the order timestamp is in the past?
-  private void updateDate(Date updateDate) {
+  protected void updateDate(Date updateDate) {
 
     if (updateDate != null && (timeStamp == null || updateDate.after(timeStamp))) {
       this.timeStamp = updateDate;
@@ -0,0 +1,348 @@
+package org.knowm.xchange.dto.marketdata;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * Mutable {@link OrderBook} keeping each side in a price-keyed sorted map instead of a list.
+ *
+ * <p>Upserts and deletes through {@link #update(OrderBookUpdate)} and {@link #update(LimitOrder)}
+ * are O(log n), the best bid/ask is O(1) and {@link #getAsks(int)}/{@link #getBids(int)} only
+ * touch the requested levels. {@link #getAsks()} and {@link #getBids()} return unmodifiable lists
+ * which are materialised lazily and cached until the next update of that side.
+ *
+ * <p>Like {@link OrderBook} this class is not thread safe.
+ */
+public class SortedOrderBook extends OrderBook {
+
+  private static final long serialVersionUID = 2871416226342578418L;
+
+  private final NavigableMap<BigDecimal, LimitOrder> askLevels = new TreeMap<>();
+  private final NavigableMap<BigDecimal, LimitOrder> bidLevels =
+      new TreeMap<>(Collections.reverseOrder());
+
+  private LimitOrder bestAsk;
+  private LimitOrder bestBid;
+
+  private transient List<LimitOrder> askView;
+  private transient List<LimitOrder> bidView;
+  private transient OrderBook readOnlyView;
+
+  /**
+   * Constructor
+   *
+   * @param timeStamp - the timestamp of the orderbook according to the exchange's server, null if
+   *     not provided
+   * @param asks The ASK orders, in any order
+   * @param bids The BID orders, in any order
+   */
+  public SortedOrderBook(Date timeStamp, Collection<LimitOrder> asks, Collection<LimitOrder> bids) {
+
+    super(timeStamp, Collections.emptyList(), Collections.emptyList());
+    asks.forEach(this::putLevel);
+    bids.forEach(this::putLevel);
+  }
+
+  /**
+   * Copy constructor
+   *
+   * @param orderBook the book to copy the levels and timestamp from
+   */
+  public SortedOrderBook(OrderBook orderBook) {
+
+    this(orderBook.getTimeStamp(), orderBook.getAsks(), orderBook.getBids());
+  }
+
+  @Override
+  public List<LimitOrder> getAsks() {
+
+    if (askView == null) {
+      askView = Collections.unmodifiableList(new ArrayList<>(askLevels.values()));
+    }
+    return askView;
+  }
+
+  @Override
+  public List<LimitOrder> getBids() {
+
+    if (bidView == null) {
+      bidView = Collections.unmodifiableList(new ArrayList<>(bidLevels.values()));
+    }
+    return bidView;
+  }
+
+  @Override
+  public List<LimitOrder> getOrders(OrderType type) {
+
+    return type == OrderType.ASK ? getAsks() : getBids();
+  }
+
+  /**
+   * @param depth maximum number of levels to return
+   * @return the best {@code depth} ASK levels, lowest price first
+   */
+  public List<LimitOrder> getAsks(int depth) {
+
+    return topLevels(askLevels, askView, depth);
+  }
+
+  /**
+   * @param depth maximum number of levels to return
+   * @return the best {@code depth} BID levels, highest price first
+   */
+  public List<LimitOrder> getBids(int depth) {
+
+    return topLevels(bidLevels, bidView, depth);
+  }
+
+  /**
+   * @param type the side of the book
+   * @param depth maximum number of levels to return
+   * @return the best {@code depth} levels of the given side
+   */
+  public List<LimitOrder> getOrders(OrderType type, int depth) {
+
+    return type == OrderType.ASK ? getAsks(depth) : getBids(depth);
+  }
+
+  /** @return the lowest ASK level, or null if the side is empty */
+  @JsonIgnore
+  public LimitOrder getBestAsk() {
+
+    return bestAsk;
+  }
+
+  /** @return the highest BID level, or null if the side is empty */
+  @JsonIgnore
+  public LimitOrder getBestBid() {
+
+    return bestBid;
+  }
+
+  /** @return the number of ASK price levels */
+  @JsonIgnore
+  public int getAskDepth() {
+
+    return askLevels.size();
+  }
+
+  /** @return the number of BID price levels */
+  @JsonIgnore
+  public int getBidDepth() {
+
+    return bidLevels.size();
+  }
+
+  @Override
+  public void update(LimitOrder limitOrder) {
+
+    if (limitOrder.getRemainingAmount().compareTo(BigDecimal.ZERO) != 0) {
+      putLevel(limitOrder);
+    } else {
+      removeLevel(limitOrder.getType(), limitOrder.getLimitPrice());
+    }
+    updateDate(limitOrder.getTimestamp());
+  }
+
+  @Override
+  public void update(OrderBookUpdate orderBookUpdate) {
+
+    LimitOrder limitOrder = orderBookUpdate.getLimitOrder();
+    if (orderBookUpdate.getTotalVolume().compareTo(BigDecimal.ZERO) != 0) {
+      putLevel(withAmount(limitOrder, orderBookUpdate.getTotalVolume()));
+    } else {
+      removeLevel(limitOrder.getType(), limitOrder.getLimitPrice());
+    }
+    updateDate(limitOrder.getTimestamp());
+  }
+
+  /**
+   * Removes the levels beyond the best {@code depth} of each side, for exchanges which don't send
+   * deletes for levels pushed out of the subscribed depth. The timestamp is left untouched.
+   *
+   * @param depth number of levels to keep per side
+   */
+  public void truncate(int depth) {
+
+    int keep = Math.max(depth, 0);
+    if (askLevels.size() > keep) {
+      truncate(askLevels, keep);
+      askView = null;
+      bestAsk = firstValue(askLevels);
+    }
+    if (bidLevels.size() > keep) {
+      truncate(bidLevels, keep);
+      bidView = null;
+      bestBid = firstValue(bidLevels);
+    }
+  }
+
+  /**
+   * A read-only view of this book which follows its later updates. Its lists are the ones of {@link
+   * #getAsks()} and {@link #getBids()}, so a side is only copied when it is read after a change.
+   * Updating the view throws {@link UnsupportedOperationException}.
+   *
+   * @return the view, the same one on every call
+   */
+  public OrderBook readOnlyView() {
+
+    if (readOnlyView == null) {
+      readOnlyView = new ReadOnlyView(this);
+    }
+    return readOnlyView;
+  }
+
+  /** Removes every level of both sides. The timestamp is left untouched. */
+  public void clear() {
+
+    askLevels.clear();
+    bidLevels.clear();
+    bestAsk = null;
+    bestBid = null;
+    askView = null;
+    bidView = null;
+  }
+
+  private void putLevel(LimitOrder limitOrder) {
+
+    BigDecimal price = limitOrder.getLimitPrice();
+    if (limitOrder.getType() == OrderType.ASK) {
+      askLevels.put(price, limitOrder);
+      askView = null;
+      if (bestAsk == null || price.compareTo(bestAsk.getLimitPrice()) <= 0) {
+        bestAsk = limitOrder;
+      }
+    } else {
+      bidLevels.put(price, limitOrder);
+      bidView = null;
+      if (bestBid == null || price.compareTo(bestBid.getLimitPrice()) >= 0) {
+        bestBid = limitOrder;
+      }
+    }
+  }
+
+  private void removeLevel(OrderType type, BigDecimal price) {
+
+    if (type == OrderType.ASK) {
+      if (askLevels.remove(price) != null) {
+        askView = null;
+        if (price.compareTo(bestAsk.getLimitPrice()) == 0) {
+          bestAsk = firstValue(askLevels);
+        }
+      }
+    } else {
+      if (bidLevels.remove(price) != null) {
+        bidView = null;
+        if (price.compareTo(bestBid.getLimitPrice()) == 0) {
+          bestBid = firstValue(bidLevels);
+        }
+      }
+    }
+  }
+
+  private static void truncate(NavigableMap<BigDecimal, LimitOrder> levels, int depth) {
+
+    while (levels.size() > depth) {
+      levels.pollLastEntry();
+    }
+  }
+
+  private static LimitOrder firstValue(NavigableMap<BigDecimal, LimitOrder> levels) {
+
+    Map.Entry<BigDecimal, LimitOrder> first = levels.firstEntry();
+    return first == null ? null : first.getValue();
+  }
+
+  private static List<LimitOrder> topLevels(
+      NavigableMap<BigDecimal, LimitOrder> levels, List<LimitOrder> view, int depth) {
+
+    int size = Math.min(Math.max(depth, 0), levels.size());
+    if (view != null) {
+      return view.subList(0, size);
+    }
+    List<LimitOrder> result = new ArrayList<>(size);
+    Iterator<LimitOrder> it = levels.values().iterator();
+    while (result.size() < size) {
+      result.add(it.next());
+    }
+    return Collections.unmodifiableList(result);
+  }
+
+  @Override
+  public String toString() {
+
+    return "SortedOrderBook [timestamp: "
+        + getTimeStamp()
+        + ", asks="
+        + askLevels.values()
+        + ", bids="
+        + bidLevels.values()
+        + "]";
+  }
+
+  private static final class ReadOnlyView extends OrderBook {
+
+    private static final long serialVersionUID = -3511683725307187311L;
+
+    private final SortedOrderBook orderBook;
+
+    private ReadOnlyView(SortedOrderBook orderBook) {
+
+      super(null, Collections.emptyList(), Collections.emptyList());
+      this.orderBook = orderBook;
+    }
+
+    @Override
+    public Date getTimeStamp() {
+
+      return orderBook.getTimeStamp();
+    }
+
+    @Override
+    public List<LimitOrder> getAsks() {
+
+      return orderBook.getAsks();
+    }
+
+    @Override
+    public List<LimitOrder> getBids() {
+
+      return orderBook.getBids();
+    }
+
+    @Override
+    public List<LimitOrder> getOrders(OrderType type) {
+
+      return orderBook.getOrders(type);
+    }
+
+    @Override
+    public void update(LimitOrder limitOrder) {
+
+      throw new UnsupportedOperationException("Read-only view of an order book");
+    }
+
+    @Override
+    public void update(OrderBookUpdate orderBookUpdate) {
+
+      throw new UnsupportedOperationException("Read-only view of an order book");
+    }
+
+    @Override
+    public String toString() {
+
+      return orderBook.toString();
+    }
+  }
+}
@@ -2,6 +2,8 @@ package org.knowm.xchange.service;
 
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import io.github.resilience4j.retry.Retry;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.client.ResilienceUtils;
@@ -34,6 +36,20 @@ public abstract class BaseResilientExchangeService<E extends Exchange>
         exchange.getExchangeSpecification().getResilience(), callable);
   }
 
+  /**
+   * Use this method to decorate non-blocking API calls with resiliency features like retries, rate
+   * limiters, etc. The decorators delay the call instead of blocking the calling thread.
+   *
+   * @param call starts the call to the exchange API, e.g. on an asynchronous rescu proxy
+   * @param <R> type returned by the API call
+   * @return builder of a decorated API call
+   */
+  public <R> ResilienceUtils.DecorateAsyncApi<R> decorateAsyncApiCall(
+      Supplier<CompletionStage<R>> call) {
+    return ResilienceUtils.decorateAsyncApiCall(
+        exchange.getExchangeSpecification().getResilience(), call);
+  }
+
   /**
    * Returns a managed {@link Retry} or creates a new one with the default Retry configuration from
    * {@link ResilienceRegistries#DEFAULT_RETRY_CONFIG}.
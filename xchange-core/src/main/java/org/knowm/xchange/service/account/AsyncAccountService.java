@@ -0,0 +1,22 @@
+package org.knowm.xchange.service.account;
+
+import java.util.concurrent.CompletableFuture;
+import org.knowm.xchange.dto.account.AccountInfo;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+
+/**
+ * Asynchronous variants of the {@link AccountService} methods, implemented by the account services
+ * of the exchanges which support them. The futures complete on a thread of the HTTP transport, see
+ * {@link org.knowm.xchange.client.HttpTransport}, keep the callbacks short or continue on an
+ * executor of your own.
+ *
+ * <p>The calls only spare a thread per request if the transport is non-blocking, see {@link
+ * org.knowm.xchange.ExchangeSpecification#setHttpTransport}.
+ */
+public interface AsyncAccountService {
+
+  /** @see AccountService#getAccountInfo() */
+  default CompletableFuture<AccountInfo> getAccountInfoAsync() {
+    throw new NotYetImplementedForExchangeException("getAccountInfoAsync");
+  }
+}
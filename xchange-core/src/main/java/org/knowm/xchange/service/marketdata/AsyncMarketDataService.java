@@ -0,0 +1,38 @@
+package org.knowm.xchange.service.marketdata;
+
+import java.util.concurrent.CompletableFuture;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.Ticker;
+import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * Asynchronous variants of the {@link MarketDataService} methods, implemented by the market data
+ * services of the exchanges which support them. The futures complete on a thread of the HTTP
+ * transport, see {@link org.knowm.xchange.client.HttpTransport}, keep the callbacks short or
+ * continue on an executor of your own.
+ *
+ * <p>The calls only spare a thread per request if the transport is non-blocking, see {@link
+ * org.knowm.xchange.ExchangeSpecification#setHttpTransport}.
+ *
+ * <p>The futures fail with the exceptions the blocking methods throw, e.g. {@link
+ * org.knowm.xchange.exceptions.ExchangeException} or {@link java.io.IOException}.
+ */
+public interface AsyncMarketDataService {
+
+  /** @see MarketDataService#getTicker(Instrument, Object...) */
+  default CompletableFuture<Ticker> getTickerAsync(Instrument instrument, Object... args) {
+    throw new NotYetImplementedForExchangeException("getTickerAsync");
+  }
+
+  /** @see MarketDataService#getOrderBook(Instrument, Object...) */
+  default CompletableFuture<OrderBook> getOrderBookAsync(Instrument instrument, Object... args) {
+    throw new NotYetImplementedForExchangeException("getOrderBookAsync");
+  }
+
+  /** @see MarketDataService#getTrades(Instrument, Object...) */
+  default CompletableFuture<Trades> getTradesAsync(Instrument instrument, Object... args) {
+    throw new NotYetImplementedForExchangeException("getTradesAsync");
+  }
+}
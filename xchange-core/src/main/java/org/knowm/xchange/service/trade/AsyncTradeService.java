@@ -0,0 +1,44 @@
+package org.knowm.xchange.service.trade;
+
+import java.util.concurrent.CompletableFuture;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.dto.trade.MarketOrder;
+import org.knowm.xchange.dto.trade.OpenOrders;
+import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
+import org.knowm.xchange.service.trade.params.CancelOrderParams;
+import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
+
+/**
+ * Asynchronous variants of the {@link TradeService} methods, implemented by the trade services of
+ * the exchanges which support them. The futures complete on a thread of the HTTP transport, see
+ * {@link org.knowm.xchange.client.HttpTransport}, keep the callbacks short or continue on an
+ * executor of your own.
+ *
+ * <p>The calls only spare a thread per request if the transport is non-blocking, see {@link
+ * org.knowm.xchange.ExchangeSpecification#setHttpTransport}.
+ *
+ * <p>The futures fail with the exceptions the blocking methods throw, e.g. {@link
+ * org.knowm.xchange.exceptions.FundsExceededException} or {@link java.io.IOException}.
+ */
+public interface AsyncTradeService {
+
+  /** @see TradeService#placeMarketOrder(MarketOrder) */
+  default CompletableFuture<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+    throw new NotYetImplementedForExchangeException("placeMarketOrderAsync");
+  }
+
+  /** @see TradeService#placeLimitOrder(LimitOrder) */
+  default CompletableFuture<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+    throw new NotYetImplementedForExchangeException("placeLimitOrderAsync");
+  }
+
+  /** @see TradeService#cancelOrder(CancelOrderParams) */
+  default CompletableFuture<Boolean> cancelOrderAsync(CancelOrderParams orderParams) {
+    throw new NotYetImplementedForExchangeException("cancelOrderAsync");
+  }
+
+  /** @see TradeService#getOpenOrders(OpenOrdersParams) */
+  default CompletableFuture<OpenOrders> getOpenOrdersAsync(OpenOrdersParams params) {
+    throw new NotYetImplementedForExchangeException("getOpenOrdersAsync");
+  }
+}
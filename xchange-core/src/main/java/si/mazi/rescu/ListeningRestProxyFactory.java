@@ -0,0 +1,87 @@
+package si.mazi.rescu;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.net.HttpURLConnection;
+import java.util.Collections;
+import org.knowm.xchange.client.HttpTransport;
+
+/**
+ * Creates the proxies of rescu, passing the responses they receive to a listener, e.g. for the
+ * rate limit headers of an exchange. Unlike an {@link Interceptor} the listener sees the status
+ * and headers of every response, not only of the results implementing {@link HttpResponseAware}.
+ *
+ * <p>The requests passed to the listener carry their method and URL only. The class is part of
+ * rescu's package as the constructor of {@link RestInvocationHandler} is package-private.
+ *
+ * @see org.knowm.xchange.client.ExchangeRestProxyBuilder#responseListener
+ */
+public class ListeningRestProxyFactory implements IRestProxyFactory {
+
+  private final HttpTransport.ResponseListener listener;
+
+  public ListeningRestProxyFactory(HttpTransport.ResponseListener listener) {
+    this.listener = listener;
+  }
+
+  @Override
+  public <I> I createProxy(
+      Class<I> restInterface, String baseUrl, ClientConfig config, Interceptor... interceptors) {
+    InvocationHandler handler =
+        new ListeningInvocationHandler(restInterface, baseUrl, config, listener);
+    return RestProxyFactory.createProxy(restInterface, handler, interceptors);
+  }
+
+  @Override
+  public <I> I createProxy(Class<I> restInterface, String baseUrl) {
+    return createProxy(restInterface, baseUrl, null);
+  }
+
+  private static final class ListeningInvocationHandler extends RestInvocationHandler {
+
+    private final HttpTransport.ResponseListener listener;
+
+    /** Connection of the response being mapped, rescu receives and maps it on the same thread. */
+    private final ThreadLocal<HttpURLConnection> connection = new ThreadLocal<>();
+
+    ListeningInvocationHandler(
+        Class<?> restInterface,
+        String baseUrl,
+        ClientConfig config,
+        HttpTransport.ResponseListener listener) {
+      super(restInterface, baseUrl, config);
+      this.listener = listener;
+    }
+
+    @Override
+    protected Object receiveAndMap(RestMethodMetadata methodMetadata, HttpURLConnection connection)
+        throws IOException {
+      this.connection.set(connection);
+      try {
+        return super.receiveAndMap(methodMetadata, connection);
+      } finally {
+        this.connection.remove();
+      }
+    }
+
+    @Override
+    protected Object mapInvocationResult(
+        InvocationResult invocationResult, RestMethodMetadata methodMetadata) throws IOException {
+      HttpURLConnection received = connection.get();
+      if (received != null) {
+        listener.onResponse(
+            new HttpTransport.Request(
+                methodMetadata.getHttpMethod().name(),
+                received.getURL().toString(),
+                Collections.emptyMap(),
+                null,
+                null),
+            new HttpTransport.Response(
+                invocationResult.getStatusCode(),
+                received.getHeaderFields(),
+                invocationResult.getHttpBody()));
+      }
+      return super.mapInvocationResult(invocationResult, methodMetadata);
+    }
+  }
+}
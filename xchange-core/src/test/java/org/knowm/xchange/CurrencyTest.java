@@ -5,6 +5,12 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotEquals;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.apache.commons.lang3.SerializationUtils;
 import org.junit.Test;
 import org.knowm.xchange.currency.Currency;
@@ -32,6 +38,32 @@ public class CurrencyTest {
     assertEquals(new Currency("cny"), Currency.getInstanceNoCreate("CNY"));
   }
 
+  @Test
+  public void testPreload() {
+    Currency.preload(Arrays.asList("PRELOADED", "btc"));
+
+    assertThat(Currency.getInstanceNoCreate("preloaded")).isNotNull();
+    assertThat(Currency.getInstance("PRELOADED"))
+        .isSameAs(Currency.getInstanceNoCreate("PRELOADED"));
+    assertThat(Currency.getInstance("BTC")).isSameAs(Currency.BTC);
+  }
+
+  @Test
+  public void testConcurrentGetInstance() throws Exception {
+    ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      List<Future<Currency>> currencies = new ArrayList<>();
+      for (int i = 0; i < 16; i++) {
+        currencies.add(executor.submit(() -> Currency.getInstance("CONCURRENT")));
+      }
+      for (Future<Currency> currency : currencies) {
+        assertThat(currency.get()).isSameAs(Currency.getInstance("CONCURRENT"));
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   @Test
   public void testEquals() {
     assertEquals(Currency.BTC, Currency.XBT);
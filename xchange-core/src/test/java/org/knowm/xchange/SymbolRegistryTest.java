@@ -0,0 +1,62 @@
+package org.knowm.xchange;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolRegistry;
+
+public class SymbolRegistryTest {
+
+  private final AtomicInteger formatted = new AtomicInteger();
+  private final AtomicInteger parsed = new AtomicInteger();
+
+  private final SymbolRegistry<CurrencyPair> registry =
+      new SymbolRegistry<>(
+          pair -> {
+            formatted.incrementAndGet();
+            return (pair.base.getCurrencyCode() + pair.counter.getCurrencyCode()).toLowerCase();
+          },
+          symbol -> {
+            parsed.incrementAndGet();
+            return new CurrencyPair(symbol.substring(0, 3), symbol.substring(3));
+          });
+
+  @Test
+  public void testFormatsOnce() {
+
+    assertThat(registry.toSymbol(CurrencyPair.BTC_USDT)).isEqualTo("btcusdt");
+    assertThat(registry.toSymbol(new CurrencyPair("BTC/USDT")))
+        .isSameAs(registry.toSymbol(CurrencyPair.BTC_USDT));
+    assertThat(formatted.get()).isEqualTo(1);
+
+    assertThat(registry.toInstrument("btcusdt")).isSameAs(CurrencyPair.BTC_USDT);
+    assertThat(parsed.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void testParsesOnceAndInterns() {
+
+    CurrencyPair pair = registry.toInstrument("ethbtc");
+
+    assertThat(pair).isEqualTo(CurrencyPair.ETH_BTC);
+    assertThat(registry.toInstrument("ethbtc")).isSameAs(pair);
+    assertThat(registry.toSymbol(CurrencyPair.ETH_BTC)).isEqualTo("ethbtc");
+    assertThat(parsed.get()).isEqualTo(1);
+    assertThat(formatted.get()).isEqualTo(0);
+  }
+
+  @Test
+  public void testRegisteredSymbol() {
+
+    registry.register(CurrencyPair.BTC_USD, "XBT/USD");
+
+    assertThat(registry.toSymbol(new CurrencyPair(Currency.XBT, Currency.USD)))
+        .isEqualTo("XBT/USD");
+    assertThat(registry.toInstrument("XBT/USD")).isSameAs(CurrencyPair.BTC_USD);
+    assertThat(formatted.get()).isEqualTo(0);
+    assertThat(parsed.get()).isEqualTo(0);
+  }
+}
@@ -0,0 +1,135 @@
+package org.knowm.xchange.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class AdaptiveRateLimiterTest {
+
+  private static final long MINUTE = TimeUnit.MINUTES.toMillis(1);
+
+  private final AtomicLong now = new AtomicLong(10 * MINUTE + 30_000);
+
+  private final AdaptiveRateLimiter rateLimiter =
+      new AdaptiveRateLimiter(
+          "weight",
+          RateLimiterConfig.custom()
+              .limitRefreshPeriod(Duration.ofMinutes(1))
+              .limitForPeriod(100)
+              .timeoutDuration(Duration.ofMinutes(2))
+              .build(),
+          20,
+          now::get);
+
+  @Test
+  public void testQueuesCallsUntilTheNextFullPeriod() {
+    assertThat(rateLimiter.reservePermission(50)).isZero();
+    assertThat(rateLimiter.reservePermission(30)).isZero();
+
+    assertThat(rateLimiter.reservePermission(10)).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+    assertThat(rateLimiter.getMetrics().getAvailablePermissions()).isZero();
+  }
+
+  @Test
+  public void testGrantsPermitsInOrderOfRequests() {
+    rateLimiter.reservePermission(70);
+
+    // doesn't fit in this period
+    assertThat(rateLimiter.reservePermission(20)).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+    // would fit, but must not overtake the call before
+    assertThat(rateLimiter.reservePermission(5)).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+  }
+
+  @Test
+  public void testCancelsUseReservedPermits() {
+    rateLimiter.reservePermission(80);
+    rateLimiter.reservePermission(60);
+
+    RateLimiter cancels = AdaptiveRateLimiter.forPriority(rateLimiter, CallPriority.CANCEL);
+    assertThat(cancels.getMetrics().getAvailablePermissions()).isEqualTo(20);
+    assertThat(cancels.reservePermission(15)).isZero();
+    assertThat(cancels.reservePermission(10)).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+  }
+
+  @Test
+  public void testLowerLanesLeaveHeadroomToHigherOnes() {
+    rateLimiter.reservePermission(80);
+
+    RateLimiter account = rateLimiter.forPriority(CallPriority.ACCOUNT);
+    RateLimiter place = rateLimiter.forPriority(CallPriority.PLACE);
+    RateLimiter cancel = rateLimiter.forPriority(CallPriority.CANCEL);
+    assertThat(account.getMetrics().getAvailablePermissions()).isEqualTo(10);
+    assertThat(place.getMetrics().getAvailablePermissions()).isEqualTo(15);
+
+    assertThat(account.reservePermission(10)).isZero();
+    assertThat(account.reservePermission(1)).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+    assertThat(place.reservePermission(5)).isZero();
+    assertThat(place.reservePermission(1)).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+    assertThat(cancel.reservePermission(5)).isZero();
+  }
+
+  @Test
+  public void testHigherLanesDontWaitForQueueOfLowerOnes() {
+    rateLimiter.reservePermission(70);
+    assertThat(rateLimiter.reservePermission(20)).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+
+    assertThat(rateLimiter.forPriority(CallPriority.PLACE).reservePermission(5)).isZero();
+    assertThat(rateLimiter.reservePermission(5)).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+  }
+
+  @Test
+  public void testRejectsCallsBeyondTimeout() {
+    rateLimiter.changeTimeoutDuration(Duration.ofSeconds(10));
+    rateLimiter.reservePermission(80);
+
+    assertThat(rateLimiter.reservePermission(1)).isNegative();
+    assertThat(rateLimiter.acquirePermission(1)).isFalse();
+    assertThat(rateLimiter.reservePermission(81)).isNegative();
+  }
+
+  @Test
+  public void testRaisesUsageReportedByServer() {
+    rateLimiter.reservePermission(10);
+
+    rateLimiter.reportUsage(50);
+    assertThat(rateLimiter.getMetrics().getAvailablePermissions()).isEqualTo(30);
+
+    rateLimiter.reportUsage(20);
+    assertThat(rateLimiter.getMetrics().getAvailablePermissions()).isEqualTo(30);
+
+    now.addAndGet(MINUTE);
+    assertThat(rateLimiter.getMetrics().getAvailablePermissions()).isEqualTo(80);
+  }
+
+  @Test
+  public void testReadsUsageAndRetryAfterHeaders() {
+    HttpTransport.ResponseListener listener = rateLimiter.usageHeaderListener("X-USED-WEIGHT");
+
+    listener.onResponse(null, response(200, "x-used-weight", "70"));
+    assertThat(rateLimiter.getMetrics().getAvailablePermissions()).isEqualTo(10);
+
+    listener.onResponse(null, response(429, "Retry-After", "90"));
+    assertThat(rateLimiter.reservePermission(1)).isEqualTo(TimeUnit.SECONDS.toNanos(90));
+  }
+
+  @Test
+  public void testPausesUntilNextPeriodWithoutRetryAfter() {
+    rateLimiter.usageHeaderListener("X-USED-WEIGHT").onResponse(null, response(418, "Other", "1"));
+
+    assertThat(rateLimiter.reservePermission(1)).isEqualTo(TimeUnit.SECONDS.toNanos(30));
+  }
+
+  private static HttpTransport.Response response(int statusCode, String header, String value) {
+    Map<String, List<String>> headers =
+        Collections.singletonMap(header, Collections.singletonList(value));
+    return new HttpTransport.Response(statusCode, headers, "");
+  }
+}
@@ -0,0 +1,127 @@
+package org.knowm.xchange.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.retry.Retry;
+import io.github.resilience4j.retry.RetryConfig;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+import org.knowm.xchange.ExchangeSpecification.ResilienceSpecification;
+
+public class ResilienceUtilsTest {
+
+  private final ResilienceSpecification resilience = new ResilienceSpecification();
+
+  public ResilienceUtilsTest() {
+    resilience.setRetryEnabled(true);
+    resilience.setRateLimiterEnabled(true);
+  }
+
+  @Test
+  public void testRetriesFailedAsyncCalls() throws Exception {
+    AtomicInteger calls = new AtomicInteger();
+    Retry retry =
+        Retry.of(
+            "test",
+            RetryConfig.custom()
+                .maxAttempts(3)
+                .waitDuration(Duration.ofMillis(1))
+                .retryExceptions(IOException.class)
+                .build());
+
+    CompletableFuture<String> result =
+        ResilienceUtils.decorateAsyncApiCall(
+                resilience,
+                () -> {
+                  CompletableFuture<String> call = new CompletableFuture<>();
+                  if (calls.incrementAndGet() < 3) {
+                    call.completeExceptionally(new IOException("reset"));
+                  } else {
+                    call.complete("ok");
+                  }
+                  return call;
+                })
+            .withRetry(retry)
+            .call();
+
+    assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("ok");
+    assertThat(calls).hasValue(3);
+  }
+
+  @Test
+  public void testDelaysAsyncCallsBeyondRateLimit() throws Exception {
+    RateLimiter rateLimiter =
+        RateLimiter.of(
+            "test",
+            RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofMillis(200))
+                .timeoutDuration(Duration.ofSeconds(1))
+                .build());
+    AtomicInteger calls = new AtomicInteger();
+
+    CompletableFuture<Integer> first = rateLimited(rateLimiter, calls);
+    CompletableFuture<Integer> second = rateLimited(rateLimiter, calls);
+
+    assertThat(first).isCompletedWithValue(1);
+    assertThat(second).isNotDone();
+    assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo(2);
+  }
+
+  @Test(expected = ExecutionException.class)
+  public void testFailsAsyncCallsBeyondRateLimiterTimeout() throws Exception {
+    RateLimiter rateLimiter =
+        RateLimiter.of(
+            "test",
+            RateLimiterConfig.custom()
+                .limitForPeriod(1)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+    AtomicInteger calls = new AtomicInteger();
+
+    rateLimited(rateLimiter, calls);
+    rateLimited(rateLimiter, calls).get(1, TimeUnit.SECONDS);
+  }
+
+  @Test
+  public void testQueuesCallsInLaneOfTheirPriority() throws Exception {
+    AdaptiveRateLimiter rateLimiter =
+        new AdaptiveRateLimiter(
+            "test",
+            RateLimiterConfig.custom()
+                .limitForPeriod(10)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build(),
+            4);
+    rateLimiter.reservePermission(6);
+
+    assertThat(
+            ResilienceUtils.decorateApiCall(resilience, () -> "cancelled")
+                .withPriority(CallPriority.CANCEL)
+                .withRateLimiter(rateLimiter, 4)
+                .call())
+        .isEqualTo("cancelled");
+    assertThat(
+            ResilienceUtils.decorateAsyncApiCall(
+                    resilience, () -> CompletableFuture.completedFuture("ticker"))
+                .withRateLimiter(rateLimiter)
+                .call())
+        .isCompletedExceptionally();
+  }
+
+  private CompletableFuture<Integer> rateLimited(RateLimiter rateLimiter, AtomicInteger calls) {
+    return ResilienceUtils.decorateAsyncApiCall(
+            resilience, () -> CompletableFuture.completedFuture(calls.incrementAndGet()))
+        .withRateLimiter(rateLimiter)
+        .call();
+  }
+}
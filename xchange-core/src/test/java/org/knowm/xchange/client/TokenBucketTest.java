@@ -0,0 +1,89 @@
+package org.knowm.xchange.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Test;
+
+public class TokenBucketTest {
+
+  private static final long MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final AtomicLong now = new AtomicLong(1_000 * MILLI);
+
+  private final TokenBucket bucket = new TokenBucket(2, Duration.ofMillis(200), now::get);
+
+  @Test
+  public void testRefillsEachTokenAfterItsPeriod() {
+    assertThat(bucket.reserve(Duration.ofSeconds(1))).isZero();
+    now.addAndGet(50 * MILLI);
+    assertThat(bucket.reserve(Duration.ofSeconds(1))).isZero();
+
+    assertThat(bucket.reserve(Duration.ofSeconds(1))).isEqualTo(150 * MILLI);
+    assertThat(bucket.reserve(Duration.ofSeconds(1))).isEqualTo(200 * MILLI);
+    assertThat(bucket.reserve(Duration.ofSeconds(1))).isEqualTo(350 * MILLI);
+  }
+
+  @Test
+  public void testTakesNoTokenBeyondMaxWait() throws InterruptedException {
+    bucket.reserve(Duration.ZERO);
+    bucket.reserve(Duration.ZERO);
+
+    assertThat(bucket.reserve(Duration.ofMillis(100))).isNegative();
+    assertThat(bucket.acquire(Duration.ofMillis(100))).isFalse();
+    assertThat(bucket.reserve(Duration.ofMillis(200))).isEqualTo(200 * MILLI);
+  }
+
+  @Test
+  public void testPutsTokenBackWhenInterrupted() {
+    bucket.reserve(Duration.ZERO);
+    bucket.reserve(Duration.ZERO);
+
+    Thread.currentThread().interrupt();
+    assertThatThrownBy(() -> bucket.acquire(Duration.ofSeconds(1)))
+        .isInstanceOf(InterruptedException.class);
+    assertThat(bucket.reserve(Duration.ofSeconds(1))).isEqualTo(200 * MILLI);
+  }
+
+  @Test
+  public void testFailsAsyncCallsBeyondMaxWait() {
+    bucket.reserve(Duration.ZERO);
+    bucket.reserve(Duration.ZERO);
+
+    CompletableFuture<String> result =
+        bucket.executeAsync(
+            () -> CompletableFuture.completedFuture("placed"),
+            Duration.ofMillis(100),
+            () -> new IOException("timeout"));
+
+    assertThat(result).isCompletedExceptionally();
+  }
+
+  @Test
+  public void testDelaysAsyncCallsUntilTokenIsAvailable() throws Exception {
+    TokenBucket realTime = new TokenBucket(1, Duration.ofMillis(100));
+    AtomicLong started = new AtomicLong();
+
+    realTime.executeAsync(
+        () -> CompletableFuture.completedFuture("first"),
+        Duration.ofSeconds(1),
+        IllegalStateException::new);
+    long t0 = System.nanoTime();
+    CompletableFuture<String> second =
+        realTime.executeAsync(
+            () -> {
+              started.set(System.nanoTime());
+              return CompletableFuture.completedFuture("second");
+            },
+            Duration.ofSeconds(1),
+            IllegalStateException::new);
+
+    assertThat(second.get(1, TimeUnit.SECONDS)).isEqualTo("second");
+    assertThat(started.get() - t0).isGreaterThanOrEqualTo(90 * MILLI);
+  }
+}
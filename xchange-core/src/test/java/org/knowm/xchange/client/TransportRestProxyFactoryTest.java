@@ -0,0 +1,237 @@
+package org.knowm.xchange.client;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import org.junit.Test;
+import si.mazi.rescu.ClientConfig;
+import si.mazi.rescu.HttpStatusIOException;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+public class TransportRestProxyFactoryTest {
+
+  @Path("api")
+  @Produces(MediaType.APPLICATION_JSON)
+  public interface TestApi {
+
+    @GET
+    @Path("ticker/{symbol}")
+    Map<String, Object> getTicker(
+        @PathParam("symbol") String symbol,
+        @QueryParam("limit") int limit,
+        @HeaderParam("X-KEY") String apiKey)
+        throws IOException;
+
+    @GET
+    @Path("ticker/{symbol}")
+    CompletableFuture<Map<String, Object>> getTickerAsync(
+        @PathParam("symbol") String symbol,
+        @QueryParam("limit") int limit,
+        @HeaderParam("X-KEY") String apiKey);
+
+    @POST
+    @Path("order")
+    @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+    Map<String, Object> placeOrder(@FormParam("price") String price) throws IOException;
+
+    @POST
+    @Path("order")
+    @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+    Map<String, Object> placeOrder(
+        @FormParam("price") String price, @FormParam("nonce") SynchronizedValueFactory<Long> nonce)
+        throws IOException;
+  }
+
+  private final List<HttpTransport.Request> requests = new ArrayList<>();
+
+  private HttpTransport respond(int statusCode, String body) {
+    return request -> {
+      requests.add(request);
+      return CompletableFuture.completedFuture(
+          new HttpTransport.Response(statusCode, Collections.emptyMap(), body));
+    };
+  }
+
+  @Test
+  public void testBuildsRequestsFromAnnotations() throws IOException {
+    TestApi api =
+        new TransportRestProxyFactory(respond(200, "{\"last\":1.5}"))
+            .createProxy(TestApi.class, "https://example.com", new ClientConfig());
+
+    assertThat(api.getTicker("BTCUSD", 5, "key")).containsEntry("last", 1.5);
+    api.placeOrder("10");
+
+    HttpTransport.Request get = requests.get(0);
+    assertThat(get.getMethod()).isEqualTo("GET");
+    assertThat(get.getUrl()).isEqualTo("https://example.com/api/ticker/BTCUSD?limit=5");
+    assertThat(get.getHeaders()).containsEntry("X-KEY", "key");
+    assertThat(get.hasBody()).isFalse();
+
+    HttpTransport.Request post = requests.get(1);
+    assertThat(post.getMethod()).isEqualTo("POST");
+    assertThat(post.getUrl()).isEqualTo("https://example.com/api/order");
+    assertThat(post.getBody()).isEqualTo("price=10");
+  }
+
+  @Test
+  public void testOrdersRequestsWithNonces() throws IOException {
+    TestApi api =
+        new TransportRestProxyFactory(respond(200, "{}"))
+            .createProxy(TestApi.class, "https://example.com", new ClientConfig());
+
+    api.placeOrder("10");
+    api.placeOrder("10", () -> 42L);
+
+    assertThat(requests.get(0).isOrdered()).isFalse();
+    assertThat(requests.get(1).isOrdered()).isTrue();
+    assertThat(requests.get(1).getBody()).isEqualTo("price=10&nonce=42");
+  }
+
+  @Test
+  public void testSendsOneOrderedRequestOfAHostAtATime() {
+    List<Runnable> started = new ArrayList<>();
+    UrlConnectionHttpTransport transport =
+        new UrlConnectionHttpTransport(8, new ManualExecutorService(started));
+    HttpTransport.Request ordered =
+        new HttpTransport.Request(
+            "POST", "http://localhost:1/order", Collections.emptyMap(), "", null, true);
+    HttpTransport.Request unordered =
+        new HttpTransport.Request(
+            "GET", "http://localhost:1/ticker", Collections.emptyMap(), "", null);
+
+    CompletableFuture<HttpTransport.Response> first = transport.send(ordered);
+    CompletableFuture<HttpTransport.Response> second = transport.send(ordered);
+    transport.send(unordered);
+
+    assertThat(started).hasSize(2);
+    assertThat(transport.getQueued("http://localhost:1")).isEqualTo(1);
+
+    started.get(0).run();
+    assertThat(first).isDone();
+    assertThat(started).hasSize(3);
+
+    started.get(2).run();
+    assertThat(second).isDone();
+    assertThat(transport.getQueued("http://localhost:1")).isZero();
+  }
+
+  @Test
+  public void testThrowsHttpStatusOfErrors() {
+    TestApi api =
+        new TransportRestProxyFactory(respond(418, "banned"))
+            .createProxy(TestApi.class, "https://example.com", new ClientConfig());
+
+    assertThatThrownBy(() -> api.getTicker("BTCUSD", 5, "key"))
+        .isInstanceOf(HttpStatusIOException.class)
+        .hasMessageContaining("418");
+  }
+
+  @Test
+  public void testReturnsFuturesOfAsyncMethods() throws Exception {
+    CompletableFuture<HttpTransport.Response> response = new CompletableFuture<>();
+    TestApi api =
+        new TransportRestProxyFactory(
+                request -> {
+                  requests.add(request);
+                  return response;
+                })
+            .createProxy(TestApi.class, "https://example.com", new ClientConfig());
+
+    CompletableFuture<Map<String, Object>> ticker = api.getTickerAsync("BTCUSD", 5, "key");
+    assertThat(requests).hasSize(1);
+    assertThat(ticker).isNotDone();
+
+    response.complete(new HttpTransport.Response(200, Collections.emptyMap(), "{\"last\":3}"));
+    assertThat(ticker.get()).containsEntry("last", 3);
+  }
+
+  @Test
+  public void testSendsThroughUrlConnections() throws IOException {
+    HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/api/ticker/ETHUSD",
+        exchange -> {
+          byte[] body = "{\"last\":2}".getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", MediaType.APPLICATION_JSON);
+          exchange.sendResponseHeaders(200, body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.start();
+    UrlConnectionHttpTransport transport = new UrlConnectionHttpTransport(2);
+    try {
+      TestApi api =
+          new TransportRestProxyFactory(transport)
+              .createProxy(
+                  TestApi.class,
+                  "http://localhost:" + server.getAddress().getPort(),
+                  new ClientConfig());
+
+      assertThat(api.getTicker("ETHUSD", 1, "key")).containsEntry("last", 2);
+    } finally {
+      transport.shutdown();
+      server.stop(0);
+    }
+  }
+
+  /** Runs the tasks when the test does. */
+  private static final class ManualExecutorService extends AbstractExecutorService {
+
+    private final List<Runnable> tasks;
+
+    ManualExecutorService(List<Runnable> tasks) {
+      this.tasks = tasks;
+    }
+
+    @Override
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    @Override
+    public void shutdown() {}
+
+    @Override
+    public List<Runnable> shutdownNow() {
+      return tasks;
+    }
+
+    @Override
+    public boolean isShutdown() {
+      return false;
+    }
+
+    @Override
+    public boolean isTerminated() {
+      return false;
+    }
+
+    @Override
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return false;
+    }
+  }
+}
@@ -0,0 +1,71 @@
+package org.knowm.xchange.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import org.junit.Test;
+import org.knowm.xchange.dto.meta.CurrencyPairMetaData;
+
+public class FixedPointTest {
+
+  @Test
+  public void testParse() {
+
+    assertThat(FixedPoint.parse("5541.20000", 2)).isEqualTo(554120L);
+    assertThat(FixedPoint.parse("0.15850568", 8)).isEqualTo(15850568L);
+    assertThat(FixedPoint.parse("-1.5", 3)).isEqualTo(-1500L);
+    assertThat(FixedPoint.parse("42", 0)).isEqualTo(42L);
+    assertThat(FixedPoint.parse(".5", 1)).isEqualTo(5L);
+    assertThat(FixedPoint.parse("1.5E-3", 4)).isEqualTo(15L);
+    assertThat(FixedPoint.parse("x1534614057.321597", 1, 15, 3)).isEqualTo(1534614057321L);
+  }
+
+  @Test
+  public void testParseRejectsRounding() {
+
+    assertThatThrownBy(() -> FixedPoint.parse("0.123", 2)).isInstanceOf(ArithmeticException.class);
+    assertThatThrownBy(() -> FixedPoint.parse("99999999999", 10))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  public void testParseRejectsGarbage() {
+
+    assertThatThrownBy(() -> FixedPoint.parse("", 2)).isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> FixedPoint.parse("-", 2)).isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> FixedPoint.parse("1.2.3", 2))
+        .isInstanceOf(NumberFormatException.class);
+    assertThatThrownBy(() -> FixedPoint.parse("1a", 2)).isInstanceOf(NumberFormatException.class);
+  }
+
+  @Test
+  public void testConversions() {
+
+    assertThat(FixedPoint.toBigDecimal(554120L, 2)).isEqualByComparingTo("5541.2");
+    assertThat(FixedPoint.valueOf(new BigDecimal("5541.2"), 3)).isEqualTo(5541200L);
+    assertThat(FixedPoint.rescale(5541200L, 3, 1)).isEqualTo(55412L);
+    assertThatThrownBy(() -> FixedPoint.rescale(5541201L, 3, 1))
+        .isInstanceOf(ArithmeticException.class);
+  }
+
+  @Test
+  public void testToString() {
+
+    assertThat(FixedPoint.toString(554120L, 2)).isEqualTo("5541.20");
+    assertThat(FixedPoint.toString(-5L, 3)).isEqualTo("-0.005");
+    assertThat(FixedPoint.toString(7L, 0)).isEqualTo("7");
+    assertThat(FixedPoint.toString(Long.MIN_VALUE, 2))
+        .isEqualTo(BigDecimal.valueOf(Long.MIN_VALUE, 2).toPlainString());
+  }
+
+  @Test
+  public void testScaleFromMetaData() {
+
+    CurrencyPairMetaData metaData =
+        new CurrencyPairMetaData.Builder().priceScale(2).baseScale(6).build();
+    assertThat(FixedPointScale.of(metaData)).isEqualTo(new FixedPointScale(2, 6));
+    assertThat(FixedPointScale.of(null))
+        .isEqualTo(new FixedPointScale(FixedPointScale.DEFAULT_SCALE, FixedPointScale.DEFAULT_SCALE));
+  }
+}
@@ -0,0 +1,178 @@
+package org.knowm.xchange.dto.marketdata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class SortedOrderBookTest {
+
+  private SortedOrderBook orderBook;
+
+  @Before
+  public void setUp() {
+
+    orderBook =
+        new SortedOrderBook(
+            new Date(0),
+            Arrays.asList(level(OrderType.ASK, "12", "1"), level(OrderType.ASK, "11", "2")),
+            Arrays.asList(level(OrderType.BID, "9", "3"), level(OrderType.BID, "10", "4")));
+  }
+
+  @Test
+  public void testLevelsAreSorted() {
+
+    assertThat(orderBook.getAsks())
+        .extracting(LimitOrder::getLimitPrice)
+        .containsExactly(new BigDecimal("11"), new BigDecimal("12"));
+    assertThat(orderBook.getBids())
+        .extracting(LimitOrder::getLimitPrice)
+        .containsExactly(new BigDecimal("10"), new BigDecimal("9"));
+    assertThat(orderBook.getBestAsk().getLimitPrice()).isEqualByComparingTo("11");
+    assertThat(orderBook.getBestBid().getLimitPrice()).isEqualByComparingTo("10");
+  }
+
+  @Test
+  public void testUpdateInsertsBetterLevel() {
+
+    orderBook.update(update(OrderType.BID, "10.5", "1"));
+
+    assertThat(orderBook.getBidDepth()).isEqualTo(3);
+    assertThat(orderBook.getBestBid().getLimitPrice()).isEqualByComparingTo("10.5");
+    assertThat(orderBook.getBids(2))
+        .extracting(LimitOrder::getLimitPrice)
+        .containsExactly(new BigDecimal("10.5"), new BigDecimal("10"));
+  }
+
+  @Test
+  public void testUpdateReplacesVolume() {
+
+    orderBook.update(update(OrderType.ASK, "11.00", "5"));
+
+    assertThat(orderBook.getAskDepth()).isEqualTo(2);
+    assertThat(orderBook.getAsks().get(0).getOriginalAmount()).isEqualByComparingTo("5");
+  }
+
+  @Test
+  public void testUpdateRemovesBestLevel() {
+
+    orderBook.update(update(OrderType.ASK, "11", "0"));
+    orderBook.update(update(OrderType.BID, "10", "0"));
+
+    assertThat(orderBook.getBestAsk().getLimitPrice()).isEqualByComparingTo("12");
+    assertThat(orderBook.getBestBid().getLimitPrice()).isEqualByComparingTo("9");
+
+    orderBook.update(update(OrderType.ASK, "12", "0"));
+    assertThat(orderBook.getBestAsk()).isNull();
+    assertThat(orderBook.getAsks()).isEmpty();
+  }
+
+  @Test
+  public void testUpdateRemovesMissingLevel() {
+
+    orderBook.update(update(OrderType.BID, "1", "0"));
+
+    assertThat(orderBook.getBidDepth()).isEqualTo(2);
+  }
+
+  @Test
+  public void testTopLevelsLongerThanBook() {
+
+    assertThat(orderBook.getAsks(10)).hasSize(2);
+    assertThat(orderBook.getOrders(OrderType.BID, 1)).hasSize(1);
+  }
+
+  @Test
+  public void testTruncateKeepsBestLevels() {
+
+    orderBook.update(update(OrderType.ASK, "10.5", "1"));
+    orderBook.getAsks();
+    orderBook.truncate(1);
+
+    assertThat(orderBook.getAsks())
+        .extracting(LimitOrder::getLimitPrice)
+        .containsExactly(new BigDecimal("10.5"));
+    assertThat(orderBook.getBids())
+        .extracting(LimitOrder::getLimitPrice)
+        .containsExactly(new BigDecimal("10"));
+    assertThat(orderBook.getBestAsk().getLimitPrice()).isEqualByComparingTo("10.5");
+
+    orderBook.truncate(0);
+
+    assertThat(orderBook.getBids()).isEmpty();
+    assertThat(orderBook.getBestBid()).isNull();
+  }
+
+  @Test
+  public void testOrdersEqualListBook() {
+
+    OrderBook listBook =
+        new OrderBook(
+            new Date(),
+            Arrays.asList(level(OrderType.ASK, "11", "2"), level(OrderType.ASK, "12", "1")),
+            Arrays.asList(level(OrderType.BID, "10", "4"), level(OrderType.BID, "9", "3")));
+
+    assertThat(new SortedOrderBook(listBook).getAsks()).isEqualTo(listBook.getAsks());
+    assertThat(new SortedOrderBook(listBook).getBids()).isEqualTo(listBook.getBids());
+  }
+
+  @Test
+  public void testDateOther() {
+
+    Date timeStamp = new Date(1000);
+    OrderBookUpdate update =
+        new OrderBookUpdate(
+            OrderType.BID,
+            BigDecimal.ONE,
+            CurrencyPair.BTC_USD,
+            BigDecimal.TEN,
+            timeStamp,
+            BigDecimal.TEN);
+    orderBook.update(update);
+    assertThat(orderBook.getTimeStamp()).isEqualTo(timeStamp);
+  }
+
+  @Test
+  public void testReadOnlyViewFollowsBook() {
+
+    OrderBook view = orderBook.readOnlyView();
+    List<LimitOrder> bids = view.getBids();
+
+    orderBook.update(update(OrderType.ASK, "10.5", "1"));
+
+    assertThat(view.getBids()).isSameAs(bids);
+    assertThat(view.getAsks()).isSameAs(orderBook.getAsks());
+    assertThat(view.getOrders(OrderType.ASK).get(0).getLimitPrice()).isEqualByComparingTo("10.5");
+    assertThat(orderBook.readOnlyView()).isSameAs(view);
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void testReadOnlyViewCantBeUpdated() {
+
+    orderBook.readOnlyView().update(level(OrderType.ASK, "10.5", "1"));
+  }
+
+  private static LimitOrder level(OrderType type, String price, String amount) {
+
+    return new LimitOrder(
+        type, new BigDecimal(amount), CurrencyPair.BTC_USD, null, null, new BigDecimal(price));
+  }
+
+  private static OrderBookUpdate update(OrderType type, String price, String amount) {
+
+    return new OrderBookUpdate(
+        type,
+        new BigDecimal(amount),
+        CurrencyPair.BTC_USD,
+        new BigDecimal(price),
+        null,
+        new BigDecimal(amount));
+  }
+}
@@ -0,0 +1,102 @@
+package si.mazi.rescu;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.client.HttpTransport;
+
+public class ListeningRestProxyFactoryTest {
+
+  @Path("api")
+  @Produces(MediaType.APPLICATION_JSON)
+  public interface TestApi {
+
+    @GET
+    @Path("{status}")
+    Map<String, Object> get(@PathParam("status") int status) throws IOException;
+  }
+
+  private final List<HttpTransport.Request> requests = new ArrayList<>();
+  private final List<HttpTransport.Response> responses = new ArrayList<>();
+  private HttpServer server;
+  private TestApi api;
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext(
+        "/api",
+        exchange -> {
+          String path = exchange.getRequestURI().getPath();
+          byte[] body = "{\"last\":1.5}".getBytes(StandardCharsets.UTF_8);
+          exchange.getResponseHeaders().add("Content-Type", MediaType.APPLICATION_JSON);
+          exchange.getResponseHeaders().add("X-Used-Weight", "42");
+          exchange.sendResponseHeaders(
+              Integer.parseInt(path.substring(path.lastIndexOf('/') + 1)), body.length);
+          try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+          }
+        });
+    server.start();
+    api =
+        new ListeningRestProxyFactory(
+                (request, response) -> {
+                  requests.add(request);
+                  responses.add(response);
+                })
+            .createProxy(
+                TestApi.class,
+                "http://localhost:" + server.getAddress().getPort(),
+                new ClientConfig(),
+                (next, proxy, method, args) -> {
+                  Map<String, Object> result =
+                      (Map<String, Object>) next.invoke(proxy, method, args);
+                  result.put("intercepted", true);
+                  return result;
+                });
+  }
+
+  @After
+  public void tearDown() {
+    server.stop(0);
+  }
+
+  @Test
+  public void testPassesResponsesToListener() throws IOException {
+    Map<String, Object> result = api.get(200);
+
+    assertThat(result).containsEntry("last", 1.5).containsEntry("intercepted", true);
+    assertThat(requests).hasSize(1);
+    assertThat(requests.get(0).getMethod()).isEqualTo("GET");
+    assertThat(requests.get(0).getUrl()).endsWith("/api/200");
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0).getStatusCode()).isEqualTo(200);
+    assertThat(responses.get(0).getHeaders().get("X-used-weight")).containsExactly("42");
+    assertThat(responses.get(0).getBody()).isEqualTo("{\"last\":1.5}");
+  }
+
+  @Test
+  public void testPassesErrorResponsesToListener() {
+    assertThatThrownBy(() -> api.get(429)).isInstanceOf(HttpStatusIOException.class);
+
+    assertThat(responses).hasSize(1);
+    assertThat(responses.get(0).getStatusCode()).isEqualTo(429);
+    assertThat(responses.get(0).getHeaders().get("X-used-weight")).containsExactly("42");
+  }
+}
@@ -0,0 +1,126 @@
+package org.knowm.xchange.ftx;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.DELETE;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import org.knowm.xchange.ftx.dto.FtxResponse;
+import org.knowm.xchange.ftx.dto.account.FtxAccountDto;
+import org.knowm.xchange.ftx.dto.account.FtxPositionDto;
+import org.knowm.xchange.ftx.dto.account.FtxWalletBalanceDto;
+import org.knowm.xchange.ftx.dto.marketdata.FtxOrderbookDto;
+import org.knowm.xchange.ftx.dto.marketdata.FtxTradeDto;
+import org.knowm.xchange.ftx.dto.trade.FtxOrderDto;
+import org.knowm.xchange.ftx.dto.trade.FtxOrderRequestPayload;
+import si.mazi.rescu.ParamsDigest;
+
+/**
+ * Asynchronous variants of the {@link FtxAuthenticated} calls, see {@link
+ * org.knowm.xchange.client.TransportRestProxyFactory}. The futures fail with a {@link
+ * FtxException} if the API returns an error.
+ *
+ * <p>Set a non-blocking transport, e.g. the {@code JdkHttpClientTransport} of {@code
+ * xchange-transport-jdk11}, for the calls not to tie up a thread each. The default {@link
+ * org.knowm.xchange.client.UrlConnectionHttpTransport} blocks a thread of its pool per request.
+ */
+@Path("/api")
+@Produces(MediaType.APPLICATION_JSON)
+@Consumes(MediaType.APPLICATION_JSON)
+public interface FtxAsync {
+
+  @GET
+  @Path("/markets/{market_name}/trades")
+  CompletableFuture<FtxResponse<List<FtxTradeDto>>> getTrades(
+      @PathParam("market_name") String market, @QueryParam("limit") int limit)
+      throws FtxException;
+
+  @GET
+  @Path("/markets/{market_name}/orderbook")
+  CompletableFuture<FtxResponse<FtxOrderbookDto>> getOrderbook(
+      @PathParam("market_name") String market, @QueryParam("depth") int depth)
+      throws FtxException;
+
+  @GET
+  @Path("/account")
+  CompletableFuture<FtxResponse<FtxAccountDto>> getAccountInformation(
+      @HeaderParam("FTX-KEY") String apiKey,
+      @HeaderParam("FTX-TS") Long nonce,
+      @HeaderParam("FTX-SIGN") ParamsDigest signature,
+      @HeaderParam("FTX-SUBACCOUNT") String subaccount)
+      throws FtxException;
+
+  @GET
+  @Path("/wallet/balances")
+  CompletableFuture<FtxResponse<List<FtxWalletBalanceDto>>> getWalletBalances(
+      @HeaderParam("FTX-KEY") String apiKey,
+      @HeaderParam("FTX-TS") Long nonce,
+      @HeaderParam("FTX-SIGN") ParamsDigest signature,
+      @HeaderParam("FTX-SUBACCOUNT") String subaccount)
+      throws FtxException;
+
+  @GET
+  @Path("/positions")
+  CompletableFuture<FtxResponse<List<FtxPositionDto>>> getFtxPositions(
+      @HeaderParam("FTX-KEY") String apiKey,
+      @HeaderParam("FTX-TS") Long nonce,
+      @HeaderParam("FTX-SIGN") ParamsDigest signature,
+      @HeaderParam("FTX-SUBACCOUNT") String subaccount)
+      throws FtxException;
+
+  @POST
+  @Path("/orders")
+  CompletableFuture<FtxResponse<FtxOrderDto>> placeOrder(
+      @HeaderParam("FTX-KEY") String apiKey,
+      @HeaderParam("FTX-TS") Long nonce,
+      @HeaderParam("FTX-SIGN") ParamsDigest signature,
+      @HeaderParam("FTX-SUBACCOUNT") String subaccount,
+      FtxOrderRequestPayload payload)
+      throws FtxException;
+
+  @GET
+  @Path("/orders?market={market}")
+  CompletableFuture<FtxResponse<List<FtxOrderDto>>> openOrders(
+      @HeaderParam("FTX-KEY") String apiKey,
+      @HeaderParam("FTX-TS") Long nonce,
+      @HeaderParam("FTX-SIGN") ParamsDigest signature,
+      @HeaderParam("FTX-SUBACCOUNT") String subaccount,
+      @PathParam("market") String market)
+      throws FtxException;
+
+  @GET
+  @Path("/orders")
+  CompletableFuture<FtxResponse<List<FtxOrderDto>>> openOrdersWithoutMarket(
+      @HeaderParam("FTX-KEY") String apiKey,
+      @HeaderParam("FTX-TS") Long nonce,
+      @HeaderParam("FTX-SIGN") ParamsDigest signature,
+      @HeaderParam("FTX-SUBACCOUNT") String subaccount)
+      throws FtxException;
+
+  @DELETE
+  @Path("/orders/{orderId}")
+  CompletableFuture<FtxResponse<String>> cancelOrder(
+      @HeaderParam("FTX-KEY") String apiKey,
+      @HeaderParam("FTX-TS") Long nonce,
+      @HeaderParam("FTX-SIGN") ParamsDigest signature,
+      @HeaderParam("FTX-SUBACCOUNT") String subaccount,
+      @PathParam("orderId") String orderId)
+      throws FtxException;
+
+  @DELETE
+  @Path("/orders/by_client_id/{client_order_id}")
+  CompletableFuture<FtxResponse<FtxOrderDto>> cancelOrderByClientId(
+      @HeaderParam("FTX-KEY") String apiKey,
+      @HeaderParam("FTX-TS") Long nonce,
+      @HeaderParam("FTX-SIGN") ParamsDigest signature,
+      @HeaderParam("FTX-SUBACCOUNT") String subaccount,
+      @PathParam("client_order_id") String clientOrderId)
+      throws FtxException;
+}
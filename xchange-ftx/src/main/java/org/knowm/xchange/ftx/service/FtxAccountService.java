@@ -2,16 +2,22 @@ package org.knowm.xchange.ftx.service;
 
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.dto.account.AccountInfo;
+import org.knowm.xchange.dto.account.OpenPositions;
 import org.knowm.xchange.ftx.FtxAdapters;
 import org.knowm.xchange.ftx.dto.FtxResponse;
 import org.knowm.xchange.ftx.dto.account.FtxAccountDto;
+import org.knowm.xchange.ftx.dto.account.FtxWalletBalanceDto;
 import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.account.AsyncAccountService;
 import org.knowm.xchange.service.account.params.AccountLeverageParams;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-public class FtxAccountService extends FtxAccountServiceRaw implements AccountService {
+public class FtxAccountService extends FtxAccountServiceRaw
+    implements AccountService, AsyncAccountService {
 
   public FtxAccountService(Exchange exchange) {
     super(exchange);
@@ -33,6 +39,26 @@ public class FtxAccountService extends FtxAccountServiceRaw implements AccountSe
             .getOpenPositions());
   }
 
+  @Override
+  public CompletableFuture<AccountInfo> getAccountInfoAsync() {
+    String subaccount = exchange.getExchangeSpecification().getUserName();
+    CompletableFuture<FtxResponse<FtxAccountDto>> account =
+        getFtxAccountInformationAsync(subaccount);
+    CompletableFuture<FtxResponse<List<FtxWalletBalanceDto>>> balances =
+        getFtxWalletBalancesAsync(subaccount);
+    CompletableFuture<OpenPositions> positions =
+        account.thenCombine(
+            ((FtxTradeService) exchange.getTradeService()).getFtxPositionsAsync(subaccount),
+            (ftxAccount, ftxPositions) ->
+                FtxAdapters.adaptOpenPositions(
+                    ftxPositions.getResult(), ftxAccount.getResult().getLeverage()));
+    // positions complete after the account information
+    return positions.thenCombine(
+        balances,
+        (openPositions, wallet) ->
+            FtxAdapters.adaptAccountInfo(account.join(), wallet, openPositions.getOpenPositions()));
+  }
+
   @Override
   public void setLeverage(AccountLeverageParams params) throws IOException {
     setLeverage(exchange.getExchangeSpecification().getUserName(), params.getLeverage());
@@ -2,6 +2,7 @@ package org.knowm.xchange.ftx.service;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.ftx.FtxException;
 import org.knowm.xchange.ftx.dto.FtxResponse;
@@ -41,6 +42,26 @@ public class FtxAccountServiceRaw extends FtxBaseService {
     }
   }
 
+  public CompletableFuture<FtxResponse<FtxAccountDto>> getFtxAccountInformationAsync(
+      String subaccount) {
+    return handleErrors(
+        ftxAsync.getAccountInformation(
+            exchange.getExchangeSpecification().getApiKey(),
+            exchange.getNonceFactory().createValue(),
+            signatureCreator,
+            subaccount));
+  }
+
+  public CompletableFuture<FtxResponse<List<FtxWalletBalanceDto>>> getFtxWalletBalancesAsync(
+      String subaccount) {
+    return handleErrors(
+        ftxAsync.getWalletBalances(
+            exchange.getExchangeSpecification().getApiKey(),
+            exchange.getNonceFactory().createValue(),
+            signatureCreator,
+            subaccount));
+  }
+
   public FtxResponse<FtxSubAccountBalanceDto> getFtxSubAccountBalances(String nickname)
       throws FtxException, IOException {
     try {
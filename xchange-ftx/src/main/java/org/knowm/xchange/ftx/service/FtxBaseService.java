@@ -1,8 +1,12 @@
 package org.knowm.xchange.ftx.service;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.client.ExchangeRestProxyBuilder;
+import org.knowm.xchange.ftx.FtxAsync;
 import org.knowm.xchange.ftx.FtxAuthenticated;
+import org.knowm.xchange.ftx.FtxException;
 import org.knowm.xchange.service.BaseExchangeService;
 import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ParamsDigest;
@@ -10,6 +14,7 @@ import si.mazi.rescu.ParamsDigest;
 public class FtxBaseService extends BaseExchangeService implements BaseService {
 
   protected final FtxAuthenticated ftx;
+  protected final FtxAsync ftxAsync;
   protected final ParamsDigest signatureCreator;
 
   public FtxBaseService(Exchange exchange) {
@@ -19,6 +24,32 @@ public class FtxBaseService extends BaseExchangeService implements BaseService {
         ExchangeRestProxyBuilder.forInterface(
                 FtxAuthenticated.class, exchange.getExchangeSpecification())
             .build();
+    ftxAsync =
+        ExchangeRestProxyBuilder.forInterface(FtxAsync.class, exchange.getExchangeSpecification())
+            .httpTransport(exchange.getHttpTransport())
+            .build();
     signatureCreator = FtxDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
+
+  /**
+   * Fails the returned future with the cause of a {@link CompletionException} and rethrows a
+   * {@link FtxException} with its message only, as the blocking calls do.
+   */
+  protected static <T> CompletableFuture<T> handleErrors(CompletableFuture<T> response) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    response.whenComplete(
+        (value, error) -> {
+          if (error == null) {
+            result.complete(value);
+            return;
+          }
+          Throwable cause =
+              error instanceof CompletionException && error.getCause() != null
+                  ? error.getCause()
+                  : error;
+          result.completeExceptionally(
+              cause instanceof FtxException ? new FtxException(cause.getMessage()) : cause);
+        });
+    return result;
+  }
 }
@@ -1,15 +1,18 @@
 package org.knowm.xchange.ftx.service;
 
 import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
 import org.knowm.xchange.ftx.FtxAdapters;
 import org.knowm.xchange.instrument.Instrument;
+import org.knowm.xchange.service.marketdata.AsyncMarketDataService;
 import org.knowm.xchange.service.marketdata.MarketDataService;
 
-public class FtxMarketDataService extends FtxMarketDataServiceRaw implements MarketDataService {
+public class FtxMarketDataService extends FtxMarketDataServiceRaw
+    implements MarketDataService, AsyncMarketDataService {
 
   public FtxMarketDataService(Exchange exchange) {
     super(exchange);
@@ -21,12 +24,24 @@ public class FtxMarketDataService extends FtxMarketDataServiceRaw implements Mar
         getFtxOrderbook(FtxAdapters.adaptInstrumentToFtxMarket(instrument)), instrument);
   }
 
+  @Override
+  public CompletableFuture<OrderBook> getOrderBookAsync(Instrument instrument, Object... args) {
+    return getFtxOrderbookAsync(FtxAdapters.adaptInstrumentToFtxMarket(instrument))
+        .thenApply(orderbook -> FtxAdapters.adaptOrderBook(orderbook, instrument));
+  }
+
   @Override
   public Trades getTrades(Instrument instrument, Object... args) throws IOException {
     return FtxAdapters.adaptTrades(
         getFtxTrades(FtxAdapters.adaptInstrumentToFtxMarket(instrument)).getResult(), instrument);
   }
 
+  @Override
+  public CompletableFuture<Trades> getTradesAsync(Instrument instrument, Object... args) {
+    return getFtxTradesAsync(FtxAdapters.adaptInstrumentToFtxMarket(instrument))
+        .thenApply(trades -> FtxAdapters.adaptTrades(trades.getResult(), instrument));
+  }
+
   @Override
   public Ticker getTicker(Instrument instrument, Object... args) throws IOException {
     return FtxAdapters.adaptTicker(
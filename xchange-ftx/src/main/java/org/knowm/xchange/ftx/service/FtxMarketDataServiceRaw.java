@@ -2,6 +2,7 @@ package org.knowm.xchange.ftx.service;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.ftx.FtxException;
 import org.knowm.xchange.ftx.dto.FtxResponse;
@@ -57,6 +58,14 @@ public class FtxMarketDataServiceRaw extends FtxBaseService {
     }
   }
 
+  public CompletableFuture<FtxResponse<List<FtxTradeDto>>> getFtxTradesAsync(String market) {
+    return handleErrors(ftxAsync.getTrades(market, 30));
+  }
+
+  public CompletableFuture<FtxResponse<FtxOrderbookDto>> getFtxOrderbookAsync(String market) {
+    return handleErrors(ftxAsync.getOrderbook(market, 20));
+  }
+
 
 }
 
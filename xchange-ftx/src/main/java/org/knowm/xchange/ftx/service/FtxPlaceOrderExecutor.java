@@ -1,59 +1,71 @@
 package org.knowm.xchange.ftx.service;
 
+import org.knowm.xchange.client.TokenBucket;
 import org.knowm.xchange.ftx.FtxException;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.*;
-import java.util.concurrent.locks.ReentrantLock;
+import java.io.InterruptedIOException;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
 
+/**
+ * Paces order placement to {@code ftx.place.limit} orders per {@code ftx.place.sleep} milliseconds.
+ * Only taking a {@link TokenBucket} token is serialised, orders are placed concurrently.
+ *
+ * <p>A token is refilled one period after its order was sent, not after its response arrived, so
+ * the period is padded by {@code ftx.place.margin} milliseconds for the orders which reach FTX
+ * faster than the ones before them.
+ */
 public class FtxPlaceOrderExecutor {
-    
+
     private static final int LIMIT = Integer.getInteger("ftx.place.limit", 2);
     private static final long SLEEP_MILLIS = Long.getLong("ftx.place.sleep", 200L);
     private static final long MAX_SLEEP_MILLIS = Long.getLong("ftx.place.maxSleep", 10_000L);
-    private static final long SLEEP_MARGIN_MILLIS = 5;
-    
-    private final ReentrantLock lock = new ReentrantLock(true); 
-    private final List<Long> timestamps;
+    private static final long SLEEP_MARGIN_MILLIS = Long.getLong("ftx.place.margin", 50L);
+
+    private final TokenBucket tokenBucket;
+    private final Duration maxSleep;
 
     public FtxPlaceOrderExecutor() {
-        timestamps = new ArrayList<>();
-        for(int i = 0; i < LIMIT; i++) {
-            timestamps.add(0L);
-        }
+        this(
+                new TokenBucket(LIMIT, Duration.ofMillis(SLEEP_MILLIS + SLEEP_MARGIN_MILLIS)),
+                Duration.ofMillis(MAX_SLEEP_MILLIS));
+    }
+
+    FtxPlaceOrderExecutor(TokenBucket tokenBucket, Duration maxSleep) {
+        this.tokenBucket = tokenBucket;
+        this.maxSleep = maxSleep;
     }
 
     public String executePlace(Callable<String> callable) throws IOException {
-        long t0 = System.currentTimeMillis();
-        lock.lock();
         try {
-            long t1 = System.currentTimeMillis();
-            if (t1 - t0 > MAX_SLEEP_MILLIS) {
-                throw new FtxException("Exceeded waiting time " + MAX_SLEEP_MILLIS + "ms");
-            }
-            
-            long sleepTime = SLEEP_MILLIS + SLEEP_MARGIN_MILLIS - (t1 - timestamps.get(0));
-            if (sleepTime > 0) {
-                Thread.sleep(sleepTime);
+            if (!tokenBucket.acquire(maxSleep)) {
+                throw exceededWaitingTime();
             }
-            String result = callable.call();
-            
-            timestamps.add(System.currentTimeMillis());
-            timestamps.remove(0);
-            
-            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting to place an order");
+        }
+        try {
+            return callable.call();
+        } catch (IOException | RuntimeException e) {
+            throw e;
         } catch (Exception e) {
-            if (e instanceof IOException) {
-                throw (IOException) e;
-            }
-            if (e instanceof RuntimeException) {
-                throw (RuntimeException) e;
-            }
             throw new RuntimeException("Error placing order", e);
-        } finally {
-            lock.unlock();
         }
     }
+
+    /**
+     * Non-blocking {@link #executePlace(Callable)}: reserves the next free slot and starts the call
+     * when it is due instead of sleeping in the calling thread.
+     */
+    public <T> CompletableFuture<T> executePlaceAsync(Supplier<CompletableFuture<T>> call) {
+        return tokenBucket.executeAsync(call, maxSleep, this::exceededWaitingTime);
+    }
+
+    private FtxException exceededWaitingTime() {
+        return new FtxException("Exceeded waiting time " + maxSleep.toMillis() + "ms");
+    }
 }
@@ -8,9 +8,17 @@ import org.knowm.xchange.dto.trade.MarketOrder;
 import org.knowm.xchange.dto.trade.OpenOrders;
 import org.knowm.xchange.dto.trade.UserTrades;
 import org.knowm.xchange.ftx.FtxAdapters;
+import org.knowm.xchange.ftx.dto.FtxResponse;
+import org.knowm.xchange.ftx.dto.trade.FtxOrderDto;
+import org.knowm.xchange.service.trade.AsyncTradeService;
 import org.knowm.xchange.service.trade.TradeService;
+import org.knowm.xchange.instrument.Instrument;
+import org.knowm.xchange.service.trade.params.CancelOrderByIdParams;
+import org.knowm.xchange.service.trade.params.CancelOrderByUserReferenceParams;
 import org.knowm.xchange.service.trade.params.CancelOrderParams;
+import org.knowm.xchange.service.trade.params.CurrencyPairParam;
 import org.knowm.xchange.service.trade.params.DefaultTradeHistoryParamInstrument;
+import org.knowm.xchange.service.trade.params.InstrumentParam;
 import org.knowm.xchange.service.trade.params.TradeHistoryParams;
 import org.knowm.xchange.service.trade.params.orders.DefaultOpenOrdersParamInstrument;
 import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
@@ -18,8 +26,10 @@ import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
-public class FtxTradeService extends FtxTradeServiceRaw implements TradeService {
+public class FtxTradeService extends FtxTradeServiceRaw implements TradeService, AsyncTradeService {
   
   private final FtxPlaceOrderExecutor placeOrderExecutor = new FtxPlaceOrderExecutor();
 
@@ -43,6 +53,30 @@ public class FtxTradeService extends FtxTradeServiceRaw implements TradeService
                 exchange.getExchangeSpecification().getUserName(), limitOrder));
   }
 
+  @Override
+  public CompletableFuture<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+    return placeOrderExecutor.executePlaceAsync(
+        () ->
+            placeNewFtxOrderAsync(
+                    exchange.getExchangeSpecification().getUserName(),
+                    FtxAdapters.adaptMarketOrderToFtxOrderPayload(marketOrder))
+                .thenApply(this::adaptOrderId));
+  }
+
+  @Override
+  public CompletableFuture<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+    return placeOrderExecutor.executePlaceAsync(
+        () ->
+            placeNewFtxOrderAsync(
+                    exchange.getExchangeSpecification().getUserName(),
+                    FtxAdapters.adaptLimitOrderToFtxOrderPayload(limitOrder))
+                .thenApply(this::adaptOrderId));
+  }
+
+  private String adaptOrderId(FtxResponse<FtxOrderDto> response) {
+    return response.getResult().getId();
+  }
+
   @Override
   public UserTrades getTradeHistory(TradeHistoryParams params) throws IOException {
     return getTradeHistoryForSubaccount(exchange.getExchangeSpecification().getUserName(), params);
@@ -63,6 +97,19 @@ public class FtxTradeService extends FtxTradeServiceRaw implements TradeService
     return cancelOrderForSubaccount(exchange.getExchangeSpecification().getUserName(), orderParams);
   }
 
+  @Override
+  public CompletableFuture<Boolean> cancelOrderAsync(CancelOrderParams orderParams) {
+    String subaccount = exchange.getExchangeSpecification().getUserName();
+    if (orderParams instanceof CancelOrderByIdParams) {
+      return cancelFtxOrderAsync(subaccount, ((CancelOrderByIdParams) orderParams).getOrderId());
+    } else if (orderParams instanceof CancelOrderByUserReferenceParams) {
+      return cancelFtxByClientIdAsync(
+          subaccount, ((CancelOrderByUserReferenceParams) orderParams).getUserReference());
+    } else {
+      return CompletableFuture.completedFuture(false);
+    }
+  }
+
   @Override
   public Collection<Order> getOrder(String... orderIds) throws IOException {
     return getOrderFromSubaccount(exchange.getExchangeSpecification().getUserName(), orderIds);
@@ -73,6 +120,22 @@ public class FtxTradeService extends FtxTradeServiceRaw implements TradeService
     return getOpenOrdersForSubaccount(exchange.getExchangeSpecification().getUserName(), params);
   }
 
+  @Override
+  public CompletableFuture<OpenOrders> getOpenOrdersAsync(OpenOrdersParams params) {
+    String subaccount = exchange.getExchangeSpecification().getUserName();
+    Instrument instrument = null;
+    if (params instanceof CurrencyPairParam) {
+      instrument = ((CurrencyPairParam) params).getCurrencyPair();
+    } else if (params instanceof InstrumentParam) {
+      instrument = ((InstrumentParam) params).getInstrument();
+    }
+    CompletableFuture<FtxResponse<List<FtxOrderDto>>> openOrders =
+        instrument == null
+            ? getFtxAllOpenOrdersForSubaccountAsync(subaccount)
+            : getFtxOpenOrdersAsync(subaccount, FtxAdapters.adaptInstrumentToFtxMarket(instrument));
+    return openOrders.thenApply(FtxAdapters::adaptOpenOrders);
+  }
+
   @Override
   public OpenOrdersParams createOpenOrdersParams() {
     return new DefaultOpenOrdersParamInstrument();
@@ -24,6 +24,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class FtxTradeServiceRaw extends FtxBaseService {
 
@@ -59,6 +60,17 @@ public class FtxTradeServiceRaw extends FtxBaseService {
     }
   }
 
+  public CompletableFuture<FtxResponse<FtxOrderDto>> placeNewFtxOrderAsync(
+      String subaccount, FtxOrderRequestPayload payload) {
+    return handleErrors(
+        ftxAsync.placeOrder(
+            exchange.getExchangeSpecification().getApiKey(),
+            exchange.getNonceFactory().createValue(),
+            signatureCreator,
+            subaccount,
+            payload));
+  }
+
   public FtxResponse<FtxOrderDto> modifyFtxOrder(
       String subaccount, String orderId, FtxModifyOrderRequestPayload payload)
       throws FtxException, IOException {
@@ -104,6 +116,17 @@ public class FtxTradeServiceRaw extends FtxBaseService {
     }
   }
 
+  public CompletableFuture<Boolean> cancelFtxOrderAsync(String subaccount, String orderId) {
+    return handleErrors(
+            ftxAsync.cancelOrder(
+                exchange.getExchangeSpecification().getApiKey(),
+                exchange.getNonceFactory().createValue(),
+                signatureCreator,
+                subaccount,
+                orderId))
+        .thenApply(FtxResponse::isSuccess);
+  }
+
   public boolean cancelFtxByClientId(String subaccount, String clientId)
       throws FtxException, IOException {
     try {
@@ -119,6 +142,17 @@ public class FtxTradeServiceRaw extends FtxBaseService {
     }
   }
 
+  public CompletableFuture<Boolean> cancelFtxByClientIdAsync(String subaccount, String clientId) {
+    return handleErrors(
+            ftxAsync.cancelOrderByClientId(
+                exchange.getExchangeSpecification().getApiKey(),
+                exchange.getNonceFactory().createValue(),
+                signatureCreator,
+                subaccount,
+                clientId))
+        .thenApply(FtxResponse::isSuccess);
+  }
+
   public boolean cancelOrderForSubaccount(String subaccount, CancelOrderParams orderParams)
       throws IOException {
     if (orderParams instanceof CancelOrderByCurrencyPair) {
@@ -175,6 +209,17 @@ public class FtxTradeServiceRaw extends FtxBaseService {
     }
   }
 
+  public CompletableFuture<FtxResponse<List<FtxOrderDto>>> getFtxOpenOrdersAsync(
+      String subaccount, String market) {
+    return handleErrors(
+        ftxAsync.openOrders(
+            exchange.getExchangeSpecification().getApiKey(),
+            exchange.getNonceFactory().createValue(),
+            signatureCreator,
+            subaccount,
+            market));
+  }
+
   public UserTrades getTradeHistoryForSubaccount(String subaccount, TradeHistoryParams params)
       throws IOException {
     Instrument instrument;
@@ -237,6 +282,16 @@ public class FtxTradeServiceRaw extends FtxBaseService {
     }
   }
 
+  public CompletableFuture<FtxResponse<List<FtxOrderDto>>>
+      getFtxAllOpenOrdersForSubaccountAsync(String subaccount) {
+    return handleErrors(
+        ftxAsync.openOrdersWithoutMarket(
+            exchange.getExchangeSpecification().getApiKey(),
+            exchange.getNonceFactory().createValue(),
+            signatureCreator,
+            subaccount));
+  }
+
   public FtxResponse<FtxOrderDto> getFtxOrderStatus(String subaccount, String orderId)
       throws FtxException, IOException {
     try {
@@ -267,4 +322,14 @@ public class FtxTradeServiceRaw extends FtxBaseService {
       throw new FtxException(e.getMessage());
     }
   }
+
+  public CompletableFuture<FtxResponse<List<FtxPositionDto>>> getFtxPositionsAsync(
+      String subaccount) {
+    return handleErrors(
+        ftxAsync.getFtxPositions(
+            exchange.getExchangeSpecification().getApiKey(),
+            exchange.getNonceFactory().createValue(),
+            signatureCreator,
+            subaccount));
+  }
 }
@@ -1,11 +1,16 @@
 package org.knowm.xchange.ftx.service;
 
 import org.junit.Test;
+import org.knowm.xchange.client.TokenBucket;
+import org.knowm.xchange.ftx.FtxException;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
@@ -72,6 +77,51 @@ public class FtxPlaceOrderExecutorTest {
     }
   }
 
+  @Test
+  public void testAsyncSchedulesWithoutBlocking() throws Exception {
+    List<CompletableFuture<String>> places = new ArrayList<>();
+    long t0 = System.currentTimeMillis();
+    for (int i = 0; i < 6; i++) {
+      places.add(
+          executor.executePlaceAsync(
+              () -> CompletableFuture.completedFuture(String.valueOf(System.currentTimeMillis()))));
+    }
+    long t1 = System.currentTimeMillis();
+
+    assertThat(t1 - t0 < 200).isTrue();
+    for (int i = 0; i < 2; i++) {
+      long delay =
+          Long.parseLong(places.get(2 * (i + 1)).get()) - Long.parseLong(places.get(2 * i).get());
+      assertThat(delay >= 200).isTrue();
+    }
+  }
+
+  @Test
+  public void testExceededWaitingTime() throws IOException {
+    FtxPlaceOrderExecutor slow =
+        new FtxPlaceOrderExecutor(new TokenBucket(1, Duration.ofSeconds(1)), Duration.ofMillis(10));
+    slow.executePlace(() -> emptyPlaceOrder(null));
+
+    assertThatThrownBy(() -> slow.executePlace(() -> emptyPlaceOrder(null)))
+        .isInstanceOf(FtxException.class)
+        .hasMessageContaining("Exceeded waiting time 10ms");
+    assertThat(slow.executePlaceAsync(() -> CompletableFuture.completedFuture("")))
+        .hasFailedWithThrowableThat()
+        .isInstanceOf(FtxException.class);
+  }
+
+  @Test
+  public void testInterruptedWhileWaiting() throws IOException {
+    FtxPlaceOrderExecutor slow =
+        new FtxPlaceOrderExecutor(new TokenBucket(1, Duration.ofSeconds(1)), Duration.ofSeconds(5));
+    slow.executePlace(() -> emptyPlaceOrder(null));
+
+    Thread.currentThread().interrupt();
+    assertThatThrownBy(() -> slow.executePlace(() -> emptyPlaceOrder(null)))
+        .isInstanceOf(InterruptedIOException.class);
+    assertThat(Thread.interrupted()).isTrue();
+  }
+
   private String emptyPlaceOrder(IOException exception) throws IOException {
     if (exception != null) throw exception;
     return String.valueOf(System.currentTimeMillis());
@@ -0,0 +1,103 @@
+package org.knowm.xchange.kraken;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.FormParam;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.MediaType;
+import org.knowm.xchange.kraken.dto.account.results.KrakenBalanceResult;
+import org.knowm.xchange.kraken.dto.account.results.KrakenTradeBalanceInfoResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenDepthResult;
+import org.knowm.xchange.kraken.dto.marketdata.results.KrakenTickerResult;
+import org.knowm.xchange.kraken.dto.trade.results.KrakenCancelOrderResult;
+import org.knowm.xchange.kraken.dto.trade.results.KrakenOpenOrdersResult;
+import org.knowm.xchange.kraken.dto.trade.results.KrakenOrderResult;
+import si.mazi.rescu.ParamsDigest;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+/**
+ * Asynchronous variants of the {@link KrakenAuthenticated} calls, see {@link
+ * org.knowm.xchange.client.TransportRestProxyFactory}.
+ *
+ * <p>No thread waits for a response only if the HTTP transport of the exchange is non-blocking,
+ * e.g. the {@code JdkHttpClientTransport} of {@code xchange-transport-jdk11}. With the default
+ * {@link org.knowm.xchange.client.UrlConnectionHttpTransport} a thread of the transport blocks
+ * instead of the caller.
+ */
+@Path("0")
+@Produces(MediaType.APPLICATION_JSON)
+public interface KrakenAsync {
+
+  @GET
+  @Path("public/Ticker")
+  CompletableFuture<KrakenTickerResult> getTicker(@QueryParam("pair") String currencyPairs);
+
+  @GET
+  @Path("public/Depth")
+  CompletableFuture<KrakenDepthResult> getDepth(
+      @QueryParam("pair") String currencyPair, @QueryParam("count") long count);
+
+  @POST
+  @Path("private/Balance")
+  @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+  CompletableFuture<KrakenBalanceResult> balance(
+      @HeaderParam("API-Key") String apiKey,
+      @HeaderParam("API-Sign") ParamsDigest signer,
+      @FormParam("nonce") SynchronizedValueFactory<Long> nonce);
+
+  @POST
+  @Path("private/TradeBalance")
+  @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+  CompletableFuture<KrakenTradeBalanceInfoResult> tradeBalance(
+      @FormParam("aclass") String assetClass,
+      @FormParam("asset") String asset,
+      @HeaderParam("API-Key") String apiKey,
+      @HeaderParam("API-Sign") ParamsDigest signer,
+      @FormParam("nonce") SynchronizedValueFactory<Long> nonce);
+
+  @POST
+  @Path("private/AddOrder")
+  @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+  CompletableFuture<KrakenOrderResult> addOrder(
+      @FormParam("pair") String pair,
+      @FormParam("type") String type,
+      @FormParam("ordertype") String ordertype,
+      @FormParam("price") String price,
+      @FormParam("price2") String secondaryPrice,
+      @FormParam("volume") String volume,
+      @FormParam("leverage") String leverage,
+      @FormParam("position") String positionTxId,
+      @FormParam("oflags") String orderFlags,
+      @FormParam("starttm") String startTime,
+      @FormParam("expiretm") String expireTime,
+      @FormParam("userref") String userRefId,
+      @FormParam("close") Map<String, String> closeOrder,
+      @HeaderParam("API-Key") String apiKey,
+      @HeaderParam("API-Sign") ParamsDigest signer,
+      @FormParam("nonce") SynchronizedValueFactory<Long> nonce);
+
+  @POST
+  @Path("private/CancelOrder")
+  @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+  CompletableFuture<KrakenCancelOrderResult> cancelOrder(
+      @HeaderParam("API-Key") String apiKey,
+      @HeaderParam("API-Sign") ParamsDigest signer,
+      @FormParam("nonce") SynchronizedValueFactory<Long> nonce,
+      @FormParam("txid") String transactionId);
+
+  @POST
+  @Path("private/OpenOrders")
+  @Consumes(MediaType.APPLICATION_FORM_URLENCODED)
+  CompletableFuture<KrakenOpenOrdersResult> openOrders(
+      @FormParam("trades") boolean includeTrades,
+      @FormParam("userref") String userReferenceId,
+      @HeaderParam("API-Key") String apiKey,
+      @HeaderParam("API-Sign") ParamsDigest signer,
+      @FormParam("nonce") SynchronizedValueFactory<Long> nonce);
+}
@@ -4,6 +4,7 @@ import java.io.IOException;
 import org.knowm.xchange.BaseExchange;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.client.ResilienceRegistries;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAssetPairs;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenAssets;
 import org.knowm.xchange.kraken.service.*;
@@ -11,6 +12,8 @@ import org.knowm.xchange.kraken.service.*;
 /** @author Benedikt Bünz */
 public class KrakenExchange extends BaseExchange implements Exchange {
 
+  private static ResilienceRegistries RESILIENCE_REGISTRIES;
+
   @Override
   protected void initServices() {
     this.marketDataService = new KrakenMarketDataService(this);
@@ -31,6 +34,18 @@ public class KrakenExchange extends BaseExchange implements Exchange {
     return exchangeSpecification;
   }
 
+  public static void resetResilienceRegistries() {
+    RESILIENCE_REGISTRIES = null;
+  }
+
+  @Override
+  public ResilienceRegistries getResilienceRegistries() {
+    if (RESILIENCE_REGISTRIES == null) {
+      RESILIENCE_REGISTRIES = KrakenResilience.createRegistries();
+    }
+    return RESILIENCE_REGISTRIES;
+  }
+
   @Override
   public void remoteInit() throws IOException {
     KrakenAssetPairs assetPairs =
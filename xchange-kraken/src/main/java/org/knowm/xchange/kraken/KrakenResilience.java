@@ -0,0 +1,47 @@
+package org.knowm.xchange.kraken;
+
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import java.time.Duration;
+import org.knowm.xchange.client.CallPriority;
+import org.knowm.xchange.client.ResilienceRegistries;
+
+/** @see <a href="https://support.kraken.com/hc/en-us/articles/206548367">API rate limits</a> */
+public final class KrakenResilience {
+
+  /**
+   * Call counter of the private endpoints except placing and cancelling orders, it decays by 0.33
+   * per second for the starter tier. Ledger and trade history queries cost 2 calls.
+   */
+  public static final String API_COUNTER_RATE_LIMITER = "apiCounter";
+
+  /**
+   * Counter of the trading engine, it decays by 1 per second for the starter tier. Kraken counts
+   * per currency pair, the rate limiter counts the orders of all pairs.
+   */
+  public static final String ORDERS_RATE_LIMITER = "orders";
+
+  /** Orders of a minute kept for cancelling them, see {@link CallPriority}. */
+  public static final int RESERVED_ORDERS = 12;
+
+  private KrakenResilience() {}
+
+  public static ResilienceRegistries createRegistries() {
+    ResilienceRegistries registries = new ResilienceRegistries();
+    registries
+        .rateLimiters()
+        .rateLimiter(
+            API_COUNTER_RATE_LIMITER,
+            RateLimiterConfig.from(registries.rateLimiters().getDefaultConfig())
+                .limitRefreshPeriod(Duration.ofSeconds(15))
+                .limitForPeriod(5)
+                .build());
+    registries.adaptiveRateLimiter(
+        ORDERS_RATE_LIMITER,
+        RateLimiterConfig.from(registries.rateLimiters().getDefaultConfig())
+            .limitRefreshPeriod(Duration.ofMinutes(1))
+            .limitForPeriod(60)
+            .build(),
+        RESERVED_ORDERS);
+    return registries;
+  }
+}
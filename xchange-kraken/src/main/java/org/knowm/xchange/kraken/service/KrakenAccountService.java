@@ -4,6 +4,7 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
@@ -17,6 +18,7 @@ import org.knowm.xchange.kraken.dto.account.KrakenLedger;
 import org.knowm.xchange.kraken.dto.account.KrakenTradeBalanceInfo;
 import org.knowm.xchange.kraken.dto.account.LedgerType;
 import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.account.AsyncAccountService;
 import org.knowm.xchange.service.trade.params.DefaultTradeHistoryParamsTimeSpan;
 import org.knowm.xchange.service.trade.params.DefaultWithdrawFundsParams;
 import org.knowm.xchange.service.trade.params.HistoryParamsFundingType;
@@ -26,7 +28,8 @@ import org.knowm.xchange.service.trade.params.TradeHistoryParams;
 import org.knowm.xchange.service.trade.params.TradeHistoryParamsTimeSpan;
 import org.knowm.xchange.service.trade.params.WithdrawFundsParams;
 
-public class KrakenAccountService extends KrakenAccountServiceRaw implements AccountService {
+public class KrakenAccountService extends KrakenAccountServiceRaw
+    implements AccountService, AsyncAccountService {
 
   /**
    * Constructor
@@ -41,8 +44,24 @@ public class KrakenAccountService extends KrakenAccountServiceRaw implements Acc
   @Override
   public AccountInfo getAccountInfo() throws IOException {
 
-    KrakenTradeBalanceInfo krakenTradeBalanceInfo = getKrakenTradeBalance();
-    Wallet tradingWallet = KrakenAdapters.adaptWallet(getKrakenBalance());
+    return adaptAccountInfo(getKrakenTradeBalance(), getKrakenBalance());
+  }
+
+  @Override
+  public CompletableFuture<AccountInfo> getAccountInfoAsync() {
+
+    // one after the other, both calls are signed with a nonce
+    return getKrakenTradeBalanceAsync()
+        .thenCompose(
+            tradeBalance ->
+                getKrakenBalanceAsync()
+                    .thenApply(balance -> adaptAccountInfo(tradeBalance, balance)));
+  }
+
+  private AccountInfo adaptAccountInfo(
+      KrakenTradeBalanceInfo krakenTradeBalanceInfo, Map<String, BigDecimal> krakenBalance) {
+
+    Wallet tradingWallet = KrakenAdapters.adaptWallet(krakenBalance);
 
     Wallet marginWallet =
         Wallet.Builder.from(tradingWallet.getBalances().values())
@@ -1,11 +1,15 @@
 package org.knowm.xchange.kraken.service;
 
+import static org.knowm.xchange.kraken.KrakenResilience.API_COUNTER_RATE_LIMITER;
+
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.Exchange;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.kraken.KrakenUtils;
@@ -36,90 +40,139 @@ public class KrakenAccountServiceRaw extends KrakenBaseService {
   public Map<String, BigDecimal> getKrakenBalance() throws IOException {
 
     KrakenBalanceResult balanceResult =
-        kraken.balance(
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.balance(
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
     return checkResult(balanceResult);
   }
 
+  public CompletableFuture<Map<String, BigDecimal>> getKrakenBalanceAsync() {
+
+    return checkResultAsync(
+        decorateAsyncApiCall(
+                () ->
+                    getKrakenAsync().balance(
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call());
+  }
+
   public KrakenDepositAddress[] getDepositAddresses(
       String currency, String method, boolean newAddress) throws IOException {
     KrakenDepositAddressResult depositAddressesResult =
-        kraken.getDepositAddresses(
-            null,
-            currency,
-            method,
-            newAddress ? true : null, // must be sent as NULL and not as false!
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.getDepositAddresses(
+                        null,
+                        currency,
+                        method,
+                        newAddress ? true : null, // must be sent as NULL and not as false!
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
     return checkResult(depositAddressesResult);
   }
 
   public KrakenDepositMethods[] getDepositMethods(String assetPairs, String assets)
       throws IOException {
     KrakenDepositMethodsResults depositMethods =
-        kraken.getDepositMethods(
-            assetPairs,
-            assets,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.getDepositMethods(
+                        assetPairs,
+                        assets,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
     return checkResult(depositMethods);
   }
 
   public WithdrawInfo getWithdrawInfo(
       String assetPairs, String assets, String key, BigDecimal amount) throws IOException {
     WithdrawInfoResult withdrawInfoResult =
-        kraken.getWithdrawInfo(
-            assetPairs,
-            assets,
-            key,
-            amount,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.getWithdrawInfo(
+                        assetPairs,
+                        assets,
+                        key,
+                        amount,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
     return checkResult(withdrawInfoResult);
   }
 
   public Withdraw withdraw(String assetPairs, String assets, String key, BigDecimal amount)
       throws IOException {
     WithdrawResult withdrawResult =
-        kraken.withdraw(
-            assetPairs,
-            assets,
-            key,
-            amount,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.withdraw(
+                        assetPairs,
+                        assets,
+                        key,
+                        amount,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
     return checkResult(withdrawResult);
   }
 
   public List<DepostitStatus> getDepositStatus(String assetPairs, String assets, String method)
       throws IOException {
     DepositStatusResult result =
-        kraken.getDepositStatus(
-            assetPairs,
-            assets,
-            method,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.getDepositStatus(
+                        assetPairs,
+                        assets,
+                        method,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
     return checkResult(result);
   }
 
   public List<WithdrawStatus> getWithdrawStatus(String assetPairs, String assets, String method)
       throws IOException {
     WithdrawStatusResult result =
-        kraken.getWithdrawStatus(
-            assetPairs,
-            assets,
-            method,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.getWithdrawStatus(
+                        assetPairs,
+                        assets,
+                        method,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
     return checkResult(result);
   }
 
@@ -133,19 +186,21 @@ public class KrakenAccountServiceRaw extends KrakenBaseService {
   public KrakenTradeBalanceInfo getKrakenTradeBalance(Currency valuationCurrency)
       throws IOException {
 
-    String valuationCurrencyCode = null;
-
-    if (valuationCurrency != null) {
-      valuationCurrencyCode = KrakenUtils.getKrakenCurrencyCode(valuationCurrency);
-    }
+    String valuationCurrencyCode =
+        valuationCurrency == null ? null : KrakenUtils.getKrakenCurrencyCode(valuationCurrency);
 
     KrakenTradeBalanceInfoResult balanceResult =
-        kraken.tradeBalance(
-            null,
-            valuationCurrencyCode,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.tradeBalance(
+                        null,
+                        valuationCurrencyCode,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
     return checkResult(balanceResult);
   }
 
@@ -160,6 +215,22 @@ public class KrakenAccountServiceRaw extends KrakenBaseService {
     return getKrakenTradeBalance(null);
   }
 
+  public CompletableFuture<KrakenTradeBalanceInfo> getKrakenTradeBalanceAsync() {
+
+    return checkResultAsync(
+        decorateAsyncApiCall(
+                () ->
+                    getKrakenAsync().tradeBalance(
+                        null,
+                        null,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call());
+  }
+
   /**
    * Retrieves the full account Ledger which represents all account asset activity.
    *
@@ -189,16 +260,21 @@ public class KrakenAccountServiceRaw extends KrakenBaseService {
       throws IOException {
     String ledgerTypeString = (ledgerType == null) ? "all" : ledgerType.toString().toLowerCase();
     KrakenLedgerResult ledgerResult =
-        kraken.ledgers(
-            null,
-            delimitAssets(assets),
-            ledgerTypeString,
-            startTime,
-            endTime,
-            offset,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.ledgers(
+                        null,
+                        delimitAssets(assets),
+                        ledgerTypeString,
+                        startTime,
+                        endTime,
+                        offset,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER), 2)
+            .call();
     return checkResult(ledgerResult).getLedgerMap();
   }
 
@@ -251,12 +327,17 @@ public class KrakenAccountServiceRaw extends KrakenBaseService {
 
   public KrakenWebsocketToken getKrakenWebsocketToken() throws IOException {
     KrakenWebsocketTokenResult tokenResult =
-        kraken.getWebsocketToken(
-            null,
-            null,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.getWebsocketToken(
+                        null,
+                        null,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
 
     return checkResult(tokenResult);
   }
@@ -264,22 +345,32 @@ public class KrakenAccountServiceRaw extends KrakenBaseService {
   public Map<String, KrakenLedger> queryKrakenLedger(String... ledgerIds) throws IOException {
 
     KrakenQueryLedgerResult ledgerResult =
-        kraken.queryLedgers(
-            createDelimitedString(ledgerIds),
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.queryLedgers(
+                        createDelimitedString(ledgerIds),
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER), 2)
+            .call();
 
     return checkResult(ledgerResult);
   }
 
   public KrakenTradeVolume getTradeVolume(CurrencyPair... currencyPairs) throws IOException {
     KrakenTradeVolumeResult result =
-        kraken.tradeVolume(
-            delimitAssetPairs(currencyPairs),
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.tradeVolume(
+                        delimitAssetPairs(currencyPairs),
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
     return checkResult(result);
   }
 }
@@ -5,6 +5,8 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.stream.Collectors;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.client.ExchangeRestProxyBuilder;
@@ -18,6 +20,7 @@ import org.knowm.xchange.exceptions.FundsExceededException;
 import org.knowm.xchange.exceptions.NonceException;
 import org.knowm.xchange.exceptions.RateLimitExceededException;
 import org.knowm.xchange.instrument.Instrument;
+import org.knowm.xchange.kraken.KrakenAsync;
 import org.knowm.xchange.kraken.KrakenAuthenticated;
 import org.knowm.xchange.kraken.KrakenUtils;
 import org.knowm.xchange.kraken.dto.KrakenResult;
@@ -27,13 +30,15 @@ import org.knowm.xchange.kraken.dto.marketdata.KrakenServerTime;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenAssetsResult;
 import org.knowm.xchange.kraken.dto.marketdata.results.KrakenServerTimeResult;
 import org.knowm.xchange.kraken.dto.trade.KrakenOrderFlags;
-import org.knowm.xchange.service.BaseExchangeService;
+import org.knowm.xchange.service.BaseResilientExchangeService;
 import org.knowm.xchange.service.BaseService;
 import si.mazi.rescu.ParamsDigest;
 
-public class KrakenBaseService extends BaseExchangeService implements BaseService {
+public class KrakenBaseService extends BaseResilientExchangeService<Exchange>
+    implements BaseService {
 
   protected KrakenAuthenticated kraken;
+  private volatile KrakenAsync krakenAsync;
   protected ParamsDigest signatureCreator;
 
   /**
@@ -43,7 +48,7 @@ public class KrakenBaseService extends BaseExchangeService implements BaseServic
    */
   public KrakenBaseService(Exchange exchange) {
 
-    super(exchange);
+    super(exchange, exchange.getResilienceRegistries());
 
     kraken =
         ExchangeRestProxyBuilder.forInterface(
@@ -53,6 +58,28 @@ public class KrakenBaseService extends BaseExchangeService implements BaseServic
         KrakenDigest.createInstance(exchange.getExchangeSpecification().getSecretKey());
   }
 
+  /**
+   * The asynchronous proxy is built on the first call, so the HTTP transport of the exchange isn't
+   * created for the blocking calls only.
+   */
+  protected KrakenAsync getKrakenAsync() {
+    KrakenAsync proxy = krakenAsync;
+    if (proxy == null) {
+      synchronized (this) {
+        proxy = krakenAsync;
+        if (proxy == null) {
+          proxy =
+              ExchangeRestProxyBuilder.forInterface(
+                      KrakenAsync.class, exchange.getExchangeSpecification())
+                  .httpTransport(exchange.getHttpTransport())
+                  .build();
+          krakenAsync = proxy;
+        }
+      }
+    }
+    return proxy;
+  }
+
   public KrakenServerTime getServerTime() throws IOException {
 
     KrakenServerTimeResult timeResult = kraken.getServerTime();
@@ -99,6 +126,30 @@ public class KrakenBaseService extends BaseExchangeService implements BaseServic
     return krakenResult.getResult();
   }
 
+  /**
+   * Asynchronous {@link #checkResult(KrakenResult)}, the future fails with the exception it
+   * throws.
+   */
+  public <R> CompletableFuture<R> checkResultAsync(
+      CompletableFuture<? extends KrakenResult<R>> krakenResult) {
+
+    CompletableFuture<R> result = new CompletableFuture<>();
+    krakenResult.whenComplete(
+        (value, error) -> {
+          try {
+            if (error != null) {
+              throw error instanceof CompletionException && error.getCause() != null
+                  ? error.getCause()
+                  : error;
+            }
+            result.complete(checkResult(value));
+          } catch (Throwable e) {
+            result.completeExceptionally(e);
+          }
+        });
+    return result;
+  }
+
   protected String createDelimitedString(String[] items) {
 
     StringBuilder commaDelimitedString = null;
@@ -3,21 +3,24 @@ package org.knowm.xchange.kraken.service;
 import java.io.IOException;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trades;
 import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.instrument.Instrument;
 import org.knowm.xchange.kraken.KrakenAdapters;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenDepth;
 import org.knowm.xchange.kraken.dto.marketdata.KrakenPublicTrades;
+import org.knowm.xchange.service.marketdata.AsyncMarketDataService;
 import org.knowm.xchange.service.marketdata.MarketDataService;
 import org.knowm.xchange.service.marketdata.params.CurrencyPairsParam;
 import org.knowm.xchange.service.marketdata.params.Params;
 
 public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
-    implements MarketDataService {
+    implements MarketDataService, AsyncMarketDataService {
 
   /**
    * Constructor
@@ -35,6 +38,14 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
     return KrakenAdapters.adaptTicker(getKrakenTicker(currencyPair), currencyPair);
   }
 
+  @Override
+  public CompletableFuture<Ticker> getTickerAsync(Instrument instrument, Object... args) {
+
+    CurrencyPair currencyPair = (CurrencyPair) instrument;
+    return getKrakenTickerAsync(currencyPair)
+        .thenApply(krakenTicker -> KrakenAdapters.adaptTicker(krakenTicker, currencyPair));
+  }
+
   @Override
   public List<Ticker> getTickers(Params params) throws IOException {
     if (!(params instanceof CurrencyPairsParam)) {
@@ -48,6 +59,21 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
   @Override
   public OrderBook getOrderBook(CurrencyPair currencyPair, Object... args) throws IOException {
 
+    KrakenDepth krakenDepth = getKrakenDepth(currencyPair, orderBookCount(args));
+
+    return KrakenAdapters.adaptOrderBook(krakenDepth, currencyPair);
+  }
+
+  @Override
+  public CompletableFuture<OrderBook> getOrderBookAsync(Instrument instrument, Object... args) {
+
+    CurrencyPair currencyPair = (CurrencyPair) instrument;
+    return getKrakenDepthAsync(currencyPair, orderBookCount(args))
+        .thenApply(krakenDepth -> KrakenAdapters.adaptOrderBook(krakenDepth, currencyPair));
+  }
+
+  private static long orderBookCount(Object... args) {
+
     long count = Long.MAX_VALUE;
 
     if (args != null && args.length > 0) {
@@ -60,10 +86,7 @@ public class KrakenMarketDataService extends KrakenMarketDataServiceRaw
         throw new ExchangeException("args[0] must be of type Long or Integer");
       }
     }
-
-    KrakenDepth krakenDepth = getKrakenDepth(currencyPair, count);
-
-    return KrakenAdapters.adaptOrderBook(krakenDepth, currencyPair);
+    return count;
   }
 
   @Override
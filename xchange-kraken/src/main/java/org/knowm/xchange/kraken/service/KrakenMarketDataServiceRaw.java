@@ -2,6 +2,7 @@ package org.knowm.xchange.kraken.service;
 
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
@@ -50,6 +51,13 @@ public class KrakenMarketDataServiceRaw extends KrakenBaseService {
     return checkResult(tickerResult).get(krakenCurrencyPair);
   }
 
+  public CompletableFuture<KrakenTicker> getKrakenTickerAsync(CurrencyPair currencyPair) {
+
+    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(currencyPair);
+    return checkResultAsync(getKrakenAsync().getTicker(krakenCurrencyPair))
+        .thenApply(tickers -> tickers.get(krakenCurrencyPair));
+  }
+
   public Map<String, KrakenTicker> getKrakenTickers(CurrencyPair... currencyPairs)
       throws IOException {
 
@@ -66,6 +74,14 @@ public class KrakenMarketDataServiceRaw extends KrakenBaseService {
     return checkResult(result).get(krakenCurrencyPair);
   }
 
+  public CompletableFuture<KrakenDepth> getKrakenDepthAsync(
+      CurrencyPair currencyPair, long count) {
+
+    String krakenCurrencyPair = KrakenUtils.createKrakenCurrencyPair(currencyPair);
+    return checkResultAsync(getKrakenAsync().getDepth(krakenCurrencyPair, count))
+        .thenApply(depths -> depths.get(krakenCurrencyPair));
+  }
+
   public KrakenPublicTrades getKrakenTrades(CurrencyPair currencyPair) throws IOException {
 
     return getKrakenTrades(currencyPair, null);
@@ -2,18 +2,21 @@ package org.knowm.xchange.kraken.service;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.account.OpenPositions;
 import org.knowm.xchange.dto.trade.*;
 import org.knowm.xchange.exceptions.ExchangeException;
 import org.knowm.xchange.kraken.KrakenAdapters;
+import org.knowm.xchange.service.trade.AsyncTradeService;
 import org.knowm.xchange.service.trade.TradeService;
 import org.knowm.xchange.service.trade.params.*;
 import org.knowm.xchange.service.trade.params.orders.OpenOrdersParams;
 import org.knowm.xchange.utils.DateUtils;
 
-public class KrakenTradeService extends KrakenTradeServiceRaw implements TradeService {
+public class KrakenTradeService extends KrakenTradeServiceRaw
+    implements TradeService, AsyncTradeService {
 
   /**
    * Constructor
@@ -35,12 +38,23 @@ public class KrakenTradeService extends KrakenTradeServiceRaw implements TradeSe
     return KrakenAdapters.adaptOpenOrders(super.getKrakenOpenOrders());
   }
 
+  @Override
+  public CompletableFuture<OpenOrders> getOpenOrdersAsync(OpenOrdersParams params) {
+    return super.getKrakenOpenOrdersAsync().thenApply(KrakenAdapters::adaptOpenOrders);
+  }
+
   @Override
   public String placeMarketOrder(MarketOrder marketOrder) throws IOException {
 
     return KrakenAdapters.adaptOrderId(super.placeKrakenMarketOrder(marketOrder));
   }
 
+  @Override
+  public CompletableFuture<String> placeMarketOrderAsync(MarketOrder marketOrder) {
+
+    return super.placeKrakenMarketOrderAsync(marketOrder).thenApply(KrakenAdapters::adaptOrderId);
+  }
+
   @Override
   public OpenPositions getOpenPositions() throws IOException {
     return KrakenAdapters.adaptOpenPositions(super.getKrakenOpenPositions());
@@ -52,6 +66,12 @@ public class KrakenTradeService extends KrakenTradeServiceRaw implements TradeSe
     return KrakenAdapters.adaptOrderId(super.placeKrakenLimitOrder(limitOrder));
   }
 
+  @Override
+  public CompletableFuture<String> placeLimitOrderAsync(LimitOrder limitOrder) {
+
+    return super.placeKrakenLimitOrderAsync(limitOrder).thenApply(KrakenAdapters::adaptOrderId);
+  }
+
   @Override
   public boolean cancelOrder(String orderId) throws IOException {
 
@@ -69,6 +89,19 @@ public class KrakenTradeService extends KrakenTradeServiceRaw implements TradeSe
     return false;
   }
 
+  @Override
+  public CompletableFuture<Boolean> cancelOrderAsync(CancelOrderParams orderParams) {
+    String orderId;
+    if (orderParams instanceof CancelOrderByIdParams) {
+      orderId = ((CancelOrderByIdParams) orderParams).getOrderId();
+    } else if (orderParams instanceof CancelOrderByUserReferenceParams) {
+      orderId = ((CancelOrderByUserReferenceParams) orderParams).getUserReference();
+    } else {
+      return CompletableFuture.completedFuture(false);
+    }
+    return super.cancelKrakenOrderAsync(orderId).thenApply(response -> response.getCount() > 0);
+  }
+
   /**
    * @param params Can optionally implement {@link TradeHistoryParamOffset} and {@link
    *     TradeHistoryParamsTimeSpan} and {@link TradeHistoryParamsIdSpan} All other
@@ -1,8 +1,13 @@
 package org.knowm.xchange.kraken.service;
 
+import static org.knowm.xchange.kraken.KrakenResilience.API_COUNTER_RATE_LIMITER;
+import static org.knowm.xchange.kraken.KrakenResilience.ORDERS_RATE_LIMITER;
+
 import java.io.IOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import org.knowm.xchange.Exchange;
+import org.knowm.xchange.client.CallPriority;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.dto.trade.MarketOrder;
@@ -20,6 +25,7 @@ import org.knowm.xchange.kraken.dto.trade.results.KrakenCancelOrderResult;
 import org.knowm.xchange.kraken.dto.trade.results.KrakenCancelOrderResult.KrakenCancelOrderResponse;
 import org.knowm.xchange.kraken.dto.trade.results.KrakenClosedOrdersResult;
 import org.knowm.xchange.kraken.dto.trade.results.KrakenOpenOrdersResult;
+import org.knowm.xchange.kraken.dto.trade.results.KrakenOpenOrdersResult.KrakenOpenOrders;
 import org.knowm.xchange.kraken.dto.trade.results.KrakenOpenPositionsResult;
 import org.knowm.xchange.kraken.dto.trade.results.KrakenOrderResult;
 import org.knowm.xchange.kraken.dto.trade.results.KrakenQueryOrderResult;
@@ -48,16 +54,38 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
       throws IOException {
 
     KrakenOpenOrdersResult result =
-        kraken.openOrders(
-            includeTrades,
-            userRef,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.openOrders(
+                        includeTrades,
+                        userRef,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
 
     return checkResult(result).getOrders();
   }
 
+  public CompletableFuture<Map<String, KrakenOrder>> getKrakenOpenOrdersAsync() {
+
+    return checkResultAsync(
+            decorateAsyncApiCall(
+                    () ->
+                        getKrakenAsync().openOrders(
+                            false,
+                            null,
+                            exchange.getExchangeSpecification().getApiKey(),
+                            signatureCreator,
+                            exchange.getNonceFactory()))
+                .withPriority(CallPriority.ACCOUNT)
+                .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+                .call())
+        .thenApply(KrakenOpenOrders::getOrders);
+  }
+
   public Map<String, KrakenOrder> getKrakenClosedOrders() throws IOException {
 
     return getKrakenClosedOrders(false, null, null, null, null, null);
@@ -73,16 +101,21 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
       throws IOException {
 
     KrakenClosedOrdersResult result =
-        kraken.closedOrders(
-            includeTrades,
-            userRef,
-            start,
-            end,
-            offset,
-            closeTime,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.closedOrders(
+                        includeTrades,
+                        userRef,
+                        start,
+                        end,
+                        offset,
+                        closeTime,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
 
     return checkResult(result).getOrders();
   }
@@ -96,13 +129,18 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
       boolean includeTrades, String userRef, String... transactionIds) throws IOException {
 
     KrakenQueryOrderResult krakenQueryOrderResult =
-        kraken.queryOrders(
-            includeTrades,
-            userRef,
-            createDelimitedString(transactionIds),
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.queryOrders(
+                        includeTrades,
+                        userRef,
+                        createDelimitedString(transactionIds),
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
 
     return krakenQueryOrderResult;
   }
@@ -111,13 +149,18 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
       boolean includeTrades, String userRef, String... transactionIds) throws IOException {
 
     KrakenQueryOrderResult result =
-        kraken.queryOrders(
-            includeTrades,
-            userRef,
-            createDelimitedString(transactionIds),
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.queryOrders(
+                        includeTrades,
+                        userRef,
+                        createDelimitedString(transactionIds),
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
 
     return checkResult(result);
   }
@@ -131,15 +174,20 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
       throws IOException {
 
     KrakenTradeHistoryResult result =
-        kraken.tradeHistory(
-            type,
-            includeTrades,
-            start,
-            end,
-            offset,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.tradeHistory(
+                        type,
+                        includeTrades,
+                        start,
+                        end,
+                        offset,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER), 2)
+            .call();
 
     return checkResult(result);
   }
@@ -153,12 +201,17 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
       throws IOException {
 
     KrakenQueryTradeResult result =
-        kraken.queryTrades(
-            includeTrades,
-            createDelimitedString(transactionIds),
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.queryTrades(
+                        includeTrades,
+                        createDelimitedString(transactionIds),
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
 
     return checkResult(result);
   }
@@ -172,18 +225,34 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
       boolean doCalcs, String... transactionIds) throws IOException {
 
     KrakenOpenPositionsResult result =
-        kraken.openPositions(
-            createDelimitedString(transactionIds),
-            doCalcs,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.openPositions(
+                        createDelimitedString(transactionIds),
+                        doCalcs,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
 
     return checkResult(result);
   }
 
   public KrakenOrderResponse placeKrakenMarketOrder(MarketOrder marketOrder) throws IOException {
 
+    return placeKrakenOrder(createKrakenMarketOrder(marketOrder));
+  }
+
+  public CompletableFuture<KrakenOrderResponse> placeKrakenMarketOrderAsync(
+      MarketOrder marketOrder) {
+
+    return placeKrakenOrderAsync(createKrakenMarketOrder(marketOrder));
+  }
+
+  private KrakenStandardOrder createKrakenMarketOrder(MarketOrder marketOrder) {
+
     KrakenType type = KrakenType.fromOrderType(marketOrder.getType());
     KrakenOrderBuilder orderBuilder =
         KrakenStandardOrder.getMarketOrderBuilder(
@@ -192,7 +261,7 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
             .withOrderFlags(marketOrder.getOrderFlags())
             .withLeverage(marketOrder.getLeverage());
 
-    return placeKrakenOrder(orderBuilder.buildOrder());
+    return orderBuilder.buildOrder();
   }
 
   public KrakenOrderResponse placeKrakenSettlePositionOrder(MarketOrder marketOrder)
@@ -208,6 +277,16 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
   }
 
   public KrakenOrderResponse placeKrakenLimitOrder(LimitOrder limitOrder) throws IOException {
+
+    return placeKrakenOrder(createKrakenLimitOrder(limitOrder));
+  }
+
+  public CompletableFuture<KrakenOrderResponse> placeKrakenLimitOrderAsync(LimitOrder limitOrder) {
+
+    return placeKrakenOrderAsync(createKrakenLimitOrder(limitOrder));
+  }
+
+  private KrakenStandardOrder createKrakenLimitOrder(LimitOrder limitOrder) {
     KrakenType type = KrakenType.fromOrderType(limitOrder.getType());
     KrakenOrderBuilder krakenOrderBuilder =
         KrakenStandardOrder.getLimitOrderBuilder(
@@ -219,7 +298,7 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
             .withOrderFlags(limitOrder.getOrderFlags())
             .withLeverage(limitOrder.getLeverage());
 
-    return placeKrakenOrder(krakenOrderBuilder.buildOrder());
+    return krakenOrderBuilder.buildOrder();
   }
 
   public KrakenOrderResponse placeKrakenOrder(KrakenStandardOrder krakenStandardOrder)
@@ -228,68 +307,135 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
     KrakenOrderResult result = null;
     if (!krakenStandardOrder.isValidateOnly()) {
       result =
-          kraken.addOrder(
-              KrakenUtils.createKrakenCurrencyPair(krakenStandardOrder.getAssetPair()),
-              krakenStandardOrder.getType().toString(),
-              krakenStandardOrder.getOrderType().toApiFormat(),
-              krakenStandardOrder.getPrice(),
-              krakenStandardOrder.getSecondaryPrice(),
-              krakenStandardOrder.getVolume().toPlainString(),
-              krakenStandardOrder.getLeverage(),
-              krakenStandardOrder.getPositionTxId(),
-              delimitSet(krakenStandardOrder.getOrderFlags()),
-              krakenStandardOrder.getStartTime(),
-              krakenStandardOrder.getExpireTime(),
-              krakenStandardOrder.getUserRefId(),
-              krakenStandardOrder.getCloseOrder(),
-              exchange.getExchangeSpecification().getApiKey(),
-              signatureCreator,
-              exchange.getNonceFactory());
+          decorateApiCall(
+                  () ->
+                      kraken.addOrder(
+                          KrakenUtils.createKrakenCurrencyPair(krakenStandardOrder.getAssetPair()),
+                          krakenStandardOrder.getType().toString(),
+                          krakenStandardOrder.getOrderType().toApiFormat(),
+                          krakenStandardOrder.getPrice(),
+                          krakenStandardOrder.getSecondaryPrice(),
+                          krakenStandardOrder.getVolume().toPlainString(),
+                          krakenStandardOrder.getLeverage(),
+                          krakenStandardOrder.getPositionTxId(),
+                          delimitSet(krakenStandardOrder.getOrderFlags()),
+                          krakenStandardOrder.getStartTime(),
+                          krakenStandardOrder.getExpireTime(),
+                          krakenStandardOrder.getUserRefId(),
+                          krakenStandardOrder.getCloseOrder(),
+                          exchange.getExchangeSpecification().getApiKey(),
+                          signatureCreator,
+                          exchange.getNonceFactory()))
+              .withPriority(CallPriority.PLACE)
+              .withRateLimiter(rateLimiter(ORDERS_RATE_LIMITER))
+              .call();
     } else {
       result =
-          kraken.addOrderValidateOnly(
-              KrakenUtils.createKrakenCurrencyPair(krakenStandardOrder.getAssetPair()),
-              krakenStandardOrder.getType().toString(),
-              krakenStandardOrder.getOrderType().toApiFormat(),
-              krakenStandardOrder.getPrice(),
-              krakenStandardOrder.getSecondaryPrice(),
-              krakenStandardOrder.getVolume().toPlainString(),
-              krakenStandardOrder.getLeverage(),
-              krakenStandardOrder.getPositionTxId(),
-              delimitSet(krakenStandardOrder.getOrderFlags()),
-              krakenStandardOrder.getStartTime(),
-              krakenStandardOrder.getExpireTime(),
-              krakenStandardOrder.getUserRefId(),
-              true,
-              krakenStandardOrder.getCloseOrder(),
-              exchange.getExchangeSpecification().getApiKey(),
-              signatureCreator,
-              exchange.getNonceFactory());
+          decorateApiCall(
+                  () ->
+                      kraken.addOrderValidateOnly(
+                          KrakenUtils.createKrakenCurrencyPair(krakenStandardOrder.getAssetPair()),
+                          krakenStandardOrder.getType().toString(),
+                          krakenStandardOrder.getOrderType().toApiFormat(),
+                          krakenStandardOrder.getPrice(),
+                          krakenStandardOrder.getSecondaryPrice(),
+                          krakenStandardOrder.getVolume().toPlainString(),
+                          krakenStandardOrder.getLeverage(),
+                          krakenStandardOrder.getPositionTxId(),
+                          delimitSet(krakenStandardOrder.getOrderFlags()),
+                          krakenStandardOrder.getStartTime(),
+                          krakenStandardOrder.getExpireTime(),
+                          krakenStandardOrder.getUserRefId(),
+                          true,
+                          krakenStandardOrder.getCloseOrder(),
+                          exchange.getExchangeSpecification().getApiKey(),
+                          signatureCreator,
+                          exchange.getNonceFactory()))
+              .withPriority(CallPriority.PLACE)
+              .withRateLimiter(rateLimiter(ORDERS_RATE_LIMITER))
+              .call();
     }
 
     return checkResult(result);
   }
 
+  /** Validate only orders can only be placed with {@link #placeKrakenOrder}. */
+  public CompletableFuture<KrakenOrderResponse> placeKrakenOrderAsync(
+      KrakenStandardOrder krakenStandardOrder) {
+
+    if (krakenStandardOrder.isValidateOnly()) {
+      throw new IllegalArgumentException("Validate only orders can't be placed asynchronously");
+    }
+    return checkResultAsync(
+        decorateAsyncApiCall(
+                () ->
+                    getKrakenAsync().addOrder(
+                        KrakenUtils.createKrakenCurrencyPair(krakenStandardOrder.getAssetPair()),
+                        krakenStandardOrder.getType().toString(),
+                        krakenStandardOrder.getOrderType().toApiFormat(),
+                        krakenStandardOrder.getPrice(),
+                        krakenStandardOrder.getSecondaryPrice(),
+                        krakenStandardOrder.getVolume().toPlainString(),
+                        krakenStandardOrder.getLeverage(),
+                        krakenStandardOrder.getPositionTxId(),
+                        delimitSet(krakenStandardOrder.getOrderFlags()),
+                        krakenStandardOrder.getStartTime(),
+                        krakenStandardOrder.getExpireTime(),
+                        krakenStandardOrder.getUserRefId(),
+                        krakenStandardOrder.getCloseOrder(),
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.PLACE)
+            .withRateLimiter(rateLimiter(ORDERS_RATE_LIMITER))
+            .call());
+  }
+
   public KrakenCancelOrderResponse cancelKrakenOrder(String orderId) throws IOException {
 
     KrakenCancelOrderResult result =
-        kraken.cancelOrder(
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory(),
-            orderId);
+        decorateApiCall(
+                () ->
+                    kraken.cancelOrder(
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory(),
+                        orderId))
+            .withPriority(CallPriority.CANCEL)
+            .withRateLimiter(rateLimiter(ORDERS_RATE_LIMITER))
+            .call();
 
     return checkResult(result);
   }
 
+  public CompletableFuture<KrakenCancelOrderResponse> cancelKrakenOrderAsync(String orderId) {
+
+    return checkResultAsync(
+        decorateAsyncApiCall(
+                () ->
+                    getKrakenAsync().cancelOrder(
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory(),
+                        orderId))
+            .withPriority(CallPriority.CANCEL)
+            .withRateLimiter(rateLimiter(ORDERS_RATE_LIMITER))
+            .call());
+  }
+
   protected KrakenTradeVolume getTradeVolume(CurrencyPair... currencyPairs) throws IOException {
 
     KrakenTradeVolumeResult result =
-        kraken.tradeVolume(
-            delimitAssetPairs(currencyPairs),
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.tradeVolume(
+                        delimitAssetPairs(currencyPairs),
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
 
     return checkResult(result);
   }
@@ -299,13 +445,18 @@ public class KrakenTradeServiceRaw extends KrakenBaseService {
     String orderIdsString = String.join(",", orderIds);
 
     KrakenQueryOrderResult krakenOrderResult =
-        kraken.queryOrders(
-            false,
-            null,
-            orderIdsString,
-            exchange.getExchangeSpecification().getApiKey(),
-            signatureCreator,
-            exchange.getNonceFactory());
+        decorateApiCall(
+                () ->
+                    kraken.queryOrders(
+                        false,
+                        null,
+                        orderIdsString,
+                        exchange.getExchangeSpecification().getApiKey(),
+                        signatureCreator,
+                        exchange.getNonceFactory()))
+            .withPriority(CallPriority.ACCOUNT)
+            .withRateLimiter(rateLimiter(API_COUNTER_RATE_LIMITER))
+            .call();
 
     return checkResult(krakenOrderResult);
   }
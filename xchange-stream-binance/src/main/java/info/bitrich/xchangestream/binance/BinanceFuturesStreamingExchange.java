@@ -24,12 +24,16 @@ import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import static org.knowm.xchange.binance.BinanceResilience.REQUEST_WEIGHT_RATE_LIMITER;
+
 public class BinanceFuturesStreamingExchange extends BinanceFuturesExchange implements StreamingExchange {
     private static final Logger LOG = LoggerFactory.getLogger(BinanceFuturesStreamingExchange.class);
     private static final String API_BASE_URI = "wss://fstream.binance.com";
     private static final String SANDBOX_API_BASE_URI = "wss://stream.binancefuture.com";
     protected static final String USE_HIGHER_UPDATE_FREQUENCY =
             "Binance_Orderbook_Use_Higher_Frequency";
+    /** Maintain streamed order books as {@link org.knowm.xchange.dto.marketdata.SortedOrderBook}. */
+    public static final String USE_SORTED_ORDER_BOOK = "Binance_Orderbook_Use_Sorted_Levels";
 
     private BinanceStreamingService streamingService;
     protected BinanceUserDataStreamingService userDataStreamingService;
@@ -41,6 +45,7 @@ public class BinanceFuturesStreamingExchange extends BinanceFuturesExchange impl
     private BinanceUserDataChannel userDataChannel;
     private Runnable onApiCall;
     private String orderBookUpdateFrequencyParameter = "";
+    private boolean useSortedOrderBook;
 
     @Override
     protected void initServices() {
@@ -53,6 +58,10 @@ public class BinanceFuturesStreamingExchange extends BinanceFuturesExchange impl
                                         USE_HIGHER_UPDATE_FREQUENCY),
                         Boolean.FALSE);
 
+        useSortedOrderBook =
+                Boolean.TRUE.equals(
+                        exchangeSpecification.getExchangeSpecificParametersItem(USE_SORTED_ORDER_BOOK));
+
         if (userHigherFrequency) {
             orderBookUpdateFrequencyParameter = "@100ms";
         }
@@ -114,7 +123,11 @@ public class BinanceFuturesStreamingExchange extends BinanceFuturesExchange impl
                         streamingService,
                         (BinanceMarketDataService) marketDataService,
                         onApiCall,
-                        orderBookUpdateFrequencyParameter);
+                        orderBookUpdateFrequencyParameter,
+                        useSortedOrderBook,
+                        new BinanceSnapshotScheduler(getResilienceRegistries()
+                                .rateLimiters()
+                                .rateLimiter(REQUEST_WEIGHT_RATE_LIMITER)));
         streamingAccountService = new BinanceFuturesStreamingAccountService(userDataStreamingService);
         streamingTradeService = new BinanceFuturesStreamingTradeService(userDataStreamingService);
 
@@ -230,7 +243,7 @@ public class BinanceFuturesStreamingExchange extends BinanceFuturesExchange impl
 
     private static Stream<String> subscriptionStrings(List<CurrencyPair> currencyPairs) {
         return currencyPairs.stream()
-                .map(pair -> String.join("", pair.toString().split("/")).toLowerCase());
+                .map(BinanceStreamingMarketDataService::streamSymbol);
     }
 
     @Override
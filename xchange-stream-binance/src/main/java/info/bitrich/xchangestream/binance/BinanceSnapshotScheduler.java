@@ -0,0 +1,195 @@
+package info.bitrich.xchangestream.binance;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.core.SingleEmitter;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
+import org.knowm.xchange.binance.BinanceErrorAdapter;
+import org.knowm.xchange.binance.dto.BinanceException;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Fetches the REST order book snapshots of many symbols concurrently within the request weight
+ * budget of the API. Fetches wait in a queue until the weight rate limiter of the exchange has
+ * enough permits left for them, at most {@code maxConcurrentFetches} run at once. Scheduling a
+ * fetch never blocks, it is safe to call from the thread of the web socket.
+ *
+ * <p>A rate limit error of the API pauses all queued fetches for {@link #RATE_LIMIT_PAUSE}.
+ */
+public class BinanceSnapshotScheduler {
+
+  private static final Logger LOG = LoggerFactory.getLogger(BinanceSnapshotScheduler.class);
+
+  public static final int DEFAULT_MAX_CONCURRENT_FETCHES = 4;
+
+  public static final Duration RATE_LIMIT_PAUSE = Duration.ofSeconds(15);
+
+  /** Longest wait before checking the rate limiter again. */
+  private static final long MAX_POLL_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+  private final RateLimiter requestWeight;
+  private final int maxConcurrentFetches;
+  private final Scheduler scheduler;
+
+  private final Queue<Fetch<?>> queue = new ArrayDeque<>();
+  private int running;
+  private int runningWeight;
+  private boolean drainScheduled;
+  private long pausedUntil = Long.MIN_VALUE;
+
+  /**
+   * Runs fetches on {@link Schedulers#io()}.
+   *
+   * @param requestWeight request weight rate limiter of the exchange, null to bound the number of
+   *     concurrent fetches only
+   */
+  public BinanceSnapshotScheduler(RateLimiter requestWeight) {
+    this(requestWeight, DEFAULT_MAX_CONCURRENT_FETCHES, Schedulers.io());
+  }
+
+  /** @param scheduler runs the fetches and the delays between them */
+  public BinanceSnapshotScheduler(
+      RateLimiter requestWeight, int maxConcurrentFetches, Scheduler scheduler) {
+    if (maxConcurrentFetches <= 0) {
+      throw new IllegalArgumentException("maxConcurrentFetches must be positive");
+    }
+    this.requestWeight = requestWeight;
+    this.maxConcurrentFetches = maxConcurrentFetches;
+    this.scheduler = scheduler;
+  }
+
+  /**
+   * Queues a fetch on subscription. The fetch acquires its permits from the rate limiter itself,
+   * e.g. through {@code BinanceMarketDataServiceRaw}, the scheduler only holds it back until the
+   * permits are available.
+   *
+   * @param weight request weight of the fetch
+   * @param fetch calls the API, runs on a background thread
+   * @return emits the result of the fetch, disposing it drops the fetch if it hasn't started yet
+   */
+  public <T> Single<T> schedule(int weight, Callable<T> fetch) {
+    return Single.create(emitter -> enqueue(new Fetch<>(weight, fetch, emitter)));
+  }
+
+  /** @return number of fetches waiting for permits or a free slot */
+  public synchronized int getQueued() {
+    return queue.size();
+  }
+
+  private synchronized void enqueue(Fetch<?> fetch) {
+    queue.add(fetch);
+    drain();
+  }
+
+  private synchronized void drain() {
+    while (running < maxConcurrentFetches && !queue.isEmpty()) {
+      Fetch<?> next = queue.peek();
+      if (next.emitter.isDisposed()) {
+        queue.poll();
+        continue;
+      }
+      long nanosToWait = nanosToWait(next.weight);
+      if (nanosToWait > 0) {
+        scheduleDrain(nanosToWait);
+        return;
+      }
+      queue.poll();
+      running++;
+      runningWeight += next.weight;
+      scheduler.scheduleDirect(() -> run(next));
+    }
+  }
+
+  private long nanosToWait(int weight) {
+    long now = scheduler.now(TimeUnit.NANOSECONDS);
+    if (now < pausedUntil) {
+      return pausedUntil - now;
+    }
+    if (requestWeight == null) {
+      return 0;
+    }
+    RateLimiterConfig config = requestWeight.getRateLimiterConfig();
+    // running fetches may not have acquired their permits yet
+    int availablePermissions = requestWeight.getMetrics().getAvailablePermissions();
+    if (weight > config.getLimitForPeriod()
+        || availablePermissions - runningWeight >= weight) {
+      return 0;
+    }
+    return Math.min(config.getLimitRefreshPeriod().toNanos(), MAX_POLL_NANOS);
+  }
+
+  private void scheduleDrain(long nanos) {
+    if (drainScheduled) {
+      return;
+    }
+    drainScheduled = true;
+    scheduler.scheduleDirect(
+        () -> {
+          synchronized (this) {
+            drainScheduled = false;
+            drain();
+          }
+        },
+        nanos,
+        TimeUnit.NANOSECONDS);
+  }
+
+  private <T> void run(Fetch<T> fetch) {
+    try {
+      if (!fetch.emitter.isDisposed()) {
+        fetch.emitter.onSuccess(fetch.call.call());
+      }
+    } catch (Throwable e) {
+      if (isRateLimitExceeded(e)) {
+        pause();
+      }
+      fetch.emitter.tryOnError(e);
+    } finally {
+      synchronized (this) {
+        running--;
+        runningWeight -= fetch.weight;
+        drain();
+      }
+    }
+  }
+
+  private synchronized void pause() {
+    long now = scheduler.now(TimeUnit.NANOSECONDS);
+    if (now < pausedUntil) {
+      return;
+    }
+    LOG.error(
+        "API rate limit was hit when fetching Binance order book snapshots, pausing for {}. "
+            + "Enable the rate limiter of the exchange specification to stay within the limits.",
+        RATE_LIMIT_PAUSE);
+    pausedUntil = now + RATE_LIMIT_PAUSE.toNanos();
+  }
+
+  private static boolean isRateLimitExceeded(Throwable e) {
+    if (e instanceof BinanceException) {
+      e = BinanceErrorAdapter.adapt((BinanceException) e);
+    }
+    return e instanceof RateLimitExceededException;
+  }
+
+  private static final class Fetch<T> {
+    final int weight;
+    final Callable<T> call;
+    final SingleEmitter<T> emitter;
+
+    Fetch(int weight, Callable<T> call, SingleEmitter<T> emitter) {
+      this.weight = weight;
+      this.call = call;
+      this.emitter = emitter;
+    }
+  }
+}
@@ -1,5 +1,7 @@
 package info.bitrich.xchangestream.binance;
 
+import static org.knowm.xchange.binance.BinanceResilience.REQUEST_WEIGHT_RATE_LIMITER;
+
 import com.google.common.base.MoreObjects;
 import info.bitrich.xchangestream.binance.BinanceUserDataChannel.NoActiveChannelException;
 import info.bitrich.xchangestream.core.ProductSubscription;
@@ -29,6 +31,8 @@ public class BinanceStreamingExchange extends BinanceExchange implements Streami
   private static final String SANDBOX_API_BASE_URI = "wss://testnet.binance.vision";
   protected static final String USE_HIGHER_UPDATE_FREQUENCY =
       "Binance_Orderbook_Use_Higher_Frequency";
+  /** Maintain streamed order books as {@link org.knowm.xchange.dto.marketdata.SortedOrderBook}. */
+  public static final String USE_SORTED_ORDER_BOOK = "Binance_Orderbook_Use_Sorted_Levels";
 
   private BinanceStreamingService streamingService;
   protected BinanceUserDataStreamingService userDataStreamingService;
@@ -40,6 +44,7 @@ public class BinanceStreamingExchange extends BinanceExchange implements Streami
   private BinanceUserDataChannel userDataChannel;
   private Runnable onApiCall;
   private String orderBookUpdateFrequencyParameter = "";
+  private boolean useSortedOrderBook;
 
   @Override
   protected void initServices() {
@@ -52,6 +57,10 @@ public class BinanceStreamingExchange extends BinanceExchange implements Streami
                     USE_HIGHER_UPDATE_FREQUENCY),
             Boolean.FALSE);
 
+    useSortedOrderBook =
+        Boolean.TRUE.equals(
+            exchangeSpecification.getExchangeSpecificParametersItem(USE_SORTED_ORDER_BOOK));
+
     if (userHigherFrequency) {
       orderBookUpdateFrequencyParameter = "@100ms";
     }
@@ -78,6 +87,7 @@ public class BinanceStreamingExchange extends BinanceExchange implements Streami
 
     ProductSubscription subscriptions = args[0];
     streamingService = createStreamingService(subscriptions);
+    applyStreamingSpecification(exchangeSpecification, streamingService);
 
     List<Completable> completables = new ArrayList<>();
 
@@ -109,7 +119,10 @@ public class BinanceStreamingExchange extends BinanceExchange implements Streami
             streamingService,
             (BinanceMarketDataService) marketDataService,
             onApiCall,
-            orderBookUpdateFrequencyParameter);
+            orderBookUpdateFrequencyParameter,
+            useSortedOrderBook,
+            new BinanceSnapshotScheduler(
+                getResilienceRegistries().rateLimiters().rateLimiter(REQUEST_WEIGHT_RATE_LIMITER)));
     streamingAccountService = new BinanceStreamingAccountService(userDataStreamingService);
     streamingTradeService = new BinanceStreamingTradeService(userDataStreamingService);
 
@@ -229,7 +242,7 @@ public class BinanceStreamingExchange extends BinanceExchange implements Streami
 
   private static Stream<String> subscriptionStrings(List<CurrencyPair> currencyPairs) {
     return currencyPairs.stream()
-        .map(pair -> String.join("", pair.toString().split("/")).toLowerCase());
+        .map(BinanceStreamingMarketDataService::streamSymbol);
   }
 
   @Override
@@ -4,39 +4,42 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.google.common.util.concurrent.RateLimiter;
 import info.bitrich.xchangestream.binance.dto.*;
 import info.bitrich.xchangestream.binance.exceptions.UpFrontSubscriptionRequiredException;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import info.bitrich.xchangestream.core.ProductSubscription;
 import info.bitrich.xchangestream.core.StreamingMarketDataService;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import info.bitrich.xchangestream.util.OrderBookSynchronizer;
+import info.bitrich.xchangestream.util.OrderBookSynchronizer.Sequencing;
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.functions.Consumer;
 import org.knowm.xchange.binance.BinanceAdapters;
-import org.knowm.xchange.binance.BinanceErrorAdapter;
-import org.knowm.xchange.binance.dto.BinanceException;
 import org.knowm.xchange.binance.dto.marketdata.BinanceOrderbook;
 import org.knowm.xchange.binance.dto.marketdata.BinanceTicker24h;
 import org.knowm.xchange.binance.service.BinanceMarketDataService;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.currency.SymbolRegistry;
 import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.OrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.exceptions.ExchangeException;
-import org.knowm.xchange.exceptions.RateLimitExceededException;
 import org.knowm.xchange.instrument.Instrument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.Date;
+import java.util.Locale;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
@@ -46,12 +49,24 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
   private static final Logger LOG =
       LoggerFactory.getLogger(BinanceStreamingMarketDataService.class);
 
-  private static final JavaType TICKER_TYPE = getTickerType();
-  private static final JavaType TRADE_TYPE = getTradeType();
+  private static final JavaType TICKER_DATA_TYPE =
+      getObjectMapper().constructType(TickerBinanceWebsocketTransaction.class);
+  private static final JavaType TRADE_DATA_TYPE =
+      getObjectMapper().constructType(TradeBinanceWebsocketTransaction.class);
+  private static final JavaType DEPTH_DATA_TYPE =
+      getObjectMapper().constructType(DepthBinanceWebSocketTransaction.class);
   protected static final JavaType DEPTH_TYPE = getDepthType();
+  private static final SymbolRegistry<CurrencyPair> STREAM_SYMBOLS =
+      new SymbolRegistry<>(
+          pair -> BinanceAdapters.toSymbol(pair).toLowerCase(Locale.ROOT),
+          symbol -> BinanceAdapters.adaptSymbol(symbol.toUpperCase(Locale.ROOT)));
+  /** Depth of the REST order book snapshots, weighing {@link #SNAPSHOT_WEIGHT}. */
+  private static final int SNAPSHOT_LIMIT = 1000;
+  private static final int SNAPSHOT_WEIGHT = 10;
 
   protected final BinanceStreamingService service;
   private final String orderBookUpdateFrequencyParameter;
+  private final boolean useSortedOrderBook;
 
   private final Map<CurrencyPair, Flowable<BinanceTicker24h>> tickerSubscriptions;
   private final Map<CurrencyPair, Flowable<OrderBook>> orderbookSubscriptions;
@@ -63,8 +78,19 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
   private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
   protected final BinanceMarketDataService marketDataService;
   protected final Runnable onApiCall;
+  private final BinanceSnapshotScheduler snapshotScheduler;
 
-  protected final AtomicBoolean fallenBack = new AtomicBoolean();
+  /**
+   * @deprecated rate limited snapshot fetches are paused by the {@link BinanceSnapshotScheduler},
+   *     this flag is no longer set
+   */
+  @Deprecated protected final AtomicBoolean fallenBack = new AtomicBoolean();
+
+  /**
+   * @deprecated throttle snapshot fetches through the {@link BinanceSnapshotScheduler} instead,
+   *     the runnable is still run before every snapshot fetch
+   */
+  @Deprecated
   protected final AtomicReference<Runnable> fallbackOnApiCall = new AtomicReference<>(() -> {});
 
   public BinanceStreamingMarketDataService(
@@ -72,10 +98,45 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
       BinanceMarketDataService marketDataService,
       Runnable onApiCall,
       final String orderBookUpdateFrequencyParameter) {
+    this(service, marketDataService, onApiCall, orderBookUpdateFrequencyParameter, false);
+  }
+
+  /**
+   * @param useSortedOrderBook maintain the streamed order books as {@link SortedOrderBook}s
+   *     instead of list based {@link OrderBook}s
+   */
+  public BinanceStreamingMarketDataService(
+      BinanceStreamingService service,
+      BinanceMarketDataService marketDataService,
+      Runnable onApiCall,
+      final String orderBookUpdateFrequencyParameter,
+      boolean useSortedOrderBook) {
+    this(
+        service,
+        marketDataService,
+        onApiCall,
+        orderBookUpdateFrequencyParameter,
+        useSortedOrderBook,
+        new BinanceSnapshotScheduler(null));
+  }
+
+  /**
+   * @param snapshotScheduler fetches the order book snapshots of all pairs, pass one holding the
+   *     request weight rate limiter of the exchange to bootstrap many pairs at once
+   */
+  public BinanceStreamingMarketDataService(
+      BinanceStreamingService service,
+      BinanceMarketDataService marketDataService,
+      Runnable onApiCall,
+      final String orderBookUpdateFrequencyParameter,
+      boolean useSortedOrderBook,
+      BinanceSnapshotScheduler snapshotScheduler) {
     this.service = service;
     this.orderBookUpdateFrequencyParameter = orderBookUpdateFrequencyParameter;
+    this.useSortedOrderBook = useSortedOrderBook;
     this.marketDataService = marketDataService;
     this.onApiCall = onApiCall;
+    this.snapshotScheduler = snapshotScheduler;
     this.tickerSubscriptions = new ConcurrentHashMap<>();
     this.orderbookSubscriptions = new ConcurrentHashMap<>();
     this.tradeSubscriptions = new ConcurrentHashMap<>();
@@ -116,6 +177,8 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
    * rest and websocket which leads to delay before the order book will be received by subscriber.
    * This api provides the ability to start receiving updates immediately. It is allowed to
    * subscribe to this api and {@link #getOrderBook(CurrencyPair, Object...)} at the same time.
+   * {@link #getOrderBookUpdates(Instrument, Object...)} emits the same changes as one frame per
+   * depth event.
    */
   public Flowable<OrderBookUpdate> getOrderBookUpdates(
       CurrencyPair currencyPair, Object... args) {
@@ -131,6 +194,33 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
     return createOrderBookUpdatesFlowable(currencyPair);
   }
 
+  /**
+   * One frame per depth event, sequenced by its first and last update id. Binance streams diffs
+   * only, so no frame is a snapshot, start the book from a REST snapshot.
+   */
+  @Override
+  public Flowable<OrderBookUpdateFrame> getOrderBookUpdates(
+      Instrument instrument, Object... args) {
+    if (!(instrument instanceof CurrencyPair)) {
+      return StreamingMarketDataService.super.getOrderBookUpdates(instrument, args);
+    }
+    return getOrderBookUpdateFrames((CurrencyPair) instrument, instrument);
+  }
+
+  /**
+   * @param currencyPair pair of the depth stream
+   * @param instrument instrument of the levels in the frames
+   */
+  protected Flowable<OrderBookUpdateFrame> getOrderBookUpdateFrames(
+      CurrencyPair currencyPair, Instrument instrument) {
+    if (!service.isLiveSubscriptionEnabled() && !service.getProductSubscription().getOrderBook().contains(currencyPair)) {
+      throw new UpFrontSubscriptionRequiredException();
+    }
+    return orderBookRawUpdatesSubscriptions
+        .computeIfAbsent(currencyPair, s -> triggerFlowableBody(rawOrderBookUpdates(currencyPair)))
+        .map(depth -> adaptOrderBookUpdateFrame(instrument, depth));
+  }
+
   @Override
   public Flowable<Ticker> getTicker(CurrencyPair currencyPair, Object... args) {
     return getRawTicker(currencyPair).map(BinanceTicker24h::toTicker);
@@ -160,9 +250,13 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
         .publish(1).refCount();
   }
 
+  /** Lower case symbol of the pair used in stream names, e.g. "btcusdt" for BTC/USDT. */
+  static String streamSymbol(CurrencyPair currencyPair) {
+    return STREAM_SYMBOLS.toSymbol(currencyPair);
+  }
+
   protected String channelFromCurrency(CurrencyPair currencyPair, String subscriptionType) {
-    String currency = String.join("", currencyPair.toString().split("/")).toLowerCase();
-    String currencyChannel = currency + "@" + subscriptionType;
+    String currencyChannel = streamSymbol(currencyPair) + "@" + subscriptionType;
 
     if (BinanceSubscriptionType.DEPTH.getType().equals(subscriptionType)) {
       return currencyChannel + orderBookUpdateFrequencyParameter;
@@ -193,8 +287,7 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
       throw new UnsupportedOperationException("Unsubscribe not supported for Binance when live Subscription/Unsubscription is disabled. " +
           "Call BinanceStreamingExchange.enableLiveSubscription() to active it");
     }
-    final String channelId = String.join("", currencyPair.toString().split("/")).toLowerCase()
-        + "@" + subscriptionType.getType();
+    final String channelId = streamSymbol(currencyPair) + "@" + subscriptionType.getType();
     this.service.unsubscribeChannel(channelId);
 
     switch (subscriptionType) {
@@ -231,161 +324,115 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
 
   private Flowable<BinanceTicker24h> rawTickerStream(CurrencyPair currencyPair) {
     return service
-        .subscribeChannel(channelFromCurrency(currencyPair, BinanceSubscriptionType.TICKER.getType()))
-        .map(
-            it ->
-                this.<TickerBinanceWebsocketTransaction>readTransaction(it, TICKER_TYPE, "ticker"))
-        .filter(transaction -> transaction.getData().getCurrencyPair().equals(currencyPair))
-        .map(transaction -> transaction.getData().getTicker());
+        .<TickerBinanceWebsocketTransaction>subscribeTypedChannel(
+            channelFromCurrency(currencyPair, BinanceSubscriptionType.TICKER.getType()),
+            TICKER_DATA_TYPE)
+        .filter(data -> data.getCurrencyPair().equals(currencyPair))
+        .map(TickerBinanceWebsocketTransaction::getTicker);
   }
 
-  private final class OrderbookSubscription {
-    final Flowable<DepthBinanceWebSocketTransaction> stream;
-    final AtomicLong lastUpdateId = new AtomicLong();
-    final AtomicLong snapshotLastUpdateId = new AtomicLong();
+  /** Order book of an instrument maintained from the depth stream and REST snapshots. */
+  protected final class OrderbookSubscription {
+    final OrderBookSynchronizer<BinanceOrderbook, DepthBinanceWebSocketTransaction> synchronizer;
     OrderBook orderBook;
 
-    private OrderbookSubscription(Flowable<DepthBinanceWebSocketTransaction> stream) {
-      this.stream = stream;
-    }
-
-    void invalidateSnapshot() {
-      snapshotLastUpdateId.set(0);
-    }
-
-    void initSnapshotIfInvalid(CurrencyPair currencyPair) {
-      if (snapshotLastUpdateId.get() != 0) return;
-      try {
-        LOG.info("Fetching initial orderbook snapshot for {} ", currencyPair);
-        onApiCall.run();
-        fallbackOnApiCall.get().run();
-        BinanceOrderbook book = fetchBinanceOrderBook(currencyPair);
-        snapshotLastUpdateId.set(book.lastUpdateId);
-        lastUpdateId.set(book.lastUpdateId);
-        orderBook = BinanceMarketDataService.convertOrderBook(book, currencyPair);
-      } catch (Exception e) {
-        LOG.error("Failed to fetch initial order book for " + currencyPair, e);
-        snapshotLastUpdateId.set(0);
-        lastUpdateId.set(0);
-        orderBook = null;
-      }
+    /**
+     * @param currencyPair pair of the REST snapshot
+     * @param instrument instrument of the orders in the book
+     * @param sequencing update ids of the snapshots and depth events
+     */
+    protected OrderbookSubscription(
+        CurrencyPair currencyPair,
+        Instrument instrument,
+        Sequencing<BinanceOrderbook, DepthBinanceWebSocketTransaction> sequencing) {
+      this.synchronizer =
+          OrderBookSynchronizer.withSnapshots(
+              currencyPair.toString(),
+              () ->
+                  snapshotScheduler.schedule(
+                      SNAPSHOT_WEIGHT, () -> fetchBinanceOrderBook(currencyPair)),
+              sequencing,
+              // 7. The data in each event is the absolute quantity for a price level
+              // 8. If the quantity is 0, remove the price level
+              // 9. Receiving an event that removes a price level that is not in your local order
+              // book can happen and is normal.
+              book ->
+                  orderBook =
+                      createOrderBook(BinanceMarketDataService.convertOrderBook(book, instrument)),
+              depth -> extractOrderBookUpdates(instrument, depth).forEach(orderBook::update));
     }
 
     private BinanceOrderbook fetchBinanceOrderBook(CurrencyPair currencyPair)
-        throws IOException, InterruptedException {
-      try {
-        return marketDataService.getBinanceOrderbook(currencyPair, 1000);
-      } catch (BinanceException e) {
-        if (BinanceErrorAdapter.adapt(e) instanceof RateLimitExceededException) {
-          if (fallenBack.compareAndSet(false, true)) {
-            LOG.error(
-                "API Rate limit was hit when fetching Binance order book snapshot. Provide a \n"
-                    + "rate limiter. Apache Commons and Google Guava provide the TimedSemaphore\n"
-                    + "and RateLimiter classes which are effective for this purpose. Example:\n"
-                    + "\n"
-                    + "  exchangeSpecification.setExchangeSpecificParametersItem(\n"
-                    + "      info.bitrich.xchangestream.util.Events.BEFORE_API_CALL_HANDLER,\n"
-                    + "      () -> rateLimiter.acquire())\n"
-                    + "\n"
-                    + "Pausing for 15sec and falling back to one call per three seconds, but you\n"
-                    + "will get more optimal performance by handling your own rate limiting.");
-            RateLimiter rateLimiter = RateLimiter.create(0.333);
-            fallbackOnApiCall.set(rateLimiter::acquire);
-            Thread.sleep(15000);
-          }
-        }
-        throw e;
-      }
+        throws IOException {
+      fallbackOnApiCall.get().run();
+      onApiCall.run();
+      return marketDataService.getBinanceOrderbook(currencyPair, SNAPSHOT_LIMIT);
     }
   }
 
   protected Flowable<DepthBinanceWebSocketTransaction> rawOrderBookUpdates(
       CurrencyPair currencyPair) {
     return service
-        .subscribeChannel(channelFromCurrency(currencyPair,  BinanceSubscriptionType.DEPTH.getType()))
-        .map(
-            it ->
-                this.<DepthBinanceWebSocketTransaction>readTransaction(
-                    it, DEPTH_TYPE, "order book"))
-        .map(BinanceWebsocketTransaction::getData)
+        .<DepthBinanceWebSocketTransaction>subscribeTypedChannel(
+            channelFromCurrency(currencyPair, BinanceSubscriptionType.DEPTH.getType()),
+            DEPTH_DATA_TYPE)
         .filter(data -> data.getCurrencyPair().equals(currencyPair));
   }
 
   protected Flowable<OrderBook> createOrderBookFlowable(CurrencyPair currencyPair) {
+    // 4. Drop any event where u is <= lastUpdateId in the snapshot
+    // 5. The first processed event should have U <= lastUpdateId+1 AND u >= lastUpdateId+1, and
+    // each new event's U should be equal to the previous event's u+1. Overlaps are accepted as
+    // each update has absolute numbers.
+    return createOrderBookFlowable(
+        currencyPair,
+        currencyPair,
+        Sequencing.ranges(
+            book -> book.lastUpdateId,
+            DepthBinanceWebSocketTransaction::getFirstUpdateId,
+            DepthBinanceWebSocketTransaction::getLastUpdateId));
+  }
+
+  /**
+   * Maintains the order book from the buffered depth events and a REST snapshot, which is fetched
+   * again whenever an event is missed. Binance may return a snapshot older than the first buffered
+   * event when starting up, a newer one is fetched until they line up.
+   */
+  protected Flowable<OrderBook> createOrderBookFlowable(
+      CurrencyPair currencyPair,
+      Instrument instrument,
+      Sequencing<BinanceOrderbook, DepthBinanceWebSocketTransaction> sequencing) {
     // 1. Open a stream to wss://stream.binance.com:9443/ws/bnbbtc@depth
     // 2. Buffer the events you receive from the stream.
+    // 3. Get a depth snapshot from https://www.binance.com/api/v1/depth?symbol=BNBBTC&limit=1000
     OrderbookSubscription subscription =
-        new OrderbookSubscription(orderBookRawUpdatesSubscriptions.get(currencyPair));
-
-    return subscription
-        .stream
-
-        // 3. Get a depth snapshot from
-        // https://www.binance.com/api/v1/depth?symbol=BNBBTC&limit=1000
-        // (we do this if we don't already have one or we've invalidated a previous one)
-        .doOnNext(transaction -> subscription.initSnapshotIfInvalid(currencyPair))
-
-        // If we failed, don't return anything. Just keep trying until it works
-        .filter(transaction -> subscription.snapshotLastUpdateId.get() > 0L)
-
-        // 4. Drop any event where u is <= lastUpdateId in the snapshot
-        .filter(depth -> depth.getLastUpdateId() > subscription.snapshotLastUpdateId.get())
-
-        // 5. The first processed should have U <= lastUpdateId+1 AND u >= lastUpdateId+1, and
-        // subsequent events would
-        // normally have u == lastUpdateId + 1 which is stricter version of the above - let's be
-        // more relaxed
-        // each update has absolute numbers so even if there's an overlap it does no harm
-        .filter(
-            depth -> {
-              long lastUpdateId = subscription.lastUpdateId.get();
-              boolean result;
-              if (lastUpdateId == 0L) {
-                result = true;
-              } else {
-                result =
-                    depth.getFirstUpdateId() <= lastUpdateId + 1
-                        && depth.getLastUpdateId() >= lastUpdateId + 1;
-              }
-              if (result) {
-                subscription.lastUpdateId.set(depth.getLastUpdateId());
-              } else {
-                // If not, we re-sync.  This will commonly occur a few times when starting up, since
-                // given update ids 1,2,3,4,5,6,7,8,9, Binance may sometimes return a snapshot
-                // as of 5, but update events covering 1-3, 4-6 and 7-9.  We can't apply the 4-6
-                // update event without double-counting 5, and we can't apply the 7-9 update without
-                // missing 6.  The only thing we can do is to keep requesting a fresh snapshot until
-                // we get to a situation where the snapshot and an update event precisely line up.
-                LOG.info(
-                    "Orderbook snapshot for {} out of date (last={}, U={}, u={}). This is normal. Re-syncing.",
-                    currencyPair,
-                    lastUpdateId,
-                    depth.getFirstUpdateId(),
-                    depth.getLastUpdateId());
-                subscription.invalidateSnapshot();
-              }
-              return result;
-            })
-
-        // 7. The data in each event is the absolute quantity for a price level
-        // 8. If the quantity is 0, remove the price level
-        // 9. Receiving an event that removes a price level that is not in your local order book can
-        // happen and is normal.
-        .map(
-            depth -> {
-              extractOrderBookUpdates(currencyPair, depth)
-                  .forEach(it -> subscription.orderBook.update(it));
-              return subscription.orderBook;
-            })
+        new OrderbookSubscription(currencyPair, instrument, sequencing);
+
+    return orderBookRawUpdatesSubscriptions
+        .get(currencyPair)
+        .filter(subscription.synchronizer::onDiff)
+        .map(depth -> subscription.orderBook)
         .publish(1).refCount();
   }
 
+  /**
+   * Wraps the REST snapshot into the book implementation diffs are applied to.
+   *
+   * @param snapshot the order book converted from the REST snapshot
+   * @return the book which will be maintained and emitted by {@link #getOrderBook(CurrencyPair,
+   *     Object...)}
+   */
+  protected OrderBook createOrderBook(OrderBook snapshot) {
+    return useSortedOrderBook ? new SortedOrderBook(snapshot) : snapshot;
+  }
+
   private Flowable<BinanceRawTrade> rawTradeStream(CurrencyPair currencyPair) {
     return service
-        .subscribeChannel(channelFromCurrency(currencyPair, BinanceSubscriptionType.TRADE.getType()))
-        .map(it -> this.<TradeBinanceWebsocketTransaction>readTransaction(it, TRADE_TYPE, "trade"))
-        .filter(transaction -> transaction.getData().getCurrencyPair().equals(currencyPair))
-        .map(transaction -> transaction.getData().getRawTrade());
+        .<TradeBinanceWebsocketTransaction>subscribeTypedChannel(
+            channelFromCurrency(currencyPair, BinanceSubscriptionType.TRADE.getType()),
+            TRADE_DATA_TYPE)
+        .filter(data -> data.getCurrencyPair().equals(currencyPair))
+        .map(TradeBinanceWebsocketTransaction::getRawTrade);
   }
 
   /**
@@ -439,6 +486,30 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
     return Stream.concat(bidStream, askStream);
   }
 
+  static OrderBookUpdateFrame adaptOrderBookUpdateFrame(
+      Instrument instrument, DepthBinanceWebSocketTransaction depthTransaction) {
+    BinanceOrderbook orderBookDiff = depthTransaction.getOrderBook();
+    return new OrderBookUpdateFrame(
+        instrument,
+        false,
+        depthTransaction.getFirstUpdateId(),
+        depthTransaction.getLastUpdateId(),
+        depthTransaction.getEventTime(),
+        adaptLevels(OrderType.ASK, orderBookDiff.asks, instrument),
+        adaptLevels(OrderType.BID, orderBookDiff.bids, instrument));
+  }
+
+  private static LimitOrder[] adaptLevels(
+      OrderType type, Map<BigDecimal, BigDecimal> levels, Instrument instrument) {
+    LimitOrder[] orders = new LimitOrder[levels.size()];
+    int i = 0;
+    for (Map.Entry<BigDecimal, BigDecimal> level : levels.entrySet()) {
+      orders[i++] =
+          new LimitOrder(type, level.getValue(), instrument, null, null, level.getKey());
+    }
+    return orders;
+  }
+
   private <T> Flowable<T> FlowableFromStream(Stream<T> stream) {
     return Flowable.create(
         emitter -> {
@@ -447,20 +518,6 @@ public class BinanceStreamingMarketDataService implements StreamingMarketDataSer
         }, BackpressureStrategy.LATEST);
   }
 
-  private static JavaType getTickerType() {
-    return getObjectMapper()
-        .getTypeFactory()
-        .constructType(
-            new TypeReference<BinanceWebsocketTransaction<TickerBinanceWebsocketTransaction>>() {});
-  }
-
-  private static JavaType getTradeType() {
-    return getObjectMapper()
-        .getTypeFactory()
-        .constructType(
-            new TypeReference<BinanceWebsocketTransaction<TradeBinanceWebsocketTransaction>>() {});
-  }
-
   private static JavaType getDepthType() {
     return getObjectMapper()
         .getTypeFactory()
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.node.NullNode;
 import com.google.common.collect.Sets;
 import info.bitrich.xchangestream.binance.dto.BinanceWebSocketSubscriptionMessage;
 import info.bitrich.xchangestream.core.ProductSubscription;
+import info.bitrich.xchangestream.service.netty.ByteBufMessageHandler;
 import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
 import info.bitrich.xchangestream.service.netty.WebSocketClientCompressionAllowClientNoContextAndServerNoContextHandler;
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandler;
@@ -21,12 +22,15 @@ import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ThreadLocalRandom;
 
-public class BinanceStreamingService extends JsonNettyStreamingService {
+public class BinanceStreamingService extends JsonNettyStreamingService
+    implements ByteBufMessageHandler {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(BinanceStreamingService.class);
 
   private static final String RESULT = "result";
   private static final String IDENTIFIER = "id";
+  private static final String STREAM = "stream";
+  private static final String DATA = "data";
 
   private final ProductSubscription productSubscription;
 
@@ -51,7 +55,17 @@ public class BinanceStreamingService extends JsonNettyStreamingService {
 
   @Override
   protected String getChannelNameFromMessage(JsonNode message) throws IOException {
-    return message.get("stream").asText();
+    return message.get(STREAM).asText();
+  }
+
+  @Override
+  protected String getRoutingFieldName() {
+    return STREAM;
+  }
+
+  @Override
+  protected String getPayloadFieldName() {
+    return DATA;
   }
 
   @Override
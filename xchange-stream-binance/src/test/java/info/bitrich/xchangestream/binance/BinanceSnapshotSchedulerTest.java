@@ -0,0 +1,81 @@
+package info.bitrich.xchangestream.binance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.reactivex.rxjava3.observers.TestObserver;
+import io.reactivex.rxjava3.schedulers.TestScheduler;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.knowm.xchange.exceptions.RateLimitExceededException;
+
+public class BinanceSnapshotSchedulerTest {
+
+  private final TestScheduler scheduler = new TestScheduler();
+
+  @Test
+  public void testHoldsBackFetchesBeyondWeight() {
+    RateLimiter requestWeight =
+        RateLimiter.of(
+            "requestWeight",
+            RateLimiterConfig.custom()
+                .limitForPeriod(25)
+                .limitRefreshPeriod(Duration.ofMinutes(1))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+    BinanceSnapshotScheduler snapshots = new BinanceSnapshotScheduler(requestWeight, 8, scheduler);
+
+    TestObserver<Boolean> first = snapshots.schedule(10, () -> fetch(requestWeight)).test();
+    TestObserver<Boolean> second = snapshots.schedule(10, () -> fetch(requestWeight)).test();
+    TestObserver<Boolean> third = snapshots.schedule(10, () -> fetch(requestWeight)).test();
+    assertThat(snapshots.getQueued()).isEqualTo(1);
+
+    scheduler.triggerActions();
+    first.assertValue(true);
+    second.assertValue(true);
+    third.assertNoValues();
+    assertThat(snapshots.getQueued()).isEqualTo(1);
+  }
+
+  @Test
+  public void testBoundsConcurrentFetches() {
+    BinanceSnapshotScheduler snapshots = new BinanceSnapshotScheduler(null, 2, scheduler);
+
+    snapshots.schedule(10, () -> true).test();
+    snapshots.schedule(10, () -> true).test();
+    TestObserver<Boolean> third = snapshots.schedule(10, () -> true).test();
+    assertThat(snapshots.getQueued()).isEqualTo(1);
+
+    scheduler.triggerActions();
+    third.assertValue(true);
+    assertThat(snapshots.getQueued()).isZero();
+  }
+
+  @Test
+  public void testPausesAfterRateLimitError() {
+    BinanceSnapshotScheduler snapshots = new BinanceSnapshotScheduler(null, 1, scheduler);
+
+    TestObserver<Boolean> failed =
+        snapshots
+            .<Boolean>schedule(
+                10,
+                () -> {
+                  throw new RateLimitExceededException();
+                })
+            .test();
+    TestObserver<Boolean> next = snapshots.schedule(10, () -> true).test();
+    scheduler.triggerActions();
+    failed.assertError(RateLimitExceededException.class);
+    next.assertNoValues();
+
+    scheduler.advanceTimeBy(
+        BinanceSnapshotScheduler.RATE_LIMIT_PAUSE.toMillis(), TimeUnit.MILLISECONDS);
+    next.assertValue(true);
+  }
+
+  private static boolean fetch(RateLimiter requestWeight) {
+    return requestWeight.acquirePermission(10);
+  }
+}
@@ -0,0 +1,43 @@
+package info.bitrich.xchangestream.binance;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.binance.dto.DepthBinanceWebSocketTransaction;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import java.io.InputStream;
+import java.util.ArrayList;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+
+public class BinanceStreamingMarketDataServiceTest {
+
+  @Test
+  public void testAdaptOrderBookUpdateFrame() throws Exception {
+    ObjectMapper mapper =
+        new ObjectMapper(new JsonFactory().enable(JsonParser.Feature.ALLOW_COMMENTS));
+    DepthBinanceWebSocketTransaction depth;
+    try (InputStream stream = getClass().getResourceAsStream("dto/testDepthEvent.json")) {
+      depth = mapper.readValue(stream, DepthBinanceWebSocketTransaction.class);
+    }
+
+    OrderBookUpdateFrame frame =
+        BinanceStreamingMarketDataService.adaptOrderBookUpdateFrame(CurrencyPair.ETH_BTC, depth);
+
+    assertThat(frame.isSnapshot()).isFalse();
+    assertThat(frame.getLastSequence()).isEqualTo(7913455);
+    assertThat(frame.getTimestamp().getTime()).isEqualTo(1499404630606L);
+    assertThat(frame.getAskCount()).isEqualTo(3);
+    assertThat(frame.getBidCount()).isEqualTo(1);
+    assertThat(frame.getAsk(0).getLimitPrice()).isEqualByComparingTo("0.10376586");
+    assertThat(frame.getBid(0).getOriginalAmount()).isEqualByComparingTo("59.15767010");
+
+    OrderBook orderBook = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+    frame.applyTo(orderBook);
+    assertThat(orderBook.getAsks()).hasSize(2);
+    assertThat(orderBook.getBids()).hasSize(1);
+  }
+}
@@ -0,0 +1,99 @@
+package info.bitrich.xchangestream.bitfinex;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * CRC32 of the top 25 levels of a book as sent by Bitfinex with the checksum flag: bid and ask
+ * price and amount interleaved, asks with negative amounts, joined by colons. The values are fed to
+ * the CRC one by one instead of joining them into a string first.
+ *
+ * <p>Not thread safe, each book needs its own instance. See
+ * https://docs.bitfinex.com/docs/ws-websocket-checksum
+ */
+final class BitfinexOrderBookChecksum {
+
+  static final int DEPTH = 25;
+
+  // JavaScript switches to exponent notation below this, which is what the checksum is made of
+  private static final BigDecimal EXPONENT_THRESHOLD = new BigDecimal("0.000001");
+
+  private final CRC32 crc = new CRC32();
+  private final byte[] buffer = new byte[64];
+  private int length;
+  private boolean empty;
+
+  /** Calculates the checksum Bitfinex would send for the book, as the signed int it is sent as. */
+  int checksum(SortedOrderBook orderBook) {
+    List<LimitOrder> bids = orderBook.getBids(DEPTH);
+    List<LimitOrder> asks = orderBook.getAsks(DEPTH);
+    crc.reset();
+    empty = true;
+    for (int i = 0; i < DEPTH; i++) {
+      if (i < bids.size()) {
+        update(bids.get(i), false);
+      }
+      if (i < asks.size()) {
+        update(asks.get(i), true);
+      }
+    }
+    return (int) crc.getValue();
+  }
+
+  private void update(LimitOrder level, boolean negate) {
+    length = 0;
+    if (!empty) {
+      append(':');
+    }
+    empty = false;
+    appendNumber(level.getLimitPrice());
+    append(':');
+    if (negate) {
+      append('-');
+    }
+    appendNumber(level.getOriginalAmount());
+    crc.update(buffer, 0, length);
+  }
+
+  /** Appends the number the way JavaScript formats it. */
+  private void appendNumber(BigDecimal value) {
+    if (value.signum() < 0) {
+      append('-');
+      value = value.negate();
+    }
+    if (value.signum() == 0) {
+      append('0');
+      return;
+    }
+    BigDecimal stripped = value.stripTrailingZeros();
+    if (stripped.compareTo(EXPONENT_THRESHOLD) >= 0) {
+      append(stripped.toPlainString());
+      return;
+    }
+    String digits = stripped.unscaledValue().toString();
+    append(digits.charAt(0));
+    if (digits.length() > 1) {
+      append('.');
+      append(digits.substring(1));
+    }
+    append('e');
+    append(Integer.toString(stripped.precision() - stripped.scale() - 1));
+  }
+
+  private void append(String chars) {
+    for (int i = 0; i < chars.length(); i++) {
+      append(chars.charAt(i));
+    }
+  }
+
+  private void append(char c) {
+    if (length == buffer.length) {
+      crc.update(buffer, 0, length);
+      length = 0;
+    }
+    buffer[length++] = (byte) c;
+  }
+}
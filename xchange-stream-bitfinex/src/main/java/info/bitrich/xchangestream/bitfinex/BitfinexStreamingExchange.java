@@ -14,6 +14,12 @@ public class BitfinexStreamingExchange extends BitfinexExchange implements Strea
 
   static final String API_URI = "wss://api.bitfinex.com/ws/2";
 
+  /**
+   * Verify the streamed order books against the checksums sent by Bitfinex and resubscribe a book
+   * on a mismatch, enabled unless set to false.
+   */
+  public static final String BOOK_CHECKSUM = "Bitfinex_Book_Checksum";
+
   private BitfinexStreamingService streamingService;
   private BitfinexStreamingMarketDataService streamingMarketDataService;
   private BitfinexStreamingTradeService streamingTradeService;
@@ -32,6 +38,8 @@ public class BitfinexStreamingExchange extends BitfinexExchange implements Strea
     BitfinexStreamingService streamingService =
         new BitfinexStreamingService(API_URI, getNonceFactory());
     applyStreamingSpecification(getExchangeSpecification(), streamingService);
+    Object bookChecksum = exchangeSpecification.getExchangeSpecificParametersItem(BOOK_CHECKSUM);
+    streamingService.setBookChecksum(!Boolean.FALSE.equals(bookChecksum));
     if (StringUtils.isNotEmpty(exchangeSpecification.getApiKey())) {
       streamingService.setApiKey(exchangeSpecification.getApiKey());
       streamingService.setApiSecret(exchangeSpecification.getSecretKey());
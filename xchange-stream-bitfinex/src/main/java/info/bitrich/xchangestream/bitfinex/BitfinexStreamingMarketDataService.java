@@ -1,11 +1,11 @@
 package info.bitrich.xchangestream.bitfinex;
 
-import static org.knowm.xchange.bitfinex.service.BitfinexAdapters.adaptOrderBook;
 import static org.knowm.xchange.bitfinex.service.BitfinexAdapters.adaptTicker;
 import static org.knowm.xchange.bitfinex.service.BitfinexAdapters.adaptTrades;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import info.bitrich.xchangestream.bitfinex.dto.BitfinexOrderbook;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketOrderbookTransaction;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketSnapshotOrderbook;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketSnapshotTrades;
@@ -13,52 +13,174 @@ import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketTickerTransactio
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketTradesTransaction;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketUpdateOrderbook;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebsocketUpdateTrade;
+import info.bitrich.xchangestream.core.OrderBookTop;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import info.bitrich.xchangestream.core.StreamingMarketDataService;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import io.reactivex.rxjava3.core.Flowable;
-import java.util.HashMap;
+import java.util.ArrayList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
 import org.knowm.xchange.dto.marketdata.Trades;
+import org.knowm.xchange.instrument.Instrument;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** Created by Lukas Zaoralek on 7.11.17. */
 public class BitfinexStreamingMarketDataService implements StreamingMarketDataService {
 
+  private static final Logger LOG =
+      LoggerFactory.getLogger(BitfinexStreamingMarketDataService.class);
+
+  private static final String CHECKSUM = "cs";
+
   private final BitfinexStreamingService service;
 
-  private final Map<CurrencyPair, BitfinexOrderbook> orderbooks = new HashMap<>();
+  private final Map<CurrencyPair, SortedOrderBook> orderbooks = new ConcurrentHashMap<>();
+  private final Map<CurrencyPair, AtomicLong> checksumMismatches = new ConcurrentHashMap<>();
 
   public BitfinexStreamingMarketDataService(BitfinexStreamingService service) {
     this.service = service;
   }
 
+  /**
+   * The book is maintained incrementally in a {@link SortedOrderBook}. Each message emits an {@link
+   * OrderBook} of its best levels at that time, in lists of its own which later messages don't
+   * change and which subscribers may update.
+   *
+   * <p>With {@link BitfinexStreamingExchange#BOOK_CHECKSUM} the book is verified against each
+   * checksum Bitfinex sends. On a mismatch its channel is resubscribed and nothing is emitted until
+   * the new snapshot arrives, see {@link #getChecksumMismatches(CurrencyPair)}.
+   *
+   * @param args optional number of levels per side to subscribe, "100" by default, and number of
+   *     levels per side to emit, all subscribed ones by default. Only the emitted levels are copied
+   *     per message, see also {@link #getOrderBookTop(Instrument, int, Object...)}.
+   */
   @Override
   public Flowable<OrderBook> getOrderBook(CurrencyPair currencyPair, Object... args) {
+    final int emittedDepth =
+        args.length > 1 ? Integer.parseInt(args[1].toString()) : Integer.MAX_VALUE;
+
+    return getSortedOrderBook(currencyPair, args)
+        .map(
+            orderBook ->
+                new OrderBook(
+                    orderBook.getTimeStamp(),
+                    new ArrayList<>(orderBook.getAsks(emittedDepth)),
+                    new ArrayList<>(orderBook.getBids(emittedDepth))));
+  }
+
+  /** Compares the best levels on the maintained book, without copying the rest of it. */
+  @Override
+  public Flowable<OrderBook> getOrderBookTop(Instrument instrument, int depth, Object... args) {
+    if (!(instrument instanceof CurrencyPair)) {
+      return StreamingMarketDataService.super.getOrderBookTop(instrument, depth, args);
+    }
+    return OrderBookTop.of(
+        getSortedOrderBook((CurrencyPair) instrument, args).cast(OrderBook.class), depth);
+  }
+
+  /** Emits the maintained book of the pair after every book message. */
+  private Flowable<SortedOrderBook> getSortedOrderBook(CurrencyPair currencyPair, Object... args) {
     String channelName = "book";
     final String depth = args.length > 0 ? args[0].toString() : "100";
     String pair = currencyPair.base.toString() + currencyPair.counter.toString();
     final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+    final String channelId = service.getSubscriptionUniqueId(channelName, pair);
+
+    Flowable<JsonNode> messages =
+        service.subscribeChannel(channelName, new Object[] {pair, "P0", depth});
+
+    return Flowable.defer(
+        () -> {
+          BitfinexOrderBookChecksum checksum = new BitfinexOrderBookChecksum();
+          Flowable<BitfinexWebSocketOrderbookTransaction> subscribedChannel =
+              messages
+                  .filter(
+                      s -> {
+                        if (CHECKSUM.equals(s.get(1).asText())) {
+                          verifyChecksum(currencyPair, channelId, s.get(2).asInt(), checksum);
+                          return false;
+                        }
+                        return true;
+                      })
+                  .map(s -> toOrderbookTransaction(mapper, s));
+
+          return subscribedChannel
+              // updates after a checksum mismatch are dropped until the next snapshot
+              .filter(
+                  s ->
+                      s instanceof BitfinexWebSocketSnapshotOrderbook
+                          || orderbooks.containsKey(currencyPair))
+              .map(
+                  s -> {
+                    SortedOrderBook orderBook =
+                        s.toOrderBook(orderbooks.get(currencyPair), currencyPair);
+                    orderbooks.put(currencyPair, orderBook);
+                    return orderBook;
+                  });
+        });
+  }
 
-    Flowable<BitfinexWebSocketOrderbookTransaction> subscribedChannel =
-        service
-            .subscribeChannel(channelName, new Object[] {pair, "P0", depth})
-            .map(
-                s -> {
-                  if (s.get(1).get(0).isArray())
-                    return mapper.treeToValue(s, BitfinexWebSocketSnapshotOrderbook.class);
-                  else return mapper.treeToValue(s, BitfinexWebSocketUpdateOrderbook.class);
-                });
+  /**
+   * One frame per book message, the checksums aren't verified.
+   *
+   * @param args optional depth, see {@link #getOrderBook(CurrencyPair, Object...)}
+   */
+  @Override
+  public Flowable<OrderBookUpdateFrame> getOrderBookUpdates(
+      Instrument instrument, Object... args) {
+    if (!(instrument instanceof CurrencyPair)) {
+      return StreamingMarketDataService.super.getOrderBookUpdates(instrument, args);
+    }
+    CurrencyPair currencyPair = (CurrencyPair) instrument;
+    final String depth = args.length > 0 ? args[0].toString() : "100";
+    String pair = currencyPair.base.toString() + currencyPair.counter.toString();
+    final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
 
-    return subscribedChannel.map(
-        s -> {
-          BitfinexOrderbook bitfinexOrderbook =
-              s.toBitfinexOrderBook(orderbooks.getOrDefault(currencyPair, null));
-          orderbooks.put(currencyPair, bitfinexOrderbook);
-          return adaptOrderBook(bitfinexOrderbook.toBitfinexDepth(), currencyPair);
-        });
+    return service
+        .subscribeChannel("book", new Object[] {pair, "P0", depth})
+        .filter(s -> !CHECKSUM.equals(s.get(1).asText()))
+        .map(s -> toOrderbookTransaction(mapper, s).toOrderBookUpdateFrame(currencyPair));
+  }
+
+  private static BitfinexWebSocketOrderbookTransaction toOrderbookTransaction(
+      ObjectMapper mapper, JsonNode message) throws JsonProcessingException {
+    if (message.get(1).get(0).isArray()) {
+      return mapper.treeToValue(message, BitfinexWebSocketSnapshotOrderbook.class);
+    }
+    return mapper.treeToValue(message, BitfinexWebSocketUpdateOrderbook.class);
+  }
+
+  /** Number of streamed books of the pair which didn't match the checksum sent by Bitfinex. */
+  public long getChecksumMismatches(CurrencyPair currencyPair) {
+    AtomicLong mismatches = checksumMismatches.get(currencyPair);
+    return mismatches == null ? 0 : mismatches.get();
+  }
+
+  private void verifyChecksum(
+      CurrencyPair currencyPair,
+      String channelId,
+      int expected,
+      BitfinexOrderBookChecksum checksum) {
+    SortedOrderBook orderBook = orderbooks.get(currencyPair);
+    if (orderBook == null) {
+      return;
+    }
+    int actual = checksum.checksum(orderBook);
+    if (actual != expected) {
+      checksumMismatches.computeIfAbsent(currencyPair, p -> new AtomicLong()).incrementAndGet();
+      LOG.warn(
+          "Checksum of {} book is {} instead of {}, resubscribing", currencyPair, actual, expected);
+      orderbooks.remove(currencyPair);
+      service.resubscribeChannel(channelId);
+    }
   }
 
   @Override
@@ -7,8 +7,10 @@ import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthBalance;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthOrder;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthPreTrade;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketAuthTrade;
+import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketConfMessage;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketSubscriptionMessage;
 import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketUnSubscriptionMessage;
+import info.bitrich.xchangestream.service.netty.ByteBufMessageHandler;
 import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
 import io.netty.handler.codec.http.websocketx.extensions.WebSocketClientExtensionHandler;
 import io.reactivex.rxjava3.core.Completable;
@@ -38,7 +40,8 @@ import org.slf4j.LoggerFactory;
 import si.mazi.rescu.SynchronizedValueFactory;
 
 /** Created by Lukas Zaoralek on 7.11.17. */
-public class BitfinexStreamingService extends JsonNettyStreamingService {
+public class BitfinexStreamingService extends JsonNettyStreamingService
+    implements ByteBufMessageHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(BitfinexStreamingService.class);
 
@@ -77,6 +80,7 @@ public class BitfinexStreamingService extends JsonNettyStreamingService {
 
   private String apiKey;
   private String apiSecret;
+  private boolean bookChecksum;
 
   private final Map<String, String> subscribedChannels = new ConcurrentHashMap<>();
   private final SynchronizedValueFactory<Long> nonceFactory;
@@ -143,6 +147,10 @@ public class BitfinexStreamingService extends JsonNettyStreamingService {
           if (version != null) {
             LOG.debug("Bitfinex websocket API version: {}.", version.intValue());
           }
+          if (bookChecksum) {
+            sendObjectMessage(
+                new BitfinexWebSocketConfMessage(BitfinexWebSocketConfMessage.CHECKSUM));
+          }
           if (isAuthenticated()) auth();
           break;
         case AUTH:
@@ -302,6 +310,18 @@ public class BitfinexStreamingService extends JsonNettyStreamingService {
     this.apiSecret = apiSecret;
   }
 
+  /**
+   * Asks Bitfinex for checksums of the books, which {@link
+   * BitfinexStreamingMarketDataService#getOrderBook} verifies.
+   */
+  void setBookChecksum(boolean bookChecksum) {
+    this.bookChecksum = bookChecksum;
+  }
+
+  boolean isBookChecksum() {
+    return bookChecksum;
+  }
+
   boolean isAuthenticated() {
     return StringUtils.isNotEmpty(apiKey);
   }
@@ -3,22 +3,34 @@ package info.bitrich.xchangestream.bitfinex.dto;
 import static java.math.BigDecimal.ZERO;
 
 import java.math.BigDecimal;
-import java.util.*;
+import java.util.Collections;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexDepth;
 import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexLevel;
 
-/** Created by Lukas Zaoralek on 8.11.17. */
+/**
+ * Created by Lukas Zaoralek on 8.11.17.
+ *
+ * <p>Both sides are kept sorted by price, asks ascending and bids descending, so an update is
+ * O(log n) and {@link #toBitfinexDepth()} only walks the levels.
+ *
+ * @deprecated the streaming service keeps its books in a {@link
+ *     org.knowm.xchange.dto.marketdata.SortedOrderBook}, use {@link
+ *     BitfinexWebSocketOrderbookTransaction#toOrderBook}
+ */
+@Deprecated
 public class BitfinexOrderbook {
-  private Map<BigDecimal, BitfinexOrderbookLevel> asks;
-  private Map<BigDecimal, BitfinexOrderbookLevel> bids;
+  private NavigableMap<BigDecimal, BitfinexOrderbookLevel> asks;
+  private NavigableMap<BigDecimal, BitfinexOrderbookLevel> bids;
 
   public BitfinexOrderbook(BitfinexOrderbookLevel[] levels) {
     createFromLevels(levels);
   }
 
   private void createFromLevels(BitfinexOrderbookLevel[] levels) {
-    this.asks = new HashMap<>(levels.length / 2);
-    this.bids = new HashMap<>(levels.length / 2);
+    this.asks = new TreeMap<>();
+    this.bids = new TreeMap<>(Collections.reverseOrder());
 
     for (BitfinexOrderbookLevel level : levels) {
 
@@ -34,35 +46,22 @@ public class BitfinexOrderbook {
   }
 
   public synchronized BitfinexDepth toBitfinexDepth() {
-    SortedMap<BigDecimal, BitfinexOrderbookLevel> bitfinexLevelAsks = new TreeMap<>();
-    SortedMap<BigDecimal, BitfinexOrderbookLevel> bitfinexLevelBids =
-        new TreeMap<>(java.util.Collections.reverseOrder());
-
-    for (Map.Entry<BigDecimal, BitfinexOrderbookLevel> level : asks.entrySet()) {
-      bitfinexLevelAsks.put(level.getValue().getPrice(), level.getValue());
-    }
-
-    for (Map.Entry<BigDecimal, BitfinexOrderbookLevel> level : bids.entrySet()) {
-      bitfinexLevelBids.put(level.getValue().getPrice(), level.getValue());
-    }
+    return new BitfinexDepth(toBitfinexLevels(asks), toBitfinexLevels(bids));
+  }
 
-    List<BitfinexLevel> askLevels = new ArrayList<>(asks.size());
-    List<BitfinexLevel> bidLevels = new ArrayList<>(bids.size());
-    for (Map.Entry<BigDecimal, BitfinexOrderbookLevel> level : bitfinexLevelAsks.entrySet()) {
-      askLevels.add(level.getValue().toBitfinexLevel());
-    }
-    for (Map.Entry<BigDecimal, BitfinexOrderbookLevel> level : bitfinexLevelBids.entrySet()) {
-      bidLevels.add(level.getValue().toBitfinexLevel());
+  private static BitfinexLevel[] toBitfinexLevels(
+      NavigableMap<BigDecimal, BitfinexOrderbookLevel> side) {
+    BitfinexLevel[] levels = new BitfinexLevel[side.size()];
+    int i = 0;
+    for (BitfinexOrderbookLevel level : side.values()) {
+      levels[i++] = level.toBitfinexLevel();
     }
-
-    return new BitfinexDepth(
-        askLevels.toArray(new BitfinexLevel[askLevels.size()]),
-        bidLevels.toArray(new BitfinexLevel[bidLevels.size()]));
+    return levels;
   }
 
   public synchronized void updateLevel(BitfinexOrderbookLevel level) {
 
-    Map<BigDecimal, BitfinexOrderbookLevel> side;
+    NavigableMap<BigDecimal, BitfinexOrderbookLevel> side;
 
     // Determine side and normalize negative ask amount values
     BitfinexOrderbookLevel bidAskLevel = level;
@@ -76,8 +75,9 @@ public class BitfinexOrderbook {
 
     boolean shouldDelete = bidAskLevel.getCount().compareTo(ZERO) == 0;
 
-    side.remove(bidAskLevel.getPrice());
-    if (!shouldDelete) {
+    if (shouldDelete) {
+      side.remove(bidAskLevel.getPrice());
+    } else {
       side.put(bidAskLevel.getPrice(), bidAskLevel);
     }
   }
@@ -3,7 +3,11 @@ package info.bitrich.xchangestream.bitfinex.dto;
 import com.fasterxml.jackson.annotation.JsonFormat;
 import com.fasterxml.jackson.annotation.JsonPropertyOrder;
 import java.math.BigDecimal;
+import java.util.Date;
 import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexLevel;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
 
 /** Created by Lukas Zaoralek on 8.11.17. */
 @JsonFormat(shape = JsonFormat.Shape.ARRAY)
@@ -40,4 +44,14 @@ public class BitfinexOrderbookLevel {
     // Xchange-bitfinex adapter expects the timestamp to be seconds since Epoch.
     return new BitfinexLevel(price, amount, new BigDecimal(System.currentTimeMillis() / 1000));
   }
+
+  /**
+   * Negative amounts are asks. A level without orders is returned with a zero amount, which removes
+   * it when applied to an order book.
+   */
+  public LimitOrder toLimitOrder(CurrencyPair currencyPair, Date timestamp) {
+    OrderType type = amount.signum() < 0 ? OrderType.ASK : OrderType.BID;
+    BigDecimal originalAmount = count.signum() == 0 ? BigDecimal.ZERO : amount.abs();
+    return new LimitOrder(type, originalAmount, currencyPair, "", timestamp, price);
+  }
 }
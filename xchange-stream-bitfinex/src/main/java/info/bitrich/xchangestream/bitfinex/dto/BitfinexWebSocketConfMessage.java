@@ -0,0 +1,31 @@
+package info.bitrich.xchangestream.bitfinex.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/** Sets the flags of the connection, see https://docs.bitfinex.com/docs/ws-general#configuration */
+public class BitfinexWebSocketConfMessage {
+  /** Adds a checksum of the top 25 levels after each book update. */
+  public static final int CHECKSUM = 131072;
+
+  private static final String EVENT = "event";
+  private static final String FLAGS = "flags";
+
+  @JsonProperty(EVENT)
+  private final String event;
+
+  @JsonProperty(FLAGS)
+  private final int flags;
+
+  public BitfinexWebSocketConfMessage(int flags) {
+    this.event = "conf";
+    this.flags = flags;
+  }
+
+  public String getEvent() {
+    return event;
+  }
+
+  public int getFlags() {
+    return flags;
+  }
+}
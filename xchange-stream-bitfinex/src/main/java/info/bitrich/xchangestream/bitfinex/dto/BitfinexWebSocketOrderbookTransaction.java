@@ -1,5 +1,9 @@
 package info.bitrich.xchangestream.bitfinex.dto;
 
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+
 /** Created by Lukas Zaoralek on 8.11.17. */
 public abstract class BitfinexWebSocketOrderbookTransaction {
   public String channelId;
@@ -14,5 +18,18 @@ public abstract class BitfinexWebSocketOrderbookTransaction {
     return channelId;
   }
 
+  /** @deprecated use {@link #toOrderBook(SortedOrderBook, CurrencyPair)} */
+  @Deprecated
   public abstract BitfinexOrderbook toBitfinexOrderBook(BitfinexOrderbook orderbook);
+
+  /**
+   * Applies the transaction to the streamed order book in O(log n) per level.
+   *
+   * @param orderBook the book of previous transactions, null before the first snapshot
+   * @return the updated book, a new one for snapshots
+   */
+  public abstract SortedOrderBook toOrderBook(SortedOrderBook orderBook, CurrencyPair currencyPair);
+
+  /** The levels of the transaction, Bitfinex doesn't sequence book messages by default. */
+  public abstract OrderBookUpdateFrame toOrderBookUpdateFrame(CurrencyPair currencyPair);
 }
@@ -1,14 +1,52 @@
 package info.bitrich.xchangestream.bitfinex.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
 
 /** Created by Lukas Zaoralek on 8.11.17. */
 @JsonFormat(shape = JsonFormat.Shape.ARRAY)
 public class BitfinexWebSocketSnapshotOrderbook extends BitfinexWebSocketOrderbookTransaction {
   public BitfinexOrderbookLevel[] levels;
 
+  @Deprecated
   @Override
   public BitfinexOrderbook toBitfinexOrderBook(BitfinexOrderbook orderbook) {
     return new BitfinexOrderbook(levels);
   }
+
+  @Override
+  public SortedOrderBook toOrderBook(SortedOrderBook orderBook, CurrencyPair currencyPair) {
+    Date timestamp = new Date();
+    SortedOrderBook snapshot =
+        new SortedOrderBook(timestamp, Collections.emptyList(), Collections.emptyList());
+    for (BitfinexOrderbookLevel level : levels) {
+      snapshot.update(level.toLimitOrder(currencyPair, timestamp));
+    }
+    return snapshot;
+  }
+
+  @Override
+  public OrderBookUpdateFrame toOrderBookUpdateFrame(CurrencyPair currencyPair) {
+    Date timestamp = new Date();
+    List<LimitOrder> asks = new ArrayList<>(levels.length);
+    List<LimitOrder> bids = new ArrayList<>(levels.length);
+    for (BitfinexOrderbookLevel level : levels) {
+      LimitOrder order = level.toLimitOrder(currencyPair, timestamp);
+      (order.getType() == OrderType.ASK ? asks : bids).add(order);
+    }
+    return new OrderBookUpdateFrame(
+        currencyPair,
+        true,
+        timestamp,
+        asks.toArray(new LimitOrder[0]),
+        bids.toArray(new LimitOrder[0]));
+  }
 }
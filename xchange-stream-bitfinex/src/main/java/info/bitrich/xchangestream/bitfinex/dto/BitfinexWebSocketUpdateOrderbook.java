@@ -1,6 +1,12 @@
 package info.bitrich.xchangestream.bitfinex.dto;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import java.util.Date;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
 
 /** Created by Lukas Zaoralek on 8.11.17. */
 @JsonFormat(shape = JsonFormat.Shape.ARRAY)
@@ -13,9 +19,25 @@ public class BitfinexWebSocketUpdateOrderbook extends BitfinexWebSocketOrderbook
     this.level = level;
   }
 
+  @Deprecated
   @Override
   public BitfinexOrderbook toBitfinexOrderBook(BitfinexOrderbook orderbook) {
     orderbook.updateLevel(level);
     return orderbook;
   }
+
+  @Override
+  public SortedOrderBook toOrderBook(SortedOrderBook orderBook, CurrencyPair currencyPair) {
+    orderBook.update(level.toLimitOrder(currencyPair, new Date()));
+    return orderBook;
+  }
+
+  @Override
+  public OrderBookUpdateFrame toOrderBookUpdateFrame(CurrencyPair currencyPair) {
+    Date timestamp = new Date();
+    LimitOrder[] order = {level.toLimitOrder(currencyPair, timestamp)};
+    return order[0].getType() == OrderType.ASK
+        ? new OrderBookUpdateFrame(currencyPair, false, timestamp, order, null)
+        : new OrderBookUpdateFrame(currencyPair, false, timestamp, null, order);
+  }
 }
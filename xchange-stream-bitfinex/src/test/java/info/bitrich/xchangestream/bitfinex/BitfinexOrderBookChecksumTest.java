@@ -0,0 +1,82 @@
+package info.bitrich.xchangestream.bitfinex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.knowm.xchange.currency.CurrencyPair.BTC_USD;
+
+import info.bitrich.xchangestream.bitfinex.dto.BitfinexOrderbookLevel;
+import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketSnapshotOrderbook;
+import info.bitrich.xchangestream.bitfinex.dto.BitfinexWebSocketUpdateOrderbook;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.junit.Test;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+
+public class BitfinexOrderBookChecksumTest {
+
+  private final BitfinexOrderBookChecksum checksum = new BitfinexOrderBookChecksum();
+
+  @Test
+  public void testChecksumOfTopLevels() {
+    List<BitfinexOrderbookLevel> levels = new ArrayList<>();
+    for (int i = 0; i < 30; i++) {
+      levels.add(level(new BigDecimal(9000 - i), "0.5"));
+      levels.add(level(new BigDecimal(9001 + i).add(new BigDecimal("0.25")), "-1.5"));
+    }
+    SortedOrderBook orderBook = snapshot(levels.toArray(new BitfinexOrderbookLevel[0]));
+
+    StringBuilder expected = new StringBuilder();
+    for (int i = 0; i < 25; i++) {
+      if (i > 0) {
+        expected.append(':');
+      }
+      expected.append(9000 - i).append(":0.5:").append(9001 + i).append(".25:-1.5");
+    }
+
+    assertThat(checksum.checksum(orderBook)).isEqualTo(crc32(expected.toString()));
+  }
+
+  @Test
+  public void testChecksumFormatsLikeJavaScript() {
+    SortedOrderBook orderBook =
+        snapshot(
+            level(new BigDecimal("9000.10"), "0.00000015"),
+            level(new BigDecimal("9001"), "-2.000"),
+            level(new BigDecimal("8999"), "0.000001"));
+
+    assertThat(checksum.checksum(orderBook))
+        .isEqualTo(crc32("9000.1:1.5e-7:9001:-2:8999:0.000001"));
+  }
+
+  @Test
+  public void testChecksumFollowsUpdates() {
+    SortedOrderBook orderBook =
+        snapshot(level(new BigDecimal("100"), "1"), level(new BigDecimal("101"), "-1"));
+
+    new BitfinexWebSocketUpdateOrderbook(
+            new BitfinexOrderbookLevel(new BigDecimal("101"), BigDecimal.ZERO, BigDecimal.ONE.negate()))
+        .toOrderBook(orderBook, BTC_USD);
+    new BitfinexWebSocketUpdateOrderbook(level(new BigDecimal("99"), "3"))
+        .toOrderBook(orderBook, BTC_USD);
+
+    assertThat(checksum.checksum(orderBook)).isEqualTo(crc32("100:1:99:3"));
+  }
+
+  private static SortedOrderBook snapshot(BitfinexOrderbookLevel... levels) {
+    BitfinexWebSocketSnapshotOrderbook snapshot = new BitfinexWebSocketSnapshotOrderbook();
+    snapshot.levels = levels;
+    return snapshot.toOrderBook(null, BTC_USD);
+  }
+
+  private static BitfinexOrderbookLevel level(BigDecimal price, String amount) {
+    return new BitfinexOrderbookLevel(price, BigDecimal.ONE, new BigDecimal(amount));
+  }
+
+  private static int crc32(String data) {
+    CRC32 crc = new CRC32();
+    crc.update(data.getBytes(StandardCharsets.US_ASCII));
+    return (int) crc.getValue();
+  }
+}
@@ -0,0 +1,153 @@
+package info.bitrich.xchangestream.bitfinex;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.knowm.xchange.currency.CurrencyPair.BTC_USD;
+import static org.knowm.xchange.dto.Order.OrderType.ASK;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import io.reactivex.rxjava3.core.Flowable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.Test;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
+
+public class BitfinexStreamingMarketDataServiceTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void testEmittedBooksDontChangeAfterwards() throws Exception {
+    BitfinexStreamingService streamingService = mock(BitfinexStreamingService.class);
+    when(streamingService.getSubscriptionUniqueId("book", "BTCUSD")).thenReturn("book-BTCUSD");
+    when(streamingService.subscribeChannel("book", "BTCUSD", "P0", "100"))
+        .thenReturn(
+            Flowable.just(
+                message("[1,[[101,1,-1],[100,2,-3],[99,1,2]]]"),
+                message("[1,[100,0,-1]]"),
+                message("[1,[99.5,1,5]]")));
+
+    List<OrderBook> books =
+        new BitfinexStreamingMarketDataService(streamingService)
+            .getOrderBook(BTC_USD)
+            .test()
+            .assertValueCount(3)
+            .values();
+
+    assertThat(books.get(0).getAsks())
+        .extracting(o -> o.getLimitPrice().toPlainString(), o -> o.getOriginalAmount().intValue())
+        .containsExactly(tuple("100", 3), tuple("101", 1));
+    assertThat(books.get(0).getBids())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("99");
+    assertThat(books.get(1).getAsks())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("101");
+    assertThat(books.get(1).getBids())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("99");
+    assertThat(books.get(2).getBids())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("99.5", "99");
+  }
+
+  @Test
+  public void testEmitsUpdatableTopLevels() throws Exception {
+    BitfinexStreamingService streamingService = mock(BitfinexStreamingService.class);
+    when(streamingService.getSubscriptionUniqueId("book", "BTCUSD")).thenReturn("book-BTCUSD");
+    when(streamingService.subscribeChannel("book", "BTCUSD", "P0", "25"))
+        .thenReturn(
+            Flowable.just(
+                message("[1,[[101,1,-1],[100,2,-3],[99,1,2],[98,1,4]]]"),
+                message("[1,[99.5,1,5]]")));
+
+    List<OrderBook> books =
+        new BitfinexStreamingMarketDataService(streamingService)
+            .getOrderBook(BTC_USD, 25, 1)
+            .test()
+            .assertValueCount(2)
+            .values();
+
+    assertThat(books.get(0).getAsks())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("100");
+    assertThat(books.get(1).getBids())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("99.5");
+
+    OrderBook orderBook = books.get(1);
+    orderBook.update(
+        new LimitOrder(ASK, new BigDecimal("2"), BTC_USD, "", null, new BigDecimal("100.5")));
+    assertThat(orderBook.getAsks())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("100", "100.5");
+  }
+
+  @Test
+  public void testEmitsTopOnlyWhenItChanges() throws Exception {
+    BitfinexStreamingService streamingService = mock(BitfinexStreamingService.class);
+    when(streamingService.getSubscriptionUniqueId("book", "BTCUSD")).thenReturn("book-BTCUSD");
+    when(streamingService.subscribeChannel("book", "BTCUSD", "P0", "100"))
+        .thenReturn(
+            Flowable.just(
+                message("[1,[[101,1,-1],[100,2,-3],[99,1,2]]]"),
+                message("[1,[102,1,-1]]"),
+                message("[1,[99.5,1,5]]")));
+
+    List<OrderBook> books =
+        new BitfinexStreamingMarketDataService(streamingService)
+            .getOrderBookTop(BTC_USD, 1)
+            .test()
+            .assertValueCount(2)
+            .values();
+
+    assertThat(books.get(1).getAsks())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("100");
+    assertThat(books.get(1).getBids())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("99.5");
+  }
+
+  @Test
+  public void testEmitsOneFramePerMessage() throws Exception {
+    BitfinexStreamingService streamingService = mock(BitfinexStreamingService.class);
+    when(streamingService.subscribeChannel("book", "BTCUSD", "P0", "100"))
+        .thenReturn(
+            Flowable.just(
+                message("[1,[[101,1,-1],[100,2,-3],[99,1,2]]]"),
+                message("[1,\"cs\",-1234]"),
+                message("[1,[100,0,-1]]")));
+
+    List<OrderBookUpdateFrame> frames =
+        new BitfinexStreamingMarketDataService(streamingService)
+            .getOrderBookUpdates((Instrument) BTC_USD)
+            .test()
+            .assertValueCount(2)
+            .values();
+
+    assertThat(frames.get(0).isSnapshot()).isTrue();
+    assertThat(frames.get(0).getAskCount()).isEqualTo(2);
+    assertThat(frames.get(0).getBidCount()).isEqualTo(1);
+    assertThat(frames.get(1).isSnapshot()).isFalse();
+    assertThat(frames.get(1).getAskCount()).isEqualTo(1);
+    assertThat(frames.get(1).getAsk(0).getOriginalAmount()).isZero();
+
+    OrderBook orderBook = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+    frames.forEach(frame -> frame.applyTo(orderBook));
+    assertThat(orderBook.getAsks())
+        .extracting(o -> o.getLimitPrice().toPlainString())
+        .containsExactly("101");
+  }
+
+  private JsonNode message(String json) throws Exception {
+    return mapper.readTree(json);
+  }
+}
@@ -1,14 +1,18 @@
 package info.bitrich.xchangestream.bitfinex.dto;
 
 import static java.math.BigDecimal.ONE;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.knowm.xchange.currency.CurrencyPair.BTC_USD;
 
+import java.math.BigDecimal;
 import java.util.Date;
+import org.assertj.core.api.Assertions;
 import org.junit.Test;
 import org.knowm.xchange.bitfinex.service.BitfinexAdapters;
 import org.knowm.xchange.bitfinex.v1.dto.marketdata.BitfinexDepth;
 import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
 
 public class BitfinexOrderbookTest {
 
@@ -29,4 +33,39 @@ public class BitfinexOrderbookTest {
         "The timestamp should be a value less than now, but was: " + orderBook.getTimeStamp(),
         !orderBook.getTimeStamp().after(new Date()));
   }
+
+  @Test
+  public void transactionsShouldUpdateOrderBookInPlace() {
+    BitfinexWebSocketSnapshotOrderbook snapshot = new BitfinexWebSocketSnapshotOrderbook();
+    snapshot.levels =
+        new BitfinexOrderbookLevel[] {
+          level("101", 1, "-1"), level("100", 2, "-3"), level("99", 1, "2")
+        };
+
+    SortedOrderBook orderBook = snapshot.toOrderBook(null, BTC_USD);
+
+    SortedOrderBook updated =
+        new BitfinexWebSocketUpdateOrderbook(level("100", 0, "-1")).toOrderBook(orderBook, BTC_USD);
+    new BitfinexWebSocketUpdateOrderbook(level("99.5", 1, "5")).toOrderBook(orderBook, BTC_USD);
+
+    Assertions.assertThat(updated).isSameAs(orderBook);
+    Assertions.assertThat(orderBook.getAsks())
+        .extracting(
+            l -> l.getLimitPrice().toPlainString(), l -> l.getOriginalAmount().toPlainString())
+        .containsExactly(tuple("101", "1"));
+    Assertions.assertThat(orderBook.getBids())
+        .extracting(
+            l -> l.getLimitPrice().toPlainString(), l -> l.getOriginalAmount().toPlainString())
+        .containsExactly(tuple("99.5", "5"), tuple("99", "2"));
+    Assertions.assertThat(orderBook.getBestBid().getInstrument())
+        .isEqualTo(BTC_USD);
+
+    Assertions.assertThat(snapshot.toOrderBook(orderBook, BTC_USD))
+        .isNotSameAs(orderBook);
+  }
+
+  private static BitfinexOrderbookLevel level(String price, int count, String amount) {
+    return new BitfinexOrderbookLevel(
+        new BigDecimal(price), BigDecimal.valueOf(count), new BigDecimal(amount));
+  }
 }
@@ -2,16 +2,19 @@ package info.bitrich.xchangestream.bitstamp.v2;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import info.bitrich.xchangestream.bitstamp.dto.BitstampWebSocketTransaction;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import info.bitrich.xchangestream.core.StreamingMarketDataService;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import io.reactivex.rxjava3.core.Flowable;
 import org.knowm.xchange.bitstamp.BitstampAdapters;
 import org.knowm.xchange.bitstamp.dto.marketdata.BitstampOrderBook;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
 import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
 
 /**
  * Bitstamp WebSocket V2 Streaming Market Data Service implementation Created by Pavel Chertalev on
@@ -48,6 +51,34 @@ public class BitstampStreamingMarketDataService implements StreamingMarketDataSe
             });
   }
 
+  /** Each message of the order_book channel is a snapshot of the best levels. */
+  @Override
+  public Flowable<OrderBookUpdateFrame> getOrderBookUpdates(
+      Instrument instrument, Object... args) {
+    if (!(instrument instanceof CurrencyPair)) {
+      return StreamingMarketDataService.super.getOrderBookUpdates(instrument, args);
+    }
+    CurrencyPair currencyPair = (CurrencyPair) instrument;
+    String channelName = "order_book" + getChannelPostfix(currencyPair);
+
+    return service
+        .subscribeChannel(channelName, BitstampStreamingService.EVENT_ORDERBOOK)
+        .map(
+            s -> {
+              ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+              BitstampOrderBook orderBook =
+                  mapper.treeToValue(s.get("data"), BitstampOrderBook.class);
+              return new OrderBookUpdateFrame(
+                  currencyPair,
+                  true,
+                  orderBook.getTimestamp(),
+                  BitstampAdapters.createOrders(currencyPair, OrderType.ASK, orderBook.getAsks())
+                      .toArray(new LimitOrder[0]),
+                  BitstampAdapters.createOrders(currencyPair, OrderType.BID, orderBook.getBids())
+                      .toArray(new LimitOrder[0]));
+            });
+  }
+
   @Override
   public Flowable<Ticker> getTicker(CurrencyPair currencyPair, Object... args) {
     return getOrderBook(currencyPair, args)
@@ -1,11 +1,13 @@
 package info.bitrich.xchangestream.bitstamp;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import info.bitrich.xchangestream.bitstamp.v2.BitstampStreamingMarketDataService;
 import info.bitrich.xchangestream.bitstamp.v2.BitstampStreamingService;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.subscribers.TestSubscriber;
 import java.math.BigDecimal;
@@ -21,6 +23,7 @@ import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
 import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
@@ -107,6 +110,32 @@ public class BitstampStreamingMarketDataServiceV2Test
         "order_book_btceur", () -> marketDataService.getOrderBook(CurrencyPair.BTC_EUR).test());
   }
 
+  @Test
+  public void testGetOrderBookUpdates() throws Exception {
+    JsonNode orderBook = mapper.readTree(this.getClass().getResource("/order-book-v2.json"));
+
+    when(streamingService.subscribeChannel(eq("order_book_btceur"), eq("data")))
+        .thenReturn(Flowable.just(orderBook));
+
+    OrderBookUpdateFrame frame =
+        marketDataService
+            .getOrderBookUpdates((Instrument) CurrencyPair.BTC_EUR)
+            .test()
+            .assertValueCount(1)
+            .values()
+            .get(0);
+
+    assertThat(frame.isSnapshot()).isTrue();
+    assertThat(frame.getTimestamp()).isEqualTo(new Date(1553720851000L));
+    assertThat(frame.getAskCount()).isEqualTo(3);
+    assertThat(frame.getBidCount()).isEqualTo(2);
+    assertThat(frame.getBid(0).getLimitPrice()).isEqualByComparingTo("819.9");
+
+    OrderBook book = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+    frame.applyTo(book);
+    assertThat(book.getAsks().get(0).getLimitPrice()).isEqualByComparingTo("821.6");
+  }
+
   @Test
   public void testGetTrades() throws Exception {
     // Given order book in JSON
@@ -0,0 +1,295 @@
+package info.bitrich.xchangestream.coinbasepro;
+
+import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketTransaction;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductBook;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductBookEntry;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductBookEntryLevel3;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * Order by order book of a product, kept from a level 3 REST snapshot and the messages of the
+ * "full" channel. Resting orders are indexed by id and queued per price in time priority, so every
+ * message is applied in constant time apart from the price lookup. The size of each price level is
+ * aggregated on the fly into a level 2 {@link SortedOrderBook}.
+ *
+ * <p>Messages with a sequence up to the one of the book are skipped. A message skipping a sequence
+ * number unsyncs the book, it has to be initialized with a new snapshot.
+ *
+ * <p>Not thread safe, meant to be updated from the thread of the web socket messages.
+ */
+public class CoinbaseProL3OrderBook {
+
+  private final CurrencyPair currencyPair;
+  private final Map<String, RestingOrder> orders = new HashMap<>();
+  private final NavigableMap<BigDecimal, PriceLevel> asks = new TreeMap<>();
+  private final NavigableMap<BigDecimal, PriceLevel> bids =
+      new TreeMap<>(Collections.reverseOrder());
+  private final SortedOrderBook level2 =
+      new SortedOrderBook(null, new ArrayList<>(), new ArrayList<>());
+  private long sequence = -1;
+  private Date timestamp;
+
+  public CoinbaseProL3OrderBook(CurrencyPair currencyPair) {
+    this.currencyPair = currencyPair;
+  }
+
+  /**
+   * Replaces the book with a snapshot of level 3, see {@code
+   * CoinbaseProMarketDataServiceRaw#getCoinbaseProProductOrderBook}.
+   */
+  public void init(CoinbaseProProductBook snapshot) {
+    reset();
+    addEntries(OrderType.BID, snapshot.getBids());
+    addEntries(OrderType.ASK, snapshot.getAsks());
+    bids.values().forEach(level -> updateLevel2(OrderType.BID, level));
+    asks.values().forEach(level -> updateLevel2(OrderType.ASK, level));
+    sequence = snapshot.getSequence();
+  }
+
+  /**
+   * Applies a message of the "full" channel: received, open, done, match, change or activate.
+   * Messages of other channels must not be passed, their sequences differ.
+   *
+   * @return false if the message skips a sequence number, the book is out of sync then
+   */
+  public boolean update(CoinbaseProWebSocketTransaction message) {
+    long messageSequence = message.getSequence();
+    if (messageSequence <= sequence) {
+      return true;
+    }
+    if (!isSynced() || messageSequence != sequence + 1) {
+      return false;
+    }
+    sequence = messageSequence;
+    switch (message.getType()) {
+      case "open":
+        timestamp = CoinbaseProStreamingAdapters.parseDate(message.getTime());
+        OrderType type = "buy".equals(message.getSide()) ? OrderType.BID : OrderType.ASK;
+        PriceLevel level =
+            addOrder(message.getOrderId(), type, message.getPrice(), message.getRemainingSize());
+        if (level != null) {
+          updateLevel2(type, level);
+        }
+        break;
+      case "done":
+        RestingOrder done = orders.remove(message.getOrderId());
+        if (done != null) {
+          timestamp = CoinbaseProStreamingAdapters.parseDate(message.getTime());
+          removeOrder(done);
+        }
+        break;
+      case "match":
+        // the maker is the resting order, getOrderId() may return the taker of an own match
+        RestingOrder maker = orders.get(message.getMakerOrderId());
+        if (maker != null) {
+          timestamp = CoinbaseProStreamingAdapters.parseDate(message.getTime());
+          resize(maker, maker.size.subtract(message.getSize()));
+        }
+        break;
+      case "change":
+        RestingOrder changed = orders.get(message.getOrderId());
+        if (changed != null && message.getNewSize() != null) {
+          timestamp = CoinbaseProStreamingAdapters.parseDate(message.getTime());
+          resize(changed, message.getNewSize());
+        }
+        break;
+      default:
+        // received and activate don't touch resting orders
+    }
+    return true;
+  }
+
+  /** Removes all orders, the book is out of sync until the next snapshot. */
+  public void reset() {
+    orders.clear();
+    asks.clear();
+    bids.clear();
+    level2.clear();
+    sequence = -1;
+    timestamp = null;
+  }
+
+  public boolean isSynced() {
+    return sequence >= 0;
+  }
+
+  /** @return sequence of the last applied message or snapshot, -1 if out of sync */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /** @return time of the last message which changed the book, null after a snapshot */
+  public Date getTimestamp() {
+    return timestamp;
+  }
+
+  public CurrencyPair getCurrencyPair() {
+    return currencyPair;
+  }
+
+  /** @return number of resting orders */
+  public int getOrderCount() {
+    return orders.size();
+  }
+
+  /**
+   * The book aggregated per price level. It is updated in place by every message, copy the levels
+   * needed before the next one.
+   */
+  public SortedOrderBook getLevel2() {
+    return level2;
+  }
+
+  /** @return the resting order with the remaining size as amount, null if not in the book */
+  public LimitOrder getOrder(String orderId) {
+    RestingOrder order = orders.get(orderId);
+    return order == null ? null : order.toLimitOrder(currencyPair);
+  }
+
+  /** @return the resting orders at the price in time priority, empty if there are none */
+  public List<LimitOrder> getOrders(OrderType type, BigDecimal price) {
+    PriceLevel level = side(type).get(price);
+    if (level == null) {
+      return Collections.emptyList();
+    }
+    List<LimitOrder> result = new ArrayList<>(level.count);
+    for (RestingOrder order = level.first; order != null; order = order.next) {
+      result.add(order.toLimitOrder(currencyPair));
+    }
+    return result;
+  }
+
+  private void addEntries(OrderType type, CoinbaseProProductBookEntry[] entries) {
+    if (entries == null) {
+      return;
+    }
+    for (CoinbaseProProductBookEntry entry : entries) {
+      addOrder(
+          ((CoinbaseProProductBookEntryLevel3) entry).getOrderId(),
+          type,
+          entry.getPrice(),
+          entry.getVolume());
+    }
+  }
+
+  private PriceLevel addOrder(
+      String orderId, OrderType type, BigDecimal price, BigDecimal size) {
+    if (orderId == null || price == null || size == null) {
+      // e.g. market orders, which never rest in the book
+      return null;
+    }
+    RestingOrder previous = orders.remove(orderId);
+    if (previous != null) {
+      removeOrder(previous);
+    }
+    PriceLevel level = side(type).computeIfAbsent(price, PriceLevel::new);
+    RestingOrder order = new RestingOrder(orderId, type, level, size);
+    orders.put(orderId, order);
+    level.append(order);
+    return level;
+  }
+
+  private void removeOrder(RestingOrder order) {
+    PriceLevel level = order.level;
+    level.remove(order);
+    if (level.count == 0) {
+      side(order.type).remove(level.price);
+    }
+    updateLevel2(order.type, level);
+  }
+
+  private void resize(RestingOrder order, BigDecimal size) {
+    if (size.signum() <= 0) {
+      // the done message follows, the order is gone from the book already
+      orders.remove(order.id);
+      removeOrder(order);
+      return;
+    }
+    order.level.size = order.level.size.add(size.subtract(order.size));
+    order.size = size;
+    updateLevel2(order.type, order.level);
+  }
+
+  private void updateLevel2(OrderType type, PriceLevel level) {
+    BigDecimal size = level.count == 0 ? BigDecimal.ZERO : level.size;
+    level2.update(new LimitOrder(type, size, currencyPair, null, timestamp, level.price));
+  }
+
+  private NavigableMap<BigDecimal, PriceLevel> side(OrderType type) {
+    return type == OrderType.ASK ? asks : bids;
+  }
+
+  /** Orders of a price, a doubly linked list in time priority. */
+  private static final class PriceLevel {
+    final BigDecimal price;
+    BigDecimal size = BigDecimal.ZERO;
+    RestingOrder first;
+    RestingOrder last;
+    int count;
+
+    PriceLevel(BigDecimal price) {
+      this.price = price;
+    }
+
+    void append(RestingOrder order) {
+      order.previous = last;
+      if (last == null) {
+        first = order;
+      } else {
+        last.next = order;
+      }
+      last = order;
+      count++;
+      size = size.add(order.size);
+    }
+
+    void remove(RestingOrder order) {
+      if (order.previous == null) {
+        first = order.next;
+      } else {
+        order.previous.next = order.next;
+      }
+      if (order.next == null) {
+        last = order.previous;
+      } else {
+        order.next.previous = order.previous;
+      }
+      order.previous = null;
+      order.next = null;
+      count--;
+      size = count == 0 ? BigDecimal.ZERO : size.subtract(order.size);
+    }
+  }
+
+  private static final class RestingOrder {
+    final String id;
+    final OrderType type;
+    final PriceLevel level;
+    BigDecimal size;
+    RestingOrder previous;
+    RestingOrder next;
+
+    RestingOrder(String id, OrderType type, PriceLevel level, BigDecimal size) {
+      this.id = id;
+      this.type = type;
+      this.level = level;
+      this.size = size;
+    }
+
+    LimitOrder toLimitOrder(CurrencyPair currencyPair) {
+      return new LimitOrder(type, size, currencyPair, id, null, level.price);
+    }
+  }
+}
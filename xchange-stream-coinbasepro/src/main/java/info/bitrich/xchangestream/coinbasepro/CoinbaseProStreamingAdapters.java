@@ -1,10 +1,13 @@
 package info.bitrich.xchangestream.coinbasepro;
 
 import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketTransaction;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import java.math.BigDecimal;
 import java.text.ParseException;
 import java.text.SimpleDateFormat;
+import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.TimeZone;
 import org.knowm.xchange.coinbasepro.CoinbaseProAdapters;
 import org.knowm.xchange.coinbasepro.dto.trade.CoinbaseProOrder;
@@ -20,6 +23,60 @@ public class CoinbaseProStreamingAdapters {
 
   private static final Logger LOG = LoggerFactory.getLogger(CoinbaseProStreamingAdapters.class);
 
+  /**
+   * Adapts a message of the level2 channel, a snapshot or an l2update. The levels carry the new
+   * size of the price, Coinbase Pro doesn't sequence the level2 channel.
+   */
+  public static OrderBookUpdateFrame adaptOrderBookUpdateFrame(
+      CurrencyPair currencyPair, CoinbaseProWebSocketTransaction message) {
+    Date timestamp = message.getTime() == null ? null : parseDate(message.getTime());
+    if ("snapshot".equals(message.getType())) {
+      return new OrderBookUpdateFrame(
+          currencyPair,
+          true,
+          timestamp,
+          adaptLevels(currencyPair, OrderType.ASK, message.getAsks(), timestamp),
+          adaptLevels(currencyPair, OrderType.BID, message.getBids(), timestamp));
+    }
+    List<LimitOrder> asks = new ArrayList<>();
+    List<LimitOrder> bids = new ArrayList<>();
+    if (message.getChanges() != null) {
+      for (String[] change : message.getChanges()) {
+        if ("buy".equals(change[0])) {
+          bids.add(adaptLevel(currencyPair, OrderType.BID, change, timestamp));
+        } else {
+          asks.add(adaptLevel(currencyPair, OrderType.ASK, change, timestamp));
+        }
+      }
+    }
+    return new OrderBookUpdateFrame(
+        currencyPair,
+        false,
+        timestamp,
+        asks.toArray(new LimitOrder[0]),
+        bids.toArray(new LimitOrder[0]));
+  }
+
+  private static LimitOrder[] adaptLevels(
+      CurrencyPair currencyPair, OrderType type, String[][] levels, Date timestamp) {
+    if (levels == null) {
+      return null;
+    }
+    LimitOrder[] orders = new LimitOrder[levels.length];
+    for (int i = 0; i < levels.length; i++) {
+      orders[i] = adaptLevel(currencyPair, type, levels[i], timestamp);
+    }
+    return orders;
+  }
+
+  /** The price and the size are the last two elements of the level. */
+  private static LimitOrder adaptLevel(
+      CurrencyPair currencyPair, OrderType type, String[] level, Date timestamp) {
+    BigDecimal price = new BigDecimal(level[level.length - 2]);
+    BigDecimal size = new BigDecimal(level[level.length - 1]);
+    return new LimitOrder(type, size, currencyPair, null, timestamp, price);
+  }
+
   public static Date parseDate(final String rawDate) {
 
     String modified;
@@ -4,23 +4,32 @@ import static org.knowm.xchange.coinbasepro.CoinbaseProAdapters.adaptTicker;
 import static org.knowm.xchange.coinbasepro.CoinbaseProAdapters.adaptTrades;
 
 import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketTransaction;
+import info.bitrich.xchangestream.core.OrderBookTop;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import info.bitrich.xchangestream.core.StreamingExchange;
 import info.bitrich.xchangestream.core.StreamingMarketDataService;
+import info.bitrich.xchangestream.util.OrderBookSynchronizer;
+import info.bitrich.xchangestream.util.OrderBookSynchronizer.Sequencing;
 import io.reactivex.rxjava3.core.Flowable;
 
 import java.math.BigDecimal;
 import java.util.*;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductBook;
 import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductTicker;
 import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProTrade;
+import org.knowm.xchange.coinbasepro.service.CoinbaseProMarketDataServiceRaw;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.knowm.xchange.dto.Order;
 import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
 import org.knowm.xchange.dto.marketdata.Trades;
 import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
 
 /** Created by luca on 4/3/17. */
 public class CoinbaseProStreamingMarketDataService implements StreamingMarketDataService {
@@ -29,10 +38,14 @@ public class CoinbaseProStreamingMarketDataService implements StreamingMarketDat
   private static final String L2UPDATE = "l2update";
   private static final String TICKER = "ticker";
   private static final String MATCH = "match";
+  private static final Set<String> LEVEL2_TYPES =
+      new HashSet<>(Arrays.asList(SNAPSHOT, L2UPDATE));
+  private static final Set<String> FULL_TYPES =
+      new HashSet<>(Arrays.asList("received", "open", "done", MATCH, "change", "activate"));
 
   private final CoinbaseProStreamingService service;
 
-  private final Map<CurrencyPair, Flowable<OrderBook>> orderbookSubscriptions = new ConcurrentHashMap<>();
+  private final Map<CurrencyPair, OrderbookSubscription> orderbookSubscriptions = new ConcurrentHashMap<>();
 
   CoinbaseProStreamingMarketDataService(CoinbaseProStreamingService service) {
     this.service = service;
@@ -50,6 +63,48 @@ public class CoinbaseProStreamingMarketDataService implements StreamingMarketDat
 
   @Override
   public Flowable<OrderBook> getOrderBook(CurrencyPair currencyPair, Object... args) {
+    return getOrderbookSubscription(currencyPair).orderBooks;
+  }
+
+  /**
+   * Compares the top of the maintained book on every update, not only on the emissions of {@link
+   * #getOrderBook(CurrencyPair, Object...)} which are throttled to one per second and copy 100
+   * levels per side.
+   */
+  @Override
+  public Flowable<OrderBook> getOrderBookTop(Instrument instrument, int depth, Object... args) {
+    if (!(instrument instanceof CurrencyPair)) {
+      return StreamingMarketDataService.super.getOrderBookTop(instrument, depth, args);
+    }
+    return OrderBookTop.of(getOrderbookSubscription((CurrencyPair) instrument).updates, depth);
+  }
+
+  /**
+   * Frames of the level2 channel, not available with {@link StreamingExchange#L3_ORDERBOOK} which
+   * subscribes the full channel instead.
+   */
+  @Override
+  public Flowable<OrderBookUpdateFrame> getOrderBookUpdates(
+      Instrument instrument, Object... args) {
+    if (!(instrument instanceof CurrencyPair)) {
+      return StreamingMarketDataService.super.getOrderBookUpdates(instrument, args);
+    }
+    CurrencyPair currencyPair = (CurrencyPair) instrument;
+    if (!containsPair(service.getProduct().getOrderBook(), currencyPair))
+      throw new UnsupportedOperationException(
+          String.format("The currency pair %s is not subscribed for orderbook", currencyPair));
+    if (service.isSubscribeL3Orderbook())
+      throw new UnsupportedOperationException(
+          "The level2 channel is not subscribed with " + StreamingExchange.L3_ORDERBOOK);
+
+    return getRawWebSocketTransactions(currencyPair, false)
+        .filter(message -> LEVEL2_TYPES.contains(message.getType()))
+        .map(
+            message ->
+                CoinbaseProStreamingAdapters.adaptOrderBookUpdateFrame(currencyPair, message));
+  }
+
+  private OrderbookSubscription getOrderbookSubscription(CurrencyPair currencyPair) {
     if (!containsPair(service.getProduct().getOrderBook(), currencyPair))
       throw new UnsupportedOperationException(
           String.format("The currency pair %s is not subscribed for orderbook", currencyPair));
@@ -57,40 +112,108 @@ public class CoinbaseProStreamingMarketDataService implements StreamingMarketDat
     return orderbookSubscriptions.computeIfAbsent(currencyPair, this::initOrderBookIfAbsent);
   }
 
-  private Flowable<OrderBook> initOrderBookIfAbsent(CurrencyPair currencyPair) {
-    OrderbookSubscription subscription =
-            new OrderbookSubscription(currencyPair, getRawWebSocketTransactions(currencyPair, false));
+  /**
+   * Order by order book maintained from the "full" channel, requires {@link
+   * info.bitrich.xchangestream.core.StreamingExchange#L3_ORDERBOOK}. It is synced with a level 3
+   * REST snapshot on the first message and after every gap in the sequence. The book is updated in
+   * place and emitted after every message which changed it, read it within the callback.
+   *
+   * @param currencyPair Currency pair of the order book
+   * @return {@link Flowable} that emits the maintained {@link CoinbaseProL3OrderBook}.
+   */
+  public Flowable<CoinbaseProL3OrderBook> getL3OrderBook(CurrencyPair currencyPair) {
+    if (!service.isSubscribeL3Orderbook())
+      throw new UnsupportedOperationException(
+          "The full channel is only subscribed with " + StreamingExchange.L3_ORDERBOOK);
+
+    OrderbookSubscription subscription = getOrderbookSubscription(currencyPair);
+    return subscription.updates.map(s -> subscription.l3);
+  }
 
-    return subscription.stream
-            .filter(message -> (SNAPSHOT).equals(message.getType()) || (L2UPDATE).equals(message.getType()))
-            .doOnNext(subscription::update)
-            .filter(s -> subscription.isOrderbookReady())
-            .map(s -> subscription.toOrderBook())
-            .publish(1).refCount();
+  private OrderbookSubscription initOrderBookIfAbsent(CurrencyPair currencyPair) {
+    Flowable<CoinbaseProWebSocketTransaction> stream =
+        getRawWebSocketTransactions(currencyPair, false);
+    if (service.isSubscribeL3Orderbook()) {
+      CoinbaseProMarketDataServiceRaw marketDataService = service.getMarketDataService();
+      return new OrderbookSubscription(
+          currencyPair,
+          stream,
+          new CoinbaseProL3OrderBook(currencyPair),
+          () -> marketDataService.getCoinbaseProProductOrderBook(currencyPair, 3));
+    }
+    return new OrderbookSubscription(currencyPair, stream, null, null);
   }
 
-  private final class OrderbookSubscription {
+  private static final class OrderbookSubscription {
     final CurrencyPair currencyPair;
-    final Flowable<CoinbaseProWebSocketTransaction> stream;
-    SortedMap<BigDecimal, BigDecimal> bids = new TreeMap<>(java.util.Collections.reverseOrder());
-    SortedMap<BigDecimal, BigDecimal> asks = new TreeMap<>();
+    /** Order by order book of the full channel, null for the level2 channel. */
+    final CoinbaseProL3OrderBook l3;
+    final OrderBookSynchronizer<CoinbaseProProductBook, CoinbaseProWebSocketTransaction> l3Sync;
+    final SortedOrderBook book;
+    /** The maintained book after every change, shared by all subscribers. */
+    final Flowable<OrderBook> updates;
+    /** Copies of the best 100 levels, at most one per second. */
+    final Flowable<OrderBook> orderBooks;
 
     Date lastUpdateTime;
     Date lastEmitTime;
 
-    private OrderbookSubscription(CurrencyPair currencyPair, Flowable<CoinbaseProWebSocketTransaction> stream) {
+    private OrderbookSubscription(
+        CurrencyPair currencyPair,
+        Flowable<CoinbaseProWebSocketTransaction> stream,
+        CoinbaseProL3OrderBook l3,
+        Callable<CoinbaseProProductBook> l3Snapshot) {
       this.currencyPair = currencyPair;
-      this.stream = stream;
+      this.l3 = l3;
+      this.l3Sync =
+          l3 == null
+              ? null
+              : new OrderBookSynchronizer<>(
+                  currencyPair.toString(),
+                  l3Snapshot,
+                  Sequencing.consecutive(
+                      CoinbaseProProductBook::getSequence,
+                      CoinbaseProWebSocketTransaction::getSequence),
+                  snapshot -> {
+                    l3.init(snapshot);
+                    lastEmitTime = null;
+                  },
+                  l3::update);
+      this.book =
+          l3 == null
+              ? new SortedOrderBook(null, new ArrayList<>(), new ArrayList<>())
+              : l3.getLevel2();
+      Set<String> types = l3 == null ? LEVEL2_TYPES : FULL_TYPES;
+      this.updates = stream
+              .filter(message -> types.contains(message.getType()))
+              .doOnNext(this::update)
+              .filter(s -> lastUpdateTime != null)
+              .map(s -> (OrderBook) book)
+              .publish(1).refCount();
+      this.orderBooks = updates
+              .filter(s -> isOrderbookReady())
+              .map(s -> toOrderBook())
+              .publish(1).refCount();
     }
 
     void update(CoinbaseProWebSocketTransaction t) {
-      if (t.getType().equals(SNAPSHOT)) {
+      if (l3 != null) {
+        updateL3(t);
+      } else if (t.getType().equals(SNAPSHOT)) {
         initSnapshot(t);
       } else {
+        lastUpdateTime = CoinbaseProStreamingAdapters.parseDate(t.getTime());
         for(String[] change : t.getChanges()) {
-          updateMap("buy".equals(change[0]) ? bids : asks, change);
+          updateLevel("buy".equals(change[0]) ? Order.OrderType.BID : Order.OrderType.ASK, change);
         }
-        lastUpdateTime = CoinbaseProStreamingAdapters.parseDate(t.getTime());
+      }
+    }
+
+    private void updateL3(CoinbaseProWebSocketTransaction t) {
+      if (l3Sync.onDiff(t)) {
+        lastUpdateTime = l3.getTimestamp();
+      } else if (!l3Sync.isSynced()) {
+        lastUpdateTime = null;
       }
     }
 
@@ -99,38 +222,26 @@ public class CoinbaseProStreamingMarketDataService implements StreamingMarketDat
     }
 
     OrderBook toOrderBook() {
-      List<LimitOrder> _bids = bids.entrySet().stream().limit(100)
-              .map(level -> new LimitOrder(Order.OrderType.BID, level.getValue(), currencyPair, "0", null, level.getKey()))
-              .collect(Collectors.toList());
-
-      List<LimitOrder> _asks = asks.entrySet().stream().limit(100)
-              .map(level -> new LimitOrder(Order.OrderType.ASK, level.getValue(), currencyPair, "0", null, level.getKey()))
-              .collect(Collectors.toList());
       lastEmitTime = lastUpdateTime;
-      return new OrderBook(new Date(lastEmitTime.getTime()), _asks, _bids);
+      return new OrderBook(new Date(lastEmitTime.getTime()), book.getAsks(100), book.getBids(100));
     }
 
     private void initSnapshot(CoinbaseProWebSocketTransaction t) {
-      bids = new TreeMap<>(java.util.Collections.reverseOrder());
-      asks = new TreeMap<>();
+      book.clear();
+      lastUpdateTime = null;
+      lastEmitTime = null;
       for (String[] level : t.getBids()) {
-        updateMap(bids, level);
+        updateLevel(Order.OrderType.BID, level);
       }
       for (String[] level : t.getAsks()) {
-        updateMap(asks, level);
+        updateLevel(Order.OrderType.ASK, level);
       }
-      lastUpdateTime = null;
-      lastEmitTime = null;
     }
 
-    private void updateMap(SortedMap<BigDecimal, BigDecimal> map, String[] level) {
+    private void updateLevel(Order.OrderType type, String[] level) {
       BigDecimal price = new BigDecimal(level[level.length - 2]);
       BigDecimal volume = new BigDecimal(level[level.length - 1]);
-      if (volume.signum() == 0) {
-        map.remove(price);
-      } else {
-        map.put(price, volume);
-      }
+      book.update(new LimitOrder(type, volume, currencyPair, "0", lastUpdateTime, price));
     }
   }
 
@@ -23,12 +23,14 @@ import java.util.function.Supplier;
 import io.reactivex.rxjava3.disposables.Disposable;
 import org.knowm.xchange.coinbasepro.dto.account.CoinbaseProWebsocketAuthData;
 import org.knowm.xchange.coinbasepro.service.CoinbaseProMarketDataService;
+import org.knowm.xchange.coinbasepro.service.CoinbaseProMarketDataServiceRaw;
 import org.knowm.xchange.coinbasepro.service.CoinbaseProTradeService;
 import org.knowm.xchange.currency.CurrencyPair;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class CoinbaseProStreamingService extends JsonNettyStreamingService {
+public class CoinbaseProStreamingService extends JsonNettyStreamingService
+    implements ByteBufMessageHandler {
   private static final Logger LOG = LoggerFactory.getLogger(CoinbaseProStreamingService.class);
   private static final String SUBSCRIBE = "subscribe";
   private static final String UNSUBSCRIBE = "unsubscribe";
@@ -37,6 +39,7 @@ public class CoinbaseProStreamingService extends JsonNettyStreamingService {
   private ProductSubscription product = null;
   private final Supplier<CoinbaseProWebsocketAuthData> authData;
   private final boolean subscribeL3Orderbook;
+  private final CoinbaseProMarketDataServiceRaw marketDataService;
 
   private WebSocketClientHandler.WebSocketMessageHandler channelInactiveHandler = null;
 
@@ -52,6 +55,7 @@ public class CoinbaseProStreamingService extends JsonNettyStreamingService {
     super(apiUrl, Integer.MAX_VALUE);
     this.authData = authData;
     this.subscribeL3Orderbook = subscribeL3Orderbook;
+    this.marketDataService = marketDataService;
     openOrdersCache = new OpenOrdersCache(marketDataService, tradeService);
   }
 
@@ -68,6 +72,7 @@ public class CoinbaseProStreamingService extends JsonNettyStreamingService {
     super(apiUrl, maxFramePayloadLength, connectionTimeout, retryDuration, idleTimeoutSeconds);
     this.authData = authData;
     this.subscribeL3Orderbook = subscribeL3Orderbook;
+    this.marketDataService = marketDataService;
     openOrdersCache = new OpenOrdersCache(marketDataService, tradeService);
   }
 
@@ -79,6 +84,16 @@ public class CoinbaseProStreamingService extends JsonNettyStreamingService {
     return product;
   }
 
+  /** Whether order books are subscribed on the "full" channel instead of "level2". */
+  boolean isSubscribeL3Orderbook() {
+    return subscribeL3Orderbook;
+  }
+
+  /** REST service of the level 3 snapshots the "full" channel is applied to. */
+  CoinbaseProMarketDataServiceRaw getMarketDataService() {
+    return marketDataService;
+  }
+
   @Override
   public String getSubscriptionUniqueId(String channelName, Object... args) {
     return SHARE_CHANNEL_NAME;
@@ -1,5 +1,6 @@
 package info.bitrich.xchangestream.coinbasepro.dto;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.math.BigDecimal;
 import java.text.SimpleDateFormat;
@@ -17,6 +18,8 @@ public class CoinbaseProWebSocketTransaction {
   private final String orderType;
   private final BigDecimal size;
   private final BigDecimal remainingSize;
+  private final BigDecimal newSize;
+  private final BigDecimal oldSize;
   private final BigDecimal price;
   private final BigDecimal stopPrice;
   private final BigDecimal limitPrice;
@@ -53,6 +56,7 @@ public class CoinbaseProWebSocketTransaction {
 
   private final CoinbaseProChannelProducts[] channels;
 
+  @JsonCreator
   public CoinbaseProWebSocketTransaction(
       @JsonProperty("type") String type,
       @JsonProperty("order_id") String orderId,
@@ -90,9 +94,13 @@ public class CoinbaseProWebSocketTransaction {
       @JsonProperty("taker_fee_rate") BigDecimal takerFeeRate,
       @JsonProperty("maker_user_id") String makerUserId,
       @JsonProperty("maker_profile_id") String makerProfileId,
-      @JsonProperty("maker_fee_rate") BigDecimal makerFeeRate) {
+      @JsonProperty("maker_fee_rate") BigDecimal makerFeeRate,
+      @JsonProperty("new_size") BigDecimal newSize,
+      @JsonProperty("old_size") BigDecimal oldSize) {
 
     this.remainingSize = remainingSize;
+    this.newSize = newSize;
+    this.oldSize = oldSize;
     this.reason = reason;
     this.tradeId = tradeId;
     this.makerOrderId = makerOrderId;
@@ -131,6 +139,88 @@ public class CoinbaseProWebSocketTransaction {
     this.makerFeeRate = makerFeeRate;
   }
 
+  /** A transaction without the sizes of a "change" message. */
+  public CoinbaseProWebSocketTransaction(
+      String type,
+      String orderId,
+      String orderType,
+      BigDecimal size,
+      BigDecimal remainingSize,
+      BigDecimal price,
+      BigDecimal stopPrice,
+      BigDecimal limitPrice,
+      String stopType,
+      BigDecimal bestBid,
+      BigDecimal bestAsk,
+      BigDecimal lastSize,
+      BigDecimal volume24h,
+      BigDecimal open24h,
+      BigDecimal low24h,
+      BigDecimal high24h,
+      String side,
+      String[][] bids,
+      String[][] asks,
+      String[][] changes,
+      String clientOid,
+      String productId,
+      long sequence,
+      String time,
+      String reason,
+      long tradeId,
+      String makerOrderId,
+      String takerOrderId,
+      String takerUserId,
+      String userId,
+      String takerProfileId,
+      String profileId,
+      CoinbaseProChannelProducts[] channels,
+      BigDecimal takerFeeRate,
+      String makerUserId,
+      String makerProfileId,
+      BigDecimal makerFeeRate) {
+
+    this(
+        type,
+        orderId,
+        orderType,
+        size,
+        remainingSize,
+        price,
+        stopPrice,
+        limitPrice,
+        stopType,
+        bestBid,
+        bestAsk,
+        lastSize,
+        volume24h,
+        open24h,
+        low24h,
+        high24h,
+        side,
+        bids,
+        asks,
+        changes,
+        clientOid,
+        productId,
+        sequence,
+        time,
+        reason,
+        tradeId,
+        makerOrderId,
+        takerOrderId,
+        takerUserId,
+        userId,
+        takerProfileId,
+        profileId,
+        channels,
+        takerFeeRate,
+        makerUserId,
+        makerProfileId,
+        makerFeeRate,
+        null,
+        null);
+  }
+
   public CoinbaseProProductTicker toCoinbaseProProductTicker() {
     String tickerTime = time;
     if (tickerTime == null) {
@@ -280,6 +370,16 @@ public class CoinbaseProWebSocketTransaction {
     return remainingSize;
   }
 
+  /** Size of the order after a "change" message. */
+  public BigDecimal getNewSize() {
+    return newSize;
+  }
+
+  /** Size of the order before a "change" message. */
+  public BigDecimal getOldSize() {
+    return oldSize;
+  }
+
   public String getReason() {
     return reason;
   }
@@ -328,6 +428,8 @@ public class CoinbaseProWebSocketTransaction {
     sb.append(", orderType='").append(orderType).append('\'');
     sb.append(", size=").append(size);
     sb.append(", remainingSize=").append(remainingSize);
+    if (newSize != null) sb.append(", newSize=").append(newSize);
+    if (oldSize != null) sb.append(", oldSize=").append(oldSize);
     sb.append(", price=").append(price);
     sb.append(", bestBid=").append(bestBid);
     sb.append(", bestAsk=").append(bestAsk);
@@ -0,0 +1,112 @@
+package info.bitrich.xchangestream.coinbasepro;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketTransaction;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.coinbasepro.dto.marketdata.CoinbaseProProductBook;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class CoinbaseProL3OrderBookTest {
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+  private final CoinbaseProL3OrderBook book = new CoinbaseProL3OrderBook(CurrencyPair.BTC_USD);
+
+  @Before
+  public void setUp() {
+    book.init(
+        new CoinbaseProProductBook(
+            10L,
+            new Object[][] {{"100.00", "1.0", "b1"}, {"100.00", "2.0", "b2"}, {"99.50", "3", "b3"}},
+            new Object[][] {{"101.00", "0.5", "a1"}, {"102.00", "4", "a2"}}));
+  }
+
+  @Test
+  public void testSnapshotIsAggregated() {
+    assertThat(book.isSynced()).isTrue();
+    assertThat(book.getOrderCount()).isEqualTo(5);
+    assertThat(book.getLevel2().getBids())
+        .extracting(LimitOrder::getLimitPrice, LimitOrder::getOriginalAmount)
+        .containsExactly(
+            tuple(new BigDecimal("100.00"), new BigDecimal("3.0")),
+            tuple(new BigDecimal("99.50"), new BigDecimal("3")));
+    assertThat(book.getOrders(OrderType.BID, new BigDecimal("100.00")))
+        .extracting(LimitOrder::getId)
+        .containsExactly("b1", "b2");
+  }
+
+  @Test
+  public void testMessagesUpdateQueuesAndLevels() throws IOException {
+    // received doesn't rest, open appends to the queue of the price
+    assertThat(book.update(message(11, "received", "b4", "buy", "100.00", null))).isTrue();
+    assertThat(book.update(message(12, "open", "b4", "buy", "100.00", "1.5"))).isTrue();
+    assertThat(book.getOrders(OrderType.BID, new BigDecimal("100.00")))
+        .extracting(LimitOrder::getId)
+        .containsExactly("b1", "b2", "b4");
+
+    // partial fill of the first maker
+    assertThat(book.update(match(13, "b1", "0.25"))).isTrue();
+    assertThat(book.getOrder("b1").getOriginalAmount()).isEqualByComparingTo("0.75");
+
+    assertThat(book.update(change(14, "b2", "1.0"))).isTrue();
+    assertThat(book.update(message(15, "done", "b4", "buy", "100.00", "1.5"))).isTrue();
+    assertThat(book.getLevel2().getBestBid().getOriginalAmount()).isEqualByComparingTo("1.75");
+
+    // full fill removes the order and the emptied level
+    assertThat(book.update(match(16, "a1", "0.5"))).isTrue();
+    assertThat(book.update(message(17, "done", "a1", "sell", "101.00", "0"))).isTrue();
+    assertThat(book.getOrder("a1")).isNull();
+    assertThat(book.getLevel2().getBestAsk().getLimitPrice()).isEqualByComparingTo("102.00");
+    assertThat(book.getOrderCount()).isEqualTo(4);
+    assertThat(book.getSequence()).isEqualTo(17);
+  }
+
+  @Test
+  public void testSkipsOldMessagesAndDetectsGaps() throws IOException {
+    assertThat(book.update(message(9, "open", "b5", "buy", "100.00", "1"))).isTrue();
+    assertThat(book.getOrder("b5")).isNull();
+
+    assertThat(book.update(message(12, "open", "b5", "buy", "100.00", "1"))).isFalse();
+    assertThat(book.getSequence()).isEqualTo(10);
+  }
+
+  private CoinbaseProWebSocketTransaction message(
+      long sequence, String type, String orderId, String side, String price, String remaining)
+      throws IOException {
+    return read(
+        "{\"type\":\"%s\",\"order_id\":\"%s\",\"side\":\"%s\",\"price\":\"%s\","
+            + "\"remaining_size\":%s,\"product_id\":\"BTC-USD\",\"sequence\":%d,"
+            + "\"time\":\"2021-01-01T00:00:00.000000Z\"}",
+        type, orderId, side, price, remaining == null ? null : '"' + remaining + '"', sequence);
+  }
+
+  private CoinbaseProWebSocketTransaction match(long sequence, String makerOrderId, String size)
+      throws IOException {
+    return read(
+        "{\"type\":\"match\",\"maker_order_id\":\"%s\",\"taker_order_id\":\"t\",\"size\":\"%s\","
+            + "\"product_id\":\"BTC-USD\",\"sequence\":%d,"
+            + "\"time\":\"2021-01-01T00:00:00.000000Z\"}",
+        makerOrderId, size, sequence);
+  }
+
+  private CoinbaseProWebSocketTransaction change(long sequence, String orderId, String newSize)
+      throws IOException {
+    return read(
+        "{\"type\":\"change\",\"order_id\":\"%s\",\"new_size\":\"%s\",\"old_size\":\"2.0\","
+            + "\"product_id\":\"BTC-USD\",\"sequence\":%d,"
+            + "\"time\":\"2021-01-01T00:00:00.000000Z\"}",
+        orderId, newSize, sequence);
+  }
+
+  private CoinbaseProWebSocketTransaction read(String format, Object... args) throws IOException {
+    return mapper.readValue(String.format(format, args), CoinbaseProWebSocketTransaction.class);
+  }
+}
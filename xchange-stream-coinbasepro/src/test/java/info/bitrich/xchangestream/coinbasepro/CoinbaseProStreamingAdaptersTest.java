@@ -0,0 +1,56 @@
+package info.bitrich.xchangestream.coinbasepro;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.coinbasepro.dto.CoinbaseProWebSocketTransaction;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import java.util.ArrayList;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+
+public class CoinbaseProStreamingAdaptersTest {
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+  @Test
+  public void testAdaptOrderBookUpdateFrames() throws IOException {
+    OrderBookUpdateFrame snapshot =
+        CoinbaseProStreamingAdapters.adaptOrderBookUpdateFrame(
+            CurrencyPair.BTC_USD,
+            message(
+                "{\"type\":\"snapshot\",\"product_id\":\"BTC-USD\","
+                    + "\"bids\":[[\"100.00\",\"1.5\"],[\"99.50\",\"2\"]],"
+                    + "\"asks\":[[\"101.00\",\"0.5\"]]}"));
+    assertThat(snapshot.isSnapshot()).isTrue();
+    assertThat(snapshot.getAskCount()).isEqualTo(1);
+    assertThat(snapshot.getBidCount()).isEqualTo(2);
+    assertThat(snapshot.getBid(1).getLimitPrice()).isEqualByComparingTo("99.50");
+    assertThat(snapshot.getLastSequence()).isEqualTo(OrderBookUpdateFrame.NO_SEQUENCE);
+
+    OrderBookUpdateFrame update =
+        CoinbaseProStreamingAdapters.adaptOrderBookUpdateFrame(
+            CurrencyPair.BTC_USD,
+            message(
+                "{\"type\":\"l2update\",\"product_id\":\"BTC-USD\","
+                    + "\"time\":\"2019-08-14T20:42:27.265Z\","
+                    + "\"changes\":[[\"buy\",\"100.00\",\"0\"],[\"sell\",\"102.00\",\"3\"]]}"));
+    assertThat(update.isSnapshot()).isFalse();
+    assertThat(update.getTimestamp()).isNotNull();
+    assertThat(update.getBid(0).getOriginalAmount()).isZero();
+    assertThat(update.getAsk(0).getLimitPrice()).isEqualByComparingTo("102.00");
+
+    OrderBook orderBook = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+    snapshot.applyTo(orderBook);
+    update.applyTo(orderBook);
+    assertThat(orderBook.getBids()).hasSize(1);
+    assertThat(orderBook.getAsks()).hasSize(2);
+  }
+
+  private CoinbaseProWebSocketTransaction message(String json) throws IOException {
+    return mapper.readValue(json, CoinbaseProWebSocketTransaction.class);
+  }
+}
@@ -0,0 +1,124 @@
+package info.bitrich.xchangestream.core;
+
+import io.reactivex.rxjava3.core.Flowable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+/**
+ * The best levels of both sides of an order book, see {@link
+ * StreamingMarketDataService#getOrderBookTop(org.knowm.xchange.instrument.Instrument, int,
+ * Object...)}. The levels of the last change are kept in arrays allocated once, so updates of a
+ * maintained book which leave the top untouched are compared without allocating. Only a change
+ * copies the levels into a new {@link OrderBook}, which is safe to keep after later updates.
+ *
+ * <p>Not thread safe, meant to be updated from the thread emitting the order books.
+ */
+public final class OrderBookTop {
+
+  private final int depth;
+  private final LimitOrder[] asks;
+  private final LimitOrder[] bids;
+  private int askCount;
+  private int bidCount;
+  private Date timeStamp;
+
+  /** @param depth number of levels kept per side */
+  public OrderBookTop(int depth) {
+    if (depth <= 0) {
+      throw new IllegalArgumentException("Depth must be positive: " + depth);
+    }
+    this.depth = depth;
+    this.asks = new LimitOrder[depth];
+    this.bids = new LimitOrder[depth];
+  }
+
+  /**
+   * Emits the top of every order book of the stream whose levels differ from the previously emitted
+   * ones. Each subscriber compares against its own levels.
+   *
+   * @param orderBooks order books, possibly the same maintained instance on every emission
+   * @param depth number of levels per side
+   */
+  public static Flowable<OrderBook> of(Flowable<OrderBook> orderBooks, int depth) {
+    if (depth <= 0) {
+      throw new IllegalArgumentException("Depth must be positive: " + depth);
+    }
+    return Flowable.defer(
+        () -> {
+          OrderBookTop top = new OrderBookTop(depth);
+          return orderBooks.filter(top::update).map(orderBook -> top.toOrderBook());
+        });
+  }
+
+  /**
+   * Compares the best levels of the order book with the kept ones and keeps them if they differ.
+   *
+   * @return true if a price or an amount within the depth changed
+   */
+  public boolean update(OrderBook orderBook) {
+    List<LimitOrder> newAsks = topLevels(orderBook, OrderType.ASK);
+    List<LimitOrder> newBids = topLevels(orderBook, OrderType.BID);
+    if (sameLevels(newAsks, asks, askCount) && sameLevels(newBids, bids, bidCount)) {
+      return false;
+    }
+    askCount = copyLevels(newAsks, asks);
+    bidCount = copyLevels(newBids, bids);
+    timeStamp = orderBook.getTimeStamp();
+    return true;
+  }
+
+  /** @return the kept levels as an order book independent of later updates */
+  public OrderBook toOrderBook() {
+    return new OrderBook(
+        timeStamp == null ? null : new Date(timeStamp.getTime()),
+        toList(asks, askCount),
+        toList(bids, bidCount));
+  }
+
+  public int getDepth() {
+    return depth;
+  }
+
+  private List<LimitOrder> topLevels(OrderBook orderBook, OrderType type) {
+    if (orderBook instanceof SortedOrderBook) {
+      // avoids materializing the whole side if the book has no cached view of it
+      return ((SortedOrderBook) orderBook).getOrders(type, depth);
+    }
+    return orderBook.getOrders(type);
+  }
+
+  private boolean sameLevels(List<LimitOrder> levels, LimitOrder[] kept, int keptCount) {
+    if (Math.min(levels.size(), depth) != keptCount) {
+      return false;
+    }
+    for (int i = 0; i < keptCount; i++) {
+      LimitOrder level = levels.get(i);
+      LimitOrder keptLevel = kept[i];
+      if (level != keptLevel
+          && (level.getLimitPrice().compareTo(keptLevel.getLimitPrice()) != 0
+              || level.getOriginalAmount().compareTo(keptLevel.getOriginalAmount()) != 0)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private int copyLevels(List<LimitOrder> levels, LimitOrder[] kept) {
+    int count = Math.min(levels.size(), depth);
+    for (int i = 0; i < count; i++) {
+      kept[i] = levels.get(i);
+    }
+    Arrays.fill(kept, count, depth, null);
+    return count;
+  }
+
+  private static List<LimitOrder> toList(LimitOrder[] levels, int count) {
+    return Collections.unmodifiableList(Arrays.asList(Arrays.copyOf(levels, count)));
+  }
+}
@@ -0,0 +1,161 @@
+package info.bitrich.xchangestream.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * The order book changes of one exchange message, see {@link
+ * StreamingMarketDataService#getOrderBookUpdates(Instrument, Object...)}. Each level is a {@link
+ * LimitOrder} carrying the new total amount of its price, a zero amount removes the price. A
+ * snapshot replaces the whole book.
+ *
+ * <p>The levels are kept in the arrays passed to the constructor, in the order of the message.
+ * Sequence numbers are exchange specific, {@link #NO_SEQUENCE} if the exchange doesn't send any.
+ */
+public final class OrderBookUpdateFrame {
+
+  public static final long NO_SEQUENCE = -1;
+
+  private static final LimitOrder[] NO_LEVELS = new LimitOrder[0];
+
+  private final Instrument instrument;
+  private final boolean snapshot;
+  private final long firstSequence;
+  private final long lastSequence;
+  private final Date timestamp;
+  private final LimitOrder[] asks;
+  private final LimitOrder[] bids;
+
+  /**
+   * @param snapshot whether the levels replace the whole book
+   * @param firstSequence sequence of the first change of the message
+   * @param lastSequence sequence of the last change of the message, the sequence of the book after
+   *     it is applied
+   * @param timestamp time of the message, null if the exchange doesn't send it
+   * @param asks ask levels, owned by the frame from now on
+   * @param bids bid levels, owned by the frame from now on
+   */
+  public OrderBookUpdateFrame(
+      Instrument instrument,
+      boolean snapshot,
+      long firstSequence,
+      long lastSequence,
+      Date timestamp,
+      LimitOrder[] asks,
+      LimitOrder[] bids) {
+    this.instrument = instrument;
+    this.snapshot = snapshot;
+    this.firstSequence = firstSequence;
+    this.lastSequence = lastSequence;
+    this.timestamp = timestamp;
+    this.asks = asks == null ? NO_LEVELS : asks;
+    this.bids = bids == null ? NO_LEVELS : bids;
+  }
+
+  /** Frame of an exchange without sequence numbers. */
+  public OrderBookUpdateFrame(
+      Instrument instrument,
+      boolean snapshot,
+      Date timestamp,
+      LimitOrder[] asks,
+      LimitOrder[] bids) {
+    this(instrument, snapshot, NO_SEQUENCE, NO_SEQUENCE, timestamp, asks, bids);
+  }
+
+  /**
+   * Applies the levels to the book, a snapshot clears it first. The timestamp of the book is taken
+   * from the levels.
+   */
+  public void applyTo(OrderBook orderBook) {
+    if (snapshot) {
+      if (orderBook instanceof SortedOrderBook) {
+        ((SortedOrderBook) orderBook).clear();
+      } else {
+        orderBook.getAsks().clear();
+        orderBook.getBids().clear();
+      }
+    }
+    for (LimitOrder ask : asks) {
+      orderBook.update(ask);
+    }
+    for (LimitOrder bid : bids) {
+      orderBook.update(bid);
+    }
+  }
+
+  public Instrument getInstrument() {
+    return instrument;
+  }
+
+  public boolean isSnapshot() {
+    return snapshot;
+  }
+
+  /** @return whether applying the frame changes nothing */
+  public boolean isEmpty() {
+    return !snapshot && asks.length == 0 && bids.length == 0;
+  }
+
+  public long getFirstSequence() {
+    return firstSequence;
+  }
+
+  public long getLastSequence() {
+    return lastSequence;
+  }
+
+  public Date getTimestamp() {
+    return timestamp;
+  }
+
+  public int getAskCount() {
+    return asks.length;
+  }
+
+  public int getBidCount() {
+    return bids.length;
+  }
+
+  public LimitOrder getAsk(int index) {
+    return asks[index];
+  }
+
+  public LimitOrder getBid(int index) {
+    return bids[index];
+  }
+
+  /** @return unmodifiable view of the ask levels */
+  public List<LimitOrder> getAsks() {
+    return Collections.unmodifiableList(Arrays.asList(asks));
+  }
+
+  /** @return unmodifiable view of the bid levels */
+  public List<LimitOrder> getBids() {
+    return Collections.unmodifiableList(Arrays.asList(bids));
+  }
+
+  @Override
+  public String toString() {
+    return "OrderBookUpdateFrame [instrument="
+        + instrument
+        + ", snapshot="
+        + snapshot
+        + ", firstSequence="
+        + firstSequence
+        + ", lastSequence="
+        + lastSequence
+        + ", timestamp="
+        + timestamp
+        + ", asks="
+        + asks.length
+        + ", bids="
+        + bids.length
+        + "]";
+  }
+}
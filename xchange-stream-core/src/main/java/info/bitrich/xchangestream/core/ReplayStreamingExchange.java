@@ -0,0 +1,204 @@
+package info.bitrich.xchangestream.core;
+
+import info.bitrich.xchangestream.service.netty.ConnectionStateModel.State;
+import info.bitrich.xchangestream.service.netty.MessageJournalReplayer;
+import io.netty.channel.ChannelHandlerContext;
+import io.reactivex.rxjava3.core.Completable;
+import io.reactivex.rxjava3.core.Flowable;
+import java.io.IOException;
+import java.util.List;
+import org.knowm.xchange.ExchangeSpecification;
+import org.knowm.xchange.client.ResilienceRegistries;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.meta.ExchangeMetaData;
+import org.knowm.xchange.exceptions.ExchangeException;
+import org.knowm.xchange.instrument.Instrument;
+import org.knowm.xchange.service.account.AccountService;
+import org.knowm.xchange.service.marketdata.MarketDataService;
+import org.knowm.xchange.service.trade.TradeService;
+import si.mazi.rescu.SynchronizedValueFactory;
+
+/**
+ * Streaming exchange fed from a journal recorded with {@link StreamingExchange#MESSAGE_JOURNAL}
+ * instead of the exchange. The market data connection of the wrapped exchange is replaced by a
+ * {@link MessageJournalReplayer}, so its adapters and order book logic run exactly like on a live
+ * connection. Only exchanges which apply {@link
+ * StreamingExchange#applyStreamingSpecification(ExchangeSpecification,
+ * info.bitrich.xchangestream.service.netty.NettyStreamingService)} to their market data service
+ * support replaying.
+ *
+ * <pre>{@code
+ * ReplayStreamingExchange exchange =
+ *     ReplayStreamingExchange.create(
+ *         BitfinexStreamingExchange.class, MessageJournalReplayer.asFastAsPossible(journal));
+ * exchange.connect().blockingAwait();
+ * exchange.getStreamingMarketDataService().getOrderBook(CurrencyPair.BTC_USD).subscribe(...);
+ * exchange.replay().blockingAwait();
+ * }</pre>
+ */
+public class ReplayStreamingExchange implements StreamingExchange {
+
+  private final StreamingExchange exchange;
+  private final MessageJournalReplayer replayer;
+
+  public ReplayStreamingExchange(StreamingExchange exchange, MessageJournalReplayer replayer) {
+    this.exchange = exchange;
+    this.replayer = replayer;
+  }
+
+  /**
+   * Creates the exchange with its default specification, without loading remote metadata, and sets
+   * it up to replay the journal.
+   */
+  public static ReplayStreamingExchange create(
+      Class<? extends StreamingExchange> exchangeClass, MessageJournalReplayer replayer) {
+    StreamingExchange exchange =
+        StreamingExchangeFactory.INSTANCE.createExchangeWithoutSpecification(exchangeClass);
+    ExchangeSpecification exchangeSpecification = exchange.getDefaultExchangeSpecification();
+    exchangeSpecification.setShouldLoadRemoteMetaData(false);
+    exchangeSpecification.setExchangeSpecificParametersItem(MESSAGE_JOURNAL_REPLAYER, replayer);
+    exchange.applySpecification(exchangeSpecification);
+    return new ReplayStreamingExchange(exchange, replayer);
+  }
+
+  /**
+   * Replays the journal through the connected exchange, see {@link MessageJournalReplayer#replay()}.
+   */
+  public Completable replay() {
+    return replayer.replay();
+  }
+
+  public StreamingExchange getExchange() {
+    return exchange;
+  }
+
+  @Override
+  public Completable connect(ProductSubscription... args) {
+    return exchange.connect(args);
+  }
+
+  @Override
+  public Completable disconnect() {
+    return exchange.disconnect();
+  }
+
+  @Override
+  public boolean isAlive() {
+    return exchange.isAlive();
+  }
+
+  @Override
+  public Flowable<Throwable> reconnectFailure() {
+    return exchange.reconnectFailure();
+  }
+
+  @Override
+  public Flowable<Object> connectionSuccess() {
+    return exchange.connectionSuccess();
+  }
+
+  @Override
+  public Flowable<ChannelHandlerContext> disconnectFlowable() {
+    return exchange.disconnectFlowable();
+  }
+
+  @Override
+  public Flowable<State> connectionStateFlowable() {
+    return exchange.connectionStateFlowable();
+  }
+
+  @Override
+  public Flowable<Long> messageDelay() {
+    return exchange.messageDelay();
+  }
+
+  @Override
+  public void resubscribeChannels() {
+    exchange.resubscribeChannels();
+  }
+
+  @Override
+  public Flowable<Object> connectionIdle() {
+    return exchange.connectionIdle();
+  }
+
+  @Override
+  public StreamingMarketDataService getStreamingMarketDataService() {
+    return exchange.getStreamingMarketDataService();
+  }
+
+  @Override
+  public StreamingAccountService getStreamingAccountService() {
+    return exchange.getStreamingAccountService();
+  }
+
+  @Override
+  public StreamingTradeService getStreamingTradeService() {
+    return exchange.getStreamingTradeService();
+  }
+
+  @Override
+  public void useCompressedMessages(boolean compressedMessages) {
+    exchange.useCompressedMessages(compressedMessages);
+  }
+
+  @Override
+  public ExchangeSpecification getExchangeSpecification() {
+    return exchange.getExchangeSpecification();
+  }
+
+  @Override
+  public ExchangeMetaData getExchangeMetaData() {
+    return exchange.getExchangeMetaData();
+  }
+
+  @Override
+  public List<CurrencyPair> getExchangeSymbols() {
+    return exchange.getExchangeSymbols();
+  }
+
+  @Override
+  public List<Instrument> getExchangeInstruments() {
+    return exchange.getExchangeInstruments();
+  }
+
+  @Override
+  public SynchronizedValueFactory<Long> getNonceFactory() {
+    return exchange.getNonceFactory();
+  }
+
+  @Override
+  public ResilienceRegistries getResilienceRegistries() {
+    return exchange.getResilienceRegistries();
+  }
+
+  @Override
+  public ExchangeSpecification getDefaultExchangeSpecification() {
+    return exchange.getDefaultExchangeSpecification();
+  }
+
+  @Override
+  public void applySpecification(ExchangeSpecification exchangeSpecification) {
+    exchange.applySpecification(exchangeSpecification);
+  }
+
+  @Override
+  public MarketDataService getMarketDataService() {
+    return exchange.getMarketDataService();
+  }
+
+  @Override
+  public TradeService getTradeService() {
+    return exchange.getTradeService();
+  }
+
+  @Override
+  public AccountService getAccountService() {
+    return exchange.getAccountService();
+  }
+
+  @Override
+  public void remoteInit() throws IOException, ExchangeException {
+    exchange.remoteInit();
+  }
+}
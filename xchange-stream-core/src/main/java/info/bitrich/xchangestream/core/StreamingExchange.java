@@ -1,11 +1,16 @@
 package info.bitrich.xchangestream.core;
 
 import info.bitrich.xchangestream.service.ConnectableService;
+import info.bitrich.xchangestream.service.netty.BackpressurePolicy;
 import info.bitrich.xchangestream.service.netty.ConnectionStateModel.State;
+import info.bitrich.xchangestream.service.netty.MessageJournalReplayer;
+import info.bitrich.xchangestream.service.netty.MessageJournalWriter;
 import info.bitrich.xchangestream.service.netty.NettyStreamingService;
 import io.netty.channel.ChannelHandlerContext;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
+import java.util.Map;
+import java.util.concurrent.Executor;
 import org.knowm.xchange.Exchange;
 import org.knowm.xchange.ExchangeSpecification;
 import org.knowm.xchange.exceptions.NotYetImplementedForExchangeException;
@@ -18,6 +23,25 @@ public interface StreamingExchange extends Exchange {
   String SOCKS_PROXY_PORT = "SOCKS_Proxy_Port";
   String AUTO_RECONNECT = "Auto_Reconnect";
   String L3_ORDERBOOK = "L3_Orderbook";
+  /** {@link MessageJournalWriter} recording the incoming messages of the market data connection. */
+  String MESSAGE_JOURNAL = "Message_Journal";
+  /**
+   * {@link MessageJournalReplayer} replacing the market data connection, see {@link
+   * ReplayStreamingExchange}.
+   */
+  String MESSAGE_JOURNAL_REPLAYER = "Message_Journal_Replayer";
+  /** {@link BackpressurePolicy} of all channels without a policy of their own. */
+  String BACKPRESSURE_POLICY = "Backpressure_Policy";
+  /**
+   * Map of channel names, as the streaming service of the exchange names them, to their {@link
+   * BackpressurePolicy}.
+   */
+  String CHANNEL_BACKPRESSURE_POLICIES = "Channel_Backpressure_Policies";
+  /**
+   * {@link Executor} running the subscribers of the market data channels
+   * instead of the socket thread, see {@link NettyStreamingService#setConsumerExecutor}.
+   */
+  String CONSUMER_EXECUTOR = "Consumer_Executor";
 
   /**
    * Connects to the WebSocket API of the exchange.
@@ -144,5 +168,27 @@ public interface StreamingExchange extends Exchange {
     Boolean autoReconnect =
         (Boolean) exchangeSpec.getExchangeSpecificParametersItem(AUTO_RECONNECT);
     if (autoReconnect != null) streamingService.setAutoReconnect(autoReconnect);
+
+    MessageJournalWriter messageJournal =
+        (MessageJournalWriter) exchangeSpec.getExchangeSpecificParametersItem(MESSAGE_JOURNAL);
+    if (messageJournal != null) streamingService.setMessageJournal(messageJournal);
+    MessageJournalReplayer messageJournalReplayer =
+        (MessageJournalReplayer)
+            exchangeSpec.getExchangeSpecificParametersItem(MESSAGE_JOURNAL_REPLAYER);
+    if (messageJournalReplayer != null)
+      streamingService.setMessageJournalReplayer(messageJournalReplayer);
+
+    BackpressurePolicy<?> backpressurePolicy =
+        (BackpressurePolicy<?>) exchangeSpec.getExchangeSpecificParametersItem(BACKPRESSURE_POLICY);
+    if (backpressurePolicy != null) streamingService.setBackpressurePolicy(backpressurePolicy);
+    @SuppressWarnings("unchecked")
+    Map<String, BackpressurePolicy<?>> channelBackpressurePolicies =
+        (Map<String, BackpressurePolicy<?>>)
+            exchangeSpec.getExchangeSpecificParametersItem(CHANNEL_BACKPRESSURE_POLICIES);
+    if (channelBackpressurePolicies != null)
+      channelBackpressurePolicies.forEach(streamingService::setBackpressurePolicy);
+    Executor consumerExecutor =
+        (Executor) exchangeSpec.getExchangeSpecificParametersItem(CONSUMER_EXECUTOR);
+    if (consumerExecutor != null) streamingService.setConsumerExecutor(consumerExecutor);
   }
 }
@@ -31,6 +31,38 @@ public interface StreamingMarketDataService {
     }
     throw new NotYetImplementedForExchangeException("getOrderBook");
   }
+
+  /**
+   * Get the best levels of the order book, emitted only when a price or an amount within the depth
+   * changes. Each emitted {@link OrderBook} is a copy which later updates don't touch, unlike the
+   * maintained books some exchanges emit from {@link #getOrderBook(Instrument, Object...)}.
+   *
+   * @param instrument Instrument of the order book
+   * @param depth number of levels per side
+   * @param args exchange specific arguments of {@link #getOrderBook(Instrument, Object...)}
+   * @return {@link Flowable} that emits {@link OrderBook} when the top of the book changes.
+   */
+  default Flowable<OrderBook> getOrderBookTop(Instrument instrument, int depth, Object... args) {
+    return OrderBookTop.of(getOrderBook(instrument, args), depth);
+  }
+
+  /**
+   * Get the changes of the order book as sent by the exchange, one {@link OrderBookUpdateFrame}
+   * per message, without maintaining a book. Frames of exchanges which send snapshots are flagged,
+   * the first frame after a (re)subscription is usually one. Consumers keep their own book with
+   * {@link OrderBookUpdateFrame#applyTo(OrderBook)}, verifying the sequence numbers where the
+   * exchange sends them.
+   *
+   * @param instrument Instrument of the order book
+   * @param args exchange specific arguments, usually the same as of {@link
+   *     #getOrderBook(Instrument, Object...)}
+   * @return {@link Flowable} that emits {@link OrderBookUpdateFrame} for each order book message.
+   */
+  default Flowable<OrderBookUpdateFrame> getOrderBookUpdates(
+      Instrument instrument, Object... args) {
+    throw new NotYetImplementedForExchangeException("getOrderBookUpdates");
+  }
+
   /**
    * Get a ticker representing the current exchange rate. Emits {@link
    * info.bitrich.xchangestream.service.exception.NotConnectedException} When not connected to the
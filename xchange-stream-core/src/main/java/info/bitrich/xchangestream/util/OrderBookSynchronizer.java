@@ -0,0 +1,292 @@
+package info.bitrich.xchangestream.util;
+
+import io.reactivex.rxjava3.core.Scheduler;
+import io.reactivex.rxjava3.core.Single;
+import io.reactivex.rxjava3.schedulers.Schedulers;
+import java.util.ArrayDeque;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the order book of one instrument in sync from a REST snapshot and a stream of sequenced
+ * diffs. Diffs are buffered while the snapshot loads in the background, then the buffered diffs
+ * the snapshot doesn't contain are applied on top of it. A diff which doesn't follow the previous
+ * one unsyncs the book and loads a new snapshot, books of other instruments stay untouched.
+ *
+ * <pre>{@code
+ * OrderBookSynchronizer<Snapshot, Diff> synchronizer =
+ *     new OrderBookSynchronizer<>(
+ *         currencyPair.toString(),
+ *         () -> marketDataService.getSnapshot(currencyPair),
+ *         Sequencing.ranges(Snapshot::getSequence, Diff::getFirstSequence, Diff::getLastSequence),
+ *         snapshot -> book = toOrderBook(snapshot),
+ *         diff -> applyDiff(book, diff));
+ * Flowable<OrderBook> orderBooks = diffs.filter(synchronizer::onDiff).map(diff -> book);
+ * }</pre>
+ *
+ * <p>{@link #onDiff(Object)} and {@link #invalidate()} must be called serially, typically from the
+ * stream of the diffs. A loaded snapshot is applied with the next diff.
+ *
+ * @param <S> type of the snapshots
+ * @param <D> type of the diffs
+ */
+public class OrderBookSynchronizer<S, D> {
+
+  private static final Logger LOG = LoggerFactory.getLogger(OrderBookSynchronizer.class);
+
+  /** Maximum number of diffs buffered while a snapshot loads, older ones are dropped. */
+  public static final int MAX_BUFFERED_DIFFS = 10_000;
+
+  /**
+   * Sequence numbers of an exchange.
+   *
+   * @param <S> type of the snapshots
+   * @param <D> type of the diffs
+   */
+  public interface Sequencing<S, D> {
+
+    /** @return sequence of the last change the snapshot contains */
+    long snapshotSequence(S snapshot);
+
+    /** @return sequence of the book after the diff is applied */
+    long lastSequence(D diff);
+
+    /**
+     * @param sequence sequence of the book
+     * @param afterSnapshot true if the book is the snapshot without any diff applied yet
+     * @return whether the diff continues the book without missing a change
+     */
+    boolean follows(D diff, long sequence, boolean afterSnapshot);
+
+    /** @return whether the book already contains all changes of the diff */
+    default boolean isStale(D diff, long sequence) {
+      return lastSequence(diff) <= sequence;
+    }
+
+    /** Each diff carries the sequence following the one of the previous diff. */
+    static <S, D> Sequencing<S, D> consecutive(
+        ToLongFunction<? super S> snapshotSequence, ToLongFunction<? super D> sequence) {
+      return ranges(snapshotSequence, sequence, sequence);
+    }
+
+    /**
+     * Each diff covers a range of sequences which starts at most with the one following the book.
+     * Overlapping ranges are accepted, the diffs must carry absolute amounts then.
+     */
+    static <S, D> Sequencing<S, D> ranges(
+        ToLongFunction<? super S> snapshotSequence,
+        ToLongFunction<? super D> firstSequence,
+        ToLongFunction<? super D> lastSequence) {
+      return new Sequencing<S, D>() {
+        @Override
+        public long snapshotSequence(S snapshot) {
+          return snapshotSequence.applyAsLong(snapshot);
+        }
+
+        @Override
+        public long lastSequence(D diff) {
+          return lastSequence.applyAsLong(diff);
+        }
+
+        @Override
+        public boolean follows(D diff, long sequence, boolean afterSnapshot) {
+          return firstSequence.applyAsLong(diff) <= sequence + 1
+              && lastSequence.applyAsLong(diff) >= sequence + 1;
+        }
+      };
+    }
+  }
+
+  private final String name;
+  private final Supplier<? extends Single<? extends S>> snapshots;
+  private final Sequencing<S, D> sequencing;
+  private final Consumer<? super S> onSnapshot;
+  private final Consumer<? super D> onDiff;
+
+  private final ArrayDeque<D> buffer = new ArrayDeque<>();
+  private final AtomicReference<S> loadedSnapshot = new AtomicReference<>();
+  private final AtomicBoolean loading = new AtomicBoolean();
+  private final AtomicLong resyncs = new AtomicLong();
+  private long sequence;
+  private boolean synced;
+  private boolean afterSnapshot;
+
+  /**
+   * Loads snapshots on {@link Schedulers#io()}.
+   *
+   * @param name of the book in log messages, e.g. the instrument
+   * @param snapshotLoader loads a snapshot, called on a background thread
+   * @param sequencing sequence numbers of the snapshots and diffs
+   * @param onSnapshot replaces the book with the snapshot
+   * @param onDiff applies a diff to the book
+   */
+  public OrderBookSynchronizer(
+      String name,
+      Callable<? extends S> snapshotLoader,
+      Sequencing<S, D> sequencing,
+      Consumer<? super S> onSnapshot,
+      Consumer<? super D> onDiff) {
+    this(name, snapshotLoader, sequencing, onSnapshot, onDiff, Schedulers.io());
+  }
+
+  /** @param scheduler runs the snapshot loader */
+  public OrderBookSynchronizer(
+      String name,
+      Callable<? extends S> snapshotLoader,
+      Sequencing<S, D> sequencing,
+      Consumer<? super S> onSnapshot,
+      Consumer<? super D> onDiff,
+      Scheduler scheduler) {
+    this(
+        () -> Single.fromCallable(snapshotLoader).subscribeOn(scheduler),
+        name,
+        sequencing,
+        onSnapshot,
+        onDiff);
+  }
+
+  private OrderBookSynchronizer(
+      Supplier<? extends Single<? extends S>> snapshots,
+      String name,
+      Sequencing<S, D> sequencing,
+      Consumer<? super S> onSnapshot,
+      Consumer<? super D> onDiff) {
+    this.name = name;
+    this.snapshots = snapshots;
+    this.sequencing = sequencing;
+    this.onSnapshot = onSnapshot;
+    this.onDiff = onDiff;
+  }
+
+  /**
+   * Loads snapshots asynchronously, e.g. queued by a scheduler which keeps the snapshots of many
+   * instruments within a rate limit.
+   *
+   * @param snapshots called whenever a snapshot is needed, the single emits it
+   */
+  public static <S, D> OrderBookSynchronizer<S, D> withSnapshots(
+      String name,
+      Supplier<? extends Single<? extends S>> snapshots,
+      Sequencing<S, D> sequencing,
+      Consumer<? super S> onSnapshot,
+      Consumer<? super D> onDiff) {
+    return new OrderBookSynchronizer<>(snapshots, name, sequencing, onSnapshot, onDiff);
+  }
+
+  /**
+   * Applies the diff if the book is in sync, otherwise buffers it and applies a loaded snapshot.
+   *
+   * @return true if the book changed and is in sync
+   */
+  public boolean onDiff(D diff) {
+    if (synced) {
+      if (sequencing.isStale(diff, sequence)) {
+        return false;
+      }
+      if (sequencing.follows(diff, sequence, afterSnapshot)) {
+        apply(diff);
+        return true;
+      }
+      LOG.info(
+          "Missed changes of the order book of {} after sequence {}, re-syncing", name, sequence);
+      invalidate();
+    }
+    if (buffer.size() >= MAX_BUFFERED_DIFFS) {
+      buffer.pollFirst();
+    }
+    buffer.addLast(diff);
+    if (spliceLoadedSnapshot()) {
+      return true;
+    }
+    requestSnapshot();
+    // the loader may have completed already, e.g. on an immediate scheduler
+    return spliceLoadedSnapshot();
+  }
+
+  /** Unsyncs the book, e.g. after a failed checksum. The next diff loads a new snapshot. */
+  public void invalidate() {
+    if (synced) {
+      synced = false;
+      resyncs.incrementAndGet();
+    }
+  }
+
+  public boolean isSynced() {
+    return synced;
+  }
+
+  /** @return sequence of the book, only meaningful while in sync */
+  public long getSequence() {
+    return sequence;
+  }
+
+  /** @return number of times the book got out of sync */
+  public long getResyncs() {
+    return resyncs.get();
+  }
+
+  private boolean spliceLoadedSnapshot() {
+    S snapshot = loadedSnapshot.getAndSet(null);
+    return snapshot != null && splice(snapshot);
+  }
+
+  private boolean splice(S snapshot) {
+    long snapshotSequence = sequencing.snapshotSequence(snapshot);
+    while (!buffer.isEmpty() && sequencing.isStale(buffer.peekFirst(), snapshotSequence)) {
+      buffer.pollFirst();
+    }
+    if (!buffer.isEmpty() && !sequencing.follows(buffer.peekFirst(), snapshotSequence, true)) {
+      // diffs between the snapshot and the buffered ones are gone, only a newer snapshot helps
+      LOG.debug("Snapshot of {} at sequence {} is out of date", name, snapshotSequence);
+      return false;
+    }
+    onSnapshot.accept(snapshot);
+    sequence = snapshotSequence;
+    synced = true;
+    afterSnapshot = true;
+    while (!buffer.isEmpty()) {
+      D diff = buffer.pollFirst();
+      if (sequencing.isStale(diff, sequence)) {
+        continue;
+      }
+      if (!sequencing.follows(diff, sequence, afterSnapshot)) {
+        buffer.addFirst(diff);
+        invalidate();
+        return false;
+      }
+      apply(diff);
+    }
+    return true;
+  }
+
+  private void apply(D diff) {
+    onDiff.accept(diff);
+    sequence = sequencing.lastSequence(diff);
+    afterSnapshot = false;
+  }
+
+  private void requestSnapshot() {
+    if (!loading.compareAndSet(false, true)) {
+      return;
+    }
+    LOG.info("Fetching order book snapshot of {}", name);
+    snapshots
+        .get()
+        .subscribe(
+            snapshot -> {
+              loadedSnapshot.set(snapshot);
+              loading.set(false);
+            },
+            e -> {
+              LOG.error("Failed to fetch order book snapshot of {}", name, e);
+              loading.set(false);
+            });
+  }
+}
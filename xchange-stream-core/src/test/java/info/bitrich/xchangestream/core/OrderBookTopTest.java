@@ -0,0 +1,86 @@
+package info.bitrich.xchangestream.core;
+
+import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Date;
+import org.junit.Assert;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+public class OrderBookTopTest {
+
+  private final SortedOrderBook book =
+      new SortedOrderBook(new Date(1000), new ArrayList<>(), new ArrayList<>());
+
+  @Test
+  public void testEmitsOnlyChangesWithinDepth() {
+    PublishProcessor<OrderBook> books = PublishProcessor.create();
+    TestSubscriber<OrderBook> top = OrderBookTop.of(books, 2).test();
+
+    book.update(order(OrderType.ASK, "101", "1"));
+    book.update(order(OrderType.ASK, "102", "1"));
+    book.update(order(OrderType.BID, "99", "1"));
+    books.onNext(book);
+    top.assertValueCount(1);
+
+    // below the top two asks
+    book.update(order(OrderType.ASK, "103", "5"));
+    books.onNext(book);
+    top.assertValueCount(1);
+
+    // same level again
+    book.update(order(OrderType.BID, "99", "1.0"));
+    books.onNext(book);
+    top.assertValueCount(1);
+
+    book.update(order(OrderType.ASK, "101", "0"));
+    books.onNext(book);
+    top.assertValueCount(2);
+
+    OrderBook first = top.values().get(0);
+    Assert.assertEquals(2, first.getAsks().size());
+    assertPrice("101", first.getAsks().get(0));
+
+    OrderBook second = top.values().get(1);
+    Assert.assertEquals(2, second.getAsks().size());
+    assertPrice("102", second.getAsks().get(0));
+    assertPrice("103", second.getAsks().get(1));
+    Assert.assertEquals(1, second.getBids().size());
+  }
+
+  @Test
+  public void testEmittedBookIsCopy() {
+    OrderBook mutable = new OrderBook(new Date(1000), new ArrayList<>(), new ArrayList<>());
+    mutable.update(order(OrderType.BID, "99", "1"));
+    OrderBookTop top = new OrderBookTop(5);
+
+    Assert.assertTrue(top.update(mutable));
+    OrderBook copy = top.toOrderBook();
+    mutable.update(order(OrderType.BID, "100", "2"));
+
+    Assert.assertTrue(top.update(mutable));
+    Assert.assertEquals(1, copy.getBids().size());
+    Assert.assertEquals(2, top.toOrderBook().getBids().size());
+    Assert.assertFalse(top.update(mutable));
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRejectsNonPositiveDepth() {
+    new OrderBookTop(0);
+  }
+
+  private static void assertPrice(String expected, LimitOrder level) {
+    Assert.assertEquals(0, new BigDecimal(expected).compareTo(level.getLimitPrice()));
+  }
+
+  private static LimitOrder order(OrderType type, String price, String amount) {
+    return new LimitOrder(
+        type, new BigDecimal(amount), CurrencyPair.BTC_USD, null, null, new BigDecimal(price));
+  }
+}
@@ -0,0 +1,74 @@
+package info.bitrich.xchangestream.util;
+
+import info.bitrich.xchangestream.util.OrderBookSynchronizer.Sequencing;
+import io.reactivex.rxjava3.schedulers.TestScheduler;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class OrderBookSynchronizerTest {
+
+  private final TestScheduler scheduler = new TestScheduler();
+  private final List<Long> snapshots = new ArrayList<>(Arrays.asList(5L, 9L));
+  private final List<String> book = new ArrayList<>();
+
+  /** Diffs are ranges [first, last], snapshots their last sequence. */
+  private final OrderBookSynchronizer<Long, long[]> synchronizer =
+      new OrderBookSynchronizer<>(
+          "test",
+          () -> snapshots.remove(0),
+          Sequencing.ranges(snapshot -> snapshot, diff -> diff[0], diff -> diff[1]),
+          snapshot -> {
+            book.clear();
+            book.add("snapshot " + snapshot);
+          },
+          diff -> book.add(diff[0] + "-" + diff[1]),
+          scheduler);
+
+  @Test
+  public void testBuffersUntilSnapshotAndSplices() {
+    Assert.assertFalse(synchronizer.onDiff(new long[] {1, 3}));
+    Assert.assertFalse(synchronizer.onDiff(new long[] {4, 5}));
+    scheduler.triggerActions();
+    Assert.assertFalse(synchronizer.isSynced());
+
+    // the snapshot at 5 is applied with the next diff, the buffered ones are all stale
+    Assert.assertTrue(synchronizer.onDiff(new long[] {6, 7}));
+    Assert.assertEquals(Arrays.asList("snapshot 5", "6-7"), book);
+
+    Assert.assertFalse(synchronizer.onDiff(new long[] {6, 7}));
+    Assert.assertTrue(synchronizer.onDiff(new long[] {8, 8}));
+    Assert.assertEquals(8, synchronizer.getSequence());
+  }
+
+  @Test
+  public void testResyncsAfterGap() {
+    synchronizer.onDiff(new long[] {5, 5});
+    scheduler.triggerActions();
+    Assert.assertTrue(synchronizer.onDiff(new long[] {6, 6}));
+
+    // 7 is missing, the snapshot at 9 covers it
+    Assert.assertFalse(synchronizer.onDiff(new long[] {8, 9}));
+    Assert.assertFalse(synchronizer.isSynced());
+    Assert.assertEquals(1, synchronizer.getResyncs());
+    scheduler.triggerActions();
+
+    Assert.assertTrue(synchronizer.onDiff(new long[] {10, 11}));
+    Assert.assertEquals(Arrays.asList("snapshot 9", "10-11"), book);
+  }
+
+  @Test
+  public void testReloadsOutdatedSnapshot() {
+    snapshots.set(0, 2L);
+    synchronizer.onDiff(new long[] {5, 6});
+    scheduler.triggerActions();
+
+    // the snapshot at 2 misses 3 and 4, the next one is loaded
+    Assert.assertFalse(synchronizer.onDiff(new long[] {7, 7}));
+    scheduler.triggerActions();
+    Assert.assertTrue(synchronizer.onDiff(new long[] {10, 10}));
+    Assert.assertEquals(Arrays.asList("snapshot 9", "10-10"), book);
+  }
+}
@@ -0,0 +1,185 @@
+package info.bitrich.xchangestream.ftx;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.zip.CRC32;
+
+/**
+ * CRC32 of the top 100 levels of an FTX book: bid and ask price and size interleaved, joined by
+ * colons. The numbers are written as digits straight into a reusable buffer, formatted like FTX
+ * does, with one to eight decimals and prices below 0.0001 in exponent notation, e.g. {@code
+ * 55109.0:3.3745} or {@code 1.5e-05:100.0}.
+ *
+ * <p>Levels are encoded once with {@link #encode(BigDecimal, BigDecimal)} when they change, a
+ * checksum only feeds the encoded levels to the CRC. Not thread safe.
+ */
+final class FtxOrderBookChecksum {
+
+  static final int DEPTH = 100;
+
+  private static final int DECIMALS = 8;
+  private static final long DECIMALS_FACTOR = 100_000_000L;
+  private static final int EXPONENT_DECIMALS = 4;
+  private static final BigDecimal EXPONENT_THRESHOLD = new BigDecimal("0.0001");
+  private static final BigDecimal TEN = BigDecimal.TEN;
+
+  private final CRC32 crc = new CRC32();
+  private byte[] buffer = new byte[64];
+  private int length;
+  private boolean empty;
+
+  /** Encodes a level as {@code price:size}. */
+  byte[] encode(BigDecimal price, BigDecimal size) {
+    length = 0;
+    if (price.signum() > 0 && price.compareTo(EXPONENT_THRESHOLD) < 0) {
+      writeExponent(price);
+    } else {
+      writePlain(price);
+    }
+    write(':');
+    writePlain(size);
+    return Arrays.copyOf(buffer, length);
+  }
+
+  /**
+   * @param bids encoded bid levels, best first
+   * @param asks encoded ask levels, best first
+   * @return the checksum of the top 100 levels of each side
+   */
+  long checksum(Iterable<byte[]> bids, Iterable<byte[]> asks) {
+    crc.reset();
+    Iterator<byte[]> bidIterator = bids.iterator();
+    Iterator<byte[]> askIterator = asks.iterator();
+    empty = true;
+    for (int i = 0; i < DEPTH; i++) {
+      boolean hasBid = bidIterator.hasNext();
+      boolean hasAsk = askIterator.hasNext();
+      if (!hasBid && !hasAsk) {
+        break;
+      }
+      if (hasBid) {
+        update(bidIterator.next());
+      }
+      if (hasAsk) {
+        update(askIterator.next());
+      }
+    }
+    return crc.getValue();
+  }
+
+  private void update(byte[] level) {
+    if (!empty) {
+      crc.update(':');
+    }
+    empty = false;
+    crc.update(level, 0, level.length);
+  }
+
+  /** Writes the value like {@code new DecimalFormat("0.0#######")}. */
+  private void writePlain(BigDecimal value) {
+    if (value.signum() < 0) {
+      write('-');
+      value = value.negate();
+    }
+    BigInteger unscaled = value.setScale(DECIMALS, RoundingMode.HALF_EVEN).unscaledValue();
+    if (unscaled.bitLength() < Long.SIZE - 1) {
+      long fixedPoint = unscaled.longValue();
+      writeDigits(fixedPoint / DECIMALS_FACTOR);
+      write('.');
+      writeDecimals(fixedPoint % DECIMALS_FACTOR);
+    } else {
+      String digits = unscaled.toString();
+      int point = digits.length() - DECIMALS;
+      for (int i = 0; i < point; i++) {
+        write(digits.charAt(i));
+      }
+      write('.');
+      int end = digits.length();
+      while (end > point + 1 && digits.charAt(end - 1) == '0') {
+        end--;
+      }
+      for (int i = point; i < end; i++) {
+        write(digits.charAt(i));
+      }
+    }
+  }
+
+  /** Writes the value like {@code new DecimalFormat("0.####E00")} with a lower case e. */
+  private void writeExponent(BigDecimal value) {
+    int exponent = value.precision() - value.scale() - 1;
+    BigDecimal mantissa =
+        value.scaleByPowerOfTen(-exponent).setScale(EXPONENT_DECIMALS, RoundingMode.HALF_EVEN);
+    if (mantissa.compareTo(TEN) >= 0) {
+      exponent++;
+      mantissa =
+          value.scaleByPowerOfTen(-exponent).setScale(EXPONENT_DECIMALS, RoundingMode.HALF_EVEN);
+    }
+    long fixedPoint = mantissa.unscaledValue().longValue();
+    writeDigits(fixedPoint / 10_000);
+    long decimals = fixedPoint % 10_000;
+    if (decimals != 0) {
+      write('.');
+      int start = length;
+      for (int i = 0; i < EXPONENT_DECIMALS; i++) {
+        write('0');
+      }
+      writeBackwards(decimals, length);
+      stripZeros(start);
+    }
+    write('e');
+    if (exponent < 0) {
+      write('-');
+      exponent = -exponent;
+    }
+    if (exponent < 10) {
+      write('0');
+    }
+    writeDigits(exponent);
+  }
+
+  /** Writes the eight decimals of a fixed-point value, dropping trailing zeros but the first. */
+  private void writeDecimals(long decimals) {
+    int start = length;
+    for (int i = 0; i < DECIMALS; i++) {
+      write('0');
+    }
+    writeBackwards(decimals, length);
+    stripZeros(start + 1);
+  }
+
+  private void stripZeros(int minimumLength) {
+    while (length > minimumLength && buffer[length - 1] == '0') {
+      length--;
+    }
+  }
+
+  private void writeDigits(long value) {
+    int digits = 1;
+    for (long rest = value / 10; rest > 0; rest /= 10) {
+      digits++;
+    }
+    for (int i = 0; i < digits; i++) {
+      write('0');
+    }
+    writeBackwards(value, length);
+  }
+
+  /** Overwrites the digits of a value ending at end, the positions must have been written. */
+  private void writeBackwards(long value, int end) {
+    int position = end;
+    do {
+      buffer[--position] = (byte) ('0' + value % 10);
+      value /= 10;
+    } while (value > 0);
+  }
+
+  private void write(char c) {
+    if (length == buffer.length) {
+      buffer = Arrays.copyOf(buffer, buffer.length * 2);
+    }
+    buffer[length++] = (byte) c;
+  }
+}
@@ -4,19 +4,16 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.common.collect.Streams;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import info.bitrich.xchangestream.ftx.dto.FtxOrderbookResponse;
 import info.bitrich.xchangestream.ftx.dto.FtxTickerResponse;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import java.io.IOException;
-import java.math.BigDecimal;
-import java.nio.charset.StandardCharsets;
-import java.text.DecimalFormat;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Date;
 import java.util.List;
 import java.util.stream.Collectors;
-import java.util.zip.CRC32;
 
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.dto.Order;
@@ -33,18 +30,44 @@ import org.knowm.xchange.instrument.Instrument;
 public class FtxStreamingAdapters {
 
   private static final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
-  /** Incoming values always has 1 trailing 0 after the decimal, and start with 1 zero */
-  private static final ThreadLocal<DecimalFormat> dfp =
-      ThreadLocal.withInitial(() -> new DecimalFormat("0.0#######"));
-
-  private static final ThreadLocal<DecimalFormat> dfs =
-      ThreadLocal.withInitial(() -> new DecimalFormat("0.####E00"));
-  private static final ThreadLocal<DecimalFormat> dfq =
-      ThreadLocal.withInitial(() -> new DecimalFormat("0.0#######"));
-
   static Ticker NULL_TICKER =
       new Ticker.Builder().build(); // not need to create a new one each time
 
+  /**
+   * Adapts the data of an orderbook message, a snapshot if its action is "partial". FTX doesn't
+   * sequence orderbook messages, it sends a checksum instead.
+   */
+  public static OrderBookUpdateFrame adaptOrderBookUpdateFrame(
+      Instrument instrument, JsonNode data) {
+    Date timestamp = new Date((long) (data.path("time").doubleValue() * 1000));
+    return new OrderBookUpdateFrame(
+        instrument,
+        "partial".equals(data.path("action").textValue()),
+        timestamp,
+        adaptLevels(instrument, Order.OrderType.ASK, data.get("asks"), timestamp),
+        adaptLevels(instrument, Order.OrderType.BID, data.get("bids"), timestamp));
+  }
+
+  private static LimitOrder[] adaptLevels(
+      Instrument instrument, Order.OrderType type, JsonNode levels, Date timestamp) {
+    if (levels == null) {
+      return null;
+    }
+    LimitOrder[] orders = new LimitOrder[levels.size()];
+    for (int i = 0; i < orders.length; i++) {
+      JsonNode level = levels.get(i);
+      orders[i] =
+          new LimitOrder(
+              type,
+              level.get(1).decimalValue(),
+              instrument,
+              null,
+              timestamp,
+              level.get(0).decimalValue());
+    }
+    return orders;
+  }
+
   public static OrderBook adaptOrderbookMessage(
       OrderBook orderBook, Instrument instrument, JsonNode jsonNode) {
 
@@ -53,7 +76,7 @@ public class FtxStreamingAdapters {
         .map(
             res -> {
               try {
-                return mapper.readValue(res.toString(), FtxOrderbookResponse.class);
+                return mapper.treeToValue(res, FtxOrderbookResponse.class);
               } catch (IOException e) {
                 throw new IllegalStateException(e);
               }
@@ -123,40 +146,18 @@ public class FtxStreamingAdapters {
   }
 
   public static Long getOrderbookChecksum(List<LimitOrder> asks, List<LimitOrder> bids) {
-    StringBuilder data = new StringBuilder(3072);
-    DecimalFormat fp = dfp.get();
-    DecimalFormat fs = dfs.get();
-    DecimalFormat fq = dfq.get();
-
-    for (int i = 0; i < 100; i++) {
-      if (bids.size() > i) {
-        BigDecimal limitPrice = bids.get(i).getLimitPrice();
-        boolean scientific = limitPrice.toPlainString().startsWith("0.0000");
-
-        data.append(scientific ? fs.format(limitPrice) : fp.format(limitPrice))
-            .append(":")
-            .append(fq.format(bids.get(i).getOriginalAmount()))
-            .append(":");
-      }
-
-      if (asks.size() > i) {
-        BigDecimal limitPrice = asks.get(i).getLimitPrice();
-        boolean scientific = limitPrice.toPlainString().startsWith("0.0000");
-
-        data.append(scientific ? fs.format(limitPrice) : fp.format(limitPrice))
-            .append(":")
-            .append(fq.format(asks.get(i).getOriginalAmount()))
-            .append(":");
-      }
-    }
-
-    String s = data.toString().replace("E", "e"); // strip last :
-
-    CRC32 crc32 = new CRC32();
-    byte[] toBytes = s.getBytes(StandardCharsets.UTF_8);
-    crc32.update(toBytes, 0, toBytes.length - 1);
+    FtxOrderBookChecksum checksum = new FtxOrderBookChecksum();
+    return checksum.checksum(encode(checksum, bids), encode(checksum, asks));
+  }
 
-    return crc32.getValue();
+  private static List<byte[]> encode(FtxOrderBookChecksum checksum, List<LimitOrder> levels) {
+    int depth = Math.min(levels.size(), FtxOrderBookChecksum.DEPTH);
+    List<byte[]> encoded = new ArrayList<>(depth);
+    for (int i = 0; i < depth; i++) {
+      LimitOrder level = levels.get(i);
+      encoded.add(checksum.encode(level.getLimitPrice(), level.getOriginalAmount()));
+    }
+    return encoded;
   }
 
   public static Ticker adaptTickerMessage(Instrument instrument, JsonNode jsonNode) {
@@ -165,7 +166,7 @@ public class FtxStreamingAdapters {
         .map(
             res -> {
               try {
-                return mapper.readValue(res.toString(), FtxTickerResponse.class);
+                return mapper.treeToValue(res, FtxTickerResponse.class);
               } catch (IOException e) {
                 throw new RuntimeException(e);
               }
@@ -183,7 +184,7 @@ public class FtxStreamingAdapters {
         .map(
             tradeNode -> {
               try {
-                return mapper.readValue(tradeNode.toString(), FtxTradeDto.class);
+                return mapper.treeToValue(tradeNode, FtxTradeDto.class);
               } catch (IOException e) {
                 throw new RuntimeException(e);
               }
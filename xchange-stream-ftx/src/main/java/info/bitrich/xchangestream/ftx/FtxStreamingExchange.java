@@ -30,6 +30,7 @@ public class FtxStreamingExchange extends FtxExchange implements StreamingExchan
     } else {
       this.ftxStreamingService = new FtxStreamingService(API_URI);
     }
+    applyStreamingSpecification(exchangeSpecification, ftxStreamingService);
 
     this.ftxStreamingMarketDataService = new FtxStreamingMarketDataService(ftxStreamingService);
   }
@@ -1,6 +1,7 @@
 package info.bitrich.xchangestream.ftx;
 
-import com.google.common.collect.Lists;
+import com.fasterxml.jackson.databind.JsonNode;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import info.bitrich.xchangestream.core.StreamingMarketDataService;
 import io.reactivex.rxjava3.core.Flowable;
 import org.knowm.xchange.dto.marketdata.OrderBook;
@@ -21,31 +22,47 @@ public class FtxStreamingMarketDataService implements StreamingMarketDataService
     this.service = service;
   }
 
+  /**
+   * The book is verified against the checksum FTX sends with each message. On a mismatch its
+   * channel is resubscribed and nothing is emitted until the new partial arrives. The emitted books
+   * are immutable views, their level lists are shared with later books until that side changes.
+   */
   @Override
   public Flowable<OrderBook> getOrderBook(Instrument instrument, Object... args) {
-    OrderBook orderBook = new OrderBook(null, Lists.newArrayList(), Lists.newArrayList());
     String channelName = "orderbook:" + FtxAdapters.adaptInstrumentToFtxMarket(instrument);
+    Flowable<JsonNode> messages = service.subscribeChannel(channelName);
 
+    return Flowable.defer(
+        () -> {
+          FtxStreamingOrderBook orderBook = new FtxStreamingOrderBook(instrument);
+          return messages
+              .filter(
+                  res -> {
+                    JsonNode data = res.get("data");
+                    if (data == null || !data.isObject()) {
+                      return false;
+                    }
+                    if (!orderBook.update(data)) {
+                      LOG.warn("Resubscribing {} channel after checksum mismatch", instrument);
+                      orderBook.reset();
+                      service.resubscribeChannel(channelName);
+                    }
+                    return orderBook.isSynced();
+                  })
+              .map(res -> orderBook.toOrderBook())
+              .filter(ob -> ob.getBids().size() > 0 && ob.getAsks().size() > 0);
+        });
+  }
+
+  /** One frame per orderbook message, the checksums aren't verified. */
+  @Override
+  public Flowable<OrderBookUpdateFrame> getOrderBookUpdates(
+      Instrument instrument, Object... args) {
     return service
-        .subscribeChannel(channelName)
-        .map(
-            res -> {
-              try {
-                return FtxStreamingAdapters.adaptOrderbookMessage(orderBook, instrument, res);
-              } catch (IllegalStateException e) {
-                LOG.warn(
-                    "Resubscribing {} channel after adapter error {}",
-                     instrument,
-                    e.getMessage());
-                orderBook.getBids().clear();
-                orderBook.getAsks().clear();
-                // Resubscribe to the channel
-                this.service.sendMessage(service.getUnsubscribeMessage(channelName));
-                this.service.sendMessage(service.getSubscribeMessage(channelName, args));
-                return new OrderBook(null, Lists.newArrayList(), Lists.newArrayList(), false);
-              }
-            })
-        .filter(ob -> ob.getBids().size() > 0 && ob.getAsks().size() > 0);
+        .subscribeChannel("orderbook:" + FtxAdapters.adaptInstrumentToFtxMarket(instrument))
+        .map(res -> res.path("data"))
+        .filter(JsonNode::isObject)
+        .map(data -> FtxStreamingAdapters.adaptOrderBookUpdateFrame(instrument, data));
   }
 
   @Override
@@ -0,0 +1,105 @@
+package info.bitrich.xchangestream.ftx;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.Date;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * Order book of an FTX orderbook channel, maintained from its messages. The levels are read
+ * straight from the message tree and applied to a {@link SortedOrderBook}, and each change is
+ * encoded once for the checksum FTX sends with every message.
+ *
+ * <p>Not thread safe, each subscription needs its own instance.
+ */
+final class FtxStreamingOrderBook {
+
+  private static final String PARTIAL = "partial";
+
+  private final Instrument instrument;
+  private final SortedOrderBook orderBook =
+      new SortedOrderBook(null, Collections.emptyList(), Collections.emptyList());
+  private final NavigableMap<BigDecimal, byte[]> encodedAsks = new TreeMap<>();
+  private final NavigableMap<BigDecimal, byte[]> encodedBids =
+      new TreeMap<>(Collections.reverseOrder());
+  private final FtxOrderBookChecksum checksum = new FtxOrderBookChecksum();
+
+  private boolean synced;
+
+  FtxStreamingOrderBook(Instrument instrument) {
+    this.instrument = instrument;
+  }
+
+  /**
+   * Applies the data of an orderbook message. Updates are ignored until the first partial, and
+   * after {@link #reset()}.
+   *
+   * @return false if the checksum of the message doesn't match the updated book, it has to be
+   *     resubscribed then
+   */
+  boolean update(JsonNode data) {
+    if (PARTIAL.equals(data.path("action").textValue())) {
+      reset();
+      synced = true;
+    }
+    if (!synced) {
+      return true;
+    }
+    Date timestamp = new Date((long) (data.path("time").doubleValue() * 1000));
+    updateLevels(Order.OrderType.ASK, data.get("asks"), encodedAsks, timestamp);
+    updateLevels(Order.OrderType.BID, data.get("bids"), encodedBids, timestamp);
+
+    JsonNode expected = data.get("checksum");
+    // a side may be empty, the checksum covers the levels there are
+    return expected == null
+        || expected.longValue() == checksum.checksum(encodedBids.values(), encodedAsks.values());
+  }
+
+  /** Whether a partial has been applied since creation or the last {@link #reset()}. */
+  boolean isSynced() {
+    return synced;
+  }
+
+  /** Drops the book, updates are ignored until the next partial. */
+  void reset() {
+    orderBook.clear();
+    encodedAsks.clear();
+    encodedBids.clear();
+    synced = false;
+  }
+
+  /**
+   * The current state of the book. Its level lists are unmodifiable and are only copied again once
+   * their side changed.
+   */
+  OrderBook toOrderBook() {
+    return new OrderBook(orderBook.getTimeStamp(), orderBook.getAsks(), orderBook.getBids());
+  }
+
+  private void updateLevels(
+      Order.OrderType type,
+      JsonNode levels,
+      NavigableMap<BigDecimal, byte[]> encoded,
+      Date timestamp) {
+    if (levels == null) {
+      return;
+    }
+    for (JsonNode level : levels) {
+      BigDecimal price = level.get(0).decimalValue();
+      BigDecimal size = level.get(1).decimalValue();
+      if (size.signum() == 0) {
+        encoded.remove(price);
+      } else {
+        encoded.put(price, checksum.encode(price, size));
+      }
+      orderBook.update(new LimitOrder(type, size, instrument, null, timestamp, price));
+    }
+  }
+}
@@ -5,6 +5,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import info.bitrich.xchangestream.ftx.dto.FtxAuthenticationMessage;
 import info.bitrich.xchangestream.ftx.dto.FtxStreamRequest;
 import info.bitrich.xchangestream.ftx.dto.FtxWebsocketCredential;
+import info.bitrich.xchangestream.service.netty.ByteBufMessageHandler;
 import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import info.bitrich.xchangestream.service.netty.WebSocketClientCompressionAllowClientNoContextHandler;
@@ -21,7 +22,8 @@ import org.slf4j.LoggerFactory;
 
 import javax.crypto.Mac;
 
-public class FtxStreamingService extends JsonNettyStreamingService {
+public class FtxStreamingService extends JsonNettyStreamingService
+    implements ByteBufMessageHandler {
 
   private static final Logger LOG = LoggerFactory.getLogger(FtxStreamingService.class);
   private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
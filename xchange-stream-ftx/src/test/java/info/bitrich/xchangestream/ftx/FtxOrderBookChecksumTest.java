@@ -0,0 +1,126 @@
+package info.bitrich.xchangestream.ftx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.text.DecimalFormat;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+
+public class FtxOrderBookChecksumTest {
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+  private final FtxOrderBookChecksum checksum = new FtxOrderBookChecksum();
+
+  @Test
+  public void testEncodesLikeDecimalFormat() {
+    DecimalFormat plain = new DecimalFormat("0.0#######");
+    DecimalFormat exponent = new DecimalFormat("0.####E00");
+    Random random = new Random(42);
+
+    for (int i = 0; i < 10_000; i++) {
+      BigDecimal price = BigDecimal.valueOf(random.nextInt(1_000_000_000), random.nextInt(16));
+      BigDecimal size = BigDecimal.valueOf(random.nextInt(1_000_000_000), random.nextInt(12) - 2);
+      String formattedPrice =
+          price.signum() > 0 && price.compareTo(new BigDecimal("0.0001")) < 0
+              ? exponent.format(price).replace("E", "e")
+              : plain.format(price);
+
+      assertThat(new String(checksum.encode(price, size), StandardCharsets.US_ASCII))
+          .as("%s %s", price, size)
+          .isEqualTo(formattedPrice + ":" + plain.format(size));
+    }
+  }
+
+  @Test
+  public void testEncodesLargeValues() {
+    assertThat(
+            new String(
+                checksum.encode(new BigDecimal("123456789012.5"), new BigDecimal("1E+12")),
+                StandardCharsets.US_ASCII))
+        .isEqualTo("123456789012.5:1000000000000.0");
+  }
+
+  @Test
+  public void testChecksumOfPartial() throws IOException {
+    FtxStreamingOrderBook orderBook = new FtxStreamingOrderBook(CurrencyPair.BTC_USD);
+
+    assertThat(orderBook.update(partial())).isTrue();
+
+    OrderBook book = orderBook.toOrderBook();
+    assertThat(book.getBids().get(0).getLimitPrice()).isEqualByComparingTo("55109");
+    assertThat(FtxStreamingAdapters.getOrderbookChecksum(book.getAsks(), book.getBids()))
+        .isEqualTo(160591017L);
+  }
+
+  @Test
+  public void testUpdateWithWrongChecksum() throws IOException {
+    FtxStreamingOrderBook orderBook = new FtxStreamingOrderBook(CurrencyPair.BTC_USD);
+    orderBook.update(partial());
+
+    JsonNode update =
+        mapper.readTree(
+            "{\"time\":1615997892.0131,\"checksum\":1,\"bids\":[[55109,2.5]],\"asks\":[],"
+                + "\"action\":\"update\"}");
+
+    assertThat(orderBook.update(update)).isFalse();
+
+    orderBook.reset();
+
+    assertThat(orderBook.isSynced()).isFalse();
+    assertThat(orderBook.update(update)).isTrue();
+    assertThat(orderBook.toOrderBook().getBids()).isEmpty();
+  }
+
+  @Test
+  public void testChecksumSkipsMissingLevels() {
+    byte[] bid = checksum.encode(new BigDecimal("10"), new BigDecimal("1"));
+    byte[] ask = checksum.encode(new BigDecimal("11"), new BigDecimal("2"));
+    byte[] secondAsk = checksum.encode(new BigDecimal("12"), new BigDecimal("3"));
+
+    CRC32 expected = new CRC32();
+    expected.update("10.0:1.0:11.0:2.0:12.0:3.0".getBytes(StandardCharsets.US_ASCII));
+
+    assertThat(checksum.checksum(Arrays.asList(bid), Arrays.asList(ask, secondAsk)))
+        .isEqualTo(expected.getValue());
+  }
+
+  @Test
+  public void testVerifiesBookWithOneSide() throws IOException {
+    FtxStreamingOrderBook orderBook = new FtxStreamingOrderBook(CurrencyPair.BTC_USD);
+    CRC32 expected = new CRC32();
+    expected.update("10.0:1.0".getBytes(StandardCharsets.US_ASCII));
+
+    assertThat(
+            orderBook.update(
+                mapper.readTree(
+                    "{\"time\":1615997892.0131,\"checksum\":"
+                        + expected.getValue()
+                        + ",\"bids\":[[10,1]],\"asks\":[],\"action\":\"partial\"}")))
+        .isTrue();
+    assertThat(
+            orderBook.update(
+                mapper.readTree(
+                    "{\"time\":1615997892.5,\"checksum\":1,\"bids\":[[10,2]],\"asks\":[],"
+                        + "\"action\":\"update\"}")))
+        .isFalse();
+  }
+
+  private ObjectNode partial() throws IOException {
+    ObjectNode partial =
+        (ObjectNode)
+            mapper.readTree(getClass().getResource("/ftxOrderbookResponse-example.json"));
+    partial.put("action", "partial");
+    return partial;
+  }
+}
@@ -0,0 +1,49 @@
+package info.bitrich.xchangestream.ftx;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import java.io.IOException;
+import java.util.ArrayList;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+
+public class FtxStreamingAdaptersTest {
+
+  private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+  @Test
+  public void testAdaptOrderBookUpdateFrames() throws IOException {
+    ObjectNode partial =
+        (ObjectNode) mapper.readTree(getClass().getResource("/ftxOrderbookResponse-example.json"));
+    partial.put("action", "partial");
+    OrderBookUpdateFrame snapshot =
+        FtxStreamingAdapters.adaptOrderBookUpdateFrame(CurrencyPair.BTC_USD, partial);
+    assertThat(snapshot.isSnapshot()).isTrue();
+    assertThat(snapshot.getAskCount()).isEqualTo(100);
+    assertThat(snapshot.getBidCount()).isEqualTo(100);
+    assertThat(snapshot.getBid(0).getLimitPrice()).isEqualByComparingTo("55109");
+    assertThat(snapshot.getTimestamp().getTime()).isEqualTo(1615997891493L);
+
+    OrderBookUpdateFrame update =
+        FtxStreamingAdapters.adaptOrderBookUpdateFrame(
+            CurrencyPair.BTC_USD,
+            mapper.readTree(
+                "{\"time\":1615997892.0131,\"checksum\":1,\"bids\":[[55109,0],[55110,1.5]],"
+                    + "\"asks\":[],\"action\":\"update\"}"));
+    assertThat(update.isSnapshot()).isFalse();
+    assertThat(update.getAskCount()).isZero();
+    assertThat(update.getBid(0).getOriginalAmount()).isZero();
+    assertThat(update.getLastSequence()).isEqualTo(OrderBookUpdateFrame.NO_SEQUENCE);
+
+    OrderBook orderBook = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+    snapshot.applyTo(orderBook);
+    update.applyTo(orderBook);
+    assertThat(orderBook.getBids()).hasSize(100);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualByComparingTo("55110");
+  }
+}
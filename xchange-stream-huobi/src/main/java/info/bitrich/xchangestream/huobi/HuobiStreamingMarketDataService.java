@@ -1,6 +1,9 @@
 package info.bitrich.xchangestream.huobi;
 
+import static info.bitrich.xchangestream.core.OrderBookUpdateFrame.NO_SEQUENCE;
+
 import com.fasterxml.jackson.databind.JsonNode;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import info.bitrich.xchangestream.core.StreamingMarketDataService;
 import io.reactivex.rxjava3.core.Flowable;
 import java.math.BigDecimal;
@@ -14,6 +17,7 @@ import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
 import org.knowm.xchange.dto.trade.LimitOrder;
 import org.knowm.xchange.huobi.HuobiUtils;
+import org.knowm.xchange.instrument.Instrument;
 
 public class HuobiStreamingMarketDataService implements StreamingMarketDataService {
 
@@ -25,14 +29,8 @@ public class HuobiStreamingMarketDataService implements StreamingMarketDataServi
 
   @Override
   public Flowable<OrderBook> getOrderBook(CurrencyPair currencyPair, Object... args) {
-    String channelName =
-        "market."
-            + HuobiUtils.createHuobiCurrencyPair(currencyPair)
-            + ".depth."
-            + (args.length == 0 ? "step0" : args[0].toString());
-
     return streamingService
-        .subscribeChannel(channelName)
+        .subscribeChannel(getDepthChannelName(currencyPair, args))
         .map(
             message -> {
               JsonNode tick = message.get("tick");
@@ -45,26 +43,69 @@ public class HuobiStreamingMarketDataService implements StreamingMarketDataServi
               OrderBook orderBook = new OrderBook(ts, askOrders, bidOrders);
 
               for (int i = 0; i < asks.size(); i++) {
-                JsonNode order = asks.get(i);
-                BigDecimal price = order.get(0).decimalValue();
-                BigDecimal amount = order.get(1).decimalValue();
-                LimitOrder lo =
-                    new LimitOrder(Order.OrderType.ASK, amount, currencyPair, null, ts, price);
-                askOrders.add(lo);
+                askOrders.add(adaptLevel(Order.OrderType.ASK, asks.get(i), currencyPair, ts));
               }
 
               for (int i = 0; i < bids.size(); i++) {
-                JsonNode order = bids.get(i);
-                BigDecimal price = order.get(0).decimalValue();
-                BigDecimal amount = order.get(1).decimalValue();
-                LimitOrder lo =
-                    new LimitOrder(Order.OrderType.BID, amount, currencyPair, null, ts, price);
-                bidOrders.add(lo);
+                bidOrders.add(adaptLevel(Order.OrderType.BID, bids.get(i), currencyPair, ts));
               }
               return orderBook;
             });
   }
 
+  /**
+   * Every depth message of Huobi is a snapshot of the best levels, emitted as a snapshot frame
+   * sequenced by the version of the book.
+   */
+  @Override
+  public Flowable<OrderBookUpdateFrame> getOrderBookUpdates(
+      Instrument instrument, Object... args) {
+    if (!(instrument instanceof CurrencyPair)) {
+      return StreamingMarketDataService.super.getOrderBookUpdates(instrument, args);
+    }
+    CurrencyPair currencyPair = (CurrencyPair) instrument;
+    return streamingService
+        .subscribeChannel(getDepthChannelName(currencyPair, args))
+        .map(
+            message -> {
+              JsonNode tick = message.get("tick");
+              Date ts = new Date(message.get("ts").longValue());
+              long version =
+                  tick.has("version") ? tick.get("version").longValue() : NO_SEQUENCE;
+              return new OrderBookUpdateFrame(
+                  currencyPair,
+                  true,
+                  version,
+                  version,
+                  ts,
+                  adaptLevels(Order.OrderType.ASK, tick.get("asks"), currencyPair, ts),
+                  adaptLevels(Order.OrderType.BID, tick.get("bids"), currencyPair, ts));
+            });
+  }
+
+  private static String getDepthChannelName(CurrencyPair currencyPair, Object... args) {
+    return "market."
+        + HuobiUtils.createHuobiCurrencyPair(currencyPair)
+        + ".depth."
+        + (args.length == 0 ? "step0" : args[0].toString());
+  }
+
+  private static LimitOrder[] adaptLevels(
+      Order.OrderType type, JsonNode levels, CurrencyPair currencyPair, Date ts) {
+    LimitOrder[] orders = new LimitOrder[levels.size()];
+    for (int i = 0; i < orders.length; i++) {
+      orders[i] = adaptLevel(type, levels.get(i), currencyPair, ts);
+    }
+    return orders;
+  }
+
+  private static LimitOrder adaptLevel(
+      Order.OrderType type, JsonNode level, CurrencyPair currencyPair, Date ts) {
+    BigDecimal price = level.get(0).decimalValue();
+    BigDecimal amount = level.get(1).decimalValue();
+    return new LimitOrder(type, amount, currencyPair, null, ts, price);
+  }
+
   @Override
   public Flowable<Ticker> getTicker(CurrencyPair currencyPair, Object... args) {
     String channelName =
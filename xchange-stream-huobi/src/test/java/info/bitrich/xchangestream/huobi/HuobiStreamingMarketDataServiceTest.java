@@ -0,0 +1,74 @@
+package info.bitrich.xchangestream.huobi;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import io.reactivex.rxjava3.core.Flowable;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.huobi.HuobiUtils;
+import org.knowm.xchange.huobi.dto.marketdata.HuobiAsset;
+import org.knowm.xchange.huobi.dto.marketdata.HuobiAssetPair;
+import org.knowm.xchange.instrument.Instrument;
+
+public class HuobiStreamingMarketDataServiceTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @BeforeClass
+  public static void setUpClass() throws Exception {
+    HuobiUtils.setHuobiAssets(new HuobiAsset[] {new HuobiAsset("btc"), new HuobiAsset("usdt")});
+    HuobiUtils.setHuobiAssetPairs(
+        new HuobiAssetPair[] {
+          new ObjectMapper()
+              .readValue(
+                  "{\"base-currency\":\"btc\",\"quote-currency\":\"usdt\"}",
+                  HuobiAssetPair.class)
+        });
+  }
+
+  @Test
+  public void testEmitsSnapshotFrames() throws Exception {
+    JsonNode message =
+        mapper.readTree(
+            "{\"ch\":\"market.btcusdt.depth.step0\",\"ts\":1630000000123,"
+                + "\"tick\":{\"bids\":[[100.1,2],[100,1.5]],\"asks\":[[101,1]],"
+                + "\"version\":4711,\"ts\":1630000000100}}");
+    List<String> subscribed = new ArrayList<>();
+    HuobiStreamingService service =
+        new HuobiStreamingService("wss://api.huobi.pro/ws") {
+          @Override
+          public Flowable<JsonNode> subscribeChannel(String channelName, Object... args) {
+            subscribed.add(channelName);
+            return Flowable.just(message);
+          }
+        };
+
+    List<OrderBookUpdateFrame> frames =
+        new HuobiStreamingMarketDataService(service)
+            .getOrderBookUpdates((Instrument) CurrencyPair.BTC_USDT)
+            .toList()
+            .blockingGet();
+
+    assertThat(subscribed).containsExactly("market.btcusdt.depth.step0");
+    assertThat(frames).hasSize(1);
+    OrderBookUpdateFrame frame = frames.get(0);
+    assertThat(frame.isSnapshot()).isTrue();
+    assertThat(frame.getFirstSequence()).isEqualTo(4711);
+    assertThat(frame.getLastSequence()).isEqualTo(4711);
+    assertThat(frame.getTimestamp()).isEqualTo(new Date(1630000000123L));
+    assertThat(frame.getAskCount()).isEqualTo(1);
+    assertThat(frame.getBid(1).getOriginalAmount()).isEqualByComparingTo("1.5");
+
+    OrderBook orderBook = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+    frame.applyTo(orderBook);
+    assertThat(orderBook.getBids().get(0).getLimitPrice()).isEqualByComparingTo("100.1");
+  }
+}
@@ -4,7 +4,12 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Streams;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import org.knowm.xchange.dto.FixedPoint;
+import org.knowm.xchange.dto.FixedPointScale;
 import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.marketdata.FixedPointOrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.FixedPointTrade;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
@@ -15,6 +20,7 @@ import org.knowm.xchange.kraken.dto.trade.KrakenType;
 import org.knowm.xchange.utils.DateUtils;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Date;
 import java.util.Iterator;
 import java.util.List;
@@ -55,6 +61,42 @@ public class KrakenStreamingAdapters {
     }
 
 
+    /**
+     * Adapt a book message into one frame of its levels, a snapshot if it carries the "as" and "bs"
+     * keys. Kraken doesn't sequence book messages.
+     */
+    public static OrderBookUpdateFrame adaptOrderBookUpdateFrame(Instrument instrument, ArrayNode arrayNode) {
+        List<LimitOrder> asks = new ArrayList<>();
+        List<LimitOrder> bids = new ArrayList<>();
+        boolean snapshot = false;
+        for (JsonNode currentNode : arrayNode) {
+            if (!currentNode.isObject()) {
+                continue;
+            }
+            snapshot |= currentNode.has(ASK_SNAPSHOT) || currentNode.has(BID_SNAPSHOT);
+            for (String key : ASK_KEYS) {
+                adaptLevels(instrument, Order.OrderType.ASK, currentNode.get(key), asks);
+            }
+            for (String key : BID_KEYS) {
+                adaptLevels(instrument, Order.OrderType.BID, currentNode.get(key), bids);
+            }
+        }
+        return new OrderBookUpdateFrame(
+                instrument, snapshot, null, asks.toArray(new LimitOrder[0]), bids.toArray(new LimitOrder[0]));
+    }
+
+    private static void adaptLevels(
+            Instrument instrument, Order.OrderType orderType, JsonNode levels, List<LimitOrder> orders) {
+        if (levels == null || !levels.isArray()) {
+            return;
+        }
+        for (JsonNode level : levels) {
+            if (level.isArray()) {
+                orders.add(adaptLimitOrder(instrument, orderType, level));
+            }
+        }
+    }
+
     /**
      * Adapt a JsonNode to a Stream of limit orders, the node past in here should be the body of a a/b/as/bs key.
      */
@@ -146,6 +188,87 @@ public class KrakenStreamingAdapters {
                 .build();
     }
 
+    /**
+     * Adapt a JsonNode containing book levels into fixed-point order book updates, without
+     * allocating BigDecimals. Snapshot levels are returned as updates as well.
+     */
+    public static List<FixedPointOrderBookUpdate> adaptFixedPointOrderBookUpdates(
+            Instrument instrument, FixedPointScale scale, ArrayNode arrayNode) {
+        List<FixedPointOrderBookUpdate> updates = new ArrayList<>();
+        for (JsonNode currentNode : arrayNode) {
+            if (!currentNode.isObject()) {
+                continue;
+            }
+            for (String key : BID_KEYS) {
+                adaptFixedPointLevels(instrument, scale, Order.OrderType.BID, currentNode.get(key), updates);
+            }
+            for (String key : ASK_KEYS) {
+                adaptFixedPointLevels(instrument, scale, Order.OrderType.ASK, currentNode.get(key), updates);
+            }
+        }
+        return updates;
+    }
+
+    private static void adaptFixedPointLevels(
+            Instrument instrument,
+            FixedPointScale scale,
+            Order.OrderType orderType,
+            JsonNode levels,
+            List<FixedPointOrderBookUpdate> updates) {
+        if (levels == null || !levels.isArray()) {
+            return;
+        }
+        for (JsonNode level : levels) {
+            if (level.isArray() && level.size() >= 3) {
+                updates.add(
+                        new FixedPointOrderBookUpdate(
+                                orderType,
+                                instrument,
+                                scale,
+                                scale.parsePrice(level.get(0).textValue()),
+                                scale.parseAmount(level.get(1).textValue()),
+                                timestampMillis(level.get(2).textValue())));
+            }
+        }
+    }
+
+    /**
+     * Adapt an JsonNode into a list of fixed-point trades, without allocating BigDecimals.
+     */
+    public static List<FixedPointTrade> adaptFixedPointTrades(
+            Instrument instrument, FixedPointScale scale, JsonNode arrayNode) {
+        List<FixedPointTrade> trades = new ArrayList<>();
+        for (JsonNode innerNode : arrayNode) {
+            if (!innerNode.isArray()) {
+                continue;
+            }
+            for (JsonNode trade : innerNode) {
+                if (trade.isArray() && trade.size() >= 4) {
+                    trades.add(
+                            new FixedPointTrade(
+                                    KrakenAdapters.adaptOrderType(KrakenType.fromString(trade.get(3).textValue())),
+                                    instrument,
+                                    scale,
+                                    scale.parsePrice(trade.get(0).textValue()),
+                                    scale.parseAmount(trade.get(1).textValue()),
+                                    timestampMillis(trade.get(2).textValue()),
+                                    null));
+                }
+            }
+        }
+        return trades;
+    }
+
+    /**
+     * Converts a Kraken "seconds.microseconds" timestamp into milliseconds, dropping the sub
+     * millisecond digits.
+     */
+    static long timestampMillis(String timestamp) {
+        int dot = timestamp.indexOf('.');
+        int end = dot < 0 ? timestamp.length() : Math.min(timestamp.length(), dot + 4);
+        return FixedPoint.parse(timestamp, 0, end, 3);
+    }
+
     /**
      * Checks if a iterator has next node and returns the value as a BigDecimal.
      * Returns null if the iterator has no next value or the given iterator is null.
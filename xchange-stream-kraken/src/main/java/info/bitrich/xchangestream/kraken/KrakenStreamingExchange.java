@@ -48,6 +48,7 @@ public class KrakenStreamingExchange extends KrakenExchange implements Streaming
 
     this.streamingService =
         new KrakenStreamingService(false, pickUri(false, useBeta), () -> authData(accountService));
+    applyStreamingSpecification(exchangeSpecification, streamingService);
     this.streamingMarketDataService = new KrakenStreamingMarketDataService(streamingService);
 
     if (StringUtils.isNotEmpty(exchangeSpecification.getApiKey())) {
@@ -1,15 +1,22 @@
 package info.bitrich.xchangestream.kraken;
 
 import com.fasterxml.jackson.databind.node.ArrayNode;
-import com.google.common.collect.Lists;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import info.bitrich.xchangestream.core.StreamingMarketDataService;
 import info.bitrich.xchangestream.kraken.dto.enums.KrakenSubscriptionName;
 import io.reactivex.rxjava3.core.Flowable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.commons.lang3.ArrayUtils;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.FixedPointScale;
+import org.knowm.xchange.dto.marketdata.FixedPointOrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.FixedPointTrade;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.instrument.Instrument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -27,18 +34,59 @@ public class KrakenStreamingMarketDataService implements StreamingMarketDataServ
     public static final String KRAKEN_CHANNEL_DELIMITER = "-";
 
     private final KrakenStreamingService service;
+    private final Map<CurrencyPair, AtomicLong> checksumMismatches = new ConcurrentHashMap<>();
 
     public KrakenStreamingMarketDataService(KrakenStreamingService service) {
         this.service = service;
     }
 
+    /**
+     * The book is truncated to the subscribed depth and verified against the checksum Kraken sends
+     * with each update. On a mismatch its channel is resubscribed and nothing is emitted until the
+     * new snapshot arrives, see {@link #getChecksumMismatches(CurrencyPair)}. The emitted books are
+     * immutable views, their level lists are shared with later books until that side changes.
+     */
     @Override
     public Flowable<OrderBook> getOrderBook(CurrencyPair currencyPair, Object... args) {
         String channelName = getChannelName(KrakenSubscriptionName.book, currencyPair);
-        OrderBook orderBook = new OrderBook(null, Lists.newArrayList(), Lists.newArrayList());
         int depth = parseOrderBookSize(args);
-        return subscribe(channelName, MIN_DATA_ARRAY_SIZE, depth)
-                .map(arrayNode -> KrakenStreamingAdapters.adaptOrderbookMessage(orderBook, currencyPair, arrayNode));
+        Flowable<ArrayNode> messages = subscribe(channelName, MIN_DATA_ARRAY_SIZE, depth);
+        return Flowable.defer(() -> {
+            KrakenStreamingOrderBook orderBook = new KrakenStreamingOrderBook(currencyPair, depth);
+            return messages
+                    .filter(arrayNode -> {
+                        if (!orderBook.update(arrayNode)) {
+                            checksumMismatches.computeIfAbsent(currencyPair, p -> new AtomicLong()).incrementAndGet();
+                            LOG.warn("Checksum mismatch of {} book, resubscribing", currencyPair);
+                            orderBook.reset();
+                            service.resubscribeChannel(channelName);
+                        }
+                        return orderBook.isSynced();
+                    })
+                    .map(arrayNode -> orderBook.toOrderBook());
+        });
+    }
+
+    /**
+     * One frame per book message, the levels aren't truncated to the subscribed depth and the
+     * checksums aren't verified.
+     *
+     * @param args optional order book size, see {@link #getOrderBook(CurrencyPair, Object...)}
+     */
+    @Override
+    public Flowable<OrderBookUpdateFrame> getOrderBookUpdates(Instrument instrument, Object... args) {
+        if (!(instrument instanceof CurrencyPair)) {
+            return StreamingMarketDataService.super.getOrderBookUpdates(instrument, args);
+        }
+        String channelName = getChannelName(KrakenSubscriptionName.book, (CurrencyPair) instrument);
+        return subscribe(channelName, MIN_DATA_ARRAY_SIZE, parseOrderBookSize(args))
+                .map(arrayNode -> KrakenStreamingAdapters.adaptOrderBookUpdateFrame(instrument, arrayNode));
+    }
+
+    /** Number of streamed books of the pair which didn't match the checksum sent by Kraken. */
+    public long getChecksumMismatches(CurrencyPair currencyPair) {
+        AtomicLong mismatches = checksumMismatches.get(currencyPair);
+        return mismatches == null ? 0 : mismatches.get();
     }
 
     @Override
@@ -55,6 +103,31 @@ public class KrakenStreamingMarketDataService implements StreamingMarketDataServ
                 .flatMap(arrayNode -> Flowable.fromIterable(KrakenStreamingAdapters.adaptTrades(currencyPair, arrayNode)));
     }
 
+    /**
+     * Book level updates with fixed-point prices and volumes, as sent by Kraken, without
+     * maintaining a book. The first levels after (re)subscription are the snapshot.
+     *
+     * @param scale the scales to represent prices and volumes with
+     * @param args optional order book size, see {@link #getOrderBook(CurrencyPair, Object...)}
+     */
+    public Flowable<FixedPointOrderBookUpdate> getFixedPointOrderBookUpdates(
+            CurrencyPair currencyPair, FixedPointScale scale, Object... args) {
+        String channelName = getChannelName(KrakenSubscriptionName.book, currencyPair);
+        int depth = parseOrderBookSize(args);
+        return subscribe(channelName, MIN_DATA_ARRAY_SIZE, depth)
+                .flatMapIterable(arrayNode -> KrakenStreamingAdapters.adaptFixedPointOrderBookUpdates(currencyPair, scale, arrayNode));
+    }
+
+    /**
+     * Trades with fixed-point prices and amounts.
+     *
+     * @param scale the scales to represent prices and amounts with
+     */
+    public Flowable<FixedPointTrade> getFixedPointTrades(CurrencyPair currencyPair, FixedPointScale scale) {
+        String channelName = getChannelName(KrakenSubscriptionName.trade, currencyPair);
+        return subscribe(channelName, MIN_DATA_ARRAY_SIZE, null)
+                .flatMapIterable(arrayNode -> KrakenStreamingAdapters.adaptFixedPointTrades(currencyPair, scale, arrayNode));
+    }
 
     public Flowable<ArrayNode> subscribe(String channelName, int maxItems, Integer depth) {
         return service
@@ -0,0 +1,158 @@
+package info.bitrich.xchangestream.kraken;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CRC32;
+import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
+
+/**
+ * Order book of a Kraken book channel, maintained from its messages. After each message both sides
+ * are truncated to the subscribed depth, Kraken doesn't send deletes for levels pushed out of it,
+ * and updates are verified against the CRC32 of the top 10 levels Kraken sends with them.
+ *
+ * <p>Not thread safe, each subscription needs its own instance. See
+ * https://docs.kraken.com/websockets/#book-checksum
+ */
+final class KrakenStreamingOrderBook {
+
+    private static final int CHECKSUM_DEPTH = 10;
+    private static final String CHECKSUM = "c";
+
+    private final Instrument instrument;
+    private final int depth;
+    private final SortedOrderBook orderBook =
+            new SortedOrderBook(null, Collections.emptyList(), Collections.emptyList());
+
+    private final CRC32 crc = new CRC32();
+    // digits of a long
+    private final byte[] buffer = new byte[20];
+    // Kraken checksums the levels with the decimals it sends them with
+    private int priceScale;
+    private int volumeScale;
+
+    private boolean synced;
+
+    KrakenStreamingOrderBook(Instrument instrument, int depth) {
+        this.instrument = instrument;
+        this.depth = depth;
+    }
+
+    /**
+     * Applies a book message. Updates are ignored until the first snapshot, and after {@link
+     * #reset()}.
+     *
+     * @return false if the message carries a checksum which doesn't match the updated book, it has
+     *     to be resubscribed then
+     */
+    boolean update(ArrayNode message) {
+        String checksum = null;
+        for (JsonNode node : message) {
+            if (!node.isObject()) {
+                continue;
+            }
+            if (node.has(KrakenStreamingAdapters.ASK_SNAPSHOT)
+                    || node.has(KrakenStreamingAdapters.BID_SNAPSHOT)) {
+                orderBook.clear();
+                synced = true;
+            }
+            if (!synced) {
+                continue;
+            }
+            updateLevels(Order.OrderType.ASK, node.get(KrakenStreamingAdapters.ASK_SNAPSHOT));
+            updateLevels(Order.OrderType.ASK, node.get(KrakenStreamingAdapters.ASK_UPDATE));
+            updateLevels(Order.OrderType.BID, node.get(KrakenStreamingAdapters.BID_SNAPSHOT));
+            updateLevels(Order.OrderType.BID, node.get(KrakenStreamingAdapters.BID_UPDATE));
+            if (node.has(CHECKSUM)) {
+                checksum = node.get(CHECKSUM).asText();
+            }
+        }
+        if (!synced) {
+            return true;
+        }
+        orderBook.truncate(depth);
+        return checksum == null || Long.parseLong(checksum) == checksum();
+    }
+
+    /** Whether a snapshot has been applied since creation or the last {@link #reset()}. */
+    boolean isSynced() {
+        return synced;
+    }
+
+    /** Drops the book, updates are ignored until the next snapshot. */
+    void reset() {
+        orderBook.clear();
+        synced = false;
+    }
+
+    /**
+     * The current state of the book. Its level lists are unmodifiable and are only copied again
+     * once their side changed.
+     */
+    OrderBook toOrderBook() {
+        return new OrderBook(orderBook.getTimeStamp(), orderBook.getAsks(), orderBook.getBids());
+    }
+
+    /** CRC32 of the price and volume digits of the top 10 asks followed by the top 10 bids. */
+    long checksum() {
+        crc.reset();
+        updateChecksum(orderBook.getAsks(CHECKSUM_DEPTH));
+        updateChecksum(orderBook.getBids(CHECKSUM_DEPTH));
+        return crc.getValue();
+    }
+
+    private void updateLevels(Order.OrderType type, JsonNode levels) {
+        if (levels == null || !levels.isArray()) {
+            return;
+        }
+        for (JsonNode level : levels) {
+            if (!level.isArray()) {
+                continue;
+            }
+            priceScale = scale(level.get(0).textValue());
+            volumeScale = scale(level.get(1).textValue());
+            orderBook.update(KrakenStreamingAdapters.adaptLimitOrder(instrument, type, level));
+        }
+    }
+
+    private void updateChecksum(List<LimitOrder> levels) {
+        for (LimitOrder level : levels) {
+            updateChecksum(level.getLimitPrice(), priceScale);
+            updateChecksum(level.getOriginalAmount(), volumeScale);
+        }
+    }
+
+    /**
+     * Feeds the digits of the value without decimal point and leading zeros to the CRC. They are
+     * written backwards into the reused buffer, only values beyond a long are formatted as String.
+     */
+    private void updateChecksum(BigDecimal value, int scale) {
+        BigInteger unscaled = value.setScale(scale, RoundingMode.DOWN).unscaledValue();
+        if (unscaled.bitLength() >= Long.SIZE - 1) {
+            byte[] digits = unscaled.toString().getBytes(StandardCharsets.US_ASCII);
+            crc.update(digits, 0, digits.length);
+            return;
+        }
+        long digits = unscaled.longValue();
+        int position = buffer.length;
+        do {
+            buffer[--position] = (byte) ('0' + digits % 10);
+            digits /= 10;
+        } while (digits > 0);
+        crc.update(buffer, position, buffer.length - position);
+    }
+
+    private static int scale(String decimal) {
+        int dot = decimal.indexOf('.');
+        return dot < 0 ? 0 : decimal.length() - dot - 1;
+    }
+}
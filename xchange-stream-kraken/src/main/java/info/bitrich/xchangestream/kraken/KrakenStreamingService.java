@@ -11,6 +11,7 @@ import info.bitrich.xchangestream.kraken.dto.KrakenSubscriptionStatusMessage;
 import info.bitrich.xchangestream.kraken.dto.KrakenSystemStatus;
 import info.bitrich.xchangestream.kraken.dto.enums.KrakenEventType;
 import info.bitrich.xchangestream.kraken.dto.enums.KrakenSubscriptionName;
+import info.bitrich.xchangestream.service.netty.ByteBufMessageHandler;
 import info.bitrich.xchangestream.service.netty.JsonNettyStreamingService;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import info.bitrich.xchangestream.service.netty.WebSocketClientCompressionAllowClientNoContextHandler;
@@ -32,7 +33,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 /** @author makarid, pchertalev */
-public class KrakenStreamingService extends JsonNettyStreamingService {
+public class KrakenStreamingService extends JsonNettyStreamingService
+    implements ByteBufMessageHandler {
   private static final Logger LOG = LoggerFactory.getLogger(KrakenStreamingService.class);
   private static final String EVENT = "event";
   private final Map<Integer, String> channels = new ConcurrentHashMap<>();
@@ -96,8 +98,10 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
           case subscriptionStatus:
             KrakenSubscriptionStatusMessage statusMessage =
                 mapper.treeToValue(message, KrakenSubscriptionStatusMessage.class);
-            Integer reqid = statusMessage.getReqid();
-            if (!isPrivate && reqid != null) channelName = subscriptionRequestMap.remove(reqid);
+            if (!isPrivate) {
+              String requestedChannelName = getRequestedChannelName(statusMessage);
+              if (requestedChannelName != null) channelName = requestedChannelName;
+            }
 
             switch (statusMessage.getStatus()) {
               case subscribed:
@@ -143,6 +147,25 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
     super.handleMessage(message);
   }
 
+  /**
+   * The channel a subscription status is for, found by its request id. Replies replayed from a
+   * journal carry the request ids of the recorded connection, their channel is found by the
+   * subscription name and pair, which is how {@link KrakenStreamingMarketDataService} names them.
+   */
+  private String getRequestedChannelName(KrakenSubscriptionStatusMessage statusMessage) {
+    Integer reqid = statusMessage.getReqid();
+    String channelName = reqid == null ? null : subscriptionRequestMap.remove(reqid);
+    if (channelName == null
+        && statusMessage.getPair() != null
+        && statusMessage.getKrakenSubscriptionConfig() != null) {
+      channelName =
+          statusMessage.getKrakenSubscriptionConfig().getName()
+              + KrakenStreamingMarketDataService.KRAKEN_CHANNEL_DELIMITER
+              + statusMessage.getPair();
+    }
+    return channelName;
+  }
+
   @Override
   protected String getChannelNameFromMessage(JsonNode message) throws IOException {
     String channelName = null;
@@ -204,6 +227,20 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
 
   @Override
   public String getUnsubscribeMessage(String channelName) throws IOException {
+    return getUnsubscribeMessage(channelName, (Integer) null);
+  }
+
+  /** Books of other than the default depth have to be unsubscribed with their depth. */
+  @Override
+  public String getUnsubscribeMessage(String channelName, Object... args) throws IOException {
+    Integer depth = null;
+    if (args.length > 0 && args[0] != null) {
+      depth = (Integer) args[0];
+    }
+    return getUnsubscribeMessage(channelName, depth);
+  }
+
+  private String getUnsubscribeMessage(String channelName, Integer depth) throws IOException {
     int reqID = Math.abs(UUID.randomUUID().hashCode());
     String[] channelData =
         channelName.split(KrakenStreamingMarketDataService.KRAKEN_CHANNEL_DELIMITER);
@@ -226,7 +263,7 @@ public class KrakenStreamingService extends JsonNettyStreamingService {
               reqID,
               KrakenEventType.unsubscribe,
               Collections.singletonList(pair),
-              new KrakenSubscriptionConfig(subscriptionName));
+              new KrakenSubscriptionConfig(subscriptionName, depth, null));
       return objectMapper.writeValueAsString(subscriptionMessage);
     }
   }
@@ -2,12 +2,16 @@ package info.bitrich.xchangestream.kraken;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import org.junit.Assert;
 import org.junit.Test;
 import org.knowm.xchange.currency.Currency;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.FixedPointScale;
 import org.knowm.xchange.dto.Order;
+import org.knowm.xchange.dto.marketdata.FixedPointOrderBookUpdate;
+import org.knowm.xchange.dto.marketdata.FixedPointTrade;
 import org.knowm.xchange.dto.marketdata.OrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
@@ -70,6 +74,34 @@ public class KrakenStreamingAdaptersTest {
         assertThat(firstAsk.getOriginalAmount()).isEqualByComparingTo("1.36275258");
     }
 
+    @Test
+    public void testAdaptOrderBookUpdateFrames() throws IOException {
+        ArrayNode snapshot =
+                (ArrayNode) StreamingObjectMapperHelper.getObjectMapper()
+                        .readTree(this.getClass().getResource("/orderBookMessageSnapshot.json").openStream());
+        OrderBookUpdateFrame snapshotFrame = KrakenStreamingAdapters.adaptOrderBookUpdateFrame(XBT_EUR, snapshot);
+        assertThat(snapshotFrame.isSnapshot()).isTrue();
+        assertThat(snapshotFrame.getAskCount()).isEqualTo(25);
+        assertThat(snapshotFrame.getBidCount()).isEqualTo(25);
+        assertThat(snapshotFrame.getLastSequence()).isEqualTo(OrderBookUpdateFrame.NO_SEQUENCE);
+
+        ArrayNode update =
+                (ArrayNode) StreamingObjectMapperHelper.getObjectMapper()
+                        .readTree(this.getClass().getResource("/orderBookMessageUpdate.json").openStream());
+        OrderBookUpdateFrame updateFrame = KrakenStreamingAdapters.adaptOrderBookUpdateFrame(XBT_EUR, update);
+        assertThat(updateFrame.isSnapshot()).isFalse();
+        assertThat(updateFrame.getAskCount()).isEqualTo(2);
+        assertThat(updateFrame.getAsk(0).getOriginalAmount()).isZero();
+        assertThat(updateFrame.getAsk(1).getLimitPrice()).isEqualByComparingTo("9621");
+
+        OrderBook orderBook = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+        snapshotFrame.applyTo(orderBook);
+        updateFrame.applyTo(orderBook);
+        assertThat(orderBook.getAsks()).hasSize(26);
+        snapshotFrame.applyTo(orderBook);
+        assertThat(orderBook.getAsks()).hasSize(25);
+    }
+
 
     @Test
     public void testAdaptTickerMessage() throws IOException {
@@ -112,4 +144,39 @@ public class KrakenStreamingAdaptersTest {
         assertThat(trade.getTimestamp().getTime()).isEqualTo(1534614057000L);
         assertThat(trade.getType()).isEqualTo(Order.OrderType.BID);
     }
+
+    @Test
+    public void testAdaptFixedPointTrades() throws IOException {
+        JsonNode jsonNode =
+                StreamingObjectMapperHelper.getObjectMapper()
+                        .readTree(this.getClass().getResource("/trades.json").openStream());
+        List<FixedPointTrade> trades =
+                KrakenStreamingAdapters.adaptFixedPointTrades(XBT_EUR, new FixedPointScale(1, 8), jsonNode);
+
+        assertThat(trades).hasSize(2);
+
+        FixedPointTrade trade = trades.get(0);
+        assertThat(trade.getUnscaledPrice()).isEqualTo(55412L);
+        assertThat(trade.getUnscaledAmount()).isEqualTo(15850568L);
+        assertThat(trade.getTimestampMillis()).isEqualTo(1534614057321L);
+        assertThat(trade.getType()).isEqualTo(Order.OrderType.ASK);
+        assertThat(trade.toTrade().getPrice()).isEqualByComparingTo("5541.2");
+        assertThat(trades.get(1).getType()).isEqualTo(Order.OrderType.BID);
+    }
+
+    @Test
+    public void testAdaptFixedPointOrderBookUpdates() throws IOException {
+        JsonNode jsonNode =
+                StreamingObjectMapperHelper.getObjectMapper()
+                        .readTree(this.getClass().getResource("/orderBookMessageUpdate.json").openStream());
+        List<FixedPointOrderBookUpdate> updates =
+                KrakenStreamingAdapters.adaptFixedPointOrderBookUpdates(
+                        XBT_EUR, new FixedPointScale(1, 8), (ArrayNode) jsonNode);
+
+        assertThat(updates).hasSize(2);
+        assertThat(updates.get(0).getType()).isEqualTo(Order.OrderType.ASK);
+        assertThat(updates.get(0).getUnscaledPrice()).isEqualTo(96186L);
+        assertThat(updates.get(0).getUnscaledTotalVolume()).isZero();
+        assertThat(updates.get(1).getTotalVolume()).isEqualByComparingTo("1.36275258");
+    }
 }
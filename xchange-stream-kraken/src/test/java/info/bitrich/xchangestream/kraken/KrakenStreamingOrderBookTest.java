@@ -0,0 +1,142 @@
+package info.bitrich.xchangestream.kraken;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.currency.Currency;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class KrakenStreamingOrderBookTest {
+
+    private static final CurrencyPair XBT_EUR = new CurrencyPair(Currency.XBT, Currency.EUR);
+
+    private final ObjectMapper mapper = StreamingObjectMapperHelper.getObjectMapper();
+
+    private ArrayNode snapshot;
+
+    @Before
+    public void setUp() throws IOException {
+        snapshot = (ArrayNode) mapper.readTree(getClass().getResource("/orderBookMessageSnapshot.json"));
+    }
+
+    @Test
+    public void testUpdatesIgnoredUntilSnapshot() throws IOException {
+        KrakenStreamingOrderBook orderBook = new KrakenStreamingOrderBook(XBT_EUR, 25);
+
+        assertThat(orderBook.update(update("a", "9000.00000", "1.00000000", "0"))).isTrue();
+        assertThat(orderBook.isSynced()).isFalse();
+
+        orderBook.update(snapshot);
+
+        assertThat(orderBook.isSynced()).isTrue();
+        assertThat(orderBook.toOrderBook().getAsks()).hasSize(25);
+    }
+
+    @Test
+    public void testChecksumOfSnapshot() {
+        KrakenStreamingOrderBook orderBook = new KrakenStreamingOrderBook(XBT_EUR, 25);
+        orderBook.update(snapshot);
+
+        StringBuilder expected = new StringBuilder();
+        appendLevels(expected, snapshot.get(1).get("as"));
+        appendLevels(expected, snapshot.get(1).get("bs"));
+
+        assertThat(orderBook.checksum()).isEqualTo(crc32(expected.toString()));
+    }
+
+    @Test
+    public void testChecksumDropsDecimalPointAndLeadingZeros() throws IOException {
+        KrakenStreamingOrderBook orderBook = new KrakenStreamingOrderBook(XBT_EUR, 10);
+        orderBook.update(
+                (ArrayNode) mapper.readTree(
+                        "[1,{\"as\":[[\"0.05005\",\"0.00000500\",\"1582905487.684110\"]],"
+                                + "\"bs\":[[\"0.05000\",\"1.50000000\",\"1582905487.684110\"]]},\"book-10\",\"XBT/EUR\"]"));
+
+        assertThat(orderBook.checksum()).isEqualTo(crc32("5005500" + "5000150000000"));
+    }
+
+    @Test
+    public void testUpdateVerifiesChecksum() throws IOException {
+        KrakenStreamingOrderBook orderBook = new KrakenStreamingOrderBook(XBT_EUR, 25);
+        orderBook.update(snapshot);
+
+        KrakenStreamingOrderBook expected = new KrakenStreamingOrderBook(XBT_EUR, 25);
+        expected.update(snapshot);
+        expected.update(update("a", "8691.50000", "1.00000000", "0"));
+
+        assertThat(orderBook.update(update("a", "8691.50000", "1.00000000", Long.toString(expected.checksum()))))
+                .isTrue();
+        assertThat(orderBook.update(update("b", "8691.00000", "1.00000000", "1"))).isFalse();
+
+        orderBook.reset();
+
+        assertThat(orderBook.isSynced()).isFalse();
+        assertThat(orderBook.toOrderBook().getBids()).isEmpty();
+    }
+
+    @Test
+    public void testBookIsTruncatedToDepth() throws IOException {
+        KrakenStreamingOrderBook orderBook = new KrakenStreamingOrderBook(XBT_EUR, 25);
+        orderBook.update(snapshot);
+        LimitOrder worstAsk = orderBook.toOrderBook().getAsks().get(24);
+
+        orderBook.update(update("a", "8691.50000", "1.00000000", null));
+
+        OrderBook book = orderBook.toOrderBook();
+        assertThat(book.getAsks()).hasSize(25);
+        assertThat(book.getAsks().get(0).getLimitPrice()).isEqualByComparingTo("8691.5");
+        assertThat(book.getAsks()).doesNotContain(worstAsk);
+    }
+
+    @Test
+    public void testEmittedBooksAreImmutable() {
+        KrakenStreamingOrderBook orderBook = new KrakenStreamingOrderBook(XBT_EUR, 25);
+        orderBook.update(snapshot);
+        OrderBook book = orderBook.toOrderBook();
+
+        assertThatThrownBy(() -> book.getAsks().clear()).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    private ArrayNode update(String side, String price, String volume, String checksum) {
+        ArrayNode message = mapper.createArrayNode();
+        message.add(13);
+        ObjectNode levels = message.addObject();
+        levels.putArray(side).addArray().add(price).add(volume).add("1561120270.442596");
+        if (checksum != null) {
+            levels.put("c", checksum);
+        }
+        message.add("book-25");
+        message.add("XBT/EUR");
+        return message;
+    }
+
+    private static void appendLevels(StringBuilder checksum, JsonNode levels) {
+        for (int i = 0; i < 10; i++) {
+            checksum.append(digits(levels.get(i).get(0).textValue()));
+            checksum.append(digits(levels.get(i).get(1).textValue()));
+        }
+    }
+
+    private static String digits(String decimal) {
+        return decimal.replace(".", "").replaceFirst("^0+", "");
+    }
+
+    private static long crc32(String data) {
+        CRC32 crc = new CRC32();
+        crc.update(data.getBytes(StandardCharsets.US_ASCII));
+        return crc.getValue();
+    }
+}
@@ -0,0 +1,49 @@
+package info.bitrich.xchangestream.kraken;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import info.bitrich.xchangestream.service.netty.MessageJournalReplayer;
+import info.bitrich.xchangestream.service.netty.MessageJournalWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class KrakenStreamingServiceTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void testRoutesReplayedMessagesOfRecordedRequests() throws Exception {
+    Path journal = folder.newFile().toPath();
+    try (MessageJournalWriter writer = new MessageJournalWriter(journal)) {
+      // the request id of the recorded connection is unknown to the replaying one
+      writer.record(
+          "{\"channelID\":13,\"channelName\":\"book-25\",\"event\":\"subscriptionStatus\","
+              + "\"pair\":\"XBT/EUR\",\"reqid\":42,\"status\":\"subscribed\","
+              + "\"subscription\":{\"depth\":25,\"name\":\"book\"}}");
+      writer.record(resource("/orderBookMessageSnapshot.json"));
+    }
+    MessageJournalReplayer replayer = MessageJournalReplayer.asFastAsPossible(journal);
+    KrakenStreamingService service = new KrakenStreamingService(false, "wss://ws.kraken.com", null);
+    service.setMessageJournalReplayer(replayer);
+    service.connect().blockingAwait();
+
+    List<JsonNode> messages = service.subscribeChannel("book-XBT/EUR", 25).test().values();
+    replayer.replay().blockingAwait();
+
+    assertThat(messages).hasSize(1);
+    assertThat(messages.get(0).get(0).asInt()).isEqualTo(13);
+  }
+
+  private String resource(String name) throws Exception {
+    return new String(
+        Files.readAllBytes(Paths.get(getClass().getResource(name).toURI())),
+        StandardCharsets.UTF_8);
+  }
+}
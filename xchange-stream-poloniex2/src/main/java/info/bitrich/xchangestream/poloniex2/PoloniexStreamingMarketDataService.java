@@ -1,24 +1,30 @@
 package info.bitrich.xchangestream.poloniex2;
 
-import static org.knowm.xchange.poloniex.PoloniexAdapters.adaptPoloniexDepth;
 import static org.knowm.xchange.poloniex.PoloniexAdapters.adaptPoloniexTicker;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
 import info.bitrich.xchangestream.core.StreamingMarketDataService;
 import info.bitrich.xchangestream.poloniex2.dto.*;
 import info.bitrich.xchangestream.service.netty.StreamingObjectMapperHelper;
 import io.reactivex.rxjava3.core.Flowable;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.SortedMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
 import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.marketdata.SortedOrderBook;
 import org.knowm.xchange.dto.marketdata.Ticker;
 import org.knowm.xchange.dto.marketdata.Trade;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,30 +59,42 @@ public class PoloniexStreamingMarketDataService implements StreamingMarketDataSe
                     .share());
   }
 
+  /**
+   * Emits the order book after each batch of changes. The book is maintained per subscription from
+   * the insert and modify events and emitted as a read-only view, see {@link
+   * SortedOrderBook#readOnlyView()}. A side is only copied when it is read after a batch changed
+   * it, so a subscriber keeping the levels of an emission copies them before the next one. {@link
+   * #getOrderBookUpdates(Instrument, Object...)} emits the changes of each batch instead.
+   */
   @Override
   public Flowable<OrderBook> getOrderBook(CurrencyPair currencyPair, Object... args) {
-    Flowable<PoloniexOrderbook> subscribedOrderbook =
-        service
-            .subscribeCurrencyPairChannel(currencyPair)
-            .scan(
-                Optional.empty(),
-                (Optional<PoloniexOrderbook> orderbook,
-                    List<PoloniexWebSocketEvent> poloniexWebSocketEvents) ->
-                    poloniexWebSocketEvents.stream()
-                        .filter(
-                            s ->
-                                s instanceof PoloniexWebSocketOrderbookInsertEvent
-                                    || s instanceof PoloniexWebSocketOrderbookModifiedEvent)
-                        .reduce(
-                            orderbook,
-                            (poloniexOrderbook, s) -> getPoloniexOrderbook(orderbook, s),
-                            (o1, o2) -> {
-                              throw new UnsupportedOperationException("No parallel execution");
-                            }))
-            .filter(Optional::isPresent)
-            .map(Optional::get);
+    return Flowable.defer(
+        () -> {
+          SortedOrderBook orderBook =
+              new SortedOrderBook(null, new ArrayList<>(), new ArrayList<>());
+          AtomicBoolean initialized = new AtomicBoolean();
+          return service
+              .subscribeCurrencyPairChannel(currencyPair)
+              .filter(events -> updateOrderBook(orderBook, initialized, events, currencyPair))
+              .map(events -> orderBook.readOnlyView());
+        });
+  }
 
-    return subscribedOrderbook.map(s -> adaptPoloniexDepth(s.toPoloniexDepth(), currencyPair));
+  /**
+   * Emits the book changes of each event batch, sequenced by the sequence id of the batch. The
+   * insert event which initializes the book is emitted as a snapshot.
+   */
+  @Override
+  public Flowable<OrderBookUpdateFrame> getOrderBookUpdates(
+      Instrument instrument, Object... args) {
+    if (!(instrument instanceof CurrencyPair)) {
+      return StreamingMarketDataService.super.getOrderBookUpdates(instrument, args);
+    }
+    CurrencyPair currencyPair = (CurrencyPair) instrument;
+    return service
+        .subscribeCurrencyPairTransactions(currencyPair)
+        .map(transaction -> toOrderBookUpdateFrame(transaction, currencyPair))
+        .filter(frame -> !frame.isEmpty());
   }
 
   @Override
@@ -98,23 +116,114 @@ public class PoloniexStreamingMarketDataService implements StreamingMarketDataSe
         s -> PoloniexWebSocketAdapter.convertPoloniexWebSocketTradeEventToTrade(s, currencyPair));
   }
 
-  private Optional<PoloniexOrderbook> getPoloniexOrderbook(
-      final Optional<PoloniexOrderbook> orderbook, final PoloniexWebSocketEvent s) {
-    if (s.getEventType().equals("i")) {
-      OrderbookInsertEvent insertEvent = ((PoloniexWebSocketOrderbookInsertEvent) s).getInsert();
-      SortedMap<BigDecimal, BigDecimal> asks =
-          insertEvent.toDepthLevels(OrderbookInsertEvent.ASK_SIDE);
-      SortedMap<BigDecimal, BigDecimal> bids =
-          insertEvent.toDepthLevels(OrderbookInsertEvent.BID_SIDE);
-      return Optional.of(new PoloniexOrderbook(asks, bids));
-    } else {
-      OrderbookModifiedEvent modifiedEvent =
-          ((PoloniexWebSocketOrderbookModifiedEvent) s).getModifiedEvent();
-      orderbook
-          .orElseThrow(
-              () -> new IllegalStateException("Orderbook update received before initial snapshot"))
-          .modify(modifiedEvent);
-      return orderbook;
+  /** @return whether any of the events changed the book */
+  private static boolean updateOrderBook(
+      SortedOrderBook orderBook,
+      AtomicBoolean initialized,
+      List<PoloniexWebSocketEvent> events,
+      CurrencyPair currencyPair) {
+    boolean changed = false;
+    for (PoloniexWebSocketEvent event : events) {
+      if (event instanceof PoloniexWebSocketOrderbookInsertEvent) {
+        JsonNode[] sides =
+            ((PoloniexWebSocketOrderbookInsertEvent) event).getInsert().getOrderbookSides();
+        orderBook.clear();
+        insertLevels(orderBook, OrderType.ASK, sides[OrderbookInsertEvent.ASK_SIDE], currencyPair);
+        insertLevels(orderBook, OrderType.BID, sides[OrderbookInsertEvent.BID_SIDE], currencyPair);
+        initialized.set(true);
+        changed = true;
+      } else if (event instanceof PoloniexWebSocketOrderbookModifiedEvent) {
+        if (!initialized.get()) {
+          throw new IllegalStateException("Orderbook update received before initial snapshot");
+        }
+        OrderbookModifiedEvent modifiedEvent =
+            ((PoloniexWebSocketOrderbookModifiedEvent) event).getModifiedEvent();
+        OrderType type = modifiedEvent.getType().equals("0") ? OrderType.ASK : OrderType.BID;
+        // a zero volume removes the level
+        orderBook.update(
+            new LimitOrder(
+                type,
+                modifiedEvent.getVolume(),
+                currencyPair,
+                null,
+                null,
+                modifiedEvent.getPrice()));
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  private static OrderBookUpdateFrame toOrderBookUpdateFrame(
+      PoloniexWebSocketEventsTransaction transaction, CurrencyPair currencyPair) {
+    List<LimitOrder> asks = new ArrayList<>();
+    List<LimitOrder> bids = new ArrayList<>();
+    boolean snapshot = false;
+    for (PoloniexWebSocketEvent event : transaction.getEvents()) {
+      if (event instanceof PoloniexWebSocketOrderbookInsertEvent) {
+        JsonNode[] sides =
+            ((PoloniexWebSocketOrderbookInsertEvent) event).getInsert().getOrderbookSides();
+        asks.clear();
+        bids.clear();
+        addLevels(asks, OrderType.ASK, sides[OrderbookInsertEvent.ASK_SIDE], currencyPair);
+        addLevels(bids, OrderType.BID, sides[OrderbookInsertEvent.BID_SIDE], currencyPair);
+        snapshot = true;
+      } else if (event instanceof PoloniexWebSocketOrderbookModifiedEvent) {
+        OrderbookModifiedEvent modifiedEvent =
+            ((PoloniexWebSocketOrderbookModifiedEvent) event).getModifiedEvent();
+        boolean ask = modifiedEvent.getType().equals("0");
+        (ask ? asks : bids)
+            .add(
+                new LimitOrder(
+                    ask ? OrderType.ASK : OrderType.BID,
+                    modifiedEvent.getVolume(),
+                    currencyPair,
+                    null,
+                    null,
+                    modifiedEvent.getPrice()));
+      }
+    }
+    long sequence =
+        transaction.getSeqId() == null ? OrderBookUpdateFrame.NO_SEQUENCE : transaction.getSeqId();
+    return new OrderBookUpdateFrame(
+        currencyPair,
+        snapshot,
+        sequence,
+        sequence,
+        null,
+        asks.toArray(new LimitOrder[0]),
+        bids.toArray(new LimitOrder[0]));
+  }
+
+  private static void addLevels(
+      List<LimitOrder> levels, OrderType type, JsonNode side, CurrencyPair currencyPair) {
+    Iterator<Map.Entry<String, JsonNode>> fields = side.fields();
+    while (fields.hasNext()) {
+      Map.Entry<String, JsonNode> level = fields.next();
+      levels.add(
+          new LimitOrder(
+              type,
+              new BigDecimal(level.getValue().asText()),
+              currencyPair,
+              null,
+              null,
+              new BigDecimal(level.getKey())));
+    }
+  }
+
+  private static void insertLevels(
+      SortedOrderBook orderBook, OrderType type, JsonNode side, CurrencyPair currencyPair) {
+    Iterator<Map.Entry<String, JsonNode>> levels = side.fields();
+    while (levels.hasNext()) {
+      Map.Entry<String, JsonNode> level = levels.next();
+      orderBook.update(
+          new LimitOrder(
+              type,
+              new BigDecimal(level.getValue().asText()),
+              currencyPair,
+              null,
+              null,
+              new BigDecimal(level.getKey())));
     }
   }
 }
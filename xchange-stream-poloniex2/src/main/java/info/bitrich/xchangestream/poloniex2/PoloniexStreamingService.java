@@ -84,6 +84,13 @@ public class PoloniexStreamingService extends JsonNettyStreamingService {
 
   public Flowable<List<PoloniexWebSocketEvent>> subscribeCurrencyPairChannel(
       CurrencyPair currencyPair) {
+    return subscribeCurrencyPairTransactions(currencyPair)
+        .map(PoloniexWebSocketEventsTransaction::getEvents);
+  }
+
+  /** @return the event batches of the currency pair together with their sequence ids */
+  public Flowable<PoloniexWebSocketEventsTransaction> subscribeCurrencyPairTransactions(
+      CurrencyPair currencyPair) {
     String channelName = currencyPair.counter.toString() + "_" + currencyPair.base.toString();
     return subscribeChannel(channelName)
         .map(
@@ -107,7 +114,6 @@ public class PoloniexStreamingService extends JsonNettyStreamingService {
                         objectMapper.writeValueAsString(poloniexWebSocketEventsTransactionNew)));
               }
             })
-        .map(PoloniexWebSocketEventsTransaction::getEvents)
         .publish(1).refCount();
   }
 
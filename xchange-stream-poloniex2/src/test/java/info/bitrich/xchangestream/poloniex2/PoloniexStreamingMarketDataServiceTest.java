@@ -0,0 +1,186 @@
+package info.bitrich.xchangestream.poloniex2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import info.bitrich.xchangestream.core.OrderBookUpdateFrame;
+import info.bitrich.xchangestream.poloniex2.dto.OrderbookInsertEvent;
+import info.bitrich.xchangestream.poloniex2.dto.OrderbookModifiedEvent;
+import info.bitrich.xchangestream.poloniex2.dto.PoloniexWebSocketEvent;
+import info.bitrich.xchangestream.poloniex2.dto.PoloniexWebSocketEventsTransaction;
+import info.bitrich.xchangestream.poloniex2.dto.PoloniexWebSocketOrderbookInsertEvent;
+import info.bitrich.xchangestream.poloniex2.dto.PoloniexWebSocketOrderbookModifiedEvent;
+import io.reactivex.rxjava3.core.Flowable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Test;
+import org.knowm.xchange.currency.CurrencyPair;
+import org.knowm.xchange.dto.Order.OrderType;
+import org.knowm.xchange.dto.marketdata.OrderBook;
+import org.knowm.xchange.dto.trade.LimitOrder;
+import org.knowm.xchange.instrument.Instrument;
+
+public class PoloniexStreamingMarketDataServiceTest {
+
+  private static final ObjectMapper MAPPER = new ObjectMapper();
+
+  @Test
+  public void testAppliesSnapshot() throws Exception {
+    List<OrderBook> books = orderBooks(Collections.singletonList(snapshot()));
+
+    assertThat(books).hasSize(1);
+    assertThat(prices(books.get(0).getAsks())).containsExactly("101", "102");
+    assertThat(prices(books.get(0).getBids())).containsExactly("100", "99");
+  }
+
+  @Test
+  public void testAppliesUpdates() throws Exception {
+    List<OrderBook> books =
+        orderBooks(
+            Collections.singletonList(snapshot()),
+            Arrays.asList(modified("0", "100.5", "3"), modified("1", "99", "4")));
+
+    assertThat(books).hasSize(2);
+    assertThat(prices(books.get(1).getAsks())).containsExactly("100.5", "101", "102");
+    assertThat(books.get(1).getBids().get(1).getOriginalAmount()).isEqualByComparingTo("4");
+  }
+
+  @Test
+  public void testRemovesLevel() throws Exception {
+    List<OrderBook> books =
+        orderBooks(
+            Collections.singletonList(snapshot()),
+            Collections.singletonList(modified("0", "101", "0")));
+
+    assertThat(prices(books.get(1).getAsks())).containsExactly("102");
+    assertThat(prices(books.get(0).getAsks())).containsExactly("101", "102");
+  }
+
+  @Test
+  public void testEmitsReadOnlyView() throws Exception {
+    List<OrderBook> books =
+        service(
+                Collections.singletonList(snapshot()),
+                Collections.singletonList(modified("0", "101", "0")))
+            .getOrderBook(CurrencyPair.BTC_USDT)
+            .toList()
+            .blockingGet();
+
+    assertThat(books.get(1)).isSameAs(books.get(0));
+    assertThat(prices(books.get(0).getAsks())).containsExactly("102");
+    assertThatThrownBy(
+            () ->
+                books
+                    .get(0)
+                    .update(
+                        new LimitOrder(
+                            OrderType.ASK,
+                            BigDecimal.ONE,
+                            CurrencyPair.BTC_USDT,
+                            null,
+                            null,
+                            BigDecimal.TEN)))
+        .isInstanceOf(UnsupportedOperationException.class);
+  }
+
+  @Test
+  public void testEmitsOneFramePerTransaction() throws Exception {
+    Flowable<PoloniexWebSocketEventsTransaction> transactions =
+        Flowable.just(
+            transaction(
+                5,
+                "[\"i\",{\"currencyPair\":\"BTC_USDT\",\"orderBook\":"
+                    + "[{\"101\":\"1\",\"102\":\"2\"},{\"100\":\"1\"}]}]"),
+            transaction(6, "[\"o\",0,\"101\",\"0\"]", "[\"o\",1,\"99\",\"4\"]"),
+            transaction(7, "[\"t\",\"1\",1,\"101\",\"1\",1600000000]"));
+    PoloniexStreamingService service =
+        new PoloniexStreamingService("wss://api2.poloniex.com") {
+          @Override
+          public Flowable<PoloniexWebSocketEventsTransaction> subscribeCurrencyPairTransactions(
+              CurrencyPair currencyPair) {
+            return transactions;
+          }
+        };
+
+    List<OrderBookUpdateFrame> frames =
+        new PoloniexStreamingMarketDataService(service, Collections.emptyMap())
+            .getOrderBookUpdates((Instrument) CurrencyPair.BTC_USDT)
+            .toList()
+            .blockingGet();
+
+    assertThat(frames).hasSize(2);
+    assertThat(frames.get(0).isSnapshot()).isTrue();
+    assertThat(frames.get(0).getLastSequence()).isEqualTo(5);
+    assertThat(frames.get(0).getAskCount()).isEqualTo(2);
+    assertThat(frames.get(1).isSnapshot()).isFalse();
+    assertThat(frames.get(1).getFirstSequence()).isEqualTo(6);
+    assertThat(frames.get(1).getAsk(0).getOriginalAmount()).isZero();
+
+    OrderBook orderBook = new OrderBook(null, new ArrayList<>(), new ArrayList<>());
+    frames.forEach(frame -> frame.applyTo(orderBook));
+    assertThat(prices(orderBook.getAsks())).containsExactly("102");
+    assertThat(prices(orderBook.getBids())).containsExactly("100", "99");
+  }
+
+  /** Copies the levels of each emitted view before the next batch is applied. */
+  @SafeVarargs
+  private static List<OrderBook> orderBooks(List<PoloniexWebSocketEvent>... batches) {
+    return service(batches)
+        .getOrderBook(CurrencyPair.BTC_USDT)
+        .map(
+            view ->
+                new OrderBook(
+                    view.getTimeStamp(),
+                    new ArrayList<>(view.getAsks()),
+                    new ArrayList<>(view.getBids())))
+        .toList()
+        .blockingGet();
+  }
+
+  @SafeVarargs
+  private static PoloniexStreamingMarketDataService service(
+      List<PoloniexWebSocketEvent>... batches) {
+    PoloniexStreamingService service =
+        new PoloniexStreamingService("wss://api2.poloniex.com") {
+          @Override
+          public Flowable<List<PoloniexWebSocketEvent>> subscribeCurrencyPairChannel(
+              CurrencyPair currencyPair) {
+            return Flowable.fromArray(batches);
+          }
+        };
+    return new PoloniexStreamingMarketDataService(service, Collections.emptyMap());
+  }
+
+  private static PoloniexWebSocketEventsTransaction transaction(long seqId, String... events)
+      throws Exception {
+    List<JsonNode> jsonEvents = new ArrayList<>();
+    for (String event : events) {
+      jsonEvents.add(MAPPER.readTree(event));
+    }
+    return new PoloniexWebSocketEventsTransaction(148L, seqId, jsonEvents);
+  }
+
+  private static PoloniexWebSocketEvent snapshot() throws Exception {
+    JsonNode[] sides =
+        MAPPER.readValue(
+            "[{\"101\":\"1\",\"102\":\"2\"},{\"100\":\"1\",\"99\":\"2\"}]", JsonNode[].class);
+    return new PoloniexWebSocketOrderbookInsertEvent(new OrderbookInsertEvent("BTC_USDT", sides));
+  }
+
+  private static PoloniexWebSocketEvent modified(String type, String price, String volume) {
+    return new PoloniexWebSocketOrderbookModifiedEvent(
+        new OrderbookModifiedEvent(type, new BigDecimal(price), new BigDecimal(volume)));
+  }
+
+  private static List<String> prices(List<LimitOrder> levels) {
+    return levels.stream()
+        .map(level -> level.getLimitPrice().toPlainString())
+        .collect(Collectors.toList());
+  }
+}
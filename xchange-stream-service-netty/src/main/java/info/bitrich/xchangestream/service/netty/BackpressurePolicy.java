@@ -0,0 +1,161 @@
+package info.bitrich.xchangestream.service.netty;
+
+import io.reactivex.rxjava3.core.BackpressureOverflowStrategy;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.functions.Action;
+import java.util.Objects;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+
+/**
+ * What a subscribed channel does with messages its subscribers are not ready for, see {@link
+ * NettyStreamingService#subscribeChannel(String, BackpressurePolicy, Object...)}.
+ *
+ * <ul>
+ *   <li>{@link #latest()} keeps only the newest message, fine for tickers and full snapshots.
+ *   <li>{@link #buffer(int, Consumer)} queues messages and fails the channel once the queue is
+ *       full, so consumers of diffs never silently miss one.
+ *   <li>{@link #buffer(int, BackpressureOverflowStrategy, Consumer)} queues messages and drops the
+ *       oldest or the newest queued one once the queue is full.
+ *   <li>{@link #conflate(BinaryOperator)} merges pending messages into one, e.g. book deltas.
+ * </ul>
+ *
+ * @param <T> type of the messages of the channel
+ */
+public final class BackpressurePolicy<T> {
+
+  private static final BackpressurePolicy<?> LATEST =
+      new BackpressurePolicy<>(Mode.LATEST, 0, null, null, null);
+
+  public enum Mode {
+    LATEST,
+    BUFFER,
+    CONFLATE
+  }
+
+  private final Mode mode;
+  private final int bufferSize;
+  private final BackpressureOverflowStrategy overflowStrategy;
+  private final Consumer<String> onOverflow;
+  private final BinaryOperator<T> merger;
+
+  private BackpressurePolicy(
+      Mode mode,
+      int bufferSize,
+      BackpressureOverflowStrategy overflowStrategy,
+      Consumer<String> onOverflow,
+      BinaryOperator<T> merger) {
+    this.mode = mode;
+    this.bufferSize = bufferSize;
+    this.overflowStrategy = overflowStrategy;
+    this.onOverflow = onOverflow;
+    this.merger = merger;
+  }
+
+  /** Keeps the newest message only, the default. */
+  @SuppressWarnings("unchecked")
+  public static <T> BackpressurePolicy<T> latest() {
+    return (BackpressurePolicy<T>) LATEST;
+  }
+
+  /**
+   * Queues up to bufferSize messages. When the queue is full the channel fails with a {@link
+   * io.reactivex.rxjava3.exceptions.MissingBackpressureException}.
+   *
+   * @param bufferSize number of queued messages, rounded up to the next power of two
+   * @param onOverflow called with the id of the channel before it fails
+   */
+  public static <T> BackpressurePolicy<T> buffer(int bufferSize, Consumer<String> onOverflow) {
+    return buffer(bufferSize, BackpressureOverflowStrategy.ERROR, onOverflow);
+  }
+
+  /** See {@link #buffer(int, Consumer)}. */
+  public static <T> BackpressurePolicy<T> buffer(int bufferSize) {
+    return buffer(bufferSize, channelId -> {});
+  }
+
+  /**
+   * Queues up to bufferSize messages. When the queue is full {@link
+   * BackpressureOverflowStrategy#DROP_OLDEST} drops the oldest queued message, {@link
+   * BackpressureOverflowStrategy#DROP_LATEST} the newest one, to make room for the new message.
+   * {@link BackpressureOverflowStrategy#ERROR} fails the channel like {@link #buffer(int,
+   * Consumer)}.
+   *
+   * @param bufferSize number of queued messages, exact unless the channel fails on overflow
+   * @param onOverflow called with the id of the channel for every dropped message, or before the
+   *     channel fails
+   */
+  public static <T> BackpressurePolicy<T> buffer(
+      int bufferSize, BackpressureOverflowStrategy overflowStrategy, Consumer<String> onOverflow) {
+    if (bufferSize <= 0) {
+      throw new IllegalArgumentException("Buffer size must be positive: " + bufferSize);
+    }
+    return new BackpressurePolicy<>(
+        Mode.BUFFER, bufferSize, Objects.requireNonNull(overflowStrategy), onOverflow, null);
+  }
+
+  /** See {@link #buffer(int, BackpressureOverflowStrategy, Consumer)}. */
+  public static <T> BackpressurePolicy<T> buffer(
+      int bufferSize, BackpressureOverflowStrategy overflowStrategy) {
+    return buffer(bufferSize, overflowStrategy, channelId -> {});
+  }
+
+  /**
+   * Merges messages the subscribers are not ready for into a single pending one.
+   *
+   * @param merger merges the pending message with a newer one, for typed channels it gets the
+   *     bound payloads
+   */
+  public static <T> BackpressurePolicy<T> conflate(BinaryOperator<T> merger) {
+    return new BackpressurePolicy<>(Mode.CONFLATE, 0, null, null, merger);
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public int getBufferSize() {
+    return bufferSize;
+  }
+
+  /** What a {@link Mode#BUFFER} policy does once the queue is full, null for the other modes. */
+  public BackpressureOverflowStrategy getOverflowStrategy() {
+    return overflowStrategy;
+  }
+
+  @SuppressWarnings("unchecked")
+  <M> Flowable<M> apply(Flowable<M> messages, String channelId, ChannelMetrics metrics) {
+    switch (mode) {
+      case BUFFER:
+        Action overflow =
+            () -> {
+              metrics.onDropped();
+              onOverflow.accept(channelId);
+            };
+        return overflowStrategy == BackpressureOverflowStrategy.ERROR
+            ? messages.onBackpressureBuffer(bufferSize, overflow)
+            : messages.onBackpressureBuffer(bufferSize, overflow, overflowStrategy);
+      case CONFLATE:
+        BinaryOperator<M> messageMerger = (BinaryOperator<M>) merger;
+        return messages.onBackpressureReduce(
+            (pending, message) -> {
+              metrics.onConflated();
+              return messageMerger.apply(pending, message);
+            });
+      case LATEST:
+      default:
+        return messages.onBackpressureReduce(
+            (pending, message) -> {
+              metrics.onDropped();
+              return message;
+            });
+    }
+  }
+
+  @Override
+  public String toString() {
+    return mode == Mode.BUFFER
+        ? mode + "(" + bufferSize + ", " + overflowStrategy + ")"
+        : mode.toString();
+  }
+}
@@ -0,0 +1,19 @@
+package info.bitrich.xchangestream.service.netty;
+
+import io.netty.buffer.ByteBuf;
+
+/**
+ * Implemented by {@link NettyStreamingService}s which handle the raw UTF-8 content of incoming
+ * messages. Such services get text messages passed to {@link #messageHandler(ByteBuf)} instead of
+ * {@link NettyStreamingService#messageHandler(String)}, which saves decoding every message to a
+ * String.
+ */
+public interface ByteBufMessageHandler {
+
+  /**
+   * Handler that receives incoming messages.
+   *
+   * @param message UTF-8 content of the message from the server, only valid during the call
+   */
+  void messageHandler(ByteBuf message);
+}
@@ -0,0 +1,72 @@
+package info.bitrich.xchangestream.service.netty;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counters of the messages of a subscribed channel, see {@link
+ * NettyStreamingService#getChannelMetrics(String)}. Counting starts with the subscription.
+ */
+public class ChannelMetrics {
+
+  private final AtomicLong received = new AtomicLong();
+  private final AtomicLong delivered = new AtomicLong();
+  private final AtomicLong dropped = new AtomicLong();
+  private final AtomicLong conflated = new AtomicLong();
+
+  void onReceived() {
+    received.incrementAndGet();
+  }
+
+  void onDelivered() {
+    delivered.incrementAndGet();
+  }
+
+  void onDropped() {
+    dropped.incrementAndGet();
+  }
+
+  void onConflated() {
+    conflated.incrementAndGet();
+  }
+
+  /** Messages received for the channel. */
+  public long getReceived() {
+    return received.get();
+  }
+
+  /** Messages passed on to the subscribers. */
+  public long getDelivered() {
+    return delivered.get();
+  }
+
+  /** Messages lost because the subscribers didn't keep up. */
+  public long getDropped() {
+    return dropped.get();
+  }
+
+  /** Messages merged into a later one because the subscribers didn't keep up. */
+  public long getConflated() {
+    return conflated.get();
+  }
+
+  /** Messages waiting for the subscribers. */
+  public long getQueued() {
+    // messages are counted as received first, read it last so the difference can't go negative
+    long passed = getDelivered() + getDropped() + getConflated();
+    return getReceived() - passed;
+  }
+
+  @Override
+  public String toString() {
+    return "ChannelMetrics{"
+        + "received="
+        + getReceived()
+        + ", delivered="
+        + getDelivered()
+        + ", dropped="
+        + getDropped()
+        + ", conflated="
+        + getConflated()
+        + '}';
+  }
+}
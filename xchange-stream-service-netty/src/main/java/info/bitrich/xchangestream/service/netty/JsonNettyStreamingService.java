@@ -1,10 +1,23 @@
 package info.bitrich.xchangestream.service.netty;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufInputStream;
+import io.netty.util.CharsetUtil;
+import io.reactivex.rxjava3.core.BackpressureStrategy;
+import io.reactivex.rxjava3.core.Flowable;
+import io.reactivex.rxjava3.core.FlowableEmitter;
+import io.reactivex.rxjava3.disposables.Disposable;
 import java.io.IOException;
+import java.io.InputStream;
 import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -12,6 +25,20 @@ public abstract class JsonNettyStreamingService extends NettyStreamingService<Js
   private static final Logger LOG = LoggerFactory.getLogger(JsonNettyStreamingService.class);
   protected final ObjectMapper objectMapper = StreamingObjectMapperHelper.getObjectMapper();
 
+  private final Map<String, TypedChannel> typedChannels = new ConcurrentHashMap<>();
+
+  /** The shared subscription of a typed channel, its emitter is set while it is subscribed. */
+  private static final class TypedChannel {
+
+    final JavaType payloadType;
+    Flowable<Object> payloads;
+    volatile FlowableEmitter<Object> emitter;
+
+    TypedChannel(JavaType payloadType) {
+      this.payloadType = payloadType;
+    }
+  }
+
   public JsonNettyStreamingService(String apiUrl) {
     super(apiUrl);
   }
@@ -33,6 +60,93 @@ public abstract class JsonNettyStreamingService extends NettyStreamingService<Js
     return true;
   }
 
+  /**
+   * Name of the top level field holding the channel name of a message. Together with {@link
+   * #getPayloadFieldName()} this enables token level dispatch of messages received through {@link
+   * #messageHandler(ByteBuf)} to channels subscribed with {@link #subscribeTypedChannel(String,
+   * JavaType, Object...)}: the channel name is peeked with a {@link JsonParser} and the payload is
+   * bound to the subscriber's type in the same pass, without building a {@link JsonNode} tree.
+   *
+   * @return the routing field name, or null if the service does not support token level dispatch
+   */
+  protected String getRoutingFieldName() {
+    return null;
+  }
+
+  /**
+   * @return name of the top level field holding the payload bound to typed channel subscribers, or
+   *     null to bind the whole message
+   * @see #getRoutingFieldName()
+   */
+  protected String getPayloadFieldName() {
+    return null;
+  }
+
+  /**
+   * Subscribes to a channel and binds the payload of its messages, see {@link
+   * #getPayloadFieldName()}, to the given type. If the service declares a routing field, messages
+   * received as bytes are dispatched without building a {@link JsonNode} tree. A channel should be
+   * subscribed either with this method or with {@link #subscribeChannel(String, Object...)}, not
+   * both. All subscribers of a channel share one subscription, so they have to bind its payload to
+   * the same type.
+   *
+   * @param channelName the channel to subscribe to
+   * @param payloadType type of the payload
+   * @param args subscription arguments
+   * @throws IllegalArgumentException if the channel is already bound to another type
+   */
+  public <D> Flowable<D> subscribeTypedChannel(
+      String channelName, JavaType payloadType, Object... args) {
+    final String channelId = getSubscriptionUniqueId(channelName, args);
+    TypedChannel typedChannel =
+        typedChannels.computeIfAbsent(
+            channelId, id -> createTypedChannel(channelName, id, payloadType, args));
+    if (!typedChannel.payloadType.equals(payloadType)) {
+      throw new IllegalArgumentException(
+          String.format(
+              "Channel %s is bound to %s, not %s",
+              channelId, typedChannel.payloadType, payloadType));
+    }
+    @SuppressWarnings("unchecked")
+    Flowable<D> payloads = (Flowable<D>) (Flowable<?>) typedChannel.payloads;
+    return payloads;
+  }
+
+  private TypedChannel createTypedChannel(
+      String channelName, String channelId, JavaType payloadType, Object... args) {
+    TypedChannel typedChannel = new TypedChannel(payloadType);
+    Flowable<Object> payloads =
+        Flowable.create(
+            emitter -> {
+              typedChannel.emitter = emitter;
+              Disposable disposable =
+                  subscribeChannelMessages(channelName, args)
+                      .subscribe(
+                          node -> emitter.onNext(readPayload(node, payloadType)),
+                          emitter::onError,
+                          emitter::onComplete);
+              emitter.setCancellable(
+                  () -> {
+                    if (typedChannel.emitter == emitter) {
+                      typedChannel.emitter = null;
+                    }
+                    disposable.dispose();
+                  });
+            },
+            BackpressureStrategy.MISSING);
+    typedChannel.payloads =
+        applyBackpressurePolicy(payloads, channelId, getBackpressurePolicy(channelName))
+            .publish(1)
+            .refCount();
+    return typedChannel;
+  }
+
+  private <D> D readPayload(JsonNode message, JavaType payloadType) throws IOException {
+    String payloadFieldName = getPayloadFieldName();
+    JsonNode payload = payloadFieldName == null ? message : message.get(payloadFieldName);
+    return objectMapper.readValue(objectMapper.treeAsTokens(payload), payloadType);
+  }
+
   @Override
   public void messageHandler(String message) {
     LOG.debug("Received message: {}", message);
@@ -46,6 +160,104 @@ public abstract class JsonNettyStreamingService extends NettyStreamingService<Js
       return;
     }
 
+    handleJsonMessage(jsonNode);
+  }
+
+  /**
+   * Parses the UTF-8 bytes of the message directly, without decoding them to a String first.
+   * Subclasses opt into this path by implementing {@link ByteBufMessageHandler}.
+   *
+   * @param message UTF-8 content of the message from the server
+   */
+  public void messageHandler(ByteBuf message) {
+    if (LOG.isDebugEnabled()) {
+      LOG.debug("Received message: {}", message.toString(CharsetUtil.UTF_8));
+    }
+    if (!typedChannels.isEmpty() && dispatchTypedMessage(message)) {
+      return;
+    }
+    JsonNode jsonNode;
+
+    // Parse incoming message to JSON
+    try (JsonParser parser = createParser(message)) {
+      jsonNode = objectMapper.readTree(parser);
+    } catch (IOException e) {
+      jsonNode = null;
+    }
+    if (jsonNode == null) {
+      LOG.error("Error parsing incoming message to JSON: {}", message.toString(CharsetUtil.UTF_8));
+      return;
+    }
+
+    handleJsonMessage(jsonNode);
+  }
+
+  /**
+   * Streams through the message looking for the routing and payload fields. If the routing field
+   * comes first and names a typed channel, the payload is bound and emitted straight away.
+   *
+   * @return false if the message has to go through the tree based path
+   */
+  private boolean dispatchTypedMessage(ByteBuf message) {
+    String routingFieldName = getRoutingFieldName();
+    String payloadFieldName = getPayloadFieldName();
+    if (routingFieldName == null || payloadFieldName == null) {
+      return false;
+    }
+    TypedChannel typedChannel = null;
+    FlowableEmitter<Object> emitter = null;
+    Object payload = null;
+    try (JsonParser parser = createParser(message)) {
+      if (parser.nextToken() != JsonToken.START_OBJECT) {
+        return false;
+      }
+      while (parser.nextToken() == JsonToken.FIELD_NAME) {
+        String fieldName = parser.getCurrentName();
+        JsonToken value = parser.nextToken();
+        if (typedChannel == null && routingFieldName.equals(fieldName)) {
+          String channel = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+          typedChannel = channel == null ? null : typedChannels.get(channel);
+          emitter = typedChannel == null ? null : typedChannel.emitter;
+          if (emitter == null || !channels.containsKey(channel)) {
+            return false;
+          }
+        } else if (payloadFieldName.equals(fieldName)) {
+          if (typedChannel == null) {
+            // payload before the routing field, it can't be bound in one pass
+            return false;
+          }
+          payload = objectMapper.readValue(parser, typedChannel.payloadType);
+          break;
+        } else {
+          parser.skipChildren();
+        }
+      }
+    } catch (IOException e) {
+      LOG.debug("Falling back to tree parsing of message: {}", e.getMessage());
+      return false;
+    }
+    if (payload == null) {
+      return false;
+    }
+    emitter.onNext(payload);
+    return true;
+  }
+
+  private JsonParser createParser(ByteBuf message) throws IOException {
+    if (message.hasArray()) {
+      return objectMapper
+          .getFactory()
+          .createParser(
+              message.array(),
+              message.arrayOffset() + message.readerIndex(),
+              message.readableBytes());
+    }
+    return objectMapper
+        .getFactory()
+        .createParser((InputStream) new ByteBufInputStream(message.duplicate()));
+  }
+
+  private void handleJsonMessage(JsonNode jsonNode) {
     if (processArrayMessageSeparately() && jsonNode.isArray()) {
       // In case of array - handle every message separately.
       for (JsonNode node : jsonNode) {
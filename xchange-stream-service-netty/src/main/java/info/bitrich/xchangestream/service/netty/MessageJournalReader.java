@@ -0,0 +1,110 @@
+package info.bitrich.xchangestream.service.netty;
+
+import static info.bitrich.xchangestream.service.netty.MessageJournalWriter.HEADER_LENGTH;
+import static info.bitrich.xchangestream.service.netty.MessageJournalWriter.MAGIC;
+import static info.bitrich.xchangestream.service.netty.MessageJournalWriter.RECORD_HEADER_LENGTH;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Reads the messages of a journal written by {@link MessageJournalWriter}. The file is mapped in
+ * windows of up to 1 GiB and messages are returned as views of the mapping, nothing is copied. A
+ * journal still being written, or cut short by a crash, is read up to its last complete message.
+ *
+ * <pre>{@code
+ * try (MessageJournalReader reader = new MessageJournalReader(file)) {
+ *   while (reader.next()) {
+ *     process(reader.getTimestampNanos(), reader.getMessage());
+ *   }
+ * }
+ * }</pre>
+ */
+public class MessageJournalReader implements Closeable {
+
+  private static final int WINDOW_SIZE = 1 << 30;
+
+  private final FileChannel fileChannel;
+  private final long size;
+  private final long startTimeMillis;
+  private MappedByteBuffer buffer;
+  private ByteBuf window;
+  private long bufferPosition;
+  private long position = HEADER_LENGTH;
+  private long timestampNanos;
+
+  public MessageJournalReader(Path file) throws IOException {
+    this.fileChannel = FileChannel.open(file, StandardOpenOption.READ);
+    this.size = fileChannel.size();
+    if (size < HEADER_LENGTH) {
+      fileChannel.close();
+      throw new IOException("Not a message journal: " + file);
+    }
+    map(0, HEADER_LENGTH);
+    if (buffer.getInt(0) != MAGIC) {
+      fileChannel.close();
+      throw new IOException("Not a message journal: " + file);
+    }
+    this.startTimeMillis = buffer.getLong(4);
+  }
+
+  /**
+   * Moves to the next message.
+   *
+   * @return false if there are no more messages
+   */
+  public boolean next() throws IOException {
+    if (position + RECORD_HEADER_LENGTH > size) {
+      return false;
+    }
+    ensureMapped(RECORD_HEADER_LENGTH);
+    int length = buffer.getInt((int) (position - bufferPosition));
+    if (length <= 0 || position + RECORD_HEADER_LENGTH + length > size) {
+      return false;
+    }
+    ensureMapped(RECORD_HEADER_LENGTH + length);
+    int offset = (int) (position - bufferPosition);
+    timestampNanos = buffer.getLong(offset + 4);
+    window.setIndex(offset + RECORD_HEADER_LENGTH, offset + RECORD_HEADER_LENGTH + length);
+    position += RECORD_HEADER_LENGTH + length;
+    return true;
+  }
+
+  /** UTF-8 content of the current message, only valid until the next call to {@link #next()}. */
+  public ByteBuf getMessage() {
+    return window;
+  }
+
+  /** Time the current message was received at, in nanos since the start of the recording. */
+  public long getTimestampNanos() {
+    return timestampNanos;
+  }
+
+  /** Epoch millis the recording started at. */
+  public long getStartTimeMillis() {
+    return startTimeMillis;
+  }
+
+  private void ensureMapped(int length) throws IOException {
+    if (position + length > bufferPosition + buffer.capacity()) {
+      map(position, (int) Math.max(length, Math.min(WINDOW_SIZE, size - position)));
+    }
+  }
+
+  private void map(long position, int length) throws IOException {
+    buffer = fileChannel.map(FileChannel.MapMode.READ_ONLY, position, length);
+    bufferPosition = position;
+    window = Unpooled.wrappedBuffer(buffer);
+  }
+
+  @Override
+  public void close() throws IOException {
+    fileChannel.close();
+  }
+}
@@ -0,0 +1,104 @@
+package info.bitrich.xchangestream.service.netty;
+
+import io.reactivex.rxjava3.core.Completable;
+import java.nio.file.Path;
+import java.util.concurrent.locks.LockSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Feeds a journal recorded by {@link MessageJournalWriter} through a {@link NettyStreamingService},
+ * as if the messages were received from the exchange. A service given the replayer with {@link
+ * NettyStreamingService#setMessageJournalReplayer(MessageJournalReplayer)} does not connect to the
+ * exchange, subscriptions are set up as usual and the messages are passed to them once {@link
+ * #replay()} is subscribed to.
+ *
+ * <p>Messages are replayed with the gaps they were received with, scaled by the speed, or without
+ * any gaps if the replayer is created with {@link #asFastAsPossible(Path)}.
+ */
+public class MessageJournalReplayer {
+  private static final Logger LOG = LoggerFactory.getLogger(MessageJournalReplayer.class);
+
+  private final Path file;
+  private final double speed;
+  private volatile NettyStreamingService<?> streamingService;
+
+  private MessageJournalReplayer(Path file, double speed) {
+    this.file = file;
+    this.speed = speed;
+  }
+
+  public static MessageJournalReplayer atRecordedSpeed(Path file) {
+    return new MessageJournalReplayer(file, 1);
+  }
+
+  /**
+   * @param speed factor the recorded gaps between messages are divided by, 2 replays twice as fast
+   */
+  public static MessageJournalReplayer atSpeed(Path file, double speed) {
+    if (!(speed > 0)) {
+      throw new IllegalArgumentException("Speed must be positive: " + speed);
+    }
+    return new MessageJournalReplayer(file, speed);
+  }
+
+  public static MessageJournalReplayer asFastAsPossible(Path file) {
+    return new MessageJournalReplayer(file, Double.POSITIVE_INFINITY);
+  }
+
+  /**
+   * Replays to the service from now on. Exchanges create a new service when they reconnect, the
+   * one connecting last gets the messages.
+   */
+  void attach(NettyStreamingService<?> streamingService) {
+    NettyStreamingService<?> previous = this.streamingService;
+    if (previous != null && previous != streamingService) {
+      LOG.debug("Journal {} is now replayed by {}", file, streamingService);
+    }
+    this.streamingService = streamingService;
+  }
+
+  /**
+   * Replays the journal on the subscribing thread, the returned {@link Completable} completes when
+   * all messages have been passed on. Subscribe after the channels of interest are subscribed to,
+   * messages arriving for a channel without subscribers are dropped like on a live connection.
+   */
+  public Completable replay() {
+    return Completable.fromAction(
+        () -> {
+          NettyStreamingService<?> service = streamingService;
+          if (service == null) {
+            throw new IllegalStateException("No streaming service is set to replay " + file);
+          }
+          long messages = 0;
+          try (MessageJournalReader reader = new MessageJournalReader(file)) {
+            long firstTimestamp = 0;
+            long replayStart = 0;
+            while (reader.next()) {
+              if (speed != Double.POSITIVE_INFINITY) {
+                if (messages == 0) {
+                  firstTimestamp = reader.getTimestampNanos();
+                  replayStart = System.nanoTime();
+                }
+                long due =
+                    replayStart + (long) ((reader.getTimestampNanos() - firstTimestamp) / speed);
+                long delay;
+                while ((delay = due - System.nanoTime()) > 0) {
+                  LockSupport.parkNanos(delay);
+                  if (Thread.interrupted()) {
+                    throw new InterruptedException("Replay of " + file + " interrupted");
+                  }
+                }
+              }
+              service.replayMessage(reader.getMessage());
+              messages++;
+            }
+          }
+          LOG.info("Replayed {} messages from {}", messages, file);
+        });
+  }
+
+  public Path getFile() {
+    return file;
+  }
+}
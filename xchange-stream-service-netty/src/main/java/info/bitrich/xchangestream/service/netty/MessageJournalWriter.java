@@ -0,0 +1,110 @@
+package info.bitrich.xchangestream.service.netty;
+
+import io.netty.buffer.ByteBuf;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Appends the raw content of incoming messages to a memory-mapped journal file, together with the
+ * time they were received. Set on a {@link NettyStreamingService} with {@link
+ * NettyStreamingService#setMessageJournal(MessageJournalWriter)} and read back with {@link
+ * MessageJournalReader} or replayed with {@link MessageJournalReplayer}.
+ *
+ * <p>The journal starts with a 4 byte magic number and the 8 byte epoch millis the recording
+ * started at. Each message follows as its 4 byte length, the 8 byte nanos it was received at
+ * relative to the start and its UTF-8 content. The file is mapped in segments and grows as needed,
+ * {@link #close()} truncates it to the recorded messages.
+ */
+public class MessageJournalWriter implements Closeable {
+
+  static final int MAGIC = 0x58434A31; // XCJ1
+  static final int HEADER_LENGTH = 12;
+  static final int RECORD_HEADER_LENGTH = 12;
+
+  private static final int DEFAULT_SEGMENT_SIZE = 64 << 20;
+
+  private final FileChannel fileChannel;
+  private final int segmentSize;
+  private final long startNanos;
+  private MappedByteBuffer buffer;
+  private long bufferPosition;
+
+  public MessageJournalWriter(Path file) throws IOException {
+    this(file, DEFAULT_SEGMENT_SIZE);
+  }
+
+  public MessageJournalWriter(Path file, int segmentSize) throws IOException {
+    this.fileChannel =
+        FileChannel.open(
+            file,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ,
+            StandardOpenOption.WRITE);
+    this.segmentSize = Math.max(segmentSize, HEADER_LENGTH);
+    map(0, this.segmentSize);
+    this.startNanos = System.nanoTime();
+    buffer.putInt(MAGIC).putLong(System.currentTimeMillis());
+  }
+
+  /**
+   * Records the readable bytes of the message without consuming them.
+   *
+   * @param message UTF-8 content of the message
+   */
+  public synchronized void record(ByteBuf message) throws IOException {
+    int length = message.readableBytes();
+    long timestamp = System.nanoTime() - startNanos;
+    ensureCapacity(RECORD_HEADER_LENGTH + length);
+    buffer.putInt(length).putLong(timestamp);
+    int end = buffer.position() + length;
+    buffer.limit(end);
+    try {
+      message.getBytes(message.readerIndex(), buffer);
+    } finally {
+      buffer.limit(buffer.capacity());
+    }
+    buffer.position(end);
+  }
+
+  /**
+   * Records the message as UTF-8.
+   *
+   * @param message content of the message
+   */
+  public synchronized void record(String message) throws IOException {
+    byte[] bytes = message.getBytes(StandardCharsets.UTF_8);
+    long timestamp = System.nanoTime() - startNanos;
+    ensureCapacity(RECORD_HEADER_LENGTH + bytes.length);
+    buffer.putInt(bytes.length).putLong(timestamp).put(bytes);
+  }
+
+  private void ensureCapacity(int length) throws IOException {
+    if (buffer.remaining() < length) {
+      map(bufferPosition + buffer.position(), Math.max(segmentSize, length));
+    }
+  }
+
+  private void map(long position, int size) throws IOException {
+    buffer = fileChannel.map(FileChannel.MapMode.READ_WRITE, position, size);
+    bufferPosition = position;
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (!fileChannel.isOpen()) {
+      return;
+    }
+    try {
+      buffer.force();
+      fileChannel.truncate(bufferPosition + buffer.position());
+    } finally {
+      fileChannel.close();
+    }
+  }
+}
@@ -4,12 +4,16 @@ import info.bitrich.xchangestream.service.ConnectableService;
 import info.bitrich.xchangestream.service.exception.NotConnectedException;
 import info.bitrich.xchangestream.service.netty.ConnectionStateModel.State;
 import io.netty.bootstrap.Bootstrap;
+import io.netty.buffer.ByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelOutboundHandlerAdapter;
 import io.netty.channel.ChannelPipeline;
+import io.netty.channel.ChannelPromise;
+import io.netty.channel.embedded.EmbeddedChannel;
 import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
@@ -34,20 +38,26 @@ import io.netty.handler.ssl.util.InsecureTrustManagerFactory;
 import io.netty.handler.timeout.IdleState;
 import io.netty.handler.timeout.IdleStateEvent;
 import io.netty.handler.timeout.IdleStateHandler;
+import io.netty.util.CharsetUtil;
+import io.netty.util.ReferenceCountUtil;
 import io.netty.util.internal.SocketUtils;
 import io.netty.util.internal.StringUtil;
 import io.reactivex.rxjava3.core.BackpressureStrategy;
 import io.reactivex.rxjava3.core.Completable;
 import io.reactivex.rxjava3.core.Flowable;
 import io.reactivex.rxjava3.core.FlowableEmitter;
+import io.reactivex.rxjava3.core.Scheduler;
 import io.reactivex.rxjava3.processors.PublishProcessor;
+import io.reactivex.rxjava3.schedulers.Schedulers;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.time.Duration;
+import java.util.Collections;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.slf4j.Logger;
@@ -86,6 +96,11 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
   private final int idleTimeoutSeconds;
   private volatile NioEventLoopGroup eventLoopGroup;
   protected final Map<String, Subscription> channels = new ConcurrentHashMap<>();
+  private final Map<String, ChannelMetrics> channelMetrics = new ConcurrentHashMap<>();
+  private final Map<String, BackpressurePolicy<?>> channelBackpressurePolicies =
+      new ConcurrentHashMap<>();
+  private volatile BackpressurePolicy<?> backpressurePolicy = BackpressurePolicy.latest();
+  private volatile Scheduler consumerScheduler;
   private boolean compressedMessages = false;
 
   private final PublishProcessor<Throwable> reconnFailEmitters = PublishProcessor.create();
@@ -103,6 +118,10 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
   private String socksProxyHost;
   private Integer socksProxyPort;
 
+  // capture and replay
+  private volatile MessageJournalWriter messageJournal;
+  private MessageJournalReplayer messageJournalReplayer;
+
   public NettyStreamingService(String apiUrl) {
     this(apiUrl, 65536);
   }
@@ -138,6 +157,16 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
 
   @Override
   protected Completable openConnection() {
+    if (messageJournalReplayer != null) {
+      return Completable.fromAction(
+          () -> {
+            LOG.info(
+                "Replaying {} instead of connecting to {}", messageJournalReplayer.getFile(), uri);
+            messageJournalReplayer.attach(this);
+            attachChannel(new EmbeddedChannel(new DiscardOutboundHandler()));
+            connectionSuccessEmitters.onNext(new Object());
+          });
+    }
     return Completable.create(
             completable -> {
               try {
@@ -188,7 +217,7 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
                             true,
                             getCustomHeaders(),
                             maxFramePayloadLength),
-                        this::messageHandler);
+                        getWebSocketMessageHandler());
 
                 if (eventLoopGroup == null || eventLoopGroup.isShutdown()) {
                   eventLoopGroup = new NioEventLoopGroup(2);
@@ -301,6 +330,19 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
     return new DefaultHttpHeaders();
   }
 
+  /**
+   * Uses an already open channel, e.g. an {@code EmbeddedChannel}, instead of connecting to {@link
+   * #uri}. Outgoing messages are written to the channel and incoming messages have to be passed to
+   * {@link #messageHandler(String)} by the caller. Meant for replaying recorded traffic and for
+   * benchmarks.
+   *
+   * @param channel the open channel
+   */
+  public void attachChannel(Channel channel) {
+    webSocketChannel = channel;
+    connectionStateModel.setState(State.OPEN);
+  }
+
   public Completable disconnect() {
     isManualDisconnect.set(true);
     return Completable.create(
@@ -312,6 +354,13 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
                 .addListener(
                     future -> {
                       channels.clear();
+                      if (eventLoopGroup == null) {
+                        // attached channel, there is no event loop of our own
+                        connectionStateModel.setState(State.CLOSED);
+                        disconnectEmitters.onNext(new Object());
+                        completable.onComplete();
+                        return;
+                      }
                       eventLoopGroup
                           .shutdownGracefully(2, idleTimeoutSeconds, TimeUnit.SECONDS)
                           .addListener(
@@ -336,6 +385,14 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
 
   public abstract String getUnsubscribeMessage(String channelName) throws IOException;
 
+  /**
+   * Unsubscribe message of a channel which was subscribed with the given arguments, for exchanges
+   * which need them to unsubscribe. Delegates to {@link #getUnsubscribeMessage(String)} by default.
+   */
+  public String getUnsubscribeMessage(String channelId, Object... args) throws IOException {
+    return getUnsubscribeMessage(channelId);
+  }
+
   public String getSubscriptionUniqueId(String channelName, Object... args) {
     return channelName;
   }
@@ -347,6 +404,62 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
    */
   public abstract void messageHandler(String message);
 
+  private WebSocketClientHandler.WebSocketMessageHandler getWebSocketMessageHandler() {
+    if (!(this instanceof ByteBufMessageHandler)) {
+      return message -> {
+        record(message);
+        messageHandler(message);
+      };
+    }
+    ByteBufMessageHandler byteBufMessageHandler = (ByteBufMessageHandler) this;
+    return new WebSocketClientHandler.WebSocketByteMessageHandler() {
+      @Override
+      public void onMessage(ByteBuf message) {
+        record(message);
+        byteBufMessageHandler.messageHandler(message);
+      }
+
+      @Override
+      public void onMessage(String message) {
+        record(message);
+        messageHandler(message);
+      }
+    };
+  }
+
+  private void record(ByteBuf message) {
+    MessageJournalWriter journal = messageJournal;
+    if (journal != null) {
+      try {
+        journal.record(message);
+      } catch (IOException e) {
+        LOG.error("Failed to record message, recording stopped", e);
+        messageJournal = null;
+      }
+    }
+  }
+
+  private void record(String message) {
+    MessageJournalWriter journal = messageJournal;
+    if (journal != null) {
+      try {
+        journal.record(message);
+      } catch (IOException e) {
+        LOG.error("Failed to record message, recording stopped", e);
+        messageJournal = null;
+      }
+    }
+  }
+
+  /** Passes a message read from a journal to the message handler, like a received message. */
+  void replayMessage(ByteBuf message) {
+    if (this instanceof ByteBufMessageHandler) {
+      ((ByteBufMessageHandler) this).messageHandler(message);
+    } else {
+      messageHandler(message.toString(CharsetUtil.UTF_8));
+    }
+  }
+
   public void sendMessage(String message) {
     LOG.debug("Sending message: {}", message);
 
@@ -381,6 +494,32 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
   }
 
   public Flowable<T> subscribeChannel(String channelName, Object... args) {
+    return subscribeChannel(channelName, getBackpressurePolicy(channelName), args);
+  }
+
+  /**
+   * Subscribes to a channel, handling messages the subscribers are not ready for with the given
+   * policy instead of the one configured for the channel.
+   *
+   * @param channelName the channel to subscribe to
+   * @param backpressurePolicy what to do with messages the subscribers are not ready for
+   * @param args subscription arguments
+   */
+  public Flowable<T> subscribeChannel(
+      String channelName, BackpressurePolicy<T> backpressurePolicy, Object... args) {
+    final String channelId = getSubscriptionUniqueId(channelName, args);
+    return applyBackpressurePolicy(
+            subscribeChannelMessages(channelName, args), channelId, backpressurePolicy)
+        // share uses a buffer of 128. We need buffer of 1 to prevent delivering delayed events.
+        .publish(1)
+        .refCount();
+  }
+
+  /**
+   * Subscribes to a channel without any backpressure handling, the subscriber has to request all
+   * messages.
+   */
+  protected Flowable<T> subscribeChannelMessages(String channelName, Object... args) {
     final String channelId = getSubscriptionUniqueId(channelName, args);
     LOG.info("Subscribing to channel {}", channelId);
 
@@ -403,20 +542,51 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
                     }
                     return newSubscription;
                   });
-            }, BackpressureStrategy.LATEST)
+            }, BackpressureStrategy.MISSING)
     	.doOnCancel(
             () -> {
               if (channels.remove(channelId) != null) {
                 try {
-                  sendMessage(getUnsubscribeMessage(channelId));
+                  sendMessage(getUnsubscribeMessage(channelId, args));
                 } catch (IOException e) {
                   LOG.debug("Failed to unsubscribe channel: {} {}", channelId, e.toString());
                 } catch (Exception e) {
                   LOG.warn("Failed to unsubscribe channel: {}", channelId, e);
                 }
               }
-            })
-    	.publish(1).refCount(); // share uses a buffer of 128. We need buffer of 1 to prevent delivering delayed events.
+            });
+  }
+
+  /**
+   * Applies the backpressure policy to the messages of a channel, moves their emission to the
+   * consumer executor if one is set and keeps the {@link ChannelMetrics} of the channel while they
+   * are subscribed to.
+   */
+  protected <M> Flowable<M> applyBackpressurePolicy(
+      Flowable<M> messages, String channelId, BackpressurePolicy<?> backpressurePolicy) {
+    Scheduler scheduler = consumerScheduler;
+    return Flowable.defer(
+        () -> {
+          ChannelMetrics metrics = new ChannelMetrics();
+          channelMetrics.put(channelId, metrics);
+          Flowable<M> policed =
+              backpressurePolicy.apply(
+                  messages.doOnNext(m -> metrics.onReceived()), channelId, metrics);
+          if (scheduler != null) {
+            // a buffer of 1 leaves queueing to the policy, a worker runs its tasks in order
+            policed = policed.observeOn(scheduler, false, 1);
+          }
+          return policed
+              .doOnNext(m -> metrics.onDelivered())
+              .doFinally(() -> channelMetrics.remove(channelId, metrics));
+        });
+  }
+
+  /** Policy of the channel if one was set for it, the default policy otherwise. */
+  @SuppressWarnings("unchecked")
+  protected <M> BackpressurePolicy<M> getBackpressurePolicy(String channelName) {
+    return (BackpressurePolicy<M>)
+        channelBackpressurePolicies.getOrDefault(channelName, backpressurePolicy);
   }
 
   public void resubscribeChannels() {
@@ -430,6 +600,28 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
     }
   }
 
+  /**
+   * Unsubscribes a channel and subscribes it again, e.g. to get a fresh snapshot once its data got
+   * out of sync. Its subscribers stay subscribed, other channels are not affected. If the messages
+   * can't be built the channel is closed and its subscribers get the error.
+   */
+  public void resubscribeChannel(String channelId) {
+    Subscription subscription = channels.get(channelId);
+    if (subscription == null) {
+      return;
+    }
+    LOG.info("Resubscribing channel {}", channelId);
+    try {
+      sendMessage(getUnsubscribeMessage(channelId, subscription.args));
+      sendMessage(getSubscribeMessage(subscription.channelName, subscription.args));
+    } catch (IOException e) {
+      LOG.error("Failed to resubscribe channel: {}", channelId, e);
+      if (channels.remove(channelId, subscription)) {
+        subscription.emitter.onError(e);
+      }
+    }
+  }
+
   protected String getChannel(T message) {
     String channel;
     try {
@@ -574,4 +766,71 @@ public abstract class NettyStreamingService<T> extends ConnectableService {
   public void setAutoReconnect(boolean autoReconnect) {
     this.autoReconnect = autoReconnect;
   }
+
+  /**
+   * Sets the policy of channels without a policy of their own, {@link BackpressurePolicy#latest()}
+   * by default.
+   */
+  public void setBackpressurePolicy(BackpressurePolicy<?> backpressurePolicy) {
+    this.backpressurePolicy = backpressurePolicy;
+  }
+
+  /**
+   * Sets the policy of a channel, applied to subscriptions made afterwards.
+   *
+   * @param channelName name of the channel as passed to {@link #subscribeChannel(String,
+   *     Object...)}
+   */
+  public void setBackpressurePolicy(String channelName, BackpressurePolicy<?> backpressurePolicy) {
+    channelBackpressurePolicies.put(channelName, backpressurePolicy);
+  }
+
+  /**
+   * Emits the messages of channels subscribed afterwards on the executor instead of the thread
+   * reading the socket, so slow subscribers don't hold up other channels. Messages of a channel
+   * are still emitted one at a time and in order. Messages are parsed to find their channel before
+   * they are handed over, the work of the subscribers moves to the executor.
+   *
+   * @param consumerExecutor executor running the subscribers, null to emit on the socket thread
+   */
+  public void setConsumerExecutor(Executor consumerExecutor) {
+    this.consumerScheduler = consumerExecutor == null ? null : Schedulers.from(consumerExecutor);
+  }
+
+  /** Metrics of the subscribed channels by channel id. */
+  public Map<String, ChannelMetrics> getChannelMetrics() {
+    return Collections.unmodifiableMap(channelMetrics);
+  }
+
+  /** Metrics of the channel, null if it is not subscribed to. */
+  public ChannelMetrics getChannelMetrics(String channelId) {
+    return channelMetrics.get(channelId);
+  }
+
+  /**
+   * Records all incoming messages to the journal, until set to null. The journal is not closed by
+   * the service.
+   */
+  public void setMessageJournal(MessageJournalWriter messageJournal) {
+    this.messageJournal = messageJournal;
+  }
+
+  /**
+   * Replays the journal instead of connecting to the exchange. Has to be set before connecting. A
+   * replayer set on several services replays to the one which connected last.
+   */
+  public void setMessageJournalReplayer(MessageJournalReplayer messageJournalReplayer) {
+    messageJournalReplayer.attach(this);
+    this.messageJournalReplayer = messageJournalReplayer;
+  }
+
+  /** Drops outgoing messages of a replayed connection. */
+  private static class DiscardOutboundHandler extends ChannelOutboundHandlerAdapter {
+
+    @Override
+    public void write(ChannelHandlerContext ctx, Object msg, ChannelPromise promise) {
+      ReferenceCountUtil.release(msg);
+      promise.setSuccess();
+    }
+  }
 }
@@ -1,5 +1,7 @@
 package info.bitrich.xchangestream.service.netty;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelHandlerContext;
@@ -21,11 +23,21 @@ import org.slf4j.LoggerFactory;
 public class WebSocketClientHandler extends SimpleChannelInboundHandler<Object> {
   private static final Logger LOG = LoggerFactory.getLogger(WebSocketClientHandler.class);
   private final StringBuilder currentMessage = new StringBuilder();
+  private CompositeByteBuf currentBytes;
 
   public interface WebSocketMessageHandler {
     public void onMessage(String message);
   }
 
+  /**
+   * Handler receiving the raw UTF-8 content of text messages instead of a decoded String. Fragmented
+   * messages are passed as a composite buffer of all fragments. The buffer is only valid for the
+   * duration of the call and must not be retained.
+   */
+  public interface WebSocketByteMessageHandler extends WebSocketMessageHandler {
+    public void onMessage(ByteBuf message);
+  }
+
   protected final WebSocketClientHandshaker handshaker;
   protected final WebSocketMessageHandler handler;
   private ChannelPromise handshakeFuture;
@@ -53,6 +65,12 @@ public class WebSocketClientHandler extends SimpleChannelInboundHandler<Object>
   @Override
   public void channelInactive(ChannelHandlerContext ctx) {
     LOG.info("WebSocket Client disconnected! {}", ctx.channel());
+    releaseCurrentBytes();
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext ctx) {
+    releaseCurrentBytes();
   }
 
   @Override
@@ -82,9 +100,17 @@ public class WebSocketClientHandler extends SimpleChannelInboundHandler<Object>
 
     WebSocketFrame frame = (WebSocketFrame) msg;
     if (frame instanceof TextWebSocketFrame) {
-      dealWithTextFrame((TextWebSocketFrame) frame);
+      if (handler instanceof WebSocketByteMessageHandler) {
+        dealWithTextFrame(ctx, (TextWebSocketFrame) frame, (WebSocketByteMessageHandler) handler);
+      } else {
+        dealWithTextFrame((TextWebSocketFrame) frame);
+      }
     } else if (frame instanceof ContinuationWebSocketFrame) {
-      dealWithContinuation((ContinuationWebSocketFrame) frame);
+      if (handler instanceof WebSocketByteMessageHandler) {
+        dealWithContinuation((ContinuationWebSocketFrame) frame, (WebSocketByteMessageHandler) handler);
+      } else {
+        dealWithContinuation((ContinuationWebSocketFrame) frame);
+      }
     } else if (frame instanceof PingWebSocketFrame) {
       LOG.debug("WebSocket Client received ping");
       ch.writeAndFlush(new PongWebSocketFrame(frame.content().retain()));
@@ -112,6 +138,40 @@ public class WebSocketClientHandler extends SimpleChannelInboundHandler<Object>
     }
   }
 
+  private void dealWithTextFrame(
+      ChannelHandlerContext ctx, TextWebSocketFrame frame, WebSocketByteMessageHandler byteHandler) {
+    if (frame.isFinalFragment()) {
+      byteHandler.onMessage(frame.content());
+      return;
+    }
+    releaseCurrentBytes();
+    currentBytes = ctx.alloc().compositeBuffer();
+    currentBytes.addComponent(true, frame.content().retain());
+  }
+
+  private void dealWithContinuation(
+      ContinuationWebSocketFrame frame, WebSocketByteMessageHandler byteHandler) {
+    if (currentBytes == null) {
+      LOG.warn("WebSocket Client received continuation frame without initial frame");
+      return;
+    }
+    currentBytes.addComponent(true, frame.content().retain());
+    if (frame.isFinalFragment()) {
+      try {
+        byteHandler.onMessage(currentBytes);
+      } finally {
+        releaseCurrentBytes();
+      }
+    }
+  }
+
+  private void releaseCurrentBytes() {
+    if (currentBytes != null) {
+      currentBytes.release();
+      currentBytes = null;
+    }
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause) {
     LOG.error(
@@ -0,0 +1,180 @@
+package info.bitrich.xchangestream.service.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.rxjava3.core.BackpressureOverflowStrategy;
+import io.reactivex.rxjava3.exceptions.MissingBackpressureException;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+public class BackpressurePolicyTest {
+
+  private static final int MESSAGES = 10_000;
+
+  private final TestStreamingService service = new TestStreamingService().attached();
+
+  @Test
+  public void testLatestKeepsNewestMessage() {
+    TestSubscriber<String> trades =
+        service.subscribeChannel("trades", BackpressurePolicy.latest()).test(0);
+
+    send(MESSAGES);
+    trades.request(Long.MAX_VALUE);
+
+    // the first message is held by the channel before the burst
+    trades.assertValues("trades:1", "trades:" + MESSAGES).assertNoErrors();
+    assertThat(service.getChannelMetrics("trades").getDropped()).isEqualTo(MESSAGES - 2);
+  }
+
+  @Test
+  public void testBufferDeliversAllMessagesWithinItsSize() {
+    TestSubscriber<String> trades =
+        service.subscribeChannel("trades", BackpressurePolicy.buffer(MESSAGES)).test(0);
+
+    send(MESSAGES);
+    trades.request(Long.MAX_VALUE);
+
+    trades.assertValueCount(MESSAGES).assertNoErrors();
+    assertThat(trades.values()).isEqualTo(messages(1, MESSAGES));
+    assertThat(service.getChannelMetrics("trades").getDropped()).isZero();
+  }
+
+  @Test
+  public void testBufferDropsOldestMessages() {
+    List<String> overflows = new ArrayList<>();
+    TestSubscriber<String> trades =
+        service
+            .subscribeChannel(
+                "trades",
+                BackpressurePolicy.buffer(
+                    4, BackpressureOverflowStrategy.DROP_OLDEST, overflows::add))
+            .test(0);
+
+    send(MESSAGES);
+    trades.request(Long.MAX_VALUE);
+
+    List<String> expected = messages(1, 1);
+    expected.addAll(messages(MESSAGES - 3, MESSAGES));
+    assertThat(trades.values()).isEqualTo(expected);
+    trades.assertNoErrors();
+    assertThat(overflows).hasSize(MESSAGES - 5).containsOnly("trades");
+    assertThat(service.getChannelMetrics("trades").getDropped()).isEqualTo(MESSAGES - 5);
+  }
+
+  @Test
+  public void testBufferDropsLatestMessages() {
+    List<String> overflows = new ArrayList<>();
+    TestSubscriber<String> trades =
+        service
+            .subscribeChannel(
+                "trades",
+                BackpressurePolicy.buffer(
+                    4, BackpressureOverflowStrategy.DROP_LATEST, overflows::add))
+            .test(0);
+
+    send(MESSAGES);
+    trades.request(Long.MAX_VALUE);
+
+    // the newest queued message makes room for every new one
+    List<String> expected = messages(1, 4);
+    expected.add("trades:" + MESSAGES);
+    assertThat(trades.values()).isEqualTo(expected);
+    trades.assertNoErrors();
+    assertThat(overflows).hasSize(MESSAGES - 5);
+    assertThat(service.getChannelMetrics("trades").getDropped()).isEqualTo(MESSAGES - 5);
+  }
+
+  @Test
+  public void testBufferFailsChannelOnOverflow() {
+    List<String> overflows = new ArrayList<>();
+    TestSubscriber<String> trades =
+        service
+            .subscribeChannel(
+                "trades",
+                BackpressurePolicy.buffer(4, BackpressureOverflowStrategy.ERROR, overflows::add))
+            .test(0);
+
+    send(MESSAGES);
+    trades.request(Long.MAX_VALUE);
+
+    trades.assertError(MissingBackpressureException.class);
+    assertThat(overflows).containsExactly("trades");
+    // a failed channel is unsubscribed, later messages don't reach it
+    assertThat(service.sentMessages).containsExactly("subscribe:trades", "unsubscribe:trades");
+  }
+
+  @Test
+  public void testConflateMergesPendingMessages() {
+    TestSubscriber<String> trades =
+        service
+            .subscribeChannel(
+                "trades",
+                BackpressurePolicy.<String>conflate(
+                    (pending, message) -> pending + message.substring(message.indexOf(':'))))
+            .test(0);
+
+    send(3);
+    trades.request(Long.MAX_VALUE);
+
+    trades.assertValues("trades:1", "trades:2:3").assertNoErrors();
+    assertThat(service.getChannelMetrics("trades").getConflated()).isEqualTo(1);
+  }
+
+  @Test
+  public void testDropsOldestMessagesForSlowConsumer() throws Exception {
+    ExecutorService consumer = Executors.newSingleThreadExecutor();
+    try {
+      service.setConsumerExecutor(consumer);
+      AtomicInteger last = new AtomicInteger();
+      AtomicInteger outOfOrder = new AtomicInteger();
+      TestSubscriber<String> trades =
+          service
+              .subscribeChannel(
+                  "trades", BackpressurePolicy.buffer(16, BackpressureOverflowStrategy.DROP_OLDEST))
+              .doOnNext(
+                  message -> {
+                    int number = Integer.parseInt(message.substring(message.indexOf(':') + 1));
+                    if (number <= last.getAndSet(number)) {
+                      outOfOrder.incrementAndGet();
+                    }
+                    TimeUnit.MICROSECONDS.sleep(100);
+                  })
+              .test();
+
+      send(MESSAGES);
+      trades.awaitCount(1);
+      ChannelMetrics metrics = service.getChannelMetrics("trades");
+      while (metrics.getQueued() > 0) {
+        TimeUnit.MILLISECONDS.sleep(10);
+      }
+
+      trades.assertNoErrors();
+      assertThat(outOfOrder.get()).isZero();
+      assertThat(last.get()).isEqualTo(MESSAGES);
+      assertThat(metrics.getDropped()).isPositive();
+      assertThat(metrics.getDelivered() + metrics.getDropped()).isEqualTo(MESSAGES);
+    } finally {
+      consumer.shutdownNow();
+    }
+  }
+
+  private void send(int count) {
+    for (int i = 1; i <= count; i++) {
+      service.messageHandler("trades:" + i);
+    }
+  }
+
+  private static List<String> messages(int from, int to) {
+    List<String> messages = new ArrayList<>();
+    for (int i = from; i <= to; i++) {
+      messages.add("trades:" + i);
+    }
+    return messages;
+  }
+}
@@ -0,0 +1,137 @@
+package info.bitrich.xchangestream.service.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.util.CharsetUtil;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class MessageJournalTest {
+
+  @Rule public TemporaryFolder folder = new TemporaryFolder();
+
+  private long replayStartNanos;
+
+  @Test
+  public void testReadsMessagesInRecordedOrder() throws Exception {
+    Path file = folder.newFile().toPath();
+    long start = System.currentTimeMillis();
+    ByteBuf message = Unpooled.copiedBuffer("trades:2", CharsetUtil.UTF_8);
+
+    // a small segment size makes the journal grow while recording
+    try (MessageJournalWriter writer = new MessageJournalWriter(file, 32)) {
+      writer.record("trades:1");
+      writer.record(message);
+      writer.record("book:€");
+    }
+
+    assertThat(message.readerIndex()).isZero();
+    List<String> messages = new ArrayList<>();
+    List<Long> timestamps = new ArrayList<>();
+    try (MessageJournalReader reader = new MessageJournalReader(file)) {
+      assertThat(reader.getStartTimeMillis()).isBetween(start, System.currentTimeMillis());
+      while (reader.next()) {
+        messages.add(reader.getMessage().toString(CharsetUtil.UTF_8));
+        timestamps.add(reader.getTimestampNanos());
+      }
+    }
+    assertThat(messages).containsExactly("trades:1", "trades:2", "book:€");
+    assertThat(timestamps).isSorted();
+  }
+
+  @Test
+  public void testReplaysAtScaledSpeed() throws Exception {
+    Path file = record("trades:1", "trades:2", "trades:3");
+    long recordedNanos = recordedNanos(file);
+
+    List<Long> replayedAt = new ArrayList<>();
+    List<String> replayed = replay(MessageJournalReplayer.atSpeed(file, 2), replayedAt);
+
+    assertThat(replayed).containsExactly("trades:1", "trades:2", "trades:3");
+    // messages are never replayed before they are due
+    assertThat(replayedAt.get(2) - replayStartNanos).isBetween(recordedNanos / 2, recordedNanos);
+  }
+
+  @Test
+  public void testReplaysAsFastAsPossible() throws Exception {
+    Path file = record("trades:1", "trades:2", "trades:3");
+    long recordedNanos = recordedNanos(file);
+
+    List<Long> replayedAt = new ArrayList<>();
+    List<String> replayed = replay(MessageJournalReplayer.asFastAsPossible(file), replayedAt);
+
+    assertThat(replayed).containsExactly("trades:1", "trades:2", "trades:3");
+    assertThat(replayedAt.get(2) - replayedAt.get(0)).isLessThan(recordedNanos / 4);
+  }
+
+  @Test
+  public void testReplaysToServiceConnectedLast() throws Exception {
+    Path file = record("trades:1");
+    MessageJournalReplayer replayer = MessageJournalReplayer.asFastAsPossible(file);
+
+    // an exchange creates a new service on every connect
+    TestStreamingService first = new TestStreamingService();
+    first.setMessageJournalReplayer(replayer);
+    first.connect().blockingAwait();
+    first.disconnect().blockingAwait();
+    TestStreamingService second = new TestStreamingService();
+    second.setMessageJournalReplayer(replayer);
+    second.connect().blockingAwait();
+
+    List<String> replayed = new ArrayList<>();
+    second.subscribeChannel("trades").subscribe(replayed::add);
+    replayer.replay().blockingAwait();
+
+    assertThat(replayed).containsExactly("trades:1");
+  }
+
+  /** Records the messages 200 ms apart. */
+  private Path record(String... messages) throws Exception {
+    Path file = folder.newFile().toPath();
+    try (MessageJournalWriter writer = new MessageJournalWriter(file)) {
+      for (int i = 0; i < messages.length; i++) {
+        if (i > 0) {
+          TimeUnit.MILLISECONDS.sleep(200);
+        }
+        writer.record(messages[i]);
+      }
+    }
+    return file;
+  }
+
+  private static long recordedNanos(Path file) throws Exception {
+    try (MessageJournalReader reader = new MessageJournalReader(file)) {
+      reader.next();
+      long first = reader.getTimestampNanos();
+      long last = first;
+      while (reader.next()) {
+        last = reader.getTimestampNanos();
+      }
+      return last - first;
+    }
+  }
+
+  private List<String> replay(MessageJournalReplayer replayer, List<Long> replayedAt) {
+    TestStreamingService service = new TestStreamingService();
+    service.setMessageJournalReplayer(replayer);
+    service.connect().blockingAwait();
+
+    List<String> replayed = new ArrayList<>();
+    service
+        .subscribeChannel("trades")
+        .subscribe(
+            message -> {
+              replayedAt.add(System.nanoTime());
+              replayed.add(message);
+            });
+    replayer.replay().doOnSubscribe(d -> replayStartNanos = System.nanoTime()).blockingAwait();
+    return replayed;
+  }
+}
@@ -0,0 +1,121 @@
+package info.bitrich.xchangestream.service.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import io.reactivex.rxjava3.core.BackpressureOverflowStrategy;
+import io.reactivex.rxjava3.subscribers.TestSubscriber;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.Test;
+
+public class NettyStreamingServiceTest {
+
+  @Test
+  public void testResubscribesChannel() {
+    TestStreamingService service = new TestStreamingService().attached();
+    TestSubscriber<String> book = service.subscribeChannel("book").test();
+
+    service.resubscribeChannel("book");
+    service.messageHandler("book:1");
+
+    book.assertValues("book:1").assertNotComplete();
+    assertThat(service.sentMessages)
+        .containsExactly("subscribe:book", "unsubscribe:book", "subscribe:book");
+  }
+
+  @Test
+  public void testFailsChannelWhichCantBeResubscribed() {
+    TestStreamingService service = new TestStreamingService().attached();
+    TestSubscriber<String> book = service.subscribeChannel("book").test();
+    TestSubscriber<String> trades = service.subscribeChannel("trades").test();
+
+    service.failMessages = true;
+    service.resubscribeChannel("book");
+    service.messageHandler("trades:1");
+
+    book.assertError(IOException.class);
+    trades.assertValues("trades:1").assertNoErrors();
+  }
+
+  @Test
+  public void testCountsChannelMessages() {
+    TestStreamingService service = new TestStreamingService().attached();
+    TestSubscriber<String> trades =
+        service
+            .subscribeChannel(
+                "trades", BackpressurePolicy.buffer(2, BackpressureOverflowStrategy.DROP_OLDEST))
+            .test(0);
+    TestSubscriber<String> book =
+        service
+            .subscribeChannel("book", BackpressurePolicy.<String>conflate((a, b) -> a + b))
+            .test(0);
+
+    for (int i = 1; i <= 5; i++) {
+      service.messageHandler("trades:" + i);
+      service.messageHandler("book:" + i);
+    }
+    ChannelMetrics tradeMetrics = service.getChannelMetrics("trades");
+    ChannelMetrics bookMetrics = service.getChannelMetrics("book");
+
+    // one message is held by the channel, two are queued by the buffer
+    assertThat(tradeMetrics.getReceived()).isEqualTo(5);
+    assertThat(tradeMetrics.getDelivered()).isEqualTo(1);
+    assertThat(tradeMetrics.getDropped()).isEqualTo(2);
+    assertThat(tradeMetrics.getQueued()).isEqualTo(2);
+    // one message is held by the channel, the others are merged into one
+    assertThat(bookMetrics.getReceived()).isEqualTo(5);
+    assertThat(bookMetrics.getConflated()).isEqualTo(3);
+    assertThat(bookMetrics.getQueued()).isEqualTo(1);
+
+    trades.request(Long.MAX_VALUE);
+    book.request(Long.MAX_VALUE);
+
+    assertThat(tradeMetrics.getDelivered()).isEqualTo(3);
+    assertThat(tradeMetrics.getQueued()).isZero();
+    assertThat(bookMetrics.getDelivered()).isEqualTo(2);
+    assertThat(bookMetrics.getQueued()).isZero();
+    assertThat(service.getChannelMetrics()).containsOnlyKeys("trades", "book");
+  }
+
+  @Test
+  public void testDropsMetricsOfUnsubscribedChannel() {
+    TestStreamingService service = new TestStreamingService().attached();
+    TestSubscriber<String> trades = service.subscribeChannel("trades").test();
+
+    trades.cancel();
+
+    assertThat(service.getChannelMetrics("trades")).isNull();
+    assertThat(service.getChannelMetrics()).isEmpty();
+  }
+
+  @Test
+  public void testRunsHandlersOnConsumerExecutor() throws Exception {
+    ExecutorService consumer = Executors.newSingleThreadExecutor(r -> new Thread(r, "consumer"));
+    try {
+      TestStreamingService service = new TestStreamingService().attached();
+      service.setConsumerExecutor(consumer);
+      List<String> threads = new ArrayList<>();
+      TestSubscriber<String> trades =
+          service
+              .subscribeChannel("trades", BackpressurePolicy.buffer(16))
+              .doOnNext(message -> threads.add(Thread.currentThread().getName()))
+              .test();
+
+      for (int i = 1; i <= 10; i++) {
+        service.messageHandler("trades:" + i);
+      }
+
+      trades.awaitCount(10).assertNoErrors();
+      assertThat(trades.values())
+          .containsExactly(
+              "trades:1", "trades:2", "trades:3", "trades:4", "trades:5", "trades:6", "trades:7",
+              "trades:8", "trades:9", "trades:10");
+      assertThat(threads).hasSize(10).containsOnly("consumer");
+    } finally {
+      consumer.shutdownNow();
+    }
+  }
+}
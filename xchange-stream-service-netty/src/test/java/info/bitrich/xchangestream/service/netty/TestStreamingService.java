@@ -0,0 +1,59 @@
+package info.bitrich.xchangestream.service.netty;
+
+import io.netty.channel.embedded.EmbeddedChannel;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Streaming service of plain text messages, routed by the channel name in front of the first
+ * colon, e.g. {@code "trades:1"}. Subscribe and unsubscribe messages are kept, building them
+ * fails while {@link #failMessages} is set.
+ */
+class TestStreamingService extends NettyStreamingService<String> {
+
+  final List<String> sentMessages = new CopyOnWriteArrayList<>();
+  volatile boolean failMessages;
+
+  TestStreamingService() {
+    super("ws://localhost");
+  }
+
+  /** Connects to a channel which drops outgoing messages. */
+  TestStreamingService attached() {
+    attachChannel(new EmbeddedChannel());
+    return this;
+  }
+
+  @Override
+  protected String getChannelNameFromMessage(String message) {
+    return message.substring(0, message.indexOf(':'));
+  }
+
+  @Override
+  public String getSubscribeMessage(String channelName, Object... args) throws IOException {
+    failIfRequested();
+    String message = "subscribe:" + channelName;
+    sentMessages.add(message);
+    return message;
+  }
+
+  @Override
+  public String getUnsubscribeMessage(String channelName) throws IOException {
+    failIfRequested();
+    String message = "unsubscribe:" + channelName;
+    sentMessages.add(message);
+    return message;
+  }
+
+  private void failIfRequested() throws IOException {
+    if (failMessages) {
+      throw new IOException("Failed to build message");
+    }
+  }
+
+  @Override
+  public void messageHandler(String message) {
+    handleMessage(message);
+  }
+}
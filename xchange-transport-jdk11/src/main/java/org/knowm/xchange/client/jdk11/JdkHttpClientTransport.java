@@ -0,0 +1,195 @@
+package org.knowm.xchange.client.jdk11;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.GZIPInputStream;
+import org.knowm.xchange.client.HttpTransport;
+import si.mazi.rescu.ClientConfig;
+
+/**
+ * {@link HttpTransport} on the {@link HttpClient} of Java 11. No thread waits for the responses,
+ * the requests of a host are multiplexed over one connection if it speaks HTTP/2, HTTP/1.1 hosts
+ * get pooled keep-alive connections. {@link Request#isOrdered() Ordered} requests of a host are
+ * sent one at a time, in the order they were passed, the others are sent right away.
+ *
+ * <p>The read timeout of the {@link ClientConfig} of a request is its timeout. Connect timeout,
+ * HTTP proxy and SSL are settings of the client, pass a client built with them to {@link
+ * #JdkHttpClientTransport(HttpClient)}.
+ *
+ * <pre>{@code
+ * HttpTransport transport = new JdkHttpClientTransport();
+ * exchangeSpecification.setHttpTransport(transport);
+ * }</pre>
+ */
+public class JdkHttpClientTransport implements HttpTransport {
+
+  /** Headers the client sets itself and doesn't accept from the caller. */
+  private static final Set<String> RESTRICTED_HEADERS =
+      Set.of("connection", "content-length", "expect", "host", "upgrade");
+
+  private final HttpClient client;
+
+  /** Last ordered request per host, the next one is sent once it completed. */
+  private final Map<String, CompletableFuture<Response>> lastOrdered = new ConcurrentHashMap<>();
+
+  private volatile boolean closed;
+
+  /** Prefers HTTP/2 and follows redirects like rescu, the connect timeout is the one of rescu. */
+  public JdkHttpClientTransport() {
+    this(defaultClient());
+  }
+
+  public JdkHttpClientTransport(HttpClient client) {
+    this.client = client;
+  }
+
+  private static HttpClient defaultClient() {
+    HttpClient.Builder builder =
+        HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .followRedirects(HttpClient.Redirect.NORMAL);
+    int connectTimeout = new ClientConfig().getHttpConnTimeout();
+    if (connectTimeout > 0) {
+      builder.connectTimeout(Duration.ofMillis(connectTimeout));
+    }
+    return builder.build();
+  }
+
+  public HttpClient getClient() {
+    return client;
+  }
+
+  @Override
+  public CompletableFuture<Response> send(Request request) {
+    HttpRequest httpRequest;
+    try {
+      httpRequest = toHttpRequest(request);
+    } catch (IllegalArgumentException e) {
+      return CompletableFuture.failedFuture(new IOException("Invalid " + request, e));
+    }
+    if (!request.isOrdered()) {
+      return sendNow(httpRequest);
+    }
+    URI uri = httpRequest.uri();
+    String host = uri.getScheme() + "://" + uri.getRawAuthority();
+    CompletableFuture<Response> response = new CompletableFuture<>();
+    CompletableFuture<Response> previous = lastOrdered.put(host, response);
+    (previous == null ? CompletableFuture.completedFuture(null) : previous.handle((r, e) -> null))
+        .thenCompose(ignored -> sendNow(httpRequest))
+        .whenComplete(
+            (r, e) -> {
+              lastOrdered.remove(host, response);
+              if (e != null) {
+                response.completeExceptionally(e);
+              } else {
+                response.complete(r);
+              }
+            });
+    return response;
+  }
+
+  /**
+   * Requests sent afterwards fail. The client of Java 11 can't be closed, it releases its thread
+   * and connections once it is no longer referenced.
+   */
+  @Override
+  public void close() {
+    closed = true;
+  }
+
+  private CompletableFuture<Response> sendNow(HttpRequest httpRequest) {
+    CompletableFuture<Response> response = new CompletableFuture<>();
+    if (closed) {
+      response.completeExceptionally(new IOException("Transport is closed"));
+      return response;
+    }
+    client
+        .sendAsync(httpRequest, BodyHandlers.ofByteArray())
+        .whenComplete(
+            (httpResponse, e) -> {
+              if (e != null) {
+                response.completeExceptionally(
+                    e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+                return;
+              }
+              try {
+                response.complete(toResponse(httpResponse));
+              } catch (IOException | RuntimeException readFailed) {
+                response.completeExceptionally(readFailed);
+              }
+            });
+    return response;
+  }
+
+  private static HttpRequest toHttpRequest(Request request) {
+    HttpRequest.Builder builder =
+        HttpRequest.newBuilder(URI.create(request.getUrl()))
+            .method(
+                request.getMethod(),
+                request.hasBody()
+                    ? BodyPublishers.ofString(request.getBody(), StandardCharsets.UTF_8)
+                    : BodyPublishers.noBody());
+    ClientConfig config = request.getClientConfig();
+    if (config != null && config.getHttpReadTimeout() > 0) {
+      builder.timeout(Duration.ofMillis(config.getHttpReadTimeout()));
+    }
+    request
+        .getHeaders()
+        .forEach(
+            (name, value) -> {
+              if (!RESTRICTED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                builder.header(name, value);
+              }
+            });
+    return builder.build();
+  }
+
+  private static Response toResponse(HttpResponse<byte[]> httpResponse) throws IOException {
+    byte[] body = httpResponse.body();
+    if ("gzip".equalsIgnoreCase(httpResponse.headers().firstValue("Content-Encoding").orElse(""))
+        && body.length > 0) {
+      try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+        body = in.readAllBytes();
+      }
+    }
+    Charset charset = getCharset(httpResponse.headers().firstValue("Content-Type").orElse(null));
+    String text = new String(body, charset);
+    // strip the byte order mark some exchanges send
+    return new Response(
+        httpResponse.statusCode(),
+        httpResponse.headers().map(),
+        text.startsWith("\uFEFF") ? text.substring(1) : text);
+  }
+
+  private static Charset getCharset(String contentType) {
+    if (contentType != null) {
+      for (String parameter : contentType.split(";")) {
+        String[] keyValue = parameter.trim().split("=", 2);
+        if (keyValue.length == 2 && keyValue[0].equalsIgnoreCase("charset")) {
+          try {
+            return Charset.forName(keyValue[1].replace("\"", "").trim());
+          } catch (IllegalArgumentException e) {
+            break;
+          }
+        }
+      }
+    }
+    return StandardCharsets.UTF_8;
+  }
+}
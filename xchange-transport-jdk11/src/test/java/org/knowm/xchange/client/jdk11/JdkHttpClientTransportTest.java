@@ -0,0 +1,232 @@
+package org.knowm.xchange.client.jdk11;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPOutputStream;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.knowm.xchange.client.HttpTransport.Request;
+import org.knowm.xchange.client.HttpTransport.Response;
+import org.knowm.xchange.client.TransportRestProxyFactory;
+import si.mazi.rescu.ClientConfig;
+
+public class JdkHttpClientTransportTest {
+
+  @Path("api")
+  @Produces(MediaType.APPLICATION_JSON)
+  public interface TestApi {
+
+    @GET
+    @Path("echo/{symbol}")
+    CompletableFuture<Map<String, Object>> getTickerAsync(@PathParam("symbol") String symbol);
+  }
+
+  private final List<String> received = Collections.synchronizedList(new ArrayList<>());
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AtomicInteger maxInFlight = new AtomicInteger();
+  private final ExecutorService serverExecutor = Executors.newCachedThreadPool();
+  private final JdkHttpClientTransport transport = new JdkHttpClientTransport();
+  private HttpServer server;
+  private String baseUrl;
+
+  @Before
+  public void setUp() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.setExecutor(serverExecutor);
+    server.createContext("/api/echo", this::echo);
+    server.createContext("/api/slow", this::slow);
+    server.createContext(
+        "/api/gzip",
+        exchange -> {
+          ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+          try (OutputStream out = new GZIPOutputStream(bytes)) {
+            out.write("{\"zipped\":true}".getBytes(StandardCharsets.UTF_8));
+          }
+          exchange.getResponseHeaders().add("Content-Encoding", "gzip");
+          respond(exchange, 200, bytes.toByteArray());
+        });
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort();
+  }
+
+  @After
+  public void tearDown() {
+    transport.close();
+    server.stop(0);
+    serverExecutor.shutdownNow();
+  }
+
+  @Test
+  public void testSendsRequestAndReadsResponse() throws Exception {
+    Response response =
+        transport
+            .send(
+                new Request(
+                    "POST",
+                    baseUrl + "/api/echo/order?limit=5",
+                    Map.of("X-KEY", "key", "Content-Type", "application/x-www-form-urlencoded"),
+                    "price=1.5",
+                    new ClientConfig()))
+            .get(5, TimeUnit.SECONDS);
+
+    assertThat(response.getStatusCode()).isEqualTo(200);
+    assertThat(response.getHeaders().get("x-echo")).containsExactly("key");
+    assertThat(response.getBody())
+        .isEqualTo(
+            "{\"method\":\"POST\",\"uri\":\"/api/echo/order?limit=5\",\"body\":\"price=1.5\"}");
+  }
+
+  @Test
+  public void testCompletesWithErrorResponses() throws Exception {
+    Response response = get("/api/echo/429").get(5, TimeUnit.SECONDS);
+
+    assertThat(response.getStatusCode()).isEqualTo(429);
+    assertThat(response.getBody()).contains("/api/echo/429");
+  }
+
+  @Test
+  public void testDecodesGzippedBody() throws Exception {
+    assertThat(get("/api/gzip").get(5, TimeUnit.SECONDS).getBody()).isEqualTo("{\"zipped\":true}");
+  }
+
+  @Test
+  public void testFailsWithIOExceptionIfUnreachable() throws IOException {
+    int port;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      port = socket.getLocalPort();
+    }
+    CompletableFuture<Response> response =
+        transport.send(
+            new Request("GET", "http://localhost:" + port + "/api", Map.of(), null, null));
+
+    assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void testTimesOutAfterReadTimeout() {
+    ClientConfig config = new ClientConfig();
+    config.setHttpReadTimeout(100);
+    CompletableFuture<Response> response =
+        transport.send(new Request("GET", baseUrl + "/api/slow/1", Map.of(), null, config));
+
+    assertThatThrownBy(() -> response.get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void testSendsUnorderedRequestsAtOnce() throws Exception {
+    List<CompletableFuture<Response>> responses = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      responses.add(get("/api/slow/" + i));
+    }
+
+    CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+    assertThat(maxInFlight.get()).isGreaterThan(1);
+  }
+
+  @Test
+  public void testSendsOrderedRequestsOneAtATime() throws Exception {
+    List<CompletableFuture<Response>> responses = new ArrayList<>();
+    for (int i = 0; i < 4; i++) {
+      responses.add(
+          transport.send(
+              new Request("GET", baseUrl + "/api/slow/" + i, Map.of(), null, null, true)));
+    }
+
+    CompletableFuture.allOf(responses.toArray(new CompletableFuture[0])).get(5, TimeUnit.SECONDS);
+
+    assertThat(maxInFlight.get()).isEqualTo(1);
+    assertThat(received)
+        .containsExactly("/api/slow/0", "/api/slow/1", "/api/slow/2", "/api/slow/3");
+  }
+
+  @Test
+  public void testFailsRequestsAfterClose() {
+    transport.close();
+
+    assertThatThrownBy(() -> get("/api/echo/1").get(5, TimeUnit.SECONDS))
+        .hasCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  public void testServesAsyncProxies() throws Exception {
+    TestApi api = new TransportRestProxyFactory(transport).createProxy(TestApi.class, baseUrl);
+
+    Map<String, Object> echo = api.getTickerAsync("BTC").get(5, TimeUnit.SECONDS);
+
+    assertThat(echo).containsEntry("method", "GET").containsEntry("uri", "/api/echo/BTC");
+  }
+
+  private CompletableFuture<Response> get(String path) {
+    return transport.send(new Request("GET", baseUrl + path, Map.of(), null, null));
+  }
+
+  /** Answers with the request as JSON, the status code is the last path segment if numeric. */
+  private void echo(HttpExchange exchange) throws IOException {
+    String uri = exchange.getRequestURI().toString();
+    String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+    String last = exchange.getRequestURI().getPath().replaceAll(".*/", "");
+    int status = last.matches("\\d{3}") ? Integer.parseInt(last) : 200;
+    String key = exchange.getRequestHeaders().getFirst("X-KEY");
+    if (key != null) {
+      exchange.getResponseHeaders().add("X-Echo", key);
+    }
+    exchange.getResponseHeaders().add("Content-Type", "application/json; charset=UTF-8");
+    String json =
+        "{\"method\":\""
+            + exchange.getRequestMethod()
+            + "\",\"uri\":\""
+            + uri
+            + (body.isEmpty() ? "\"}" : "\",\"body\":\"" + body + "\"}");
+    respond(exchange, status, json.getBytes(StandardCharsets.UTF_8));
+  }
+
+  /** Answers after 200 ms, counting the requests handled at once. */
+  private void slow(HttpExchange exchange) throws IOException {
+    maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+    received.add(exchange.getRequestURI().getPath());
+    try {
+      TimeUnit.MILLISECONDS.sleep(200);
+      respond(exchange, 200, "{}".getBytes(StandardCharsets.UTF_8));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      inFlight.decrementAndGet();
+    }
+  }
+
+  private static void respond(HttpExchange exchange, int status, byte[] body) throws IOException {
+    exchange.sendResponseHeaders(status, body.length);
+    try (OutputStream out = exchange.getResponseBody()) {
+      out.write(body);
+    }
+  }
+}